@@ -50,6 +50,10 @@ public enum ConfigSchema implements AirbyteConfig {
       StandardSyncState.class,
       standardSyncState -> standardSyncState.getConnectionId().toString(),
       "connectionId"),
+  SOURCE_CATALOG_CACHE("SourceCatalogCache.yaml",
+      SourceCatalogCache.class,
+      sourceCatalogCache -> sourceCatalogCache.getSourceId().toString(),
+      "sourceId"),
 
   SOURCE_OAUTH_PARAM("SourceOAuthParameter.yaml", SourceOAuthParameter.class,
       sourceOAuthParameter -> sourceOAuthParameter.getOauthParameterId().toString(),
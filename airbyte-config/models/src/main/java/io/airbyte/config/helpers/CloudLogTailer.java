@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import com.google.common.collect.Lists;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Reads the last lines of a log made of several cloud storage objects without downloading the
+ * objects whole. The objects are read newest first, from their end, with ranged reads of growing
+ * size, and reading stops as soon as enough lines are collected.
+ *
+ * Each object is split into lines on its own, the same way {@link java.io.BufferedReader} would.
+ */
+class CloudLogTailer {
+
+  static final int DEFAULT_INITIAL_RANGE_SIZE = 64 * 1024;
+  private static final int MAX_RANGE_SIZE = 4 * 1024 * 1024;
+
+  @FunctionalInterface
+  interface RangeReader<T> {
+
+    /**
+     * @return the bytes of the object from start (inclusive) to end (exclusive).
+     */
+    byte[] read(T object, long start, long end) throws IOException;
+
+  }
+
+  /**
+   * @param ascendingObjects the objects of the log, in lexicographical (i.e. chronological) order.
+   * @return the last numLines lines of the log, in order.
+   */
+  static <T> List<String> tail(final List<T> ascendingObjects,
+                               final ToLongFunction<T> sizeOf,
+                               final RangeReader<T> rangeReader,
+                               final int numLines,
+                               final int initialRangeSize)
+      throws IOException {
+    final Deque<String> lines = new ArrayDeque<>(Math.max(numLines, 0));
+    for (final T object : Lists.reverse(ascendingObjects)) {
+      if (lines.size() >= numLines) {
+        break;
+      }
+      tailObject(object, sizeOf.applyAsLong(object), rangeReader, numLines - lines.size(), initialRangeSize, lines);
+    }
+    return new ArrayList<>(lines);
+  }
+
+  /**
+   * Adds the last numLines lines of the object to the front of the lines.
+   */
+  private static <T> void tailObject(final T object,
+                                     final long size,
+                                     final RangeReader<T> rangeReader,
+                                     final int numLines,
+                                     final int initialRangeSize,
+                                     final Deque<String> lines)
+      throws IOException {
+    if (size <= 0) {
+      return;
+    }
+
+    // ranges read so far, the first one being the closest to the start of the object.
+    final Deque<byte[]> ranges = new ArrayDeque<>();
+    long start = size;
+    int rangeSize = initialRangeSize;
+    int newlines = 0;
+    boolean trailingNewline = false;
+    // the first line of the read bytes may be partial, so one more newline than lines is needed.
+    while (start > 0 && newlines <= numLines) {
+      final long end = start;
+      start = Math.max(0, end - rangeSize);
+      final byte[] range = rangeReader.read(object, start, end);
+      if (end == size && range.length > 0 && range[range.length - 1] == '\n') {
+        trailingNewline = true;
+      }
+      newlines += countNewlines(range);
+      ranges.addFirst(range);
+      rangeSize = Math.min(rangeSize * 2, MAX_RANGE_SIZE);
+    }
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    for (final byte[] range : ranges) {
+      bytes.write(range);
+    }
+    final String text = bytes.toString(StandardCharsets.UTF_8);
+
+    // the end of the object is the end of its last line, not the start of an empty one.
+    int lineEnd = trailingNewline ? text.length() - 1 : text.length();
+    int added = 0;
+    while (added < numLines) {
+      final int lineStart = text.lastIndexOf('\n', lineEnd - 1) + 1;
+      if (lineStart == 0 && start > 0) {
+        // the line starts before the read bytes.
+        break;
+      }
+      lines.addFirst(stripCarriageReturn(text.substring(lineStart, lineEnd)));
+      added++;
+      if (lineStart == 0) {
+        break;
+      }
+      lineEnd = lineStart - 1;
+    }
+  }
+
+  private static int countNewlines(final byte[] bytes) {
+    int count = 0;
+    for (final byte b : bytes) {
+      if (b == '\n') {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static String stripCarriageReturn(final String line) {
+    return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+  }
+
+}
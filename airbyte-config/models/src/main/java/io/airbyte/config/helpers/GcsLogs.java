@@ -5,16 +5,16 @@
 package io.airbyte.config.helpers;
 
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Blob.BlobSourceOption;
 import com.google.cloud.storage.Storage;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Lists;
 import io.airbyte.commons.string.Strings;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
@@ -79,27 +79,14 @@ public class GcsLogs implements CloudLogs {
     for (final Blob blob : blobs.iterateAll()) {
       ascendingTimestampBlobs.add(blob);
     }
-    final var descendingTimestampBlobs = Lists.reverse(ascendingTimestampBlobs);
-
-    final var lines = new ArrayList<String>();
-    int linesRead = 0;
 
     LOGGER.debug("Start getting GCS objects.");
-    while (linesRead <= numLines && !descendingTimestampBlobs.isEmpty()) {
-      final var poppedBlob = descendingTimestampBlobs.remove(0);
-      try (final var inMemoryData = new ByteArrayOutputStream()) {
-        poppedBlob.downloadTo(inMemoryData);
-        final var currFileLines = inMemoryData.toString().split("\n");
-        final List<String> currFileLinesReversed = Lists.reverse(List.of(currFileLines));
-        for (final var line : currFileLinesReversed) {
-          if (linesRead == numLines) {
-            break;
-          }
-          lines.add(0, line);
-          linesRead++;
-        }
-      }
-    }
+    final List<String> lines = CloudLogTailer.tail(
+        ascendingTimestampBlobs,
+        Blob::getSize,
+        GcsLogs::getRange,
+        numLines,
+        CloudLogTailer.DEFAULT_INITIAL_RANGE_SIZE);
 
     LOGGER.debug("Done retrieving GCS logs: {}.", logPath);
     return lines;
@@ -118,6 +105,24 @@ public class GcsLogs implements CloudLogs {
     LOGGER.debug("Finished all deletes.");
   }
 
+  private static byte[] getRange(final Blob blob, final long start, final long end) throws IOException {
+    final int length = Math.toIntExact(end - start);
+    final ByteBuffer buffer = ByteBuffer.allocate(length);
+    try (final ReadChannel reader = blob.reader()) {
+      // fetch the whole range with a single request.
+      reader.setChunkSize(length);
+      reader.seek(start);
+      int read = 0;
+      while (buffer.hasRemaining() && read >= 0) {
+        read = reader.read(buffer);
+      }
+    }
+    final byte[] range = new byte[buffer.position()];
+    buffer.flip();
+    buffer.get(range);
+    return range;
+  }
+
   private Storage getOrCreateGcsClient() {
     if (GCS == null) {
       GCS = gcsClientFactory.get();
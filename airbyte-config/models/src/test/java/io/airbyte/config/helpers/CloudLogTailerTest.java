@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CloudLogTailerTest {
+
+  private final AtomicInteger rangeReads = new AtomicInteger();
+
+  @Test
+  void testTailAcrossObjects() throws IOException {
+    final List<String> objects = List.of("Line 1\nLine 2\nLine 3\n", "Line 4\nLine 5\nLine 6\n", "Line 7\nLine 8\nLine 9\n");
+
+    assertEquals(List.of("Line 4", "Line 5", "Line 6", "Line 7", "Line 8", "Line 9"), tail(objects, 6, 4));
+    assertEquals(List.of("Line 9"), tail(objects, 1, 4));
+    assertEquals(List.of(), tail(objects, 0, 4));
+  }
+
+  @Test
+  void testTailMoreLinesThanLogged() throws IOException {
+    final List<String> objects = List.of("Line 1\nLine 2", "", "Line 3\n");
+
+    assertEquals(List.of("Line 1", "Line 2", "Line 3"), tail(objects, 100, 3));
+    assertEquals(List.of(), tail(List.of(), 100, 3));
+  }
+
+  @Test
+  void testTailOnlyReadsTheEndOfTheNewestObjects() throws IOException {
+    final String oldObject = IntStream.range(0, 1000).mapToObj(i -> "old line " + i + "\n").collect(Collectors.joining());
+    final String newObject = IntStream.range(0, 1000).mapToObj(i -> "new line " + i + "\n").collect(Collectors.joining());
+
+    final List<String> expected = IntStream.range(990, 1000).mapToObj(i -> "new line " + i).collect(Collectors.toList());
+    assertEquals(expected, tail(List.of(oldObject, newObject), 10, 256));
+    assertEquals(1, rangeReads.get());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 7, 64})
+  void testTailMatchesBufferedReaderLines(final int initialRangeSize) throws IOException {
+    final String object = "first\r\n\nthird \u00fcn\u00efc\u00f6d\u00e9\n\n\nsixth\r\nlast";
+
+    for (int numLines = 0; numLines <= 8; numLines++) {
+      final List<String> allLines = readLines(object);
+      final List<String> expected = allLines.subList(Math.max(0, allLines.size() - numLines), allLines.size());
+      assertEquals(expected, tail(List.of(object), numLines, initialRangeSize), "numLines: " + numLines);
+    }
+  }
+
+  private List<String> tail(final List<String> objects, final int numLines, final int initialRangeSize) throws IOException {
+    final List<byte[]> objectBytes = objects.stream().map(object -> object.getBytes(StandardCharsets.UTF_8)).collect(Collectors.toList());
+    return CloudLogTailer.tail(
+        objectBytes,
+        bytes -> bytes.length,
+        (bytes, start, end) -> {
+          rangeReads.incrementAndGet();
+          return Arrays.copyOfRange(bytes, (int) start, (int) end);
+        },
+        numLines,
+        initialRangeSize);
+  }
+
+  private static List<String> readLines(final String object) throws IOException {
+    final List<String> lines = new ArrayList<>();
+    try (final BufferedReader reader = new BufferedReader(new StringReader(object))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lines.add(line);
+      }
+    }
+    return lines;
+  }
+
+}
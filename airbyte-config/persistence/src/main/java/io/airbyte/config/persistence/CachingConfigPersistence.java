@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.AirbyteConfig;
+import io.airbyte.config.ConfigSchema;
+import io.airbyte.config.ConfigWithMetadata;
+import io.airbyte.validation.json.JsonValidationException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Read-through cache for {@link ConfigPersistence#getConfig} of the config types that rarely
+ * change, e.g. connector definitions, which are read several times for every request and job.
+ * Caching them saves the query, the deserialization and, when decorating a
+ * {@link ValidatingConfigPersistence}, the schema validation of every read.
+ * <p>
+ * Writes and deletes going through this persistence invalidate the cached configs right away.
+ * Writes from other instances (e.g. the server updating a definition read by the scheduler) are
+ * only picked up once the cached entry expires, so the expiry bounds how stale a config can be.
+ */
+public class CachingConfigPersistence implements ConfigPersistence {
+
+  public static final Set<AirbyteConfig> DEFAULT_CACHED_CONFIG_TYPES = Set.of(
+      ConfigSchema.STANDARD_SOURCE_DEFINITION,
+      ConfigSchema.STANDARD_DESTINATION_DEFINITION);
+  private static final long DEFAULT_MAXIMUM_SIZE = 5000;
+  private static final Duration DEFAULT_EXPIRY = Duration.ofMinutes(1);
+
+  private final ConfigPersistence decoratedPersistence;
+  private final Map<String, TypeCache> cachesByType;
+
+  public CachingConfigPersistence(final ConfigPersistence decoratedPersistence) {
+    this(decoratedPersistence, DEFAULT_CACHED_CONFIG_TYPES, DEFAULT_MAXIMUM_SIZE, DEFAULT_EXPIRY);
+  }
+
+  public CachingConfigPersistence(final ConfigPersistence decoratedPersistence,
+                                  final Set<AirbyteConfig> cachedConfigTypes,
+                                  final long maximumSizePerType,
+                                  final Duration expiry) {
+    this.decoratedPersistence = decoratedPersistence;
+    this.cachesByType = cachedConfigTypes.stream()
+        .collect(Collectors.toMap(AirbyteConfig::name, configType -> new TypeCache(maximumSizePerType, expiry)));
+  }
+
+  @Override
+  public <T> T getConfig(final AirbyteConfig configType, final String configId, final Class<T> clazz)
+      throws ConfigNotFoundException, JsonValidationException, IOException {
+    final TypeCache typeCache = cachesByType.get(configType.name());
+    if (typeCache == null) {
+      return decoratedPersistence.getConfig(configType, configId, clazz);
+    }
+
+    final JsonNode cachedConfig = typeCache.configs.getIfPresent(configId);
+    if (cachedConfig != null) {
+      // hand out a copy, so callers modifying the config do not modify the cached one.
+      return Jsons.object(cachedConfig, clazz);
+    }
+
+    // a write invalidating the config while it is read must not be overridden by the stale value.
+    final long generation = typeCache.generation.get();
+    final T config = decoratedPersistence.getConfig(configType, configId, clazz);
+    final JsonNode configJson = Jsons.jsonNode(config);
+    synchronized (typeCache) {
+      if (typeCache.generation.get() == generation) {
+        typeCache.configs.put(configId, configJson);
+      }
+    }
+    return Jsons.object(configJson, clazz);
+  }
+
+  @Override
+  public <T> List<T> listConfigs(final AirbyteConfig configType, final Class<T> clazz) throws JsonValidationException, IOException {
+    return decoratedPersistence.listConfigs(configType, clazz);
+  }
+
+  @Override
+  public <T> List<ConfigWithMetadata<T>> listConfigsWithMetadata(final AirbyteConfig configType, final Class<T> clazz)
+      throws JsonValidationException, IOException {
+    return decoratedPersistence.listConfigsWithMetadata(configType, clazz);
+  }
+
+  @Override
+  public <T> List<T> listConfigsWithFieldValues(final AirbyteConfig configType, final Map<String, Set<String>> fieldValues, final Class<T> clazz)
+      throws JsonValidationException, IOException {
+    return decoratedPersistence.listConfigsWithFieldValues(configType, fieldValues, clazz);
+  }
+
+  @Override
+  public <T> void writeConfig(final AirbyteConfig configType, final String configId, final T config) throws JsonValidationException, IOException {
+    try {
+      decoratedPersistence.writeConfig(configType, configId, config);
+    } finally {
+      invalidate(configType);
+    }
+  }
+
+  @Override
+  public <T> void writeConfigs(final AirbyteConfig configType, final Map<String, T> configs) throws IOException, JsonValidationException {
+    try {
+      decoratedPersistence.writeConfigs(configType, configs);
+    } finally {
+      invalidate(configType);
+    }
+  }
+
+  @Override
+  public void deleteConfig(final AirbyteConfig configType, final String configId) throws ConfigNotFoundException, IOException {
+    try {
+      decoratedPersistence.deleteConfig(configType, configId);
+    } finally {
+      invalidate(configType);
+    }
+  }
+
+  @Override
+  public void replaceAllConfigs(final Map<AirbyteConfig, Stream<?>> configs, final boolean dryRun) throws IOException {
+    try {
+      decoratedPersistence.replaceAllConfigs(configs, dryRun);
+    } finally {
+      invalidateAll();
+    }
+  }
+
+  @Override
+  public Map<String, Stream<JsonNode>> dumpConfigs() throws IOException {
+    return decoratedPersistence.dumpConfigs();
+  }
+
+  @Override
+  public void loadData(final ConfigPersistence seedPersistence) throws IOException {
+    try {
+      decoratedPersistence.loadData(seedPersistence);
+    } finally {
+      invalidateAll();
+    }
+  }
+
+  /**
+   * @return hit and miss counts of the cached config types, keyed by config type name.
+   */
+  public Map<String, CacheStats> getCacheStats() {
+    return cachesByType.entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().configs.stats()));
+  }
+
+  private void invalidate(final AirbyteConfig configType) {
+    final TypeCache typeCache = cachesByType.get(configType.name());
+    if (typeCache != null) {
+      typeCache.invalidate();
+    }
+  }
+
+  private void invalidateAll() {
+    cachesByType.values().forEach(TypeCache::invalidate);
+  }
+
+  private static class TypeCache {
+
+    private final Cache<String, JsonNode> configs;
+    private final AtomicLong generation = new AtomicLong();
+
+    private TypeCache(final long maximumSize, final Duration expiry) {
+      this.configs = CacheBuilder.newBuilder()
+          .maximumSize(maximumSize)
+          .expireAfterWrite(expiry.toMillis(), TimeUnit.MILLISECONDS)
+          .recordStats()
+          .build();
+    }
+
+    private synchronized void invalidate() {
+      generation.incrementAndGet();
+      configs.invalidateAll();
+    }
+
+  }
+
+}
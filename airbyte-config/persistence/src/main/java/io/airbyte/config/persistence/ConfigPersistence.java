@@ -5,12 +5,15 @@
 package io.airbyte.config.persistence;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.AirbyteConfig;
 import io.airbyte.config.ConfigWithMetadata;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public interface ConfigPersistence {
@@ -21,6 +24,23 @@ public interface ConfigPersistence {
 
   <T> List<ConfigWithMetadata<T>> listConfigsWithMetadata(AirbyteConfig configType, Class<T> clazz) throws JsonValidationException, IOException;
 
+  /**
+   * Lists the configs of a type whose top level fields have one of the given values, e.g. all the
+   * sources of a workspace with {"workspaceId": [workspaceId]}. A config has to match all the
+   * fields. Implementations backed by a database should push the filter down to the query, this
+   * default filters the full list.
+   */
+  default <T> List<T> listConfigsWithFieldValues(final AirbyteConfig configType, final Map<String, Set<String>> fieldValues, final Class<T> clazz)
+      throws JsonValidationException, IOException {
+    return listConfigs(configType, clazz).stream()
+        .filter(config -> {
+          final JsonNode configJson = Jsons.jsonNode(config);
+          return fieldValues.entrySet().stream().allMatch(fieldValue -> configJson.hasNonNull(fieldValue.getKey())
+              && fieldValue.getValue().contains(configJson.get(fieldValue.getKey()).asText()));
+        })
+        .collect(Collectors.toList());
+  }
+
   <T> void writeConfig(AirbyteConfig configType, String configId, T config) throws JsonValidationException, IOException;
 
   <T> void writeConfigs(AirbyteConfig configType, Map<String, T> configs) throws IOException, JsonValidationException;
@@ -6,12 +6,12 @@ package io.airbyte.config.persistence;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.json.Jsons;
-import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.commons.lang.MoreBooleans;
 import io.airbyte.config.AirbyteConfig;
 import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.DestinationOAuthParameter;
+import io.airbyte.config.SourceCatalogCache;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.SourceOAuthParameter;
 import io.airbyte.config.StandardDestinationDefinition;
@@ -40,6 +40,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,15 +56,31 @@ public class ConfigRepository {
   private final SecretsHydrator secretsHydrator;
   private final Optional<SecretPersistence> longLivedSecretPersistence;
   private final Optional<SecretPersistence> ephemeralSecretPersistence;
+  private final Optional<StreamStatePersistence> streamStatePersistence;
 
   public ConfigRepository(final ConfigPersistence persistence,
                           final SecretsHydrator secretsHydrator,
                           final Optional<SecretPersistence> longLivedSecretPersistence,
                           final Optional<SecretPersistence> ephemeralSecretPersistence) {
+    this(persistence, secretsHydrator, longLivedSecretPersistence, ephemeralSecretPersistence, Optional.empty());
+  }
+
+  /**
+   * @param streamStatePersistence where connection states are stored. When empty, connection states
+   *        are stored as {@link ConfigSchema#STANDARD_SYNC_STATE} configs. It has to be given with a
+   *        {@link DatabaseConfigPersistence}, which imports and exports the connection states from the
+   *        same table.
+   */
+  public ConfigRepository(final ConfigPersistence persistence,
+                          final SecretsHydrator secretsHydrator,
+                          final Optional<SecretPersistence> longLivedSecretPersistence,
+                          final Optional<SecretPersistence> ephemeralSecretPersistence,
+                          final Optional<StreamStatePersistence> streamStatePersistence) {
     this.persistence = persistence;
     this.secretsHydrator = secretsHydrator;
     this.longLivedSecretPersistence = longLivedSecretPersistence;
     this.ephemeralSecretPersistence = ephemeralSecretPersistence;
+    this.streamStatePersistence = streamStatePersistence;
   }
 
   public StandardWorkspace getStandardWorkspace(final UUID workspaceId, final boolean includeTombstone)
@@ -255,6 +272,9 @@ public class ConfigRepository {
         persistence.deleteConfig(ConfigSchema.STANDARD_SYNC, sync.getConnectionId().toString());
       }
       persistence.deleteConfig(connectorType, connectorIdGetter.apply(connector).toString());
+      if (connectorType == ConfigSchema.SOURCE_CONNECTION) {
+        deleteSourceCatalogCache(connectorIdGetter.apply(connector));
+      }
     }
     persistence.deleteConfig(definitionType, definitionId.toString());
   }
@@ -367,11 +387,18 @@ public class ConfigRepository {
     return persistence.listConfigs(ConfigSchema.SOURCE_CONNECTION, SourceConnection.class);
   }
 
+  public List<SourceConnection> listSourceConnectionsForWorkspace(final UUID workspaceId) throws JsonValidationException, IOException {
+    return persistence.listConfigsWithFieldValues(ConfigSchema.SOURCE_CONNECTION,
+        Map.of("workspaceId", Set.of(workspaceId.toString())),
+        SourceConnection.class);
+  }
+
   public List<SourceConnection> listSourceConnectionWithSecrets() throws JsonValidationException, IOException {
     final var sources = listSourceConnection();
+    final var fullConfigs = secretsHydrator.hydrate(sources.stream().map(SourceConnection::getConfiguration).collect(Collectors.toList()));
 
-    return sources.stream()
-        .map(partialSource -> Exceptions.toRuntime(() -> getSourceConnectionWithSecrets(partialSource.getSourceId())))
+    return IntStream.range(0, sources.size())
+        .mapToObj(i -> Jsons.clone(sources.get(i)).withConfiguration(fullConfigs.get(i)))
         .collect(Collectors.toList());
   }
 
@@ -415,11 +442,19 @@ public class ConfigRepository {
     return persistence.listConfigs(ConfigSchema.DESTINATION_CONNECTION, DestinationConnection.class);
   }
 
+  public List<DestinationConnection> listDestinationConnectionsForWorkspace(final UUID workspaceId) throws JsonValidationException, IOException {
+    return persistence.listConfigsWithFieldValues(ConfigSchema.DESTINATION_CONNECTION,
+        Map.of("workspaceId", Set.of(workspaceId.toString())),
+        DestinationConnection.class);
+  }
+
   public List<DestinationConnection> listDestinationConnectionWithSecrets() throws JsonValidationException, IOException {
     final var destinations = listDestinationConnection();
+    final var fullConfigs =
+        secretsHydrator.hydrate(destinations.stream().map(DestinationConnection::getConfiguration).collect(Collectors.toList()));
 
-    return destinations.stream()
-        .map(partialDestination -> Exceptions.toRuntime(() -> getDestinationConnectionWithSecrets(partialDestination.getDestinationId())))
+    return IntStream.range(0, destinations.size())
+        .mapToObj(i -> Jsons.clone(destinations.get(i)).withConfiguration(fullConfigs.get(i)))
         .collect(Collectors.toList());
   }
 
@@ -435,6 +470,19 @@ public class ConfigRepository {
     return persistence.listConfigs(ConfigSchema.STANDARD_SYNC, StandardSync.class);
   }
 
+  /**
+   * @return the connections whose source belongs to the workspace, including deleted connections.
+   */
+  public List<StandardSync> listStandardSyncsForWorkspace(final UUID workspaceId) throws IOException, JsonValidationException {
+    final Set<String> sourceIds = listSourceConnectionsForWorkspace(workspaceId).stream()
+        .map(source -> source.getSourceId().toString())
+        .collect(Collectors.toSet());
+    if (sourceIds.isEmpty()) {
+      return List.of();
+    }
+    return persistence.listConfigsWithFieldValues(ConfigSchema.STANDARD_SYNC, Map.of("sourceId", sourceIds), StandardSync.class);
+  }
+
   public StandardSyncOperation getStandardSyncOperation(final UUID operationId) throws JsonValidationException, IOException, ConfigNotFoundException {
     return persistence.getConfig(ConfigSchema.STANDARD_SYNC_OPERATION, operationId.toString(), StandardSyncOperation.class);
   }
@@ -447,6 +495,12 @@ public class ConfigRepository {
     return persistence.listConfigs(ConfigSchema.STANDARD_SYNC_OPERATION, StandardSyncOperation.class);
   }
 
+  public List<StandardSyncOperation> listStandardSyncOperationsForWorkspace(final UUID workspaceId) throws IOException, JsonValidationException {
+    return persistence.listConfigsWithFieldValues(ConfigSchema.STANDARD_SYNC_OPERATION,
+        Map.of("workspaceId", Set.of(workspaceId.toString())),
+        StandardSyncOperation.class);
+  }
+
   public SourceOAuthParameter getSourceOAuthParams(final UUID SourceOAuthParameterId)
       throws JsonValidationException, IOException, ConfigNotFoundException {
     return persistence.getConfig(ConfigSchema.SOURCE_OAUTH_PARAM, SourceOAuthParameterId.toString(), SourceOAuthParameter.class);
@@ -498,6 +552,9 @@ public class ConfigRepository {
   }
 
   public Optional<State> getConnectionState(final UUID connectionId) throws IOException {
+    if (streamStatePersistence.isPresent()) {
+      return streamStatePersistence.get().getState(connectionId);
+    }
     try {
       final StandardSyncState connectionState = persistence.getConfig(
           ConfigSchema.STANDARD_SYNC_STATE,
@@ -513,6 +570,10 @@ public class ConfigRepository {
 
   public void updateConnectionState(final UUID connectionId, final State state) throws IOException {
     LOGGER.info("Updating connection {} state: {}", connectionId, state);
+    if (streamStatePersistence.isPresent()) {
+      streamStatePersistence.get().replaceState(connectionId, state);
+      return;
+    }
     final StandardSyncState connectionState = new StandardSyncState().withConnectionId(connectionId).withState(state);
     try {
       persistence.writeConfig(ConfigSchema.STANDARD_SYNC_STATE, connectionId.toString(), connectionState);
@@ -521,6 +582,32 @@ public class ConfigRepository {
     }
   }
 
+  public Optional<SourceCatalogCache> getSourceCatalogCache(final UUID sourceId) throws IOException {
+    try {
+      return Optional.of(persistence.getConfig(ConfigSchema.SOURCE_CATALOG_CACHE, sourceId.toString(), SourceCatalogCache.class));
+    } catch (final ConfigNotFoundException e) {
+      return Optional.empty();
+    } catch (final JsonValidationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public void writeSourceCatalogCache(final SourceCatalogCache sourceCatalogCache) throws IOException {
+    try {
+      persistence.writeConfig(ConfigSchema.SOURCE_CATALOG_CACHE, sourceCatalogCache.getSourceId().toString(), sourceCatalogCache);
+    } catch (final JsonValidationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public void deleteSourceCatalogCache(final UUID sourceId) throws IOException {
+    try {
+      persistence.deleteConfig(ConfigSchema.SOURCE_CATALOG_CACHE, sourceId.toString());
+    } catch (final ConfigNotFoundException e) {
+      LOGGER.debug("Source {} has no cached catalog to delete", sourceId);
+    }
+  }
+
   /**
    * Converts between a dumpConfig() output and a replaceAllConfigs() input, by deserializing the
    * string/jsonnode into the AirbyteConfig, Stream&lt;Object&lt;AirbyteConfig.getClassName()&gt;&gt;
@@ -608,6 +695,9 @@ public class ConfigRepository {
 
   public Map<String, Stream<JsonNode>> dumpConfigs() throws IOException {
     final var map = new HashMap<>(persistence.dumpConfigs());
+    // the cached catalogs are not part of the configuration, the next discover of each source
+    // caches its catalog again.
+    map.remove(ConfigSchema.SOURCE_CATALOG_CACHE.name());
     final var sourceKey = ConfigSchema.SOURCE_CONNECTION.name();
     final var destinationKey = ConfigSchema.DESTINATION_CONNECTION.name();
 
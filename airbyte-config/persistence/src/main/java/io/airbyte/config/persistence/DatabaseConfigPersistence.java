@@ -5,15 +5,21 @@
 package io.airbyte.config.persistence;
 
 import static io.airbyte.db.instance.configs.jooq.Tables.AIRBYTE_CONFIGS;
+import static io.airbyte.db.instance.configs.jooq.Tables.CONNECTION_STREAM_STATE;
+import static org.jooq.impl.DSL.and;
 import static org.jooq.impl.DSL.asterisk;
 import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.inline;
 import static org.jooq.impl.DSL.select;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Sets;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.commons.version.AirbyteVersion;
 import io.airbyte.config.AirbyteConfig;
@@ -23,14 +29,18 @@ import io.airbyte.config.ConfigWithMetadata;
 import io.airbyte.config.Configs;
 import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.config.StandardSyncState;
 import io.airbyte.db.Database;
 import io.airbyte.db.ExceptionWrappingDatabase;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -39,9 +49,11 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.JSONB;
+import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Result;
@@ -49,9 +61,16 @@ import org.jooq.impl.SQLDataType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Stores the configs in the airbyte_configs table. The {@link ConfigSchema#STANDARD_SYNC_STATE}
+ * configs are imported and exported from the connection_stream_state table of
+ * {@link StreamStatePersistence}, which holds the connection states.
+ */
 public class DatabaseConfigPersistence implements ConfigPersistence {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseConfigPersistence.class);
+  private static final int DUMP_FETCH_SIZE = 1000;
+  private static final int WRITE_BATCH_SIZE = 100;
 
   private final ExceptionWrappingDatabase database;
 
@@ -128,6 +147,27 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
         .collect(Collectors.toList());
   }
 
+  /**
+   * The field values are matched with JSONB predicates on the config blob. The field names are
+   * inlined, so that the predicates match the expression indexes on airbyte_configs.
+   */
+  @Override
+  public <T> List<T> listConfigsWithFieldValues(final AirbyteConfig configType, final Map<String, Set<String>> fieldValues, final Class<T> clazz)
+      throws IOException {
+    final List<Condition> conditions = fieldValues.entrySet().stream()
+        .map(fieldValue -> field("{0} ->> {1}", String.class, AIRBYTE_CONFIGS.CONFIG_BLOB, inline(fieldValue.getKey())).in(fieldValue.getValue()))
+        .collect(Collectors.toList());
+    final Result<Record> results = database.query(ctx -> ctx.select(asterisk())
+        .from(AIRBYTE_CONFIGS)
+        .where(AIRBYTE_CONFIGS.CONFIG_TYPE.eq(configType.name()))
+        .and(and(conditions))
+        .orderBy(AIRBYTE_CONFIGS.CONFIG_TYPE, AIRBYTE_CONFIGS.CONFIG_ID)
+        .fetch());
+    return results.stream()
+        .map(record -> Jsons.deserialize(record.get(AIRBYTE_CONFIGS.CONFIG_BLOB).data(), clazz))
+        .collect(Collectors.toList());
+  }
+
   @Override
   public <T> List<ConfigWithMetadata<T>> listConfigsWithMetadata(final AirbyteConfig configType, final Class<T> clazz) throws IOException {
     final Result<Record> results = database.query(ctx -> ctx.select(asterisk())
@@ -161,19 +201,9 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
   public <T> void writeConfigs(final AirbyteConfig configType, final Map<String, T> configs) throws IOException {
     database.transaction(ctx -> {
       final OffsetDateTime timestamp = OffsetDateTime.now();
-      configs.forEach((configId, config) -> {
-        final boolean isExistingConfig = ctx.fetchExists(select()
-            .from(AIRBYTE_CONFIGS)
-            .where(AIRBYTE_CONFIGS.CONFIG_TYPE.eq(configType.name()), AIRBYTE_CONFIGS.CONFIG_ID.eq(configId)));
-
-        if (isExistingConfig) {
-          updateConfigRecord(ctx, timestamp, configType.name(), Jsons.jsonNode(config), configId);
-        } else {
-          insertConfigRecord(ctx, timestamp, configType.name(), Jsons.jsonNode(config),
-              configType.getIdFieldName());
-        }
-      });
-
+      final Map<String, JsonNode> configIdToJson = new LinkedHashMap<>();
+      configs.forEach((configId, config) -> configIdToJson.put(configId, Jsons.jsonNode(config)));
+      upsertConfigRecords(ctx, timestamp, configType.name(), configIdToJson);
       return null;
     });
   }
@@ -206,12 +236,15 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
     final OffsetDateTime timestamp = OffsetDateTime.now();
     final int insertionCount = database.transaction(ctx -> {
       ctx.truncate(AIRBYTE_CONFIGS).restartIdentity().execute();
+      ctx.truncate(CONNECTION_STREAM_STATE).execute();
 
       return configs.entrySet().stream().map(entry -> {
         final AirbyteConfig configType = entry.getKey();
-        return entry.getValue()
-            .map(configObject -> insertConfigRecord(ctx, timestamp, configType.name(), Jsons.jsonNode(configObject), configType.getIdFieldName()))
-            .reduce(0, Integer::sum);
+        if (configType == ConfigSchema.STANDARD_SYNC_STATE) {
+          final Stream<StandardSyncState> states = entry.getValue().map(config -> Jsons.object(Jsons.jsonNode(config), StandardSyncState.class));
+          return StreamStatePersistence.insertStates(ctx, timestamp, states);
+        }
+        return insertConfigRecords(ctx, timestamp, configType.name(), entry.getValue().map(Jsons::jsonNode), configType.getIdFieldName());
       }).reduce(0, Integer::sum);
     });
 
@@ -222,13 +255,39 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
   public Map<String, Stream<JsonNode>> dumpConfigs() throws IOException {
     LOGGER.info("Exporting all configs...");
 
-    final Map<String, Result<Record>> results = database.query(ctx -> ctx.select(asterisk())
+    final List<String> configTypes = database.query(ctx -> ctx.selectDistinct(AIRBYTE_CONFIGS.CONFIG_TYPE)
         .from(AIRBYTE_CONFIGS)
-        .orderBy(AIRBYTE_CONFIGS.CONFIG_TYPE, AIRBYTE_CONFIGS.CONFIG_ID)
-        .fetchGroups(AIRBYTE_CONFIGS.CONFIG_TYPE));
-    return results.entrySet().stream().collect(Collectors.toMap(
-        Entry::getKey,
-        e -> e.getValue().stream().map(r -> Jsons.deserialize(r.get(AIRBYTE_CONFIGS.CONFIG_BLOB).data()))));
+        .where(AIRBYTE_CONFIGS.CONFIG_TYPE.ne(ConfigSchema.STANDARD_SYNC_STATE.name()))
+        .fetch(AIRBYTE_CONFIGS.CONFIG_TYPE));
+    final Map<String, Stream<JsonNode>> configs = new HashMap<>();
+    configTypes.forEach(configType -> configs.put(configType, streamConfigBlobs(configType)));
+
+    if (database.query(ctx -> ctx.fetchExists(CONNECTION_STREAM_STATE))) {
+      configs.put(ConfigSchema.STANDARD_SYNC_STATE.name(), streamConnectionStates());
+    }
+    return configs;
+  }
+
+  /**
+   * Like the config blobs, the connection states are only queried once the stream is consumed.
+   */
+  private Stream<JsonNode> streamConnectionStates() {
+    return Stream.of(ConfigSchema.STANDARD_SYNC_STATE)
+        .flatMap(type -> Exceptions.toRuntime(() -> StreamStatePersistence.streamStates(database, DUMP_FETCH_SIZE)))
+        .map(Jsons::jsonNode);
+  }
+
+  /**
+   * The configs of the type are only queried once the stream is consumed, and are read with a cursor
+   * rather than all at once. flatMap closes the record stream, and its connection, once it is read.
+   */
+  private Stream<JsonNode> streamConfigBlobs(final String configType) {
+    return Stream.of(configType)
+        .flatMap(type -> Exceptions.toRuntime(() -> database.streamQuery(ctx -> ctx.select(AIRBYTE_CONFIGS.CONFIG_BLOB)
+            .from(AIRBYTE_CONFIGS)
+            .where(AIRBYTE_CONFIGS.CONFIG_TYPE.eq(type))
+            .orderBy(AIRBYTE_CONFIGS.CONFIG_ID), DUMP_FETCH_SIZE)))
+        .map(r -> Jsons.deserialize(r.value1().data()));
   }
 
   /**
@@ -241,26 +300,86 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
                          final String configType,
                          final JsonNode configJson,
                          @Nullable final String idFieldName) {
-    final String configId = idFieldName == null
-        ? UUID.randomUUID().toString()
-        : configJson.get(idFieldName).asText();
-    LOGGER.info("Inserting {} record {}", configType, configId);
-
-    final int insertionCount = ctx.insertInto(AIRBYTE_CONFIGS)
-        .set(AIRBYTE_CONFIGS.CONFIG_ID, configId)
-        .set(AIRBYTE_CONFIGS.CONFIG_TYPE, configType)
-        .set(AIRBYTE_CONFIGS.CONFIG_BLOB, JSONB.valueOf(Jsons.serialize(configJson)))
-        .set(AIRBYTE_CONFIGS.CREATED_AT, timestamp)
-        .set(AIRBYTE_CONFIGS.UPDATED_AT, timestamp)
-        .onConflict(AIRBYTE_CONFIGS.CONFIG_TYPE, AIRBYTE_CONFIGS.CONFIG_ID)
-        .doNothing()
-        .execute();
-    if (insertionCount != 1) {
-      LOGGER.warn("{} config {} already exists (insertion record count: {})", configType, configId, insertionCount);
+    return insertConfigRecords(ctx, timestamp, configType, Stream.of(configJson), idFieldName);
+  }
+
+  /**
+   * Inserts the configs with one multi-row insert per batch of configs. The configs that already
+   * exist are left unchanged.
+   *
+   * @return the number of inserted records.
+   */
+  @VisibleForTesting
+  int insertConfigRecords(final DSLContext ctx,
+                          final OffsetDateTime timestamp,
+                          final String configType,
+                          final Stream<JsonNode> configJsons,
+                          @Nullable final String idFieldName) {
+    final Stream<Entry<String, JsonNode>> configIdToJson = configJsons.map(configJson -> Map.entry(
+        idFieldName == null ? UUID.randomUUID().toString() : configJson.get(idFieldName).asText(),
+        configJson));
+
+    int insertionCount = 0;
+    final Iterator<List<Entry<String, JsonNode>>> batches = Iterators.partition(configIdToJson.iterator(), WRITE_BATCH_SIZE);
+    while (batches.hasNext()) {
+      final List<Entry<String, JsonNode>> batch = batches.next();
+      LOGGER.info("Inserting {} records {}", configType, batch.stream().map(Entry::getKey).collect(Collectors.toList()));
+      final int batchInsertionCount = writeConfigRecordsBatch(ctx, timestamp, configType, batch, false);
+      if (batchInsertionCount != batch.size()) {
+        LOGGER.warn("{} {} configs already exist (insertion record count: {})", batch.size() - batchInsertionCount, configType, batchInsertionCount);
+      }
+      insertionCount += batchInsertionCount;
     }
     return insertionCount;
   }
 
+  /**
+   * Inserts the configs that do not exist yet and updates the ones that do, with one multi-row
+   * upsert per batch of configs.
+   *
+   * @return the number of inserted or updated records.
+   */
+  @VisibleForTesting
+  int upsertConfigRecords(final DSLContext ctx,
+                          final OffsetDateTime timestamp,
+                          final String configType,
+                          final Map<String, JsonNode> configIdToJson) {
+    int upsertCount = 0;
+    for (final List<Entry<String, JsonNode>> batch : Iterables.partition(configIdToJson.entrySet(), WRITE_BATCH_SIZE)) {
+      LOGGER.info("Writing {} records {}", configType, batch.stream().map(Entry::getKey).collect(Collectors.toList()));
+      upsertCount += writeConfigRecordsBatch(ctx, timestamp, configType, batch, true);
+    }
+    return upsertCount;
+  }
+
+  /**
+   * Writes the batch of configs with a single multi-row insert.
+   *
+   * @param updateExisting whether the configs that already exist are updated or left unchanged.
+   */
+  private static int writeConfigRecordsBatch(final DSLContext ctx,
+                                             final OffsetDateTime timestamp,
+                                             final String configType,
+                                             final List<Entry<String, JsonNode>> batch,
+                                             final boolean updateExisting) {
+    final var insertStep = ctx.insertInto(AIRBYTE_CONFIGS,
+        AIRBYTE_CONFIGS.CONFIG_ID,
+        AIRBYTE_CONFIGS.CONFIG_TYPE,
+        AIRBYTE_CONFIGS.CONFIG_BLOB,
+        AIRBYTE_CONFIGS.CREATED_AT,
+        AIRBYTE_CONFIGS.UPDATED_AT);
+    batch.forEach(entry -> insertStep.values(entry.getKey(), configType, JSONB.valueOf(Jsons.serialize(entry.getValue())), timestamp, timestamp));
+
+    final var onConflictStep = insertStep.onConflict(AIRBYTE_CONFIGS.CONFIG_TYPE, AIRBYTE_CONFIGS.CONFIG_ID);
+    if (updateExisting) {
+      return onConflictStep.doUpdate()
+          .set(AIRBYTE_CONFIGS.CONFIG_BLOB, field("excluded." + AIRBYTE_CONFIGS.CONFIG_BLOB.getName(), JSONB.class))
+          .set(AIRBYTE_CONFIGS.UPDATED_AT, timestamp)
+          .execute();
+    }
+    return onConflictStep.doNothing().execute();
+  }
+
   /**
    * @return the number of updated records.
    */
@@ -270,15 +389,36 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
                          final String configType,
                          final JsonNode configJson,
                          final String configId) {
-    LOGGER.info("Updating {} record {}", configType, configId);
-
-    final int updateCount = ctx.update(AIRBYTE_CONFIGS)
-        .set(AIRBYTE_CONFIGS.CONFIG_BLOB, JSONB.valueOf(Jsons.serialize(configJson)))
-        .set(AIRBYTE_CONFIGS.UPDATED_AT, timestamp)
-        .where(AIRBYTE_CONFIGS.CONFIG_TYPE.eq(configType), AIRBYTE_CONFIGS.CONFIG_ID.eq(configId))
-        .execute();
-    if (updateCount != 1) {
-      LOGGER.warn("{} config {} is not updated (updated record count: {})", configType, configId, updateCount);
+    return updateConfigRecords(ctx, timestamp, configType, Map.of(configId, configJson));
+  }
+
+  /**
+   * Updates the existing configs with one JDBC batch per batch of configs. Configs that do not exist
+   * are not inserted.
+   *
+   * @return the number of updated records.
+   */
+  @VisibleForTesting
+  int updateConfigRecords(final DSLContext ctx,
+                          final OffsetDateTime timestamp,
+                          final String configType,
+                          final Map<String, JsonNode> configIdToJson) {
+    int updateCount = 0;
+    for (final List<Entry<String, JsonNode>> batch : Iterables.partition(configIdToJson.entrySet(), WRITE_BATCH_SIZE)) {
+      LOGGER.info("Updating {} records {}", configType, batch.stream().map(Entry::getKey).collect(Collectors.toList()));
+      final List<Query> updates = batch.stream()
+          .map(entry -> ctx.update(AIRBYTE_CONFIGS)
+              .set(AIRBYTE_CONFIGS.CONFIG_BLOB, JSONB.valueOf(Jsons.serialize(entry.getValue())))
+              .set(AIRBYTE_CONFIGS.UPDATED_AT, timestamp)
+              .where(AIRBYTE_CONFIGS.CONFIG_TYPE.eq(configType), AIRBYTE_CONFIGS.CONFIG_ID.eq(entry.getKey())))
+          .collect(Collectors.toList());
+      final int[] batchUpdateCounts = ctx.batch(updates).execute();
+      for (int i = 0; i < batchUpdateCounts.length; i++) {
+        if (batchUpdateCounts[i] != 1) {
+          LOGGER.warn("{} config {} is not updated (updated record count: {})", configType, batch.get(i).getKey(), batchUpdateCounts[i]);
+        }
+        updateCount += batchUpdateCounts[i];
+      }
     }
     return updateCount;
   }
@@ -297,10 +437,8 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
     final OffsetDateTime timestamp = OffsetDateTime.now();
     final int insertionCount = seedConfigs.entrySet().stream().map(entry -> {
       final String configType = entry.getKey();
-      return entry.getValue().map(configJson -> {
-        final String idFieldName = ConfigSchemaMigrationSupport.CONFIG_SCHEMA_ID_FIELD_NAMES.get(configType);
-        return insertConfigRecord(ctx, timestamp, configType, configJson, idFieldName);
-      }).reduce(0, Integer::sum);
+      final String idFieldName = ConfigSchemaMigrationSupport.CONFIG_SCHEMA_ID_FIELD_NAMES.get(configType);
+      return insertConfigRecords(ctx, timestamp, configType, entry.getValue(), idFieldName);
     }).reduce(0, Integer::sum);
 
     LOGGER.info("Config database data loading completed with {} records", insertionCount);
@@ -387,8 +525,9 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
                                                   final Set<String> connectorRepositoriesInUse,
                                                   final Map<String, ConnectorInfo> connectorRepositoryToIdVersionMap)
       throws IOException {
-    int newCount = 0;
-    int updatedCount = 0;
+    // the definitions are written in batches once all of them have been compared.
+    final List<JsonNode> newDefinitions = new ArrayList<>();
+    final Map<String, JsonNode> definitionIdToUpdatedDefinition = new LinkedHashMap<>();
 
     for (final T definition : latestDefinitions) {
       final JsonNode latestDefinition = Jsons.jsonNode(definition);
@@ -397,7 +536,7 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
       // Add new connector
       if (!connectorRepositoryToIdVersionMap.containsKey(repository)) {
         LOGGER.info("Adding new connector {}: {}", repository, latestDefinition);
-        newCount += insertConfigRecord(ctx, timestamp, configType.name(), latestDefinition, configType.getIdFieldName());
+        newDefinitions.add(latestDefinition);
         continue;
       }
 
@@ -420,7 +559,7 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
           // Add new fields to the connector definition
           final JsonNode definitionToUpdate = getDefinitionWithNewFields(currentDefinition, latestDefinition, newFields);
           LOGGER.info("Connector {} has new fields: {}", repository, String.join(", ", newFields));
-          updatedCount += updateConfigRecord(ctx, timestamp, configType.name(), definitionToUpdate, connectorInfo.definitionId);
+          definitionIdToUpdatedDefinition.put(connectorInfo.definitionId, definitionToUpdate);
         }
         continue;
       }
@@ -430,17 +569,19 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
       if (hasNewVersion(connectorInfo.dockerImageTag, latestImageTag)) {
         // Update connector to the latest version
         LOGGER.info("Connector {} needs update: {} vs {}", repository, connectorInfo.dockerImageTag, latestImageTag);
-        updatedCount += updateConfigRecord(ctx, timestamp, configType.name(), latestDefinition, connectorInfo.definitionId);
+        definitionIdToUpdatedDefinition.put(connectorInfo.definitionId, latestDefinition);
       } else if (newFields.size() > 0) {
         // Add new fields to the connector definition
         final JsonNode definitionToUpdate = getDefinitionWithNewFields(currentDefinition, latestDefinition, newFields);
         LOGGER.info("Connector {} has new fields: {}", repository, String.join(", ", newFields));
-        updatedCount += updateConfigRecord(ctx, timestamp, configType.name(), definitionToUpdate, connectorInfo.definitionId);
+        definitionIdToUpdatedDefinition.put(connectorInfo.definitionId, definitionToUpdate);
       } else {
         LOGGER.info("Connector {} does not need update: {}", repository, connectorInfo.dockerImageTag);
       }
     }
 
+    final int newCount = insertConfigRecords(ctx, timestamp, configType.name(), newDefinitions.stream(), configType.getIdFieldName());
+    final int updatedCount = updateConfigRecords(ctx, timestamp, configType.name(), definitionIdToUpdatedDefinition);
     return new ConnectorCounter(newCount, updatedCount);
   }
 
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import static io.airbyte.db.instance.configs.jooq.Tables.CONNECTION_STREAM_STATE;
+import static org.jooq.impl.DSL.field;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import com.google.common.collect.Streams;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.StandardSyncState;
+import io.airbyte.config.State;
+import io.airbyte.db.Database;
+import io.airbyte.db.ExceptionWrappingDatabase;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.Record3;
+
+/**
+ * Stores the state of each connection as one record per top level field of the state. The state of
+ * the database sources (DbState in source-relational-db) keeps all the streams in a "streams"
+ * array, whose items are stored as one record per stream. A state update only writes the records
+ * that changed, so large states are not rewritten whole after every sync. States that cannot be
+ * split are stored whole in a single record, see {@link #WHOLE_STATE_KEY}.
+ */
+public class StreamStatePersistence {
+
+  @VisibleForTesting
+  static final int WRITE_BATCH_SIZE = 100;
+
+  /**
+   * The stream key of the record that holds the whole state of a connection, for the states that are
+   * not json objects, are empty objects or have a field named like a reserved stream key. The
+   * reserved keys have to match the ones used by the V0_34_0_002__Add_connection_stream_state
+   * migration.
+   */
+  @VisibleForTesting
+  static final String WHOLE_STATE_KEY = "_airbyte_whole_state";
+
+  // the stream keys of the items of a DbState "streams" array are this prefix followed by the json
+  // array of the stream name and namespace.
+  @VisibleForTesting
+  static final String DB_STREAM_KEY_PREFIX = "streams/";
+  private static final String DB_STREAMS_FIELD = "streams";
+  private static final String DB_STREAM_NAME_FIELD = "stream_name";
+  private static final String DB_STREAM_NAMESPACE_FIELD = "stream_namespace";
+
+  // the order in which the source-relational-db StateManager emits the streams, by name then
+  // namespace, without namespace first.
+  private static final Comparator<JsonNode> DB_STREAM_ORDER = Comparator
+      .<JsonNode, String>comparing(stream -> stream.get(DB_STREAM_NAME_FIELD).asText())
+      .thenComparing(StreamStatePersistence::getDbStreamNamespace, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+  private static final Field<JSONB> EXCLUDED_STATE = field("excluded." + CONNECTION_STREAM_STATE.STATE.getName(), JSONB.class);
+
+  private final ExceptionWrappingDatabase database;
+
+  public StreamStatePersistence(final Database database) {
+    this.database = new ExceptionWrappingDatabase(database);
+  }
+
+  /**
+   * @return the state of the connection assembled from its stream states, or empty if the connection
+   *         has no state.
+   */
+  public Optional<State> getState(final UUID connectionId) throws IOException {
+    final Map<String, JsonNode> streamStates = database.query(ctx -> ctx
+        .select(CONNECTION_STREAM_STATE.STREAM_KEY, CONNECTION_STREAM_STATE.STATE)
+        .from(CONNECTION_STREAM_STATE)
+        .where(CONNECTION_STREAM_STATE.CONNECTION_ID.eq(connectionId))
+        .orderBy(CONNECTION_STREAM_STATE.STREAM_KEY)
+        .fetch())
+        .stream()
+        .collect(LinkedHashMap::new, (map, record) -> map.put(record.value1(), Jsons.deserialize(record.value2().data())), Map::putAll);
+    return streamStates.isEmpty() ? Optional.empty() : Optional.of(assembleState(streamStates));
+  }
+
+  /**
+   * Replaces the state of the connection. Stream states that did not change are left as is, and
+   * stored streams missing from the state are removed.
+   */
+  public void replaceState(final UUID connectionId, final State state) throws IOException {
+    final Map<String, JsonNode> streamStates = toStreamStates(state);
+    final OffsetDateTime timestamp = OffsetDateTime.now();
+    database.transaction(ctx -> {
+      ctx.deleteFrom(CONNECTION_STREAM_STATE)
+          .where(CONNECTION_STREAM_STATE.CONNECTION_ID.eq(connectionId))
+          .and(CONNECTION_STREAM_STATE.STREAM_KEY.notIn(streamStates.keySet()))
+          .execute();
+      return writeStreamStates(ctx, timestamp, connectionId, streamStates);
+    });
+  }
+
+  /**
+   * Inserts the states of the connections, as part of the transaction of the caller. The connections
+   * are expected to have no stored state.
+   *
+   * @return the number of inserted records.
+   */
+  static int insertStates(final DSLContext ctx, final OffsetDateTime timestamp, final Stream<StandardSyncState> standardSyncStates) {
+    final Iterator<StandardSyncState> iterator = standardSyncStates.iterator();
+    int insertionCount = 0;
+    while (iterator.hasNext()) {
+      final StandardSyncState standardSyncState = iterator.next();
+      insertionCount += writeStreamStates(ctx, timestamp, standardSyncState.getConnectionId(), toStreamStates(standardSyncState.getState()));
+    }
+    return insertionCount;
+  }
+
+  /**
+   * Streams the states of all the connections. The stream states are read with a cursor, and only the
+   * stream states of one connection are held in memory at a time. The returned stream must be closed
+   * to release its connection.
+   */
+  static Stream<StandardSyncState> streamStates(final ExceptionWrappingDatabase database, final int fetchSize) throws IOException {
+    final Stream<Record3<UUID, String, JSONB>> records = database.streamQuery(ctx -> ctx
+        .select(CONNECTION_STREAM_STATE.CONNECTION_ID, CONNECTION_STREAM_STATE.STREAM_KEY, CONNECTION_STREAM_STATE.STATE)
+        .from(CONNECTION_STREAM_STATE)
+        .orderBy(CONNECTION_STREAM_STATE.CONNECTION_ID, CONNECTION_STREAM_STATE.STREAM_KEY), fetchSize);
+    final PeekingIterator<Record3<UUID, String, JSONB>> recordIterator = Iterators.peekingIterator(records.iterator());
+
+    final Iterator<StandardSyncState> standardSyncStates = new AbstractIterator<>() {
+
+      @Override
+      protected StandardSyncState computeNext() {
+        if (!recordIterator.hasNext()) {
+          return endOfData();
+        }
+        final UUID connectionId = recordIterator.peek().value1();
+        final Map<String, JsonNode> streamStates = new LinkedHashMap<>();
+        while (recordIterator.hasNext() && recordIterator.peek().value1().equals(connectionId)) {
+          final Record3<UUID, String, JSONB> record = recordIterator.next();
+          streamStates.put(record.value2(), Jsons.deserialize(record.value3().data()));
+        }
+        return new StandardSyncState().withConnectionId(connectionId).withState(assembleState(streamStates));
+      }
+
+    };
+    return Streams.stream(standardSyncStates).onClose(records::close);
+  }
+
+  /**
+   * Upserts the stream states with one multi-row insert per batch of streams. Stored states equal to
+   * the new ones are not updated.
+   *
+   * @return the number of inserted or updated records.
+   */
+  private static int writeStreamStates(final DSLContext ctx,
+                                       final OffsetDateTime timestamp,
+                                       final UUID connectionId,
+                                       final Map<String, JsonNode> streamStates) {
+    int writeCount = 0;
+    for (final List<Entry<String, JsonNode>> batch : Iterables.partition(streamStates.entrySet(), WRITE_BATCH_SIZE)) {
+      final var insertStep = ctx.insertInto(CONNECTION_STREAM_STATE,
+          CONNECTION_STREAM_STATE.CONNECTION_ID,
+          CONNECTION_STREAM_STATE.STREAM_KEY,
+          CONNECTION_STREAM_STATE.STATE,
+          CONNECTION_STREAM_STATE.UPDATED_AT);
+      batch.forEach(entry -> insertStep.values(connectionId, entry.getKey(), JSONB.valueOf(Jsons.serialize(entry.getValue())), timestamp));
+      writeCount += insertStep.onConflict(CONNECTION_STREAM_STATE.CONNECTION_ID, CONNECTION_STREAM_STATE.STREAM_KEY)
+          .doUpdate()
+          .set(CONNECTION_STREAM_STATE.STATE, EXCLUDED_STATE)
+          .set(CONNECTION_STREAM_STATE.UPDATED_AT, timestamp)
+          .where(CONNECTION_STREAM_STATE.STATE.isDistinctFrom(EXCLUDED_STATE))
+          .execute();
+    }
+    return writeCount;
+  }
+
+  /**
+   * @return the records to store for the state, by stream key.
+   */
+  @VisibleForTesting
+  static Map<String, JsonNode> toStreamStates(final State state) {
+    final JsonNode stateJson = state.getState();
+    final Map<String, JsonNode> streamStates = new LinkedHashMap<>();
+    if (!isSplittable(stateJson)) {
+      streamStates.put(WHOLE_STATE_KEY, stateJson);
+      return streamStates;
+    }
+    stateJson.fields().forEachRemaining(field -> {
+      if (field.getKey().equals(DB_STREAMS_FIELD) && isSplittableDbStreams(field.getValue())) {
+        field.getValue().forEach(stream -> streamStates.put(getDbStreamKey(stream), stream));
+      } else {
+        streamStates.put(field.getKey(), field.getValue());
+      }
+    });
+    return streamStates;
+  }
+
+  /**
+   * @param streamStates the stored records of a connection, by stream key.
+   */
+  @VisibleForTesting
+  static State assembleState(final Map<String, JsonNode> streamStates) {
+    if (streamStates.containsKey(WHOLE_STATE_KEY)) {
+      return new State().withState(streamStates.get(WHOLE_STATE_KEY));
+    }
+    final ObjectNode stateJson = (ObjectNode) Jsons.emptyObject();
+    final List<JsonNode> dbStreams = new ArrayList<>();
+    streamStates.forEach((streamKey, streamState) -> {
+      if (streamKey.startsWith(DB_STREAM_KEY_PREFIX)) {
+        dbStreams.add(streamState);
+      } else {
+        stateJson.set(streamKey, streamState);
+      }
+    });
+    if (!dbStreams.isEmpty()) {
+      dbStreams.sort(DB_STREAM_ORDER);
+      stateJson.putArray(DB_STREAMS_FIELD).addAll(dbStreams);
+    }
+    return new State().withState(stateJson);
+  }
+
+  private static boolean isSplittable(final JsonNode stateJson) {
+    if (!stateJson.isObject() || stateJson.size() == 0) {
+      return false;
+    }
+    final Iterator<String> fieldNames = stateJson.fieldNames();
+    while (fieldNames.hasNext()) {
+      final String fieldName = fieldNames.next();
+      if (fieldName.equals(WHOLE_STATE_KEY) || fieldName.startsWith(DB_STREAM_KEY_PREFIX)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * The items of a "streams" array are only stored one per record if the array can be assembled back
+   * as is: the items are distinct named streams, in the order of {@link #DB_STREAM_ORDER}.
+   */
+  private static boolean isSplittableDbStreams(final JsonNode dbStreams) {
+    if (!dbStreams.isArray() || dbStreams.size() == 0) {
+      return false;
+    }
+    final Set<String> streamKeys = new HashSet<>();
+    JsonNode previousStream = null;
+    for (final JsonNode stream : dbStreams) {
+      final boolean isNamedStream = stream.isObject()
+          && stream.path(DB_STREAM_NAME_FIELD).isTextual()
+          && (stream.path(DB_STREAM_NAMESPACE_FIELD).isTextual() || stream.path(DB_STREAM_NAMESPACE_FIELD).isMissingNode()
+              || stream.path(DB_STREAM_NAMESPACE_FIELD).isNull());
+      if (!isNamedStream || !streamKeys.add(getDbStreamKey(stream))) {
+        return false;
+      }
+      if (previousStream != null && DB_STREAM_ORDER.compare(previousStream, stream) > 0) {
+        return false;
+      }
+      previousStream = stream;
+    }
+    return true;
+  }
+
+  private static String getDbStreamKey(final JsonNode stream) {
+    return DB_STREAM_KEY_PREFIX + Jsons.serialize(Arrays.asList(stream.get(DB_STREAM_NAME_FIELD).asText(), getDbStreamNamespace(stream)));
+  }
+
+  private static String getDbStreamNamespace(final JsonNode stream) {
+    final JsonNode namespace = stream.get(DB_STREAM_NAMESPACE_FIELD);
+    return namespace == null || namespace.isNull() ? null : namespace.asText();
+  }
+
+}
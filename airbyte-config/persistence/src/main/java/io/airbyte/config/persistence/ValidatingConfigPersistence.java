@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 // we force all interaction with disk storage to be effectively single threaded.
@@ -58,6 +59,16 @@ public class ValidatingConfigPersistence implements ConfigPersistence {
     return configs;
   }
 
+  @Override
+  public <T> List<T> listConfigsWithFieldValues(final AirbyteConfig configType, final Map<String, Set<String>> fieldValues, final Class<T> clazz)
+      throws JsonValidationException, IOException {
+    final List<T> configs = decoratedPersistence.listConfigsWithFieldValues(configType, fieldValues, clazz);
+    for (final T config : configs) {
+      validateJson(config, configType);
+    }
+    return configs;
+  }
+
   @Override
   public <T> void writeConfig(final AirbyteConfig configType, final String configId, final T config) throws JsonValidationException, IOException {
 
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence.split_secrets;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the secrets read from a {@link ReadOnlySecretPersistence}, so hydrating many configs that
+ * share secrets, or hydrating the same config repeatedly, does not read every secret from the
+ * backing store each time.
+ * <p>
+ * A {@link SecretCoordinate} includes the version of the secret and a changed secret is always
+ * written to a new version, so a cached secret cannot go stale. The expiry only bounds how long
+ * secrets are kept in memory.
+ */
+public class CachingSecretPersistence implements ReadOnlySecretPersistence {
+
+  private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+  private static final Duration DEFAULT_EXPIRY = Duration.ofMinutes(5);
+
+  private final ReadOnlySecretPersistence decoratedPersistence;
+  private final Cache<SecretCoordinate, String> secrets;
+
+  public CachingSecretPersistence(final ReadOnlySecretPersistence decoratedPersistence) {
+    this(decoratedPersistence, DEFAULT_MAXIMUM_SIZE, DEFAULT_EXPIRY);
+  }
+
+  public CachingSecretPersistence(final ReadOnlySecretPersistence decoratedPersistence, final long maximumSize, final Duration expiry) {
+    this.decoratedPersistence = decoratedPersistence;
+    this.secrets = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(expiry.toMillis(), TimeUnit.MILLISECONDS)
+        .build();
+  }
+
+  @Override
+  public Optional<String> read(final SecretCoordinate coordinate) {
+    final String cachedSecret = secrets.getIfPresent(coordinate);
+    if (cachedSecret != null) {
+      return Optional.of(cachedSecret);
+    }
+
+    final Optional<String> secret = decoratedPersistence.read(coordinate);
+    // missing secrets are not cached, they may still be written.
+    secret.ifPresent(value -> secrets.put(coordinate, value));
+    return secret;
+  }
+
+}
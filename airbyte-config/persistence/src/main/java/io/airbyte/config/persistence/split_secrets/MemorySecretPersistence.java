@@ -4,16 +4,17 @@
 
 package io.airbyte.config.persistence.split_secrets;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Map-based implementation of a {@link SecretPersistence} used for unit testing.
+ * Map-based implementation of a {@link SecretPersistence} used for unit testing and benchmarks. It
+ * is safe to read concurrently, e.g. by {@link RealSecretsHydrator#hydrate(java.util.List)}.
  */
 public class MemorySecretPersistence implements SecretPersistence {
 
-  final Map<SecretCoordinate, String> secretMap = new HashMap<>();
+  final Map<SecretCoordinate, String> secretMap = new ConcurrentHashMap<>();
 
   @Override
   public Optional<String> read(final SecretCoordinate coordinate) {
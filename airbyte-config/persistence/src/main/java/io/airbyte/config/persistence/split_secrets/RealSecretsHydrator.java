@@ -5,16 +5,34 @@
 package io.airbyte.config.persistence.split_secrets;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 /**
  * Adds secrets to a partial config based off a persistence.
  */
 public class RealSecretsHydrator implements SecretsHydrator {
 
+  private static final int DEFAULT_READ_CONCURRENCY = 8;
+
   private final ReadOnlySecretPersistence readOnlySecretPersistence;
+  private final int readConcurrency;
 
   public RealSecretsHydrator(final ReadOnlySecretPersistence readOnlySecretPersistence) {
+    this(readOnlySecretPersistence, DEFAULT_READ_CONCURRENCY);
+  }
+
+  public RealSecretsHydrator(final ReadOnlySecretPersistence readOnlySecretPersistence, final int readConcurrency) {
     this.readOnlySecretPersistence = readOnlySecretPersistence;
+    this.readConcurrency = readConcurrency;
   }
 
   @Override
@@ -22,4 +40,47 @@ public class RealSecretsHydrator implements SecretsHydrator {
     return SecretsHelpers.combineConfig(partialConfig, readOnlySecretPersistence);
   }
 
+  /**
+   * Reads every distinct secret of the configs once, with concurrent reads, before combining the
+   * configs.
+   */
+  @Override
+  public List<JsonNode> hydrate(final List<JsonNode> partialConfigs) {
+    final Set<SecretCoordinate> coordinates = partialConfigs.stream()
+        .flatMap(partialConfig -> SecretsHelpers.getCoordinates(partialConfig).stream())
+        .collect(Collectors.toSet());
+    final Map<SecretCoordinate, String> secrets = readSecrets(coordinates);
+
+    return partialConfigs.stream()
+        .map(partialConfig -> SecretsHelpers.combineConfig(partialConfig, coordinate -> Optional.ofNullable(secrets.get(coordinate))))
+        .collect(Collectors.toList());
+  }
+
+  private Map<SecretCoordinate, String> readSecrets(final Set<SecretCoordinate> coordinates) {
+    final Map<SecretCoordinate, String> secrets = new ConcurrentHashMap<>();
+    if (coordinates.size() <= 1 || readConcurrency <= 1) {
+      coordinates.forEach(coordinate -> readOnlySecretPersistence.read(coordinate).ifPresent(secret -> secrets.put(coordinate, secret)));
+      return secrets;
+    }
+
+    final ExecutorService executorService = Executors.newFixedThreadPool(Math.min(readConcurrency, coordinates.size()));
+    try {
+      final List<Future<?>> reads = coordinates.stream()
+          .map(coordinate -> executorService.submit(
+              () -> readOnlySecretPersistence.read(coordinate).ifPresent(secret -> secrets.put(coordinate, secret))))
+          .collect(Collectors.toList());
+      for (final Future<?> read : reads) {
+        read.get();
+      }
+      return secrets;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (final ExecutionException e) {
+      throw new RuntimeException(e.getCause());
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
 }
@@ -45,7 +45,7 @@ public interface SecretPersistence extends ReadOnlySecretPersistence {
     final var persistence = getLongLived(configs);
 
     if (persistence.isPresent()) {
-      return new RealSecretsHydrator(persistence.get());
+      return new RealSecretsHydrator(new CachingSecretPersistence(persistence.get()));
     } else {
       return new NoOpSecretsHydrator();
     }
@@ -13,8 +13,10 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -126,6 +128,24 @@ public class SecretsHelpers {
     return config;
   }
 
+  /**
+   * @param partialConfig configuration containing secret coordinates (references to secrets)
+   * @return the coordinates of all the secrets referenced by the config
+   */
+  public static Set<SecretCoordinate> getCoordinates(final JsonNode partialConfig) {
+    final Set<SecretCoordinate> coordinates = new HashSet<>();
+    addCoordinates(partialConfig, coordinates);
+    return coordinates;
+  }
+
+  private static void addCoordinates(final JsonNode partialConfig, final Set<SecretCoordinate> coordinates) {
+    if (partialConfig.has(COORDINATE_FIELD)) {
+      coordinates.add(getCoordinateFromTextNode(partialConfig.get(COORDINATE_FIELD)));
+    } else if (partialConfig instanceof ArrayNode || partialConfig instanceof ObjectNode) {
+      partialConfig.elements().forEachRemaining(node -> addCoordinates(node, coordinates));
+    }
+  }
+
   /**
    * @param uuidSupplier provided to allow a test case to produce known UUIDs in order for easy
    *        fixture creation.
@@ -5,6 +5,8 @@
 package io.airbyte.config.persistence.split_secrets;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Adds secrets to a partial config.
@@ -19,4 +21,15 @@ public interface SecretsHydrator {
    */
   JsonNode hydrate(JsonNode partialConfig);
 
+  /**
+   * Adds secrets to several partial configs at once, which allows implementations to read the
+   * secrets of all the configs together.
+   *
+   * @param partialConfigs partial configs (without secrets)
+   * @return full configs with secrets, in the order of the partial configs
+   */
+  default List<JsonNode> hydrate(final List<JsonNode> partialConfigs) {
+    return partialConfigs.stream().map(this::hydrate).collect(Collectors.toList());
+  }
+
 }
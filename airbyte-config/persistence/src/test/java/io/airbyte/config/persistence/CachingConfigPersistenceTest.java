@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.cache.CacheStats;
+import io.airbyte.config.ConfigSchema;
+import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.config.StandardWorkspace;
+import io.airbyte.validation.json.JsonValidationException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingConfigPersistenceTest {
+
+  private static final UUID UUID_1 = new UUID(0, 1);
+  private static final StandardSourceDefinition SOURCE_1 = new StandardSourceDefinition()
+      .withSourceDefinitionId(UUID_1)
+      .withName("apache storm");
+
+  private ConfigPersistence decoratedConfigPersistence;
+  private CachingConfigPersistence configPersistence;
+
+  @BeforeEach
+  void setUp() {
+    decoratedConfigPersistence = mock(ConfigPersistence.class);
+    configPersistence = new CachingConfigPersistence(decoratedConfigPersistence);
+  }
+
+  @Test
+  void testGetConfigIsCached() throws ConfigNotFoundException, JsonValidationException, IOException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1);
+
+    final StandardSourceDefinition first = getSourceDefinition();
+    final StandardSourceDefinition second = getSourceDefinition();
+
+    assertEquals(SOURCE_1, first);
+    assertEquals(SOURCE_1, second);
+    assertNotSame(first, second);
+    verify(decoratedConfigPersistence, times(1))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+
+    final CacheStats stats = configPersistence.getCacheStats().get(ConfigSchema.STANDARD_SOURCE_DEFINITION.name());
+    assertEquals(1, stats.hitCount());
+    assertEquals(1, stats.missCount());
+  }
+
+  @Test
+  void testCachedConfigIsNotModifiedByCallers() throws ConfigNotFoundException, JsonValidationException, IOException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1);
+
+    getSourceDefinition().withName("modified");
+
+    assertEquals(SOURCE_1, getSourceDefinition());
+  }
+
+  @Test
+  void testWriteAndDeleteInvalidate() throws ConfigNotFoundException, JsonValidationException, IOException {
+    final StandardSourceDefinition updated = new StandardSourceDefinition().withSourceDefinitionId(UUID_1).withName("apache storm 2");
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1)
+        .thenReturn(updated)
+        .thenThrow(new ConfigNotFoundException(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString()));
+
+    assertEquals(SOURCE_1, getSourceDefinition());
+
+    configPersistence.writeConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), updated);
+    assertEquals(updated, getSourceDefinition());
+    verify(decoratedConfigPersistence).writeConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), updated);
+
+    configPersistence.deleteConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString());
+    assertThrows(ConfigNotFoundException.class, this::getSourceDefinition);
+  }
+
+  @Test
+  void testReplaceAllConfigsInvalidates() throws ConfigNotFoundException, JsonValidationException, IOException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1);
+
+    getSourceDefinition();
+    configPersistence.replaceAllConfigs(Map.of(), false);
+    getSourceDefinition();
+
+    verify(decoratedConfigPersistence, times(2))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+  }
+
+  @Test
+  void testUncachedConfigTypesAreNotCached() throws ConfigNotFoundException, JsonValidationException, IOException {
+    final StandardWorkspace workspace = new StandardWorkspace().withWorkspaceId(UUID_1);
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_WORKSPACE, UUID_1.toString(), StandardWorkspace.class)).thenReturn(workspace);
+
+    configPersistence.getConfig(ConfigSchema.STANDARD_WORKSPACE, UUID_1.toString(), StandardWorkspace.class);
+    configPersistence.getConfig(ConfigSchema.STANDARD_WORKSPACE, UUID_1.toString(), StandardWorkspace.class);
+
+    verify(decoratedConfigPersistence, times(2)).getConfig(ConfigSchema.STANDARD_WORKSPACE, UUID_1.toString(), StandardWorkspace.class);
+  }
+
+  @Test
+  void testMaximumSize() throws ConfigNotFoundException, JsonValidationException, IOException {
+    configPersistence =
+        new CachingConfigPersistence(decoratedConfigPersistence, Set.of(ConfigSchema.STANDARD_SOURCE_DEFINITION), 1, Duration.ofMinutes(1));
+    final UUID otherId = new UUID(0, 2);
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1);
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, otherId.toString(), StandardSourceDefinition.class))
+        .thenReturn(new StandardSourceDefinition().withSourceDefinitionId(otherId));
+
+    getSourceDefinition();
+    configPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, otherId.toString(), StandardSourceDefinition.class);
+    getSourceDefinition();
+
+    verify(decoratedConfigPersistence, times(2))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+  }
+
+  private StandardSourceDefinition getSourceDefinition() throws ConfigNotFoundException, JsonValidationException, IOException {
+    return configPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+  }
+
+}
@@ -6,7 +6,9 @@ package io.airbyte.config.persistence;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
@@ -15,9 +17,11 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.DestinationConnection;
+import io.airbyte.config.SourceCatalogCache;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.StandardSourceDefinition;
@@ -30,8 +34,11 @@ import io.airbyte.config.persistence.split_secrets.NoOpSecretsHydrator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -138,6 +145,22 @@ class ConfigRepositoryTest {
     verify(configPersistence, times(1)).writeConfig(ConfigSchema.STANDARD_SYNC_STATE, connectionId.toString(), connectionState2);
   }
 
+  @Test
+  void testConnectionStateWithStreamStatePersistence() throws Exception {
+    final StreamStatePersistence streamStatePersistence = mock(StreamStatePersistence.class);
+    configRepository = new ConfigRepository(configPersistence, new NoOpSecretsHydrator(), Optional.empty(), Optional.empty(),
+        Optional.of(streamStatePersistence));
+    final UUID connectionId = UUID.randomUUID();
+    final State state = new State().withState(Jsons.deserialize("{ \"cursor\": 1000 }"));
+
+    when(streamStatePersistence.getState(connectionId)).thenReturn(Optional.of(state));
+    assertEquals(Optional.of(state), configRepository.getConnectionState(connectionId));
+
+    configRepository.updateConnectionState(connectionId, state);
+    verify(streamStatePersistence).replaceState(connectionId, state);
+    verify(configPersistence, never()).writeConfig(any(), any(), any());
+  }
+
   @Test
   void testDeleteSourceDefinitionAndAssociations() throws JsonValidationException, IOException, ConfigNotFoundException {
     final StandardSourceDefinition sourceDefToDelete = new StandardSourceDefinition().withSourceDefinitionId(UUID.randomUUID());
@@ -164,14 +187,38 @@ class ConfigRepositoryTest {
     // verify that all records associated with sourceDefToDelete were deleted
     verify(configPersistence, times(1)).deleteConfig(ConfigSchema.STANDARD_SYNC, syncToDelete.getConnectionId().toString());
     verify(configPersistence, times(1)).deleteConfig(ConfigSchema.SOURCE_CONNECTION, sourceConnectionToDelete.getSourceId().toString());
+    verify(configPersistence, times(1)).deleteConfig(ConfigSchema.SOURCE_CATALOG_CACHE, sourceConnectionToDelete.getSourceId().toString());
     verify(configPersistence, times(1)).deleteConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, sourceDefToDelete.getSourceDefinitionId().toString());
 
     // verify that none of the records associated with sourceDefToStay were deleted
     verify(configPersistence, never()).deleteConfig(ConfigSchema.STANDARD_SYNC, syncToStay.getConnectionId().toString());
     verify(configPersistence, never()).deleteConfig(ConfigSchema.SOURCE_CONNECTION, sourceConnectionToStay.getSourceId().toString());
+    verify(configPersistence, never()).deleteConfig(ConfigSchema.SOURCE_CATALOG_CACHE, sourceConnectionToStay.getSourceId().toString());
     verify(configPersistence, never()).deleteConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, sourceDefToStay.getSourceDefinitionId().toString());
   }
 
+  @Test
+  void testDeleteSourceCatalogCache() throws IOException, ConfigNotFoundException {
+    final UUID sourceId = UUID.randomUUID();
+    configRepository.deleteSourceCatalogCache(sourceId);
+    verify(configPersistence).deleteConfig(ConfigSchema.SOURCE_CATALOG_CACHE, sourceId.toString());
+
+    // a source without cached catalog
+    doThrow(new ConfigNotFoundException(ConfigSchema.SOURCE_CATALOG_CACHE, sourceId.toString()))
+        .when(configPersistence).deleteConfig(ConfigSchema.SOURCE_CATALOG_CACHE, sourceId.toString());
+    configRepository.deleteSourceCatalogCache(sourceId);
+  }
+
+  @Test
+  void testDumpConfigsWithoutSourceCatalogCache() throws IOException {
+    when(configPersistence.dumpConfigs()).thenReturn(Map.of(
+        ConfigSchema.STANDARD_WORKSPACE.name(), Stream.of(Jsons.jsonNode(new StandardWorkspace().withWorkspaceId(WORKSPACE_ID))),
+        ConfigSchema.SOURCE_CATALOG_CACHE.name(), Stream.of(Jsons.jsonNode(new SourceCatalogCache().withSourceId(UUID.randomUUID())))));
+
+    final Map<String, Stream<JsonNode>> dump = configRepository.dumpConfigs();
+    assertEquals(Set.of(ConfigSchema.STANDARD_WORKSPACE.name()), dump.keySet());
+  }
+
   @Test
   void testDeleteDestinationDefinitionAndAssociations() throws JsonValidationException, IOException, ConfigNotFoundException {
     final StandardDestinationDefinition destDefToDelete = new StandardDestinationDefinition().withDestinationDefinitionId(UUID.randomUUID());
@@ -20,17 +20,27 @@ import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.ConfigWithMetadata;
 import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.config.StandardSyncState;
+import io.airbyte.config.State;
 import io.airbyte.config.persistence.DatabaseConfigPersistence.ConnectorInfo;
-import io.airbyte.db.instance.configs.ConfigsDatabaseInstance;
+import io.airbyte.db.instance.test.TestDatabaseProviders;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import org.apache.commons.dbcp2.BasicDataSource;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -44,9 +54,10 @@ public class DatabaseConfigPersistenceTest extends BaseDatabaseConfigPersistence
 
   @BeforeEach
   public void setup() throws Exception {
-    database = new ConfigsDatabaseInstance(container.getUsername(), container.getPassword(), container.getJdbcUrl()).getAndInitialize();
+    // the connection states are in the connection_stream_state table created by a migration.
+    database = new TestDatabaseProviders(container).createNewConfigsDatabase();
     configPersistence = spy(new DatabaseConfigPersistence(database));
-    database.query(ctx -> ctx.execute("TRUNCATE TABLE airbyte_configs"));
+    database.query(ctx -> ctx.execute("TRUNCATE TABLE airbyte_configs, connection_stream_state"));
   }
 
   @AfterEach
@@ -65,6 +76,37 @@ public class DatabaseConfigPersistenceTest extends BaseDatabaseConfigPersistence
         configPersistence.listConfigs(STANDARD_DESTINATION_DEFINITION, StandardDestinationDefinition.class));
   }
 
+  @Test
+  public void testMultiWriteInsertsAndUpdatesConfigsInBatches() throws Exception {
+    // more sources than fit in a single batch.
+    final List<StandardSourceDefinition> sources = IntStream.range(0, 250)
+        .mapToObj(i -> new StandardSourceDefinition()
+            .withSourceDefinitionId(UUID.randomUUID())
+            .withName("source " + i)
+            .withDockerRepository("airbyte/source-" + i)
+            .withDockerImageTag("0.1.0"))
+        .collect(Collectors.toList());
+    configPersistence.writeConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, sources.stream()
+        .collect(Collectors.toMap(source -> source.getSourceDefinitionId().toString(), Function.identity())));
+    assertRecordCount(250);
+
+    // update every other source and add a new one.
+    final List<StandardSourceDefinition> updatedSources = IntStream.range(0, 250)
+        .filter(i -> i % 2 == 0)
+        .mapToObj(i -> Jsons.clone(sources.get(i)).withDockerImageTag("0.2.0"))
+        .collect(Collectors.toList());
+    final Map<String, StandardSourceDefinition> writtenSources = Stream.concat(updatedSources.stream(), Stream.of(SOURCE_GITHUB))
+        .collect(Collectors.toMap(source -> source.getSourceDefinitionId().toString(), Function.identity()));
+    configPersistence.writeConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, writtenSources);
+
+    assertRecordCount(251);
+    assertHasSource(SOURCE_GITHUB);
+    assertHasSource(sources.get(1));
+    for (final StandardSourceDefinition updatedSource : updatedSources) {
+      assertHasSource(updatedSource);
+    }
+  }
+
   @Test
   public void testWriteAndGetConfig() throws Exception {
     writeDestination(configPersistence, DESTINATION_S3);
@@ -97,6 +139,34 @@ public class DatabaseConfigPersistenceTest extends BaseDatabaseConfigPersistence
         List.of(configWithMetadata.get(0).getConfig(), configWithMetadata.get(1).getConfig()));
   }
 
+  @Test
+  public void testListConfigsWithFieldValues() throws Exception {
+    writeDestinations(configPersistence, Lists.newArrayList(DESTINATION_S3, DESTINATION_SNOWFLAKE));
+    writeSource(configPersistence, SOURCE_GITHUB);
+
+    assertEquals(
+        List.of(DESTINATION_S3),
+        configPersistence.listConfigsWithFieldValues(STANDARD_DESTINATION_DEFINITION,
+            Map.of("dockerRepository", Set.of("airbyte/destination-s3", "airbyte/source-github")),
+            StandardDestinationDefinition.class));
+    assertEquals(
+        List.of(DESTINATION_SNOWFLAKE, DESTINATION_S3),
+        configPersistence.listConfigsWithFieldValues(STANDARD_DESTINATION_DEFINITION,
+            Map.of("dockerRepository", Set.of("airbyte/destination-s3", "airbyte/destination-snowflake")),
+            StandardDestinationDefinition.class));
+    assertEquals(
+        List.of(DESTINATION_SNOWFLAKE),
+        configPersistence.listConfigsWithFieldValues(STANDARD_DESTINATION_DEFINITION,
+            Map.of("dockerRepository", Set.of("airbyte/destination-s3", "airbyte/destination-snowflake"),
+                "destinationDefinitionId", Set.of(DESTINATION_SNOWFLAKE.getDestinationDefinitionId().toString())),
+            StandardDestinationDefinition.class));
+    assertEquals(
+        List.of(),
+        configPersistence.listConfigsWithFieldValues(STANDARD_DESTINATION_DEFINITION,
+            Map.of("dockerRepository", Set.of()),
+            StandardDestinationDefinition.class));
+  }
+
   @Test
   public void testDeleteConfig() throws Exception {
     writeDestination(configPersistence, DESTINATION_S3);
@@ -134,6 +204,96 @@ public class DatabaseConfigPersistenceTest extends BaseDatabaseConfigPersistence
     assertHasSource(SOURCE_POSTGRES);
   }
 
+  @Test
+  public void testReplaceAllConfigsWithConnectionStates() throws Exception {
+    final StreamStatePersistence streamStatePersistence = new StreamStatePersistence(database);
+    final UUID oldConnectionId = UUID.randomUUID();
+    streamStatePersistence.replaceState(oldConnectionId, new State().withState(Jsons.deserialize("{ \"cursor\": 1 }")));
+
+    final StandardSyncState standardSyncState = new StandardSyncState()
+        .withConnectionId(UUID.randomUUID())
+        .withState(new State().withState(Jsons.deserialize("{ \"users\": { \"cursor\": 2 }, \"orders\": { \"cursor\": 3 } }")));
+    configPersistence.replaceAllConfigs(Map.of(
+        ConfigSchema.STANDARD_SOURCE_DEFINITION, Stream.of(SOURCE_GITHUB),
+        ConfigSchema.STANDARD_SYNC_STATE, Stream.of(standardSyncState)), false);
+
+    assertRecordCount(1);
+    assertHasSource(SOURCE_GITHUB);
+    assertEquals(Optional.empty(), streamStatePersistence.getState(oldConnectionId));
+    assertEquals(Optional.of(standardSyncState.getState()), streamStatePersistence.getState(standardSyncState.getConnectionId()));
+  }
+
+  @Test
+  public void testReplaceAllConfigsRollsBackConnectionStatesAndConfigs() throws Exception {
+    final StreamStatePersistence streamStatePersistence = new StreamStatePersistence(database);
+    final UUID connectionId = UUID.randomUUID();
+    final State state = new State().withState(Jsons.deserialize("{ \"cursor\": 1 }"));
+    writeDestination(configPersistence, DESTINATION_S3);
+    streamStatePersistence.replaceState(connectionId, state);
+
+    // the states fail to be imported after the configs are
+    final Map<AirbyteConfig, Stream<?>> newConfigs = new LinkedHashMap<>();
+    newConfigs.put(ConfigSchema.STANDARD_SOURCE_DEFINITION, Stream.of(SOURCE_GITHUB));
+    newConfigs.put(ConfigSchema.STANDARD_SYNC_STATE, Stream.of(connectionId).map(id -> {
+      throw new IllegalStateException("induced exception");
+    }));
+    assertThrows(Exception.class, () -> configPersistence.replaceAllConfigs(newConfigs, false));
+
+    assertRecordCount(1);
+    assertHasDestination(DESTINATION_S3);
+    assertEquals(Optional.of(state), streamStatePersistence.getState(connectionId));
+  }
+
+  @Test
+  public void testDumpConfigsWithConnectionStates() throws Exception {
+    final StreamStatePersistence streamStatePersistence = new StreamStatePersistence(database);
+    final List<StandardSyncState> standardSyncStates = IntStream.range(0, 3)
+        .mapToObj(i -> new StandardSyncState()
+            .withConnectionId(UUID.randomUUID())
+            .withState(new State().withState(Jsons.deserialize(String.format("{ \"users\": { \"cursor\": %d }, \"orders\": [%d] }", i, i)))))
+        .collect(Collectors.toList());
+    for (final StandardSyncState standardSyncState : standardSyncStates) {
+      streamStatePersistence.replaceState(standardSyncState.getConnectionId(), standardSyncState.getState());
+    }
+    writeSource(configPersistence, SOURCE_GITHUB);
+
+    final Map<String, Stream<JsonNode>> actual = configPersistence.dumpConfigs();
+    final Map<String, Stream<JsonNode>> expected = Map.of(
+        ConfigSchema.STANDARD_SOURCE_DEFINITION.name(), Stream.of(Jsons.jsonNode(SOURCE_GITHUB)),
+        ConfigSchema.STANDARD_SYNC_STATE.name(), standardSyncStates.stream().map(Jsons::jsonNode));
+    assertSameConfigDump(expected, actual);
+  }
+
+  @Test
+  public void testDumpConfigsStreamsRecords() throws Exception {
+    // more sources than the dump fetches at once with its cursor.
+    final Map<String, StandardSourceDefinition> sources = IntStream.range(0, 2500)
+        .mapToObj(i -> new StandardSourceDefinition()
+            .withSourceDefinitionId(UUID.randomUUID())
+            .withName("source " + i)
+            .withDockerRepository("airbyte/source-" + i)
+            .withDockerImageTag("0.1.0"))
+        .collect(Collectors.toMap(source -> source.getSourceDefinitionId().toString(), Function.identity()));
+    configPersistence.writeConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, sources);
+    final BasicDataSource connectionPool = (BasicDataSource) database.getDataSource();
+
+    final Map<String, Stream<JsonNode>> dump = configPersistence.dumpConfigs();
+    // the configs are only queried once their stream is read
+    assertEquals(0, connectionPool.getNumActive());
+
+    try (final Stream<JsonNode> configs = dump.get(ConfigSchema.STANDARD_SOURCE_DEFINITION.name())) {
+      final Iterator<JsonNode> iterator = configs.iterator();
+      assertTrue(iterator.hasNext());
+      assertEquals(1, connectionPool.getNumActive());
+
+      final List<String> sourceIds = new ArrayList<>();
+      iterator.forEachRemaining(config -> sourceIds.add(config.get("sourceDefinitionId").asText()));
+      assertEquals(sources.keySet().stream().sorted().collect(Collectors.toList()), sourceIds);
+    }
+    dump.values().forEach(Stream::close);
+    assertEquals(0, connectionPool.getNumActive());
+  }
+
   @Test
   public void testDumpConfigs() throws Exception {
     writeSource(configPersistence, SOURCE_GITHUB);
@@ -18,6 +18,7 @@ import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +61,25 @@ class FileSystemConfigPersistenceTest {
             StandardSourceDefinition.class));
   }
 
+  @Test
+  void testListConfigsWithFieldValues() throws IOException, JsonValidationException {
+    configPersistence.writeConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), SOURCE_1);
+    configPersistence.writeConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_2.toString(), SOURCE_2);
+
+    assertEquals(
+        List.of(SOURCE_2),
+        configPersistence.listConfigsWithFieldValues(
+            ConfigSchema.STANDARD_SOURCE_DEFINITION,
+            Map.of("sourceDefinitionId", Set.of(UUID_2.toString()), "name", Set.of("apache storm")),
+            StandardSourceDefinition.class));
+    assertEquals(
+        List.of(),
+        configPersistence.listConfigsWithFieldValues(
+            ConfigSchema.STANDARD_SOURCE_DEFINITION,
+            Map.of("dockerRepository", Set.of("airbyte/source-storm")),
+            StandardSourceDefinition.class));
+  }
+
   @Test
   void testReadWriteConfigs() throws IOException, JsonValidationException, ConfigNotFoundException {
     final Map<String, StandardSourceDefinition> sourceDefinitionById = new HashMap<>() {
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import static io.airbyte.db.instance.configs.jooq.Tables.CONNECTION_STREAM_STATE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.StandardSyncState;
+import io.airbyte.config.State;
+import io.airbyte.db.ExceptionWrappingDatabase;
+import io.airbyte.db.instance.test.TestDatabaseProviders;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.jooq.JSONB;
+import org.jooq.Record2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StreamStatePersistenceTest extends BaseDatabaseConfigPersistenceTest {
+
+  private static final UUID CONNECTION_ID = UUID.fromString("7c2a7f4e-5d4f-4b0a-9b52-6f0f3c8a1e2d");
+  private static final UUID OTHER_CONNECTION_ID = UUID.fromString("0a3e9b1c-2f6d-4e8a-8c71-5b9d4f2e6a13");
+
+  private StreamStatePersistence streamStatePersistence;
+
+  @BeforeEach
+  public void setup() throws Exception {
+    database = new TestDatabaseProviders(container).createNewConfigsDatabase();
+    streamStatePersistence = new StreamStatePersistence(database);
+    database.query(ctx -> ctx.execute("TRUNCATE TABLE connection_stream_state"));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    database.close();
+  }
+
+  @Test
+  public void testReplaceAndGetState() throws Exception {
+    assertEquals(Optional.empty(), streamStatePersistence.getState(CONNECTION_ID));
+
+    final State state = state("{ \"users\": { \"cursor\": 1 }, \"orders\": { \"cursor\": 10 } }");
+    streamStatePersistence.replaceState(CONNECTION_ID, state);
+    assertEquals(Optional.of(state), streamStatePersistence.getState(CONNECTION_ID));
+    assertEquals(Optional.empty(), streamStatePersistence.getState(OTHER_CONNECTION_ID));
+
+    final State newState = state("{ \"users\": { \"cursor\": 2 }, \"invoices\": { \"cursor\": 100 } }");
+    streamStatePersistence.replaceState(CONNECTION_ID, newState);
+    assertEquals(Optional.of(newState), streamStatePersistence.getState(CONNECTION_ID));
+  }
+
+  @Test
+  public void testReplaceStateOnlyWritesChangedStreams() throws Exception {
+    streamStatePersistence.replaceState(CONNECTION_ID, state("{ \"users\": { \"cursor\": 1 }, \"orders\": { \"cursor\": 10 } }"));
+    final Map<String, OffsetDateTime> updatedAt = getUpdatedAt();
+
+    streamStatePersistence.replaceState(CONNECTION_ID, state("{ \"users\": { \"cursor\": 2 }, \"orders\": { \"cursor\": 10 } }"));
+    final Map<String, OffsetDateTime> newUpdatedAt = getUpdatedAt();
+    assertEquals(updatedAt.get("orders"), newUpdatedAt.get("orders"));
+    assertTrue(newUpdatedAt.get("users").isAfter(updatedAt.get("users")));
+  }
+
+  @Test
+  public void testReplaceDbStateWritesOneRecordPerStream() throws Exception {
+    final State state = dbState(List.of(dbStream("orders", "public", "10"), dbStream("users", null, "1"), dbStream("users", "public", "1")));
+    streamStatePersistence.replaceState(CONNECTION_ID, state);
+    assertEquals(Optional.of(state), streamStatePersistence.getState(CONNECTION_ID));
+
+    final Map<String, OffsetDateTime> updatedAt = getUpdatedAt();
+    final String ordersKey = StreamStatePersistence.DB_STREAM_KEY_PREFIX + "[\"orders\",\"public\"]";
+    final String usersKey = StreamStatePersistence.DB_STREAM_KEY_PREFIX + "[\"users\",\"public\"]";
+    assertEquals(
+        Set.of("cdc", ordersKey, StreamStatePersistence.DB_STREAM_KEY_PREFIX + "[\"users\",null]", usersKey),
+        updatedAt.keySet());
+
+    // only the record of the stream whose cursor moved is written
+    final State newState = dbState(List.of(dbStream("orders", "public", "10"), dbStream("users", null, "1"), dbStream("users", "public", "2")));
+    streamStatePersistence.replaceState(CONNECTION_ID, newState);
+    assertEquals(Optional.of(newState), streamStatePersistence.getState(CONNECTION_ID));
+    final Map<String, OffsetDateTime> newUpdatedAt = getUpdatedAt();
+    assertEquals(updatedAt.get(ordersKey), newUpdatedAt.get(ordersKey));
+    assertTrue(newUpdatedAt.get(usersKey).isAfter(updatedAt.get(usersKey)));
+
+    // removed streams are deleted
+    final State removedStreamState = dbState(List.of(dbStream("users", "public", "2")));
+    streamStatePersistence.replaceState(CONNECTION_ID, removedStreamState);
+    assertEquals(Optional.of(removedStreamState), streamStatePersistence.getState(CONNECTION_ID));
+    assertEquals(Set.of("cdc", usersKey), getUpdatedAt().keySet());
+  }
+
+  @Test
+  public void testReplaceDbStateWithStreamsThatCannotBeSplit() throws Exception {
+    final List<State> states = List.of(
+        // not in the order the streams are assembled in
+        dbState(List.of(dbStream("users", "public", "1"), dbStream("orders", "public", "10"))),
+        // the same stream twice
+        dbState(List.of(dbStream("users", "public", "1"), dbStream("users", "public", "2"))),
+        // no stream name
+        state("{ \"streams\": [{ \"cursor\": \"1\" }] }"),
+        state("{ \"streams\": [] }"),
+        state("{ \"streams\": { \"users\": 1 } }"));
+    for (final State state : states) {
+      streamStatePersistence.replaceState(CONNECTION_ID, state);
+      assertEquals(Optional.of(state), streamStatePersistence.getState(CONNECTION_ID));
+      assertTrue(getUpdatedAt().containsKey("streams"));
+    }
+  }
+
+  @Test
+  public void testGetDbStateWrittenWithoutStreamRecords() throws Exception {
+    // the migration moves the states by top level field, the streams are split by the next update.
+    final State state = dbState(List.of(dbStream("orders", "public", "10"), dbStream("users", "public", "1")));
+    database.query(ctx -> ctx.insertInto(CONNECTION_STREAM_STATE,
+        CONNECTION_STREAM_STATE.CONNECTION_ID,
+        CONNECTION_STREAM_STATE.STREAM_KEY,
+        CONNECTION_STREAM_STATE.STATE,
+        CONNECTION_STREAM_STATE.UPDATED_AT)
+        .values(CONNECTION_ID, "cdc", JSONB.valueOf("false"), OffsetDateTime.now())
+        .values(CONNECTION_ID, "streams", JSONB.valueOf(Jsons.serialize(state.getState().get("streams"))), OffsetDateTime.now())
+        .execute());
+    assertEquals(Optional.of(state), streamStatePersistence.getState(CONNECTION_ID));
+
+    streamStatePersistence.replaceState(CONNECTION_ID, state);
+    assertEquals(Optional.of(state), streamStatePersistence.getState(CONNECTION_ID));
+    assertEquals(3, getUpdatedAt().size());
+  }
+
+  @Test
+  public void testWriteManyStreamsInBatches() throws Exception {
+    final int streamCount = StreamStatePersistence.WRITE_BATCH_SIZE * 2 + 50;
+    final Map<String, JsonNode> streamStates = IntStream.range(0, streamCount).boxed().collect(Collectors.toMap(
+        i -> "stream_" + i,
+        i -> Jsons.jsonNode(Map.of("cursor", i))));
+
+    streamStatePersistence.replaceState(CONNECTION_ID, new State().withState(Jsons.jsonNode(streamStates)));
+    assertEquals(Optional.of(new State().withState(Jsons.jsonNode(streamStates))), streamStatePersistence.getState(CONNECTION_ID));
+  }
+
+  @Test
+  public void testInsertAndStreamStates() throws Exception {
+    final List<StandardSyncState> standardSyncStates = List.of(
+        new StandardSyncState().withConnectionId(OTHER_CONNECTION_ID)
+            .withState(state("{ \"users\": { \"cursor\": 2 }, \"orders\": { \"cursor\": 3 } }")),
+        new StandardSyncState().withConnectionId(CONNECTION_ID).withState(state("[4]")),
+        new StandardSyncState().withConnectionId(UUID.randomUUID())
+            .withState(dbState(List.of(dbStream("orders", "public", "10"), dbStream("users", "public", "1")))));
+    database.transaction(ctx -> StreamStatePersistence.insertStates(ctx, OffsetDateTime.now(), standardSyncStates.stream()));
+
+    try (final Stream<StandardSyncState> stream = StreamStatePersistence.streamStates(new ExceptionWrappingDatabase(database), 2)) {
+      assertEquals(
+          standardSyncStates.stream().collect(Collectors.toMap(StandardSyncState::getConnectionId, StandardSyncState::getState)),
+          stream.collect(Collectors.toMap(StandardSyncState::getConnectionId, StandardSyncState::getState)));
+    }
+  }
+
+  @Test
+  public void testReplaceStateThatCannotBeSplit() throws Exception {
+    final List<State> states = List.of(
+        state("[1, 2, 3]"),
+        state("\"cursor\""),
+        state("1000"),
+        state("{}"),
+        state("{ \"" + StreamStatePersistence.WHOLE_STATE_KEY + "\": 1, \"users\": { \"cursor\": 1 } }"),
+        state("{ \"" + StreamStatePersistence.DB_STREAM_KEY_PREFIX + "users\": 1 }"),
+        state("{ \"users\": { \"cursor\": 2 } }"));
+    // each state replaces the previous one, whether it is split by stream or not
+    for (final State state : states) {
+      streamStatePersistence.replaceState(CONNECTION_ID, state);
+      assertEquals(Optional.of(state), streamStatePersistence.getState(CONNECTION_ID));
+    }
+  }
+
+  private static State state(final String json) {
+    return new State().withState(Jsons.deserialize(json));
+  }
+
+  private static State dbState(final List<Map<String, Object>> streams) {
+    return new State().withState(Jsons.jsonNode(Map.of("cdc", false, "streams", streams)));
+  }
+
+  private static Map<String, Object> dbStream(final String name, final String namespace, final String cursor) {
+    return namespace == null
+        ? Map.of("stream_name", name, "cursor_field", List.of("id"), "cursor", cursor)
+        : Map.of("stream_name", name, "stream_namespace", namespace, "cursor_field", List.of("id"), "cursor", cursor);
+  }
+
+  private Map<String, OffsetDateTime> getUpdatedAt() throws Exception {
+    return database.query(ctx -> ctx.select(CONNECTION_STREAM_STATE.STREAM_KEY, CONNECTION_STREAM_STATE.UPDATED_AT)
+        .from(CONNECTION_STREAM_STATE)
+        .where(CONNECTION_STREAM_STATE.CONNECTION_ID.eq(CONNECTION_ID))
+        .fetch())
+        .stream()
+        .collect(Collectors.toMap(Record2::value1, Record2::value2));
+  }
+
+}
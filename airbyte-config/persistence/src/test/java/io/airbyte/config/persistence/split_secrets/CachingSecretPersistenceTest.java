@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence.split_secrets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingSecretPersistenceTest {
+
+  private static final SecretCoordinate COORDINATE = new SecretCoordinate("airbyte_workspace_123_secret_456", 1);
+
+  private ReadOnlySecretPersistence decoratedPersistence;
+  private CachingSecretPersistence secretPersistence;
+
+  @BeforeEach
+  void setUp() {
+    decoratedPersistence = mock(ReadOnlySecretPersistence.class);
+    secretPersistence = new CachingSecretPersistence(decoratedPersistence);
+  }
+
+  @Test
+  void testReadIsCached() {
+    when(decoratedPersistence.read(COORDINATE)).thenReturn(Optional.of("hunter2"));
+
+    assertEquals(Optional.of("hunter2"), secretPersistence.read(COORDINATE));
+    assertEquals(Optional.of("hunter2"), secretPersistence.read(COORDINATE));
+
+    verify(decoratedPersistence, times(1)).read(COORDINATE);
+  }
+
+  @Test
+  void testVersionsAreCachedSeparately() {
+    final SecretCoordinate nextVersion = new SecretCoordinate(COORDINATE.getCoordinateBase(), 2);
+    when(decoratedPersistence.read(COORDINATE)).thenReturn(Optional.of("hunter2"));
+    when(decoratedPersistence.read(nextVersion)).thenReturn(Optional.of("hunter3"));
+
+    assertEquals(Optional.of("hunter2"), secretPersistence.read(COORDINATE));
+    assertEquals(Optional.of("hunter3"), secretPersistence.read(nextVersion));
+  }
+
+  @Test
+  void testMissingSecretIsNotCached() {
+    when(decoratedPersistence.read(COORDINATE)).thenReturn(Optional.empty()).thenReturn(Optional.of("hunter2"));
+
+    assertEquals(Optional.empty(), secretPersistence.read(COORDINATE));
+    assertEquals(Optional.of("hunter2"), secretPersistence.read(COORDINATE));
+    assertEquals(Optional.of("hunter2"), secretPersistence.read(COORDINATE));
+
+    verify(decoratedPersistence, times(2)).read(COORDINATE);
+  }
+
+  @Test
+  void testMaximumSize() {
+    secretPersistence = new CachingSecretPersistence(decoratedPersistence, 1, Duration.ofMinutes(5));
+    final SecretCoordinate otherCoordinate = new SecretCoordinate("airbyte_workspace_123_secret_789", 1);
+    when(decoratedPersistence.read(COORDINATE)).thenReturn(Optional.of("hunter2"));
+    when(decoratedPersistence.read(otherCoordinate)).thenReturn(Optional.of("hunter3"));
+
+    secretPersistence.read(COORDINATE);
+    secretPersistence.read(otherCoordinate);
+    secretPersistence.read(COORDINATE);
+
+    verify(decoratedPersistence, times(2)).read(COORDINATE);
+  }
+
+}
@@ -6,6 +6,7 @@ package io.airbyte.config.persistence.split_secrets;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.persistence.split_secrets.test_cases.ArrayOneOfTestCase;
 import io.airbyte.config.persistence.split_secrets.test_cases.ArrayTestCase;
 import io.airbyte.config.persistence.split_secrets.test_cases.NestedObjectTestCase;
@@ -147,6 +148,24 @@ public class SecretsHelpersTest {
     assertEquals(inputPartialConfigCopy, inputPartialConfig);
   }
 
+  @ParameterizedTest
+  @MethodSource("provideTestCases")
+  void testGetCoordinates(final SecretsTestCase testCase) {
+    assertEquals(testCase.getFirstSecretMap().keySet(), SecretsHelpers.getCoordinates(testCase.getPartialConfig()));
+  }
+
+  @ParameterizedTest
+  @MethodSource("provideTestCases")
+  void testBatchHydrate(final SecretsTestCase testCase) {
+    final var secretPersistence = new MemorySecretPersistence();
+    testCase.getPersistenceUpdater().accept(secretPersistence);
+
+    final var actualCombinedConfigs = new RealSecretsHydrator(secretPersistence, 2)
+        .hydrate(List.of(testCase.getPartialConfig(), Jsons.emptyObject(), testCase.getPartialConfig()));
+
+    assertEquals(List.of(testCase.getFullConfig(), Jsons.emptyObject(), testCase.getFullConfig()), actualCombinedConfigs);
+  }
+
   @Test
   void testMissingSecretShouldThrowException() {
     final var testCase = new SimpleTestCase();
@@ -156,6 +175,7 @@ public class SecretsHelpersTest {
     // testCase.getPersistenceUpdater().accept(secretPersistence);
 
     assertThrows(RuntimeException.class, () -> SecretsHelpers.combineConfig(testCase.getPartialConfig(), secretPersistence));
+    assertThrows(RuntimeException.class, () -> new RealSecretsHydrator(secretPersistence).hydrate(List.of(testCase.getPartialConfig())));
   }
 
   @Test
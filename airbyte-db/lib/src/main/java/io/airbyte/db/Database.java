@@ -5,8 +5,13 @@
 package io.airbyte.db;
 
 import java.io.Closeable;
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.stream.Stream;
 import javax.sql.DataSource;
+import org.jooq.Cursor;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
 import org.jooq.SQLDialect;
 import org.jooq.impl.DSL;
 
@@ -31,6 +36,36 @@ public class Database implements AutoCloseable {
     return DSL.using(ds, dialect).transactionResult(configuration -> transform.query(DSL.using(configuration)));
   }
 
+  /**
+   * Streams the records of a query without loading them all in memory. The query runs on a
+   * connection of its own, outside of autocommit, so that Postgres reads the records with a cursor,
+   * fetchSize records at a time. The returned stream must be closed to release the connection.
+   */
+  public <R extends Record> Stream<R> streamQuery(final ContextQueryFunction<ResultQuery<R>> transform, final int fetchSize) throws SQLException {
+    final Connection connection = ds.getConnection();
+    try {
+      connection.setAutoCommit(false);
+      final Cursor<R> cursor = transform.query(DSL.using(connection, dialect)).fetchSize(fetchSize).fetchLazy();
+      return cursor.stream().onClose(() -> {
+        cursor.close();
+        closeStreamingConnection(connection);
+      });
+    } catch (final SQLException | RuntimeException e) {
+      closeStreamingConnection(connection);
+      throw e;
+    }
+  }
+
+  private static void closeStreamingConnection(final Connection connection) {
+    try (connection) {
+      // nothing was written with the connection, there is nothing to commit.
+      connection.rollback();
+      connection.setAutoCommit(true);
+    } catch (final SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   public DataSource getDataSource() {
     return ds;
   }
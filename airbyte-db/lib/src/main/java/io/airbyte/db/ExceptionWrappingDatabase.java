@@ -6,6 +6,9 @@ package io.airbyte.db;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.stream.Stream;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
 
 /**
  * Wraps a {@link Database} object and throwing IOExceptions instead of SQLExceptions.
@@ -34,6 +37,14 @@ public class ExceptionWrappingDatabase implements AutoCloseable {
     }
   }
 
+  public <R extends Record> Stream<R> streamQuery(final ContextQueryFunction<ResultQuery<R>> transform, final int fetchSize) throws IOException {
+    try {
+      return database.streamQuery(transform, fetchSize);
+    } catch (final SQLException e) {
+      throw new IOException(e);
+    }
+  }
+
   @Override
   public void close() throws Exception {
     database.close();
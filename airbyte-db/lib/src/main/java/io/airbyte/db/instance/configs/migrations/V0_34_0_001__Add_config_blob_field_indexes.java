@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import java.util.List;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index the config blob fields that configs are filtered by, so that listing e.g. the sources of a
+ * workspace does not scan all the configs of the type.
+ */
+public class V0_34_0_001__Add_config_blob_field_indexes extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_34_0_001__Add_config_blob_field_indexes.class);
+
+  static final List<String> INDEXED_FIELDS = List.of("workspaceId", "sourceId", "destinationId");
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    final DSLContext ctx = DSL.using(context.getConnection());
+    for (final String field : INDEXED_FIELDS) {
+      // the expression has to match the one used by DatabaseConfigPersistence for the index to be used.
+      ctx.execute(String.format("CREATE INDEX IF NOT EXISTS airbyte_configs_type_%s_idx ON airbyte_configs (config_type, (config_blob ->> '%s'))",
+          field.toLowerCase(), field));
+    }
+  }
+
+}
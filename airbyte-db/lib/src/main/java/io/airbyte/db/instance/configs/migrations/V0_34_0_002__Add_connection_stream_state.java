@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Store the state of each connection as one row per top level field of the state, so that a state
+ * update only writes the fields that changed instead of the whole state blob. The existing
+ * connection states are moved from the airbyte_configs table to the new table. The states that
+ * cannot be split by field are moved whole to a single row.
+ */
+public class V0_34_0_002__Add_connection_stream_state extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_34_0_002__Add_connection_stream_state.class);
+
+  // the stream key of the row that holds a whole state, and the prefix of the stream keys of the
+  // DbState streams, as read by StreamStatePersistence.
+  static final String WHOLE_STATE_KEY = "_airbyte_whole_state";
+  static final String DB_STREAM_KEY_PREFIX = "streams/";
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    final DSLContext ctx = DSL.using(context.getConnection());
+    createTable(ctx);
+    moveConnectionStates(ctx);
+  }
+
+  static void createTable(final DSLContext ctx) {
+    ctx.execute("CREATE TABLE IF NOT EXISTS connection_stream_state("
+        + "connection_id UUID NOT NULL, "
+        + "stream_key TEXT NOT NULL, "
+        + "state JSONB NOT NULL, "
+        + "updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP, "
+        + "PRIMARY KEY (connection_id, stream_key))");
+  }
+
+  static void moveConnectionStates(final DSLContext ctx) {
+    // StandardSyncState.yaml wraps State.yaml, e.g. { "connectionId": "...", "state": { "state": { "cursor": 1000 } } }
+    // states that are not objects, are empty or have a field named like a reserved stream key are not split by field.
+    // the DbState streams are split by stream the next time the state is written.
+    final String splitCondition = "CASE WHEN jsonb_typeof(config_blob -> 'state' -> 'state') = 'object' "
+        + "THEN config_blob -> 'state' -> 'state' <> jsonb_build_object() "
+        + "AND NOT EXISTS (SELECT 1 FROM jsonb_object_keys(config_blob -> 'state' -> 'state') AS field_name "
+        + "WHERE field_name = {0} OR field_name LIKE {1}) "
+        + "ELSE false END";
+
+    final int movedFieldCount = ctx.execute("INSERT INTO connection_stream_state (connection_id, stream_key, state, updated_at) "
+        + "SELECT CAST(config_id AS UUID), entry.key, entry.value, updated_at "
+        + "FROM airbyte_configs, jsonb_each(config_blob -> 'state' -> 'state') AS entry "
+        + "WHERE config_type = 'STANDARD_SYNC_STATE' AND " + splitCondition + " "
+        + "ON CONFLICT (connection_id, stream_key) DO NOTHING", DSL.inline(WHOLE_STATE_KEY), DSL.inline(DB_STREAM_KEY_PREFIX + "%"));
+    LOGGER.info("Moved {} connection state fields", movedFieldCount);
+
+    final int movedStateCount = ctx.execute("INSERT INTO connection_stream_state (connection_id, stream_key, state, updated_at) "
+        + "SELECT CAST(config_id AS UUID), {0}, config_blob -> 'state' -> 'state', updated_at "
+        + "FROM airbyte_configs "
+        + "WHERE config_type = 'STANDARD_SYNC_STATE' AND config_blob -> 'state' -> 'state' IS NOT NULL AND NOT (" + splitCondition + ") "
+        + "ON CONFLICT (connection_id, stream_key) DO NOTHING", DSL.inline(WHOLE_STATE_KEY), DSL.inline(DB_STREAM_KEY_PREFIX + "%"));
+    LOGGER.info("Moved {} whole connection states", movedStateCount);
+
+    ctx.execute("DELETE FROM airbyte_configs WHERE config_type = 'STANDARD_SYNC_STATE'");
+  }
+
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index the jobs by scope, so that listing the jobs of a connection does not scan all jobs. The
+ * trailing created_at and id columns let the listing pages be read in order from the index.
+ */
+public class V0_34_0_001__Add_jobs_scope_index extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_34_0_001__Add_jobs_scope_index.class);
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    final DSLContext ctx = DSL.using(context.getConnection());
+    ctx.createIndexIfNotExists("jobs_scope_config_type_created_at_idx")
+        .on("jobs", "scope", "config_type", "created_at", "id")
+        .execute();
+  }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.jdbc;
+
+import io.airbyte.commons.functional.CheckedFunction;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Streaming configuration sizing each fetch by bytes instead of rows. The first fetch uses a small
+ * fixed number of rows, from which the average row size is measured. The fetch size of the rest of
+ * the result set is then set so that a fetch holds about the target buffer size, within min/max
+ * bounds. This avoids thousands of round trips for narrow tables and running out of memory for
+ * tables with large text or json columns.
+ */
+public class AdaptiveJdbcStreamingQueryConfiguration implements JdbcStreamingQueryConfiguration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveJdbcStreamingQueryConfiguration.class);
+
+  public static final int DEFAULT_INITIAL_FETCH_SIZE = 100;
+  public static final int DEFAULT_MIN_FETCH_SIZE = 10;
+  public static final int DEFAULT_MAX_FETCH_SIZE = 100_000;
+  public static final long DEFAULT_TARGET_BUFFER_BYTES = 50L * 1024 * 1024;
+
+  private final int initialFetchSize;
+  private final int minFetchSize;
+  private final int maxFetchSize;
+  private final long targetBufferBytes;
+
+  public AdaptiveJdbcStreamingQueryConfiguration() {
+    this(DEFAULT_INITIAL_FETCH_SIZE, DEFAULT_MIN_FETCH_SIZE, DEFAULT_MAX_FETCH_SIZE, DEFAULT_TARGET_BUFFER_BYTES);
+  }
+
+  public AdaptiveJdbcStreamingQueryConfiguration(final int initialFetchSize,
+                                                 final int minFetchSize,
+                                                 final int maxFetchSize,
+                                                 final long targetBufferBytes) {
+    this.initialFetchSize = initialFetchSize;
+    this.minFetchSize = minFetchSize;
+    this.maxFetchSize = maxFetchSize;
+    this.targetBufferBytes = targetBufferBytes;
+  }
+
+  @Override
+  public void accept(final Connection connection, final PreparedStatement preparedStatement) throws SQLException {
+    connection.setAutoCommit(false);
+    preparedStatement.setFetchSize(initialFetchSize);
+  }
+
+  @Override
+  public <T> CheckedFunction<ResultSet, T, SQLException> wrapRecordTransform(final CheckedFunction<ResultSet, T, SQLException> recordTransform) {
+    final FetchSizeEstimator estimator = new FetchSizeEstimator();
+    return resultSet -> {
+      final T record = recordTransform.apply(resultSet);
+      estimator.accept(resultSet, record);
+      return record;
+    };
+  }
+
+  int computeFetchSize(final long averageRowBytes) {
+    final long fetchSize = targetBufferBytes / Math.max(1, averageRowBytes);
+    return (int) Math.max(minFetchSize, Math.min(maxFetchSize, fetchSize));
+  }
+
+  /**
+   * Measures the rows of the first fetch of a single result set and adjusts its fetch size once they
+   * have all been read. Rows are measured from their transformed records rather than by reading the
+   * columns again, which would fail for columns that can only be read once, e.g. streams or LOBs.
+   */
+  private class FetchSizeEstimator {
+
+    private int sampledRows = 0;
+    private long sampledBytes = 0;
+
+    void accept(final ResultSet resultSet, final Object record) throws SQLException {
+      if (sampledRows >= initialFetchSize) {
+        return;
+      }
+      // the string form of a json record is its serialization
+      sampledBytes += String.valueOf(record).length();
+      if (++sampledRows == initialFetchSize) {
+        final long averageRowBytes = sampledBytes / sampledRows;
+        final int fetchSize = computeFetchSize(averageRowBytes);
+        resultSet.setFetchSize(fetchSize);
+        LOGGER.info("Set fetch size to {} rows for table {} (average row size {} bytes over {} rows)",
+            fetchSize, resultSet.getMetaData().getTableName(1), averageRowBytes, sampledRows);
+      }
+    }
+
+  }
+
+}
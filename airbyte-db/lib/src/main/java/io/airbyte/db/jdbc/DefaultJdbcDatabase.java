@@ -116,6 +116,25 @@ public class DefaultJdbcDatabase extends JdbcDatabase {
         });
   }
 
+  @Override
+  public <T> Stream<T> streamQuery(final CheckedFunction<Connection, Stream<T>, SQLException> streamCreator) throws SQLException {
+    final Connection connection = connectionSupplier.getConnection();
+    try {
+      return streamCreator.apply(connection)
+          .onClose(() -> {
+            try {
+              LOGGER.info("closing connection");
+              connection.close();
+            } catch (final SQLException e) {
+              throw new RuntimeException(e);
+            }
+          });
+    } catch (final SQLException | RuntimeException e) {
+      connection.close();
+      throw e;
+    }
+  }
+
   @Override
   public void close() throws Exception {
     connectionSupplier.close();
@@ -138,6 +138,20 @@ public abstract class JdbcDatabase extends SqlDatabase {
                                       CheckedFunction<ResultSet, T, SQLException> recordTransform)
       throws SQLException;
 
+  /**
+   * Use a connection to create a stream of records without going through a {@link ResultSet}, e.g.
+   * with a driver specific bulk export API. The connection is held until the returned stream is
+   * closed, so the caller must close it to release the database connection.
+   *
+   * @param streamCreator create a stream of records from a {@link Connection}. handlers registered
+   *        on that stream with {@link Stream#onClose} run before the connection is released.
+   * @param <T> type of the records.
+   * @return stream of records. This stream must be closed!
+   * @throws SQLException SQL related exceptions.
+   */
+  public abstract <T> Stream<T> streamQuery(CheckedFunction<Connection, Stream<T>, SQLException> streamCreator)
+      throws SQLException;
+
   public int queryInt(final String sql, final String... params) throws SQLException {
     try (final Stream<Integer> q = query(c -> {
       PreparedStatement statement = c.prepareStatement(sql);
@@ -5,10 +5,22 @@
 package io.airbyte.db.jdbc;
 
 import io.airbyte.commons.functional.CheckedBiConsumer;
+import io.airbyte.commons.functional.CheckedFunction;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 
 public interface JdbcStreamingQueryConfiguration extends CheckedBiConsumer<Connection, PreparedStatement, SQLException> {
 
+  /**
+   * Called once per streamed query, before any row is read. The returned function is applied to every
+   * row of the result set instead of the given record transform, which lets a configuration observe
+   * the rows being read, e.g. to tune the fetch size. Returns the record transform unchanged by
+   * default.
+   */
+  default <T> CheckedFunction<ResultSet, T, SQLException> wrapRecordTransform(final CheckedFunction<ResultSet, T, SQLException> recordTransform) {
+    return recordTransform;
+  }
+
 }
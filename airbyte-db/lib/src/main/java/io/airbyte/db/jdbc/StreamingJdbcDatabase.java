@@ -92,7 +92,7 @@ public class StreamingJdbcDatabase extends JdbcDatabase {
       final PreparedStatement ps = statementCreator.apply(connection);
       // allow configuration of connection and prepared statement to make streaming possible.
       jdbcStreamingQueryConfiguration.accept(connection, ps);
-      return toStream(ps.executeQuery(), recordTransform)
+      return toStream(ps.executeQuery(), jdbcStreamingQueryConfiguration.wrapRecordTransform(recordTransform))
           .onClose(() -> {
             try {
               connection.setAutoCommit(true);
@@ -106,6 +106,29 @@ public class StreamingJdbcDatabase extends JdbcDatabase {
     }
   }
 
+  /**
+   * Streams records produced directly from a dedicated connection. Unlike
+   * {@link #query(CheckedFunction, CheckedFunction)} the {@link JdbcStreamingQueryConfiguration} is
+   * not applied, since no {@link PreparedStatement} is involved.
+   */
+  @Override
+  public <T> Stream<T> streamQuery(final CheckedFunction<Connection, Stream<T>, SQLException> streamCreator) throws SQLException {
+    final Connection connection = dataSource.getConnection();
+    try {
+      return streamCreator.apply(connection)
+          .onClose(() -> {
+            try {
+              connection.close();
+            } catch (final SQLException e) {
+              throw new RuntimeException(e);
+            }
+          });
+    } catch (final SQLException | RuntimeException e) {
+      connection.close();
+      throw e;
+    }
+  }
+
   @Override
   public void close() throws Exception {
     database.close();
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.mongodb;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.Set;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Decodes documents straight from the BSON returned by the server into json. Reading a collection
+ * as {@link org.bson.Document} first decodes every value into java objects, which
+ * {@link MongoUtils#toJsonNode} then converts back into a {@link org.bson.BsonDocument} before it
+ * is walked. This codec skips both intermediate representations and produces the same records.
+ */
+public class JsonNodeCodec implements Codec<ObjectNode> {
+
+  private final Set<String> stringifiedFieldNames;
+
+  /**
+   * @param stringifiedFieldNames fields to convert to strings, see
+   *        {@link MongoUtils#getStringifiedFieldNames}
+   */
+  public JsonNodeCodec(final Set<String> stringifiedFieldNames) {
+    this.stringifiedFieldNames = stringifiedFieldNames;
+  }
+
+  @Override
+  public ObjectNode decode(final BsonReader reader, final DecoderContext decoderContext) {
+    return MongoUtils.readDocument(reader, JsonNodeFactory.instance.objectNode(), stringifiedFieldNames);
+  }
+
+  @Override
+  public void encode(final BsonWriter writer, final ObjectNode value, final EncoderContext encoderContext) {
+    throw new UnsupportedOperationException("JsonNodeCodec only supports reading documents");
+  }
+
+  @Override
+  public Class<ObjectNode> getEncoderClass() {
+    return ObjectNode.class;
+  }
+
+}
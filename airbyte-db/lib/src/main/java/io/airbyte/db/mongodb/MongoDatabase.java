@@ -5,9 +5,11 @@
 package io.airbyte.db.mongodb;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.mongodb.ConnectionString;
 import com.mongodb.ReadConcern;
+import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
@@ -28,6 +30,7 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistries;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,7 +38,7 @@ import org.slf4j.LoggerFactory;
 public class MongoDatabase extends AbstractDatabase {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(MongoDatabase.class);
-  private static final int BATCH_SIZE = 1000;
+  private static final int DEFAULT_BATCH_SIZE = 1000;
   private static final String MONGO_RESERVED_COLLECTION_PREFIX = "system.";
 
   private final ConnectionString connectionString;
@@ -100,14 +103,28 @@ public class MongoDatabase extends AbstractDatabase {
   }
 
   public Stream<JsonNode> read(final String collectionName, final List<String> columnNames, final Optional<Bson> filter) {
+    return read(collectionName, columnNames, filter, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Reads the selected fields of the documents matching the filter. Documents are decoded straight
+   * from the returned BSON into json by a {@link JsonNodeCodec}, and only the selected fields are
+   * requested from the server, see {@link MongoUtils#getProjection(List)}.
+   *
+   * @param batchSize number of documents the server returns per batch
+   */
+  public Stream<JsonNode> read(final String collectionName, final List<String> columnNames, final Optional<Bson> filter, final int batchSize) {
     try {
-      final MongoCollection<Document> collection = database.getCollection(collectionName);
-      final MongoCursor<Document> cursor = collection
+      final JsonNodeCodec codec = new JsonNodeCodec(MongoUtils.getStringifiedFieldNames(columnNames));
+      final MongoCollection<ObjectNode> collection = database.getCollection(collectionName, ObjectNode.class)
+          .withCodecRegistry(CodecRegistries.fromRegistries(CodecRegistries.fromCodecs(codec), database.getCodecRegistry()));
+      final FindIterable<ObjectNode> findIterable = collection
           .find(filter.orElse(new BsonDocument()))
-          .batchSize(BATCH_SIZE)
-          .cursor();
+          .batchSize(batchSize);
+      MongoUtils.getProjection(columnNames).ifPresent(findIterable::projection);
+      final MongoCursor<ObjectNode> cursor = findIterable.cursor();
 
-      return getStream(cursor, (document) -> MongoUtils.toJsonNode(document, columnNames))
+      return getStream(cursor, (document) -> document)
           .onClose(() -> {
             try {
               cursor.close();
@@ -122,13 +139,13 @@ public class MongoDatabase extends AbstractDatabase {
     }
   }
 
-  private Stream<JsonNode> getStream(final MongoCursor<Document> cursor, final CheckedFunction<Document, JsonNode, Exception> mapper) {
+  private <T> Stream<JsonNode> getStream(final MongoCursor<T> cursor, final CheckedFunction<T, JsonNode, Exception> mapper) {
     return StreamSupport.stream(new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED) {
 
       @Override
       public boolean tryAdvance(final Consumer<? super JsonNode> action) {
         try {
-          final Document document = cursor.tryNext();
+          final T document = cursor.tryNext();
           if (document == null) {
             return false;
           }
@@ -8,14 +8,15 @@ import static org.bson.BsonType.ARRAY;
 import static org.bson.BsonType.DOCUMENT;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.api.client.util.DateTime;
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Lists;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Projections;
 import io.airbyte.commons.json.Jsons;
-import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.db.DataTypeUtils;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
 import java.util.ArrayList;
@@ -24,6 +25,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.bson.BsonBinary;
 import org.bson.BsonDateTime;
 import org.bson.BsonDocument;
@@ -36,6 +40,7 @@ import org.bson.BsonString;
 import org.bson.BsonTimestamp;
 import org.bson.BsonType;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 import org.bson.types.Symbol;
@@ -46,10 +51,12 @@ public class MongoUtils {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(MongoUtils.class);
 
+  public static final int DEFAULT_DISCOVER_SAMPLE_SIZE = 10000;
+
   private static final String MISSING_TYPE = "missing";
   private static final String NULL_TYPE = "null";
   private static final String AIRBYTE_SUFFIX = "_aibyte_transform";
-  private static final int DISCOVER_LIMIT = 10000;
+  private static final String ID_FIELD = "_id";
 
   public static JsonSchemaPrimitive getType(final BsonType dataType) {
     return switch (dataType) {
@@ -64,10 +71,47 @@ public class MongoUtils {
 
   public static JsonNode toJsonNode(final Document document, final List<String> columnNames) {
     final ObjectNode objectNode = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
-    formatDocument(document, objectNode, columnNames);
+    formatDocument(document, objectNode, getStringifiedFieldNames(columnNames));
     return objectNode;
   }
 
+  /**
+   * Fields whose type differs between documents are discovered as {@code <field>_aibyte_transform}
+   * and read as strings. Resolving them once into a hash set keeps the per field check constant.
+   *
+   * @param columnNames selected columns of a stream
+   * @return names of the fields that have to be converted to strings
+   */
+  public static Set<String> getStringifiedFieldNames(final List<String> columnNames) {
+    return columnNames.stream()
+        .filter(columnName -> columnName.endsWith(AIRBYTE_SUFFIX))
+        .map(columnName -> columnName.substring(0, columnName.length() - AIRBYTE_SUFFIX.length()))
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Builds a projection so that the server only returns the selected top level fields. Fields of a
+   * document that are not among the selected columns, e.g. fields missing from the sampled catalog,
+   * are not returned. No projection is returned if a field name cannot be used in a projection, in
+   * which case whole documents are read.
+   *
+   * @param columnNames selected columns of a stream
+   * @return projection of the selected fields, empty if all fields have to be read
+   */
+  public static Optional<Bson> getProjection(final List<String> columnNames) {
+    final List<String> fieldNames = columnNames.stream()
+        .map(columnName -> columnName.endsWith(AIRBYTE_SUFFIX) ? columnName.substring(0, columnName.length() - AIRBYTE_SUFFIX.length()) : columnName)
+        .distinct()
+        .collect(Collectors.toList());
+    if (fieldNames.isEmpty() || fieldNames.stream().anyMatch(name -> name.isEmpty() || name.contains(".") || name.startsWith("$"))) {
+      return Optional.empty();
+    }
+    // _id is returned unless it is explicitly excluded.
+    return Optional.of(fieldNames.contains(ID_FIELD)
+        ? Projections.include(fieldNames)
+        : Projections.fields(Projections.include(fieldNames), Projections.excludeId()));
+  }
+
   public static Object getBsonValue(final BsonType type, final String value) {
     try {
       return switch (type) {
@@ -88,38 +132,38 @@ public class MongoUtils {
     }
   }
 
-  private static void formatDocument(final Document document, final ObjectNode objectNode, final List<String> columnNames) {
+  private static void formatDocument(final Document document, final ObjectNode objectNode, final Set<String> stringifiedFieldNames) {
     final BsonDocument bsonDocument = toBsonDocument(document);
     try (final BsonReader reader = new BsonDocumentReader(bsonDocument)) {
-      readDocument(reader, objectNode, columnNames);
+      readDocument(reader, objectNode, stringifiedFieldNames);
     } catch (final Exception e) {
       LOGGER.error("Exception while parsing BsonDocument: {}", e.getMessage());
       throw new RuntimeException(e);
     }
   }
 
-  private static ObjectNode readDocument(final BsonReader reader, final ObjectNode jsonNodes, final List<String> columnNames) {
+  static ObjectNode readDocument(final BsonReader reader, final ObjectNode jsonNodes, final Set<String> stringifiedFieldNames) {
     reader.readStartDocument();
     while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
       final var fieldName = reader.readName();
       final var fieldType = reader.getCurrentBsonType();
       if (DOCUMENT.equals(fieldType)) {
         // recursion in used to parse inner documents
-        jsonNodes.set(fieldName, readDocument(reader, (ObjectNode) Jsons.jsonNode(Collections.emptyMap()), columnNames));
+        jsonNodes.set(fieldName, readDocument(reader, JsonNodeFactory.instance.objectNode(), stringifiedFieldNames));
       } else if (ARRAY.equals(fieldType)) {
-        jsonNodes.set(fieldName, readArray(reader, columnNames, fieldName));
+        jsonNodes.set(fieldName, readArray(reader, stringifiedFieldNames, fieldName));
       } else {
-        readField(reader, jsonNodes, columnNames, fieldName, fieldType);
+        readField(reader, jsonNodes, stringifiedFieldNames, fieldName, fieldType);
       }
-      transformToStringIfMarked(jsonNodes, columnNames, fieldName);
+      transformToStringIfMarked(jsonNodes, stringifiedFieldNames, fieldName);
     }
     reader.readEndDocument();
 
     return jsonNodes;
   }
 
-  private static void transformToStringIfMarked(final ObjectNode jsonNodes, final List<String> columnNames, final String fieldName) {
-    if (columnNames.contains(fieldName + AIRBYTE_SUFFIX)) {
+  private static void transformToStringIfMarked(final ObjectNode jsonNodes, final Set<String> stringifiedFieldNames, final String fieldName) {
+    if (stringifiedFieldNames.contains(fieldName)) {
       JsonNode data = jsonNodes.get(fieldName);
       if (data != null) {
         jsonNodes.put(fieldName, data.asText());
@@ -129,30 +173,30 @@ public class MongoUtils {
     }
   }
 
-  private static JsonNode readArray(final BsonReader reader, final List<String> columnNames, final String fieldName) {
+  private static JsonNode readArray(final BsonReader reader, final Set<String> stringifiedFieldNames, final String fieldName) {
     reader.readStartArray();
-    final var elements = Lists.newArrayList();
+    final ArrayNode elements = JsonNodeFactory.instance.arrayNode();
 
     while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
       final var arrayFieldType = reader.getCurrentBsonType();
       if (DOCUMENT.equals(arrayFieldType)) {
         // recursion is used to read inner doc
-        elements.add(readDocument(reader, (ObjectNode) Jsons.jsonNode(Collections.emptyMap()), columnNames));
+        elements.add(readDocument(reader, JsonNodeFactory.instance.objectNode(), stringifiedFieldNames));
       } else if (ARRAY.equals(arrayFieldType)) {
         // recursion is used to read inner array
-        elements.add(readArray(reader, columnNames, fieldName));
+        elements.add(readArray(reader, stringifiedFieldNames, fieldName));
       } else {
-        final var element = readField(reader, (ObjectNode) Jsons.jsonNode(Collections.emptyMap()), columnNames, fieldName, arrayFieldType);
+        final var element = readField(reader, JsonNodeFactory.instance.objectNode(), stringifiedFieldNames, fieldName, arrayFieldType);
         elements.add(element.get(fieldName));
       }
     }
     reader.readEndArray();
-    return Jsons.jsonNode(MoreIterators.toList(elements.iterator()));
+    return elements;
   }
 
   private static ObjectNode readField(final BsonReader reader,
                                       final ObjectNode o,
-                                      final List<String> columnNames,
+                                      final Set<String> stringifiedFieldNames,
                                       final String fieldName,
                                       final BsonType fieldType) {
     switch (fieldType) {
@@ -168,7 +212,7 @@ public class MongoUtils {
       case STRING -> o.put(fieldName, reader.readString());
       case OBJECT_ID -> o.put(fieldName, toString(reader.readObjectId()));
       case JAVASCRIPT -> o.put(fieldName, reader.readJavaScript());
-      case JAVASCRIPT_WITH_SCOPE -> readJavaScriptWithScope(o, reader, fieldName, columnNames);
+      case JAVASCRIPT_WITH_SCOPE -> readJavaScriptWithScope(o, reader, fieldName, stringifiedFieldNames);
       case REGULAR_EXPRESSION -> toString(reader.readRegularExpression());
       default -> reader.skipValue();
     }
@@ -176,55 +220,49 @@ public class MongoUtils {
   }
 
   /**
-   * Gets 10.000 documents from collection, gathers all unique fields and its type. In case when one
-   * field has different types in 2 and more documents, the type is set to String.
+   * Samples 10.000 documents from collection, gathers all unique fields and its type. In case when
+   * one field has different types in 2 and more documents, the type is set to String.
    *
    * @param collection mongo collection
    * @return map of unique fields and its type
    */
   public static Map<String, BsonType> getUniqueFields(final MongoCollection<Document> collection) {
-
-    Map<String, BsonType> result = new HashMap<>();
-    var allkeys = getFieldsName(collection);
-    allkeys.forEach(key -> {
-      var types = getTypes(collection, key);
-      addUniqueType(result, key, types);
-    });
-    return result;
+    return getUniqueFields(collection, DEFAULT_DISCOVER_SAMPLE_SIZE);
   }
 
-  private static List<String> getFieldsName(MongoCollection<Document> collection) {
-    AggregateIterable<Document> output = collection.aggregate(Arrays.asList(
-        new Document("$limit", DISCOVER_LIMIT),
+  /**
+   * Randomly samples documents from collection, gathers all unique fields and its type in a single
+   * aggregation. In case when one field has different types in 2 and more documents, the type is set
+   * to String.
+   *
+   * @param collection mongo collection
+   * @param sampleSize number of documents to sample
+   * @return map of unique fields and its type
+   */
+  public static Map<String, BsonType> getUniqueFields(final MongoCollection<Document> collection, final int sampleSize) {
+    final AggregateIterable<Document> output = collection.aggregate(Arrays.asList(
+        new Document("$sample", new Document("size", sampleSize)),
         new Document("$project", new Document("arrayofkeyvalue", new Document("$objectToArray", "$$ROOT"))),
         new Document("$unwind", "$arrayofkeyvalue"),
-        new Document("$group", new Document("_id", null).append("allkeys", new Document("$addToSet", "$arrayofkeyvalue.k")))));
-    if (output.cursor().hasNext()) {
-      return (List) output.cursor().next().get("allkeys");
-    } else {
-      return Collections.emptyList();
-    }
-  }
-
-  private static ArrayList<String> getTypes(MongoCollection<Document> collection, String name) {
-    var fieldName = "$" + name;
-    AggregateIterable<Document> output = collection.aggregate(Arrays.asList(
-        new Document("$limit", DISCOVER_LIMIT),
-        new Document("$project", new Document("_id", 0).append("fieldType", new Document("$type", fieldName))),
-        new Document("$group", new Document("_id", new Document("fieldType", "$fieldType"))
-            .append("count", new Document("$sum", 1)))));
-    var listOfTypes = new ArrayList<String>();
-    var cursor = output.cursor();
-    while (cursor.hasNext()) {
-      var type = ((Document) cursor.next().get("_id")).get("fieldType").toString();
-      if (!type.equals(MISSING_TYPE) && !type.equals(NULL_TYPE)) {
-        listOfTypes.add(type);
+        new Document("$group", new Document("_id", new Document("key", "$arrayofkeyvalue.k")
+            .append("fieldType", new Document("$type", "$arrayofkeyvalue.v"))))))
+        .allowDiskUse(true);
+
+    final Map<String, List<String>> typesByField = new HashMap<>();
+    try (final MongoCursor<Document> cursor = output.cursor()) {
+      while (cursor.hasNext()) {
+        final Document id = (Document) cursor.next().get("_id");
+        final List<String> types = typesByField.computeIfAbsent(id.getString("key"), key -> new ArrayList<>());
+        final String type = id.get("fieldType").toString();
+        if (!type.equals(MISSING_TYPE) && !type.equals(NULL_TYPE)) {
+          types.add(type);
+        }
       }
     }
-    if (listOfTypes.isEmpty()) {
-      listOfTypes.add(NULL_TYPE);
-    }
-    return listOfTypes;
+
+    final Map<String, BsonType> result = new HashMap<>();
+    typesByField.forEach((fieldName, types) -> addUniqueType(result, fieldName, types.isEmpty() ? List.of(NULL_TYPE) : types));
+    return result;
   }
 
   private static void addUniqueType(Map<String, BsonType> map,
@@ -282,10 +320,10 @@ public class MongoUtils {
     return value == null ? null : value.getData();
   }
 
-  private static void readJavaScriptWithScope(ObjectNode o, BsonReader reader, String fieldName, List<String> columnNames) {
+  private static void readJavaScriptWithScope(ObjectNode o, BsonReader reader, String fieldName, Set<String> stringifiedFieldNames) {
     var code = reader.readJavaScriptWithScope();
-    var scope = readDocument(reader, (ObjectNode) Jsons.jsonNode(Collections.emptyMap()), columnNames);
-    o.set(fieldName, Jsons.jsonNode(ImmutableMap.of("code", code, "scope", scope)));
+    var scope = readDocument(reader, JsonNodeFactory.instance.objectNode(), stringifiedFieldNames);
+    o.set(fieldName, JsonNodeFactory.instance.objectNode().put("code", code).set("scope", scope));
   }
 
   public enum MongoInstanceType {
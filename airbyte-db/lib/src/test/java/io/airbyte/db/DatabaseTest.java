@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.table;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.jooq.Field;
+import org.jooq.Record1;
+import org.jooq.SQLDialect;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.SQLDataType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+class DatabaseTest {
+
+  private static final int RECORD_COUNT = 2500;
+  // smaller than the record count, so the records are read with several fetches of the cursor
+  private static final int FETCH_SIZE = 100;
+  private static final Field<Integer> ID = field("id", SQLDataType.INTEGER);
+
+  private static PostgreSQLContainer<?> PSQL_DB;
+
+  private BasicDataSource connectionPool;
+  private Database database;
+
+  @BeforeAll
+  static void init() {
+    PSQL_DB = new PostgreSQLContainer<>("postgres:13-alpine");
+    PSQL_DB.start();
+  }
+
+  @AfterAll
+  static void cleanUp() {
+    PSQL_DB.close();
+  }
+
+  @BeforeEach
+  void setup() throws SQLException {
+    connectionPool = new BasicDataSource();
+    connectionPool.setDriverClassName("org.postgresql.Driver");
+    connectionPool.setUsername(PSQL_DB.getUsername());
+    connectionPool.setPassword(PSQL_DB.getPassword());
+    connectionPool.setUrl(PSQL_DB.getJdbcUrl());
+    // a stream that does not release its connection makes the next query of the test time out
+    connectionPool.setMaxTotal(1);
+    connectionPool.setMaxWaitMillis(5000);
+    database = new Database(connectionPool, SQLDialect.POSTGRES);
+
+    database.query(ctx -> ctx.execute("DROP TABLE IF EXISTS id_table;"));
+    database.query(ctx -> ctx.execute("CREATE TABLE id_table(id INTEGER);"));
+    database.query(ctx -> ctx.execute("INSERT INTO id_table (id) SELECT * FROM generate_series(1, " + RECORD_COUNT + ");"));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    database.close();
+  }
+
+  @Test
+  void testStreamQuery() throws SQLException {
+    try (final Stream<Record1<Integer>> records = database.streamQuery(ctx -> ctx.select(ID).from(table("id_table")).orderBy(ID), FETCH_SIZE)) {
+      // the query holds its connection until the stream is closed
+      assertEquals(1, connectionPool.getNumActive());
+      assertEquals(expectedIds(), records.map(Record1::value1).collect(Collectors.toList()));
+    }
+    assertConnectionReleased();
+  }
+
+  @Test
+  void testStreamQueryClosedBeforeItIsRead() throws SQLException {
+    try (final Stream<Record1<Integer>> records = database.streamQuery(ctx -> ctx.select(ID).from(table("id_table")).orderBy(ID), FETCH_SIZE)) {
+      assertEquals(List.of(1, 2, 3), records.limit(3).map(Record1::value1).collect(Collectors.toList()));
+    }
+    assertConnectionReleased();
+  }
+
+  @Test
+  void testStreamQueryThatFails() throws SQLException {
+    assertThrows(DataAccessException.class,
+        () -> database.streamQuery(ctx -> ctx.select(ID).from(table("missing_table")), FETCH_SIZE));
+    assertConnectionReleased();
+  }
+
+  @Test
+  void testExceptionWrappingStreamQuery() throws IOException, SQLException {
+    final ExceptionWrappingDatabase exceptionWrappingDatabase = new ExceptionWrappingDatabase(database);
+    try (final Stream<Record1<Integer>> records =
+        exceptionWrappingDatabase.streamQuery(ctx -> ctx.select(ID).from(table("id_table")).orderBy(ID), FETCH_SIZE)) {
+      assertEquals(1, connectionPool.getNumActive());
+      assertEquals(expectedIds(), records.map(Record1::value1).collect(Collectors.toList()));
+    }
+    assertConnectionReleased();
+
+    // the connection cannot be acquired
+    connectionPool.close();
+    assertThrows(IOException.class,
+        () -> exceptionWrappingDatabase.streamQuery(ctx -> ctx.select(ID).from(table("id_table")), FETCH_SIZE));
+  }
+
+  private static List<Integer> expectedIds() {
+    return IntStream.rangeClosed(1, RECORD_COUNT).boxed().collect(Collectors.toList());
+  }
+
+  /**
+   * The connection is back in the pool, in autocommit mode, and can run the next query.
+   */
+  private void assertConnectionReleased() throws SQLException {
+    assertEquals(0, connectionPool.getNumActive());
+    try (final Connection connection = connectionPool.getConnection()) {
+      assertTrue(connection.getAutoCommit());
+    }
+    final int recordCount = database.query(ctx -> ctx.fetchCount(table("id_table")));
+    assertEquals(RECORD_COUNT, recordCount);
+  }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import static io.airbyte.db.instance.configs.migrations.V0_34_0_002__Add_connection_stream_state.DB_STREAM_KEY_PREFIX;
+import static io.airbyte.db.instance.configs.migrations.V0_34_0_002__Add_connection_stream_state.WHOLE_STATE_KEY;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.table;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.ConfigSchema;
+import io.airbyte.db.instance.configs.AbstractConfigsDatabaseTest;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.Record;
+import org.jooq.Record2;
+import org.jooq.Table;
+import org.jooq.impl.SQLDataType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class V0_34_0_002__Add_connection_stream_state_test extends AbstractConfigsDatabaseTest {
+
+  private static final Table<Record> CONNECTION_STREAM_STATE = table("connection_stream_state");
+  private static final Field<UUID> CONNECTION_ID = field("connection_id", SQLDataType.UUID);
+  private static final Field<String> STREAM_KEY = field("stream_key", SQLDataType.CLOB);
+  private static final Field<JSONB> STATE = field("state", SQLDataType.JSONB);
+  private static final Field<OffsetDateTime> STATE_UPDATED_AT = field("updated_at", SQLDataType.TIMESTAMPWITHTIMEZONE);
+
+  private static final String OBJECT_STATE = "{ \"users\": { \"cursor\": 1 }, \"orders\": { \"cursor\": 10 } }";
+
+  private OffsetDateTime timestamp;
+
+  @BeforeEach
+  void setupTable() throws Exception {
+    // postgres only keeps microseconds
+    final OffsetDateTime timestampWithFullPrecision = OffsetDateTime.now();
+    timestamp = timestampWithFullPrecision.withNano(1000 * (timestampWithFullPrecision.getNano() / 1000));
+
+    database.query(ctx -> {
+      V0_34_0_002__Add_connection_stream_state.createTable(ctx);
+      return null;
+    });
+  }
+
+  @Test
+  public void testMoveObjectStates() throws Exception {
+    final UUID connectionId = UUID.randomUUID();
+
+    database.query(ctx -> {
+      insertSyncState(ctx, connectionId, OBJECT_STATE);
+      V0_34_0_002__Add_connection_stream_state.moveConnectionStates(ctx);
+
+      assertEquals(
+          Map.of("users", Jsons.deserialize("{ \"cursor\": 1 }"), "orders", Jsons.deserialize("{ \"cursor\": 10 }")),
+          getStreamStates(ctx, connectionId));
+      assertEquals(timestamp, ctx.select(STATE_UPDATED_AT)
+          .from(CONNECTION_STREAM_STATE)
+          .where(CONNECTION_ID.eq(connectionId), STREAM_KEY.eq("users"))
+          .fetchOne()
+          .value1());
+      assertEquals(0, countSyncStates(ctx));
+      return null;
+    });
+  }
+
+  @Test
+  public void testMoveStatesThatCannotBeSplit() throws Exception {
+    final Map<UUID, String> states = Map.of(
+        UUID.randomUUID(), "[1, 2, 3]",
+        UUID.randomUUID(), "\"cursor\"",
+        UUID.randomUUID(), "1000",
+        UUID.randomUUID(), "{}",
+        UUID.randomUUID(), "{ \"" + WHOLE_STATE_KEY + "\": 1, \"users\": { \"cursor\": 1 } }",
+        UUID.randomUUID(), "{ \"" + DB_STREAM_KEY_PREFIX + "users\": 1, \"orders\": { \"cursor\": 1 } }");
+
+    database.query(ctx -> {
+      states.forEach((connectionId, state) -> insertSyncState(ctx, connectionId, state));
+      V0_34_0_002__Add_connection_stream_state.moveConnectionStates(ctx);
+
+      states.forEach((connectionId, state) -> assertEquals(Map.of(WHOLE_STATE_KEY, Jsons.deserialize(state)), getStreamStates(ctx, connectionId)));
+      assertEquals(0, countSyncStates(ctx));
+      return null;
+    });
+  }
+
+  @Test
+  public void testMoveConnectionStatesKeepsExistingRows() throws Exception {
+    final UUID connectionId = UUID.randomUUID();
+
+    database.query(ctx -> {
+      ctx.insertInto(CONNECTION_STREAM_STATE, CONNECTION_ID, STREAM_KEY, STATE)
+          .values(connectionId, "users", JSONB.valueOf("{ \"cursor\": 5 }"))
+          .execute();
+      insertSyncState(ctx, connectionId, OBJECT_STATE);
+      V0_34_0_002__Add_connection_stream_state.moveConnectionStates(ctx);
+
+      // the existing row is not overwritten, the other fields are still moved
+      assertEquals(
+          Map.of("users", Jsons.deserialize("{ \"cursor\": 5 }"), "orders", Jsons.deserialize("{ \"cursor\": 10 }")),
+          getStreamStates(ctx, connectionId));
+      assertEquals(0, countSyncStates(ctx));
+      return null;
+    });
+  }
+
+  private void insertSyncState(final DSLContext ctx, final UUID connectionId, final String state) {
+    final String standardSyncState = String.format("{ \"connectionId\": \"%s\", \"state\": { \"state\": %s } }", connectionId, state);
+    ctx.insertInto(AIRBYTE_CONFIGS, CONFIG_ID, CONFIG_TYPE, CONFIG_BLOB, CREATED_AT, UPDATED_AT)
+        .values(connectionId.toString(), ConfigSchema.STANDARD_SYNC_STATE.name(), JSONB.valueOf(standardSyncState), timestamp, timestamp)
+        .execute();
+  }
+
+  private static Map<String, JsonNode> getStreamStates(final DSLContext ctx, final UUID connectionId) {
+    return ctx.select(STREAM_KEY, STATE)
+        .from(CONNECTION_STREAM_STATE)
+        .where(CONNECTION_ID.eq(connectionId))
+        .fetch()
+        .stream()
+        .collect(Collectors.toMap(Record2::value1, record -> Jsons.deserialize(record.value2().data())));
+  }
+
+  private static int countSyncStates(final DSLContext ctx) {
+    return ctx.fetchCount(AIRBYTE_CONFIGS, CONFIG_TYPE.eq(ConfigSchema.STANDARD_SYNC_STATE.name()));
+  }
+
+}
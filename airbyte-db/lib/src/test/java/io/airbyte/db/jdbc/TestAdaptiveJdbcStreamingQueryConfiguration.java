@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.functional.CheckedFunction;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TestAdaptiveJdbcStreamingQueryConfiguration {
+
+  private ResultSet resultSet;
+
+  @BeforeEach
+  void setup() throws SQLException {
+    resultSet = mock(ResultSet.class);
+    final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+    when(metaData.getTableName(1)).thenReturn("users");
+    when(resultSet.getMetaData()).thenReturn(metaData);
+  }
+
+  @Test
+  void testAcceptSetsInitialFetchSize() throws SQLException {
+    final Connection connection = mock(Connection.class);
+    final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+
+    new AdaptiveJdbcStreamingQueryConfiguration(5, 1, 100, 1000).accept(connection, preparedStatement);
+
+    verify(connection).setAutoCommit(false);
+    verify(preparedStatement).setFetchSize(5);
+  }
+
+  @Test
+  void testAdjustsFetchSizeAfterFirstFetch() throws SQLException {
+    final CheckedFunction<ResultSet, Long, SQLException> transform =
+        new AdaptiveJdbcStreamingQueryConfiguration(3, 1, 1000, 1100).wrapRecordTransform(rs -> 12345678901L);
+
+    transform.apply(resultSet);
+    transform.apply(resultSet);
+    verify(resultSet, never()).setFetchSize(anyInt());
+    transform.apply(resultSet);
+    // each row is estimated at 11 bytes
+    verify(resultSet).setFetchSize(100);
+    transform.apply(resultSet);
+    verify(resultSet).setFetchSize(anyInt());
+    // the columns are only read by the record transform
+    verify(resultSet, never()).getString(anyInt());
+  }
+
+  @Test
+  void testComputeFetchSizeIsBounded() {
+    final AdaptiveJdbcStreamingQueryConfiguration configuration = new AdaptiveJdbcStreamingQueryConfiguration(10, 10, 500, 10_000);
+
+    assertEquals(10, configuration.computeFetchSize(5_000));
+    assertEquals(100, configuration.computeFetchSize(100));
+    assertEquals(500, configuration.computeFetchSize(1));
+    assertEquals(500, configuration.computeFetchSize(0));
+  }
+
+}
@@ -11,6 +11,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
@@ -59,6 +60,7 @@ public class TestStreamingJdbcDatabase {
   @BeforeEach
   void setup() throws Exception {
     jdbcStreamingQueryConfiguration = mock(JdbcStreamingQueryConfiguration.class);
+    when(jdbcStreamingQueryConfiguration.wrapRecordTransform(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
     final String dbName = Strings.addRandomSuffix("db", "_", 10);
 
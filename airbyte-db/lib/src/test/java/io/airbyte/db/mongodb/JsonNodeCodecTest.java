@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.mongodb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.conversions.Bson;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+class JsonNodeCodecTest {
+
+  private static final List<String> COLUMN_NAMES = List.of("_id", "name", "count", "mixed_aibyte_transform", "nested", "list");
+
+  @Test
+  void testDecodeMatchesDocumentConversion() {
+    final Document document = new Document("_id", new ObjectId("61a8b6c3f1d2a3b4c5d6e7f8"))
+        .append("name", "goku")
+        .append("count", 9000L)
+        .append("ratio", 1.5)
+        .append("int", 42)
+        .append("flag", true)
+        .append("price", Decimal128.parse("10.25"))
+        .append("created", new Date(1638000000000L))
+        .append("ts", new BsonTimestamp(1638000000, 1))
+        .append("data", new BsonBinary(new byte[] {1, 2, 3}))
+        .append("mixed", new Document("a", 1))
+        .append("nested", new Document("inner", "value").append("mixed", 7).append("list", List.of(1, "two")))
+        .append("list", List.of(new Document("x", 1), List.of(1, 2), "three"))
+        .append("empty", null);
+
+    final JsonNode expected = MongoUtils.toJsonNode(document, COLUMN_NAMES);
+    final JsonNode actual = new RawBsonDocument(document, new DocumentCodec())
+        .decode(new JsonNodeCodec(MongoUtils.getStringifiedFieldNames(COLUMN_NAMES)));
+
+    assertEquals(expected, actual);
+    assertEquals("goku", actual.get("name").asText());
+    assertTrue(actual.get("mixed").isTextual());
+    assertTrue(actual.get("nested").get("mixed").isTextual());
+  }
+
+  @Test
+  void testStringifiedFieldNames() {
+    assertEquals(Set.of("mixed"), MongoUtils.getStringifiedFieldNames(COLUMN_NAMES));
+  }
+
+  @Test
+  void testProjection() {
+    final Bson projection = MongoUtils.getProjection(List.of("name", "mixed_aibyte_transform")).orElseThrow();
+
+    assertEquals(BsonDocument.parse("{\"name\": 1, \"mixed\": 1, \"_id\": 0}"), projection.toBsonDocument());
+    assertEquals(BsonDocument.parse("{\"_id\": 1, \"name\": 1}"), MongoUtils.getProjection(List.of("_id", "name")).orElseThrow().toBsonDocument());
+  }
+
+  @Test
+  void testNoProjectionForUnsupportedFieldNames() {
+    assertFalse(MongoUtils.getProjection(List.of()).isPresent());
+    assertFalse(MongoUtils.getProjection(List.of("name", "a.b")).isPresent());
+    assertFalse(MongoUtils.getProjection(List.of("$name")).isPresent());
+  }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.mongodb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mongodb.client.model.Filters;
+import io.airbyte.commons.util.MoreIterators;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+class MongoDatabaseTest {
+
+  private static final String DATABASE_NAME = "test_database";
+  private static final String COLLECTION_NAME = "users";
+  private static final List<Document> DOCUMENTS = List.of(
+      new Document("_id", new ObjectId("61a8b6c3f1d2a3b4c5d6e7f1"))
+          .append("name", "goku")
+          .append("power", 9000)
+          .append("mixed", 1)
+          .append("nested", new Document("inner", "value").append("mixed", 7))
+          .append("not_in_catalog", "hidden"),
+      new Document("_id", new ObjectId("61a8b6c3f1d2a3b4c5d6e7f2"))
+          .append("name", "vegeta")
+          .append("power", 8000)
+          .append("mixed", "one")
+          .append("nested", new Document("inner", "other value").append("mixed", "seven")),
+      new Document("_id", new ObjectId("61a8b6c3f1d2a3b4c5d6e7f3"))
+          .append("name", "piccolo")
+          .append("mixed", new Document("a", 1)));
+
+  private static MongoDBContainer MONGO_DB;
+
+  private MongoDatabase database;
+
+  @BeforeAll
+  static void init() {
+    MONGO_DB = new MongoDBContainer(DockerImageName.parse("mongo:4.0.10"));
+    MONGO_DB.start();
+  }
+
+  @AfterAll
+  static void cleanUp() {
+    MONGO_DB.close();
+  }
+
+  @BeforeEach
+  void setup() {
+    database = new MongoDatabase(MONGO_DB.getReplicaSetUrl(), DATABASE_NAME);
+    database.getDatabase().drop();
+    database.createCollection(COLLECTION_NAME).insertMany(DOCUMENTS);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    database.close();
+  }
+
+  @Test
+  void testReadSelectedFieldsWithId() {
+    final List<String> columnNames = List.of("_id", "name", "mixed_aibyte_transform", "nested");
+
+    final List<JsonNode> records = read(columnNames);
+
+    assertEquals(expectedRecords(columnNames, Set.of("_id", "name", "mixed", "nested")), records);
+    assertEquals("61a8b6c3f1d2a3b4c5d6e7f1", records.get(0).get("_id").asText());
+    // the field of the transform column is returned, as a string whatever its type
+    assertTrue(records.stream().allMatch(record -> record.get("mixed").isTextual()));
+    assertTrue(records.get(0).get("nested").get("mixed").isTextual());
+    // fields that are not selected, e.g. fields missing from the sampled catalog, are not returned
+    assertTrue(records.stream().noneMatch(record -> record.has("power") || record.has("not_in_catalog")));
+  }
+
+  @Test
+  void testReadSelectedFieldsWithoutId() {
+    final List<String> columnNames = List.of("name", "power");
+
+    final List<JsonNode> records = read(columnNames);
+
+    assertEquals(expectedRecords(columnNames, Set.of("name", "power")), records);
+    assertTrue(records.stream().noneMatch(record -> record.has("_id")));
+    // a selected field that a document does not have is left out of its record
+    assertFalse(records.get(2).has("power"));
+  }
+
+  @Test
+  void testReadOnlyTransformColumn() {
+    final List<String> columnNames = List.of("mixed_aibyte_transform");
+
+    final List<JsonNode> records = read(columnNames);
+
+    assertEquals(expectedRecords(columnNames, Set.of("mixed")), records);
+    assertTrue(records.stream().allMatch(record -> MoreIterators.toSet(record.fieldNames()).equals(Set.of("mixed"))));
+  }
+
+  @Test
+  void testReadWholeDocumentsWhenFieldNamesCannotBeProjected() {
+    for (final List<String> columnNames : List.<List<String>>of(
+        List.of("_id", "name", "nested.inner"),
+        List.of("_id", "name", "$name"),
+        List.of())) {
+      final List<JsonNode> records = read(columnNames);
+
+      // without a projection the records hold every field of the documents
+      assertEquals(DOCUMENTS.stream().map(document -> MongoUtils.toJsonNode(document, columnNames)).collect(Collectors.toList()), records);
+      assertTrue(records.get(0).has("not_in_catalog"));
+    }
+  }
+
+  @Test
+  void testReadWithFilterInSeveralBatches() {
+    final List<String> columnNames = List.of("_id", "name");
+
+    final List<JsonNode> records;
+    try (final Stream<JsonNode> stream = database.read(COLLECTION_NAME, columnNames, Optional.of(Filters.exists("power")), 1)) {
+      records = stream.collect(Collectors.toList());
+    }
+
+    assertEquals(expectedRecords(columnNames, Set.of("_id", "name")).subList(0, 2), records);
+  }
+
+  private List<JsonNode> read(final List<String> columnNames) {
+    try (final Stream<JsonNode> stream = database.read(COLLECTION_NAME, columnNames, Optional.empty())) {
+      return stream.collect(Collectors.toList());
+    }
+  }
+
+  /**
+   * Converts the whole documents the way they were before projections were used and only keeps the
+   * fields that are expected to be returned.
+   */
+  private static List<JsonNode> expectedRecords(final List<String> columnNames, final Set<String> fieldNames) {
+    return DOCUMENTS.stream()
+        .map(document -> {
+          final ObjectNode record = (ObjectNode) MongoUtils.toJsonNode(document, columnNames);
+          record.retain(fieldNames);
+          return (JsonNode) record;
+        })
+        .collect(Collectors.toList());
+  }
+
+}
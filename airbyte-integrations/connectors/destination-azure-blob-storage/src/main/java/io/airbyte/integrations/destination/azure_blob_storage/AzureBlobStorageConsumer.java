@@ -4,9 +4,9 @@
 
 package io.airbyte.integrations.destination.azure_blob_storage;
 
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.BlobClientBuilder;
 import com.azure.storage.blob.BlobContainerClient;
-import com.azure.storage.blob.specialized.AppendBlobClient;
-import com.azure.storage.blob.specialized.SpecializedBlobClientBuilder;
 import com.azure.storage.common.StorageSharedKeyCredential;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
@@ -58,7 +58,7 @@ public class AzureBlobStorageConsumer extends FailureTrackingAirbyteMessageConsu
         azureBlobStorageDestinationConfig.getAccountName(),
         azureBlobStorageDestinationConfig.getAccountKey());
 
-    final SpecializedBlobClientBuilder specializedBlobClientBuilder = new SpecializedBlobClientBuilder()
+    final BlobClientBuilder blobClientBuilder = new BlobClientBuilder()
         .endpoint(azureBlobStorageDestinationConfig.getEndpointUrl())
         .credential(credential)
         .containerName(
@@ -67,14 +67,16 @@ public class AzureBlobStorageConsumer extends FailureTrackingAirbyteMessageConsu
 
     for (final ConfiguredAirbyteStream configuredStream : configuredCatalog.getStreams()) {
 
-      final AppendBlobClient appendBlobClient = specializedBlobClientBuilder
-          .blobName(configuredStream.getStream().getName())
-          .buildAppendBlobClient();
+      final String blobName = configuredStream.getStream().getName()
+          + (azureBlobStorageDestinationConfig.isGzip() ? AzureBlobStorageDestinationConstants.GZIP_BLOB_NAME_SUFFIX : "");
+      final BlobClient blobClient = blobClientBuilder
+          .blobName(blobName)
+          .buildClient();
 
-      final boolean isNewlyCreatedBlob = createContainers(appendBlobClient, configuredStream);
+      final boolean isNewlyCreatedBlob = createContainers(blobClient, configuredStream);
 
       final AzureBlobStorageWriter writer = writerFactory
-          .create(azureBlobStorageDestinationConfig, appendBlobClient, configuredStream,
+          .create(azureBlobStorageDestinationConfig, blobClient, configuredStream,
               isNewlyCreatedBlob);
 
       final AirbyteStream stream = configuredStream.getStream();
@@ -84,36 +86,37 @@ public class AzureBlobStorageConsumer extends FailureTrackingAirbyteMessageConsu
     }
   }
 
-  private boolean createContainers(final AppendBlobClient appendBlobClient,
+  private boolean createContainers(final BlobClient blobClient,
                                    final ConfiguredAirbyteStream configuredStream) {
     // create container if absent (aka SQl Schema)
-    final BlobContainerClient containerClient = appendBlobClient.getContainerClient();
+    final BlobContainerClient containerClient = blobClient.getContainerClient();
     if (!containerClient.exists()) {
       containerClient.create();
     }
     // create a storage container if absent (aka Table is SQL BD)
     if (SyncMode.FULL_REFRESH.equals(configuredStream.getSyncMode())) {
-      // full refresh sync. Create blob and override if any
+      // full refresh sync. The blob is created when its blocks are committed, drop the previous one
+      // which might be an append blob
       LOGGER.info("Sync mode is selected to OVERRIDE mode. New container will be automatically"
           + " created or all data would be overridden (if any) for stream:" + configuredStream
               .getStream().getName());
-      appendBlobClient.create(true);
+      if (blobClient.exists()) {
+        blobClient.delete();
+      }
       return true;
     } else {
       // incremental sync. Create new container only if still absent
-      if (!appendBlobClient.exists()) {
+      if (!blobClient.exists()) {
         LOGGER.info("Sync mode is selected to APPEND mode. New container will be automatically"
             + " created for stream:" + configuredStream.getStream().getName());
-        appendBlobClient.create(false);
-        LOGGER.info(appendBlobClient.getBlobName() + " blob has been created");
         return true;
       } else {
         LOGGER.info(String.format(
-            "Sync mode is selected to APPEND mode. Container %s already exists. Append mode is "
-                + "only available for \"Append blobs\". For more details please visit"
+            "Sync mode is selected to APPEND mode. Container %s already exists, new blocks will be"
+                + " appended to it. For more details please visit"
                 + " https://docs.microsoft.com/en-us/azure/storage/blobs/storage-blobs-introduction#blobs",
             configuredStream.getStream().getName()));
-        LOGGER.info(appendBlobClient.getBlobName() + " already exists");
+        LOGGER.info(blobClient.getBlobName() + " already exists");
         return false;
       }
     }
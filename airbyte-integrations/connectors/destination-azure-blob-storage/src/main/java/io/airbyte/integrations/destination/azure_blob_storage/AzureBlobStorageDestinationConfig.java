@@ -16,18 +16,27 @@ public class AzureBlobStorageDestinationConfig {
   private final String accountKey;
   private final String containerName;
   private final AzureBlobStorageFormatConfig formatConfig;
+  private final int blockSizeMb;
+  private final int uploadConcurrency;
+  private final boolean gzip;
 
   public AzureBlobStorageDestinationConfig(
                                            final String endpointUrl,
                                            final String accountName,
                                            final String accountKey,
                                            final String containerName,
-                                           final AzureBlobStorageFormatConfig formatConfig) {
+                                           final AzureBlobStorageFormatConfig formatConfig,
+                                           final int blockSizeMb,
+                                           final int uploadConcurrency,
+                                           final boolean gzip) {
     this.endpointUrl = endpointUrl;
     this.accountName = accountName;
     this.accountKey = accountKey;
     this.containerName = containerName;
     this.formatConfig = formatConfig;
+    this.blockSizeMb = blockSizeMb;
+    this.uploadConcurrency = uploadConcurrency;
+    this.gzip = gzip;
   }
 
   public String getEndpointUrl() {
@@ -50,6 +59,18 @@ public class AzureBlobStorageDestinationConfig {
     return formatConfig;
   }
 
+  public int getBlockSizeMb() {
+    return blockSizeMb;
+  }
+
+  public int getUploadConcurrency() {
+    return uploadConcurrency;
+  }
+
+  public boolean isGzip() {
+    return gzip;
+  }
+
   public static AzureBlobStorageDestinationConfig getAzureBlobStorageConfig(final JsonNode config) {
     final String accountNameFomConfig = config.get("azure_blob_storage_account_name").asText();
     final String accountKeyFromConfig = config.get("azure_blob_storage_account_key").asText();
@@ -57,6 +78,9 @@ public class AzureBlobStorageDestinationConfig {
         .get("azure_blob_storage_endpoint_domain_name");
     final JsonNode containerName = config.get("azure_blob_storage_container_name");
     final JsonNode blobName = config.get("azure_blob_storage_blob_name"); // streamId
+    final JsonNode blockSizeMb = config.get("azure_blob_storage_block_size_mb");
+    final JsonNode uploadConcurrency = config.get("azure_blob_storage_upload_concurrency");
+    final JsonNode gzip = config.get("azure_blob_storage_gzip");
 
     final String endpointComputed = String.format(Locale.ROOT, DEFAULT_STORAGE_ENDPOINT_FORMAT,
         DEFAULT_STORAGE_ENDPOINT_HTTP_PROTOCOL,
@@ -72,7 +96,10 @@ public class AzureBlobStorageDestinationConfig {
         accountNameFomConfig,
         accountKeyFromConfig,
         containerNameComputed,
-        AzureBlobStorageFormatConfigs.getAzureBlobStorageFormatConfig(config));
+        AzureBlobStorageFormatConfigs.getAzureBlobStorageFormatConfig(config),
+        blockSizeMb == null ? DEFAULT_BLOCK_SIZE_MB : blockSizeMb.asInt(),
+        uploadConcurrency == null ? DEFAULT_UPLOAD_CONCURRENCY : uploadConcurrency.asInt(),
+        gzip != null && gzip.asBoolean());
   }
 
 }
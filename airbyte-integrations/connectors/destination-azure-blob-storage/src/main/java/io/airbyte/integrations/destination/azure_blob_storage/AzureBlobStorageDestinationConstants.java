@@ -10,6 +10,9 @@ public final class AzureBlobStorageDestinationConstants {
   public static final String DEFAULT_STORAGE_ENDPOINT_HTTP_PROTOCOL = "https";
   public static final String DEFAULT_STORAGE_ENDPOINT_DOMAIN_NAME = "blob.core.windows.net";
   public static final String DEFAULT_STORAGE_ENDPOINT_FORMAT = "%s://%s.%s";
+  public static final int DEFAULT_BLOCK_SIZE_MB = 4;
+  public static final int DEFAULT_UPLOAD_CONCURRENCY = 4;
+  public static final String GZIP_BLOB_NAME_SUFFIX = ".gz";
 
   private AzureBlobStorageDestinationConstants() {}
 
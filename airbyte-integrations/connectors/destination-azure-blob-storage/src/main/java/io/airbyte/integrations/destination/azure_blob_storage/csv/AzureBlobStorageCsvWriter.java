@@ -4,14 +4,14 @@
 
 package io.airbyte.integrations.destination.azure_blob_storage.csv;
 
-import com.azure.storage.blob.specialized.AppendBlobClient;
-import com.azure.storage.blob.specialized.BlobOutputStream;
+import com.azure.storage.blob.BlobClient;
 import io.airbyte.integrations.destination.azure_blob_storage.AzureBlobStorageDestinationConfig;
 import io.airbyte.integrations.destination.azure_blob_storage.writer.AzureBlobStorageWriter;
 import io.airbyte.integrations.destination.azure_blob_storage.writer.BaseAzureBlobStorageWriter;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
@@ -28,14 +28,14 @@ public class AzureBlobStorageCsvWriter extends BaseAzureBlobStorageWriter implem
 
   private final CsvSheetGenerator csvSheetGenerator;
   private final CSVPrinter csvPrinter;
-  private final BlobOutputStream blobOutputStream;
+  private final OutputStream blobOutputStream;
 
   public AzureBlobStorageCsvWriter(final AzureBlobStorageDestinationConfig config,
-                                   final AppendBlobClient appendBlobClient,
+                                   final BlobClient blobClient,
                                    final ConfiguredAirbyteStream configuredStream,
                                    final boolean isNewlyCreatedBlob)
       throws IOException {
-    super(config, appendBlobClient, configuredStream);
+    super(config, blobClient, configuredStream);
 
     final AzureBlobStorageCsvFormatConfig formatConfig = (AzureBlobStorageCsvFormatConfig) config
         .getFormatConfig();
@@ -44,7 +44,7 @@ public class AzureBlobStorageCsvWriter extends BaseAzureBlobStorageWriter implem
         .create(configuredStream.getStream().getJsonSchema(),
             formatConfig);
 
-    this.blobOutputStream = appendBlobClient.getBlobOutputStream();
+    this.blobOutputStream = openBlobOutputStream(isNewlyCreatedBlob);
 
     if (isNewlyCreatedBlob) {
       this.csvPrinter = new CSVPrinter(
@@ -73,6 +73,7 @@ public class AzureBlobStorageCsvWriter extends BaseAzureBlobStorageWriter implem
   @Override
   protected void closeWhenFail() throws IOException {
     LOGGER.info("Closing csvPrinter when failed");
+    abortUpload(blobOutputStream);
     csvPrinter.close();
   }
 
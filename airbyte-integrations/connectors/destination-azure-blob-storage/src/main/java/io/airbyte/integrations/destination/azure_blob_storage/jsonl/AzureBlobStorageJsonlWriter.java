@@ -4,8 +4,7 @@
 
 package io.airbyte.integrations.destination.azure_blob_storage.jsonl;
 
-import com.azure.storage.blob.specialized.AppendBlobClient;
-import com.azure.storage.blob.specialized.BlobOutputStream;
+import com.azure.storage.blob.BlobClient;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -18,6 +17,7 @@ import io.airbyte.integrations.destination.azure_blob_storage.writer.BaseAzureBl
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
@@ -32,16 +32,16 @@ public class AzureBlobStorageJsonlWriter extends BaseAzureBlobStorageWriter impl
   private static final ObjectMapper MAPPER = MoreMappers.initMapper();
   private static final ObjectWriter WRITER = MAPPER.writer();
 
-  private final BlobOutputStream blobOutputStream;
+  private final OutputStream blobOutputStream;
   private final PrintWriter printWriter;
 
   public AzureBlobStorageJsonlWriter(final AzureBlobStorageDestinationConfig config,
-                                     final AppendBlobClient appendBlobClient,
+                                     final BlobClient blobClient,
                                      final ConfiguredAirbyteStream configuredStream,
-                                     final boolean isNewlyCreatedBlob) {
-    super(config, appendBlobClient, configuredStream);
-    // at this moment we already receive appendBlobClient initialized
-    this.blobOutputStream = appendBlobClient.getBlobOutputStream();
+                                     final boolean isNewlyCreatedBlob)
+      throws IOException {
+    super(config, blobClient, configuredStream);
+    this.blobOutputStream = openBlobOutputStream(isNewlyCreatedBlob);
     this.printWriter = new PrintWriter(blobOutputStream, true, StandardCharsets.UTF_8);
   }
 
@@ -62,6 +62,7 @@ public class AzureBlobStorageJsonlWriter extends BaseAzureBlobStorageWriter impl
 
   @Override
   protected void closeWhenFail() throws IOException {
+    abortUpload(blobOutputStream);
     // this would also close the blobOutputStream
     printWriter.close();
   }
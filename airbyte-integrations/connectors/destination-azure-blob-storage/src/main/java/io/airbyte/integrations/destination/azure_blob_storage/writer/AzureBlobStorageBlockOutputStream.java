@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.azure_blob_storage.writer;
+
+import com.azure.storage.blob.models.Block;
+import com.azure.storage.blob.models.BlockListType;
+import com.azure.storage.blob.specialized.BlockBlobClient;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Output stream uploading to a block blob. Written bytes are cut into blocks of a fixed size, which
+ * are staged in parallel with {@link BlockBlobClient#stageBlock}. The block list is only committed
+ * on {@link #close()}, so an aborted upload leaves the blob untouched.
+ * <p>
+ * When gzip is enabled each block is compressed on the upload threads as a separate gzip member.
+ * Concatenated gzip members form a valid gzip file, so the consumer thread never pays for the
+ * compression.
+ * </p>
+ */
+public class AzureBlobStorageBlockOutputStream extends OutputStream {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AzureBlobStorageBlockOutputStream.class);
+
+  private final BlockBlobClient blockBlobClient;
+  private final int blockSize;
+  private final boolean gzip;
+  private final boolean append;
+  private final ExecutorService executorService;
+  private final Semaphore uploadPermits;
+  private final int maxConcurrency;
+  private final List<String> blockIds = new ArrayList<>();
+  private final AtomicReference<Throwable> uploadFailure = new AtomicReference<>();
+
+  private byte[] buffer;
+  private int position;
+  private boolean closed;
+
+  public AzureBlobStorageBlockOutputStream(final BlockBlobClient blockBlobClient,
+                                           final int blockSize,
+                                           final int maxConcurrency,
+                                           final boolean gzip,
+                                           final boolean append) {
+    this.blockBlobClient = blockBlobClient;
+    this.blockSize = blockSize;
+    this.gzip = gzip;
+    this.append = append;
+    this.maxConcurrency = maxConcurrency;
+    this.executorService = Executors.newFixedThreadPool(maxConcurrency);
+    this.uploadPermits = new Semaphore(maxConcurrency);
+    this.buffer = new byte[blockSize];
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    ensureOpen();
+    buffer[position++] = (byte) b;
+    if (position == blockSize) {
+      stageBuffer();
+    }
+  }
+
+  @Override
+  public void write(final byte[] bytes, int offset, int length) throws IOException {
+    ensureOpen();
+    while (length > 0) {
+      final int count = Math.min(length, blockSize - position);
+      System.arraycopy(bytes, offset, buffer, position, count);
+      position += count;
+      offset += count;
+      length -= count;
+      if (position == blockSize) {
+        stageBuffer();
+      }
+    }
+  }
+
+  /**
+   * Does nothing: staging a block per flush would produce tiny blocks for writers flushing after
+   * every line. Data is uploaded once a block is full or on close.
+   */
+  @Override
+  public void flush() {}
+
+  /**
+   * Stages the remaining data, waits for all uploads and commits the block list. When appending, the
+   * new blocks are committed after the blocks already in the blob.
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    try {
+      if (position > 0) {
+        stageBuffer();
+      }
+      awaitUploads();
+      final List<String> committedBlockIds = new ArrayList<>();
+      if (append && blockBlobClient.exists()) {
+        committedBlockIds.addAll(blockBlobClient.listBlocks(BlockListType.COMMITTED).getCommittedBlocks().stream()
+            .map(Block::getName)
+            .collect(Collectors.toList()));
+      }
+      committedBlockIds.addAll(blockIds);
+      blockBlobClient.commitBlockList(committedBlockIds, true);
+      LOGGER.info("Committed {} new blocks to blob {}", blockIds.size(), blockBlobClient.getBlobName());
+    } finally {
+      closed = true;
+      executorService.shutdown();
+    }
+  }
+
+  /**
+   * Stops the upload without committing. Staged blocks are never committed and get garbage collected
+   * by the storage service.
+   */
+  public void abort() {
+    closed = true;
+    executorService.shutdownNow();
+  }
+
+  private void stageBuffer() throws IOException {
+    throwIfUploadFailed();
+    final byte[] data = buffer;
+    final int length = position;
+    final String blockId = Base64.getEncoder().encodeToString(UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8));
+    blockIds.add(blockId);
+    buffer = new byte[blockSize];
+    position = 0;
+
+    try {
+      uploadPermits.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting to stage a block", e);
+    }
+    executorService.execute(() -> {
+      try {
+        final byte[] block = gzip ? compress(data, length) : data;
+        final int blockLength = gzip ? block.length : length;
+        blockBlobClient.stageBlock(blockId, new ByteArrayInputStream(block, 0, blockLength), blockLength);
+      } catch (final Throwable e) {
+        uploadFailure.compareAndSet(null, e);
+      } finally {
+        uploadPermits.release();
+      }
+    });
+  }
+
+  private static byte[] compress(final byte[] data, final int length) throws IOException {
+    final ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 4);
+    try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed)) {
+      gzipOutputStream.write(data, 0, length);
+    }
+    return compressed.toByteArray();
+  }
+
+  private void awaitUploads() throws IOException {
+    try {
+      uploadPermits.acquire(maxConcurrency);
+      uploadPermits.release(maxConcurrency);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for staged blocks", e);
+    }
+    throwIfUploadFailed();
+  }
+
+  private void throwIfUploadFailed() throws IOException {
+    final Throwable failure = uploadFailure.get();
+    if (failure != null) {
+      throw new IOException("Failed to stage block for blob " + blockBlobClient.getBlobName(), failure);
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream is closed");
+    }
+  }
+
+}
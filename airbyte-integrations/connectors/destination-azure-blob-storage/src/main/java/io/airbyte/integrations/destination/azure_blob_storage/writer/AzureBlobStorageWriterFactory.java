@@ -4,7 +4,7 @@
 
 package io.airbyte.integrations.destination.azure_blob_storage.writer;
 
-import com.azure.storage.blob.specialized.AppendBlobClient;
+import com.azure.storage.blob.BlobClient;
 import io.airbyte.integrations.destination.azure_blob_storage.AzureBlobStorageDestinationConfig;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 
@@ -15,7 +15,7 @@ import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 public interface AzureBlobStorageWriterFactory {
 
   AzureBlobStorageWriter create(AzureBlobStorageDestinationConfig config,
-                                AppendBlobClient appendBlobClient,
+                                BlobClient blobClient,
                                 ConfiguredAirbyteStream configuredStream,
                                 boolean isNewlyCreatedBlob)
       throws Exception;
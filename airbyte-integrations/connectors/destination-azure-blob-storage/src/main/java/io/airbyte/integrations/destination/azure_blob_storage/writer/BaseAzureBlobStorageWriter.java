@@ -4,12 +4,15 @@
 
 package io.airbyte.integrations.destination.azure_blob_storage.writer;
 
-import com.azure.storage.blob.specialized.AppendBlobClient;
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.models.BlobType;
 import io.airbyte.integrations.destination.azure_blob_storage.AzureBlobStorageDestinationConfig;
 import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.DestinationSyncMode;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,6 +21,7 @@ import org.slf4j.LoggerFactory;
  * <ul>
  * <li>Create shared instance variables.</li>
  * <li>Create the bucket and prepare the bucket path.</li>
+ * <li>Open the output stream of the blob.</li>
  * <li>Log and close the write.</li>
  * </ul>
  */
@@ -26,19 +30,47 @@ public abstract class BaseAzureBlobStorageWriter implements AzureBlobStorageWrit
   private static final Logger LOGGER = LoggerFactory.getLogger(BaseAzureBlobStorageWriter.class);
 
   protected final AzureBlobStorageDestinationConfig config;
-  protected final AppendBlobClient appendBlobClient;
+  protected final BlobClient blobClient;
   protected final AirbyteStream stream;
   protected final DestinationSyncMode syncMode;
 
   protected BaseAzureBlobStorageWriter(final AzureBlobStorageDestinationConfig config,
-                                       final AppendBlobClient appendBlobClient,
+                                       final BlobClient blobClient,
                                        final ConfiguredAirbyteStream configuredStream) {
     this.config = config;
-    this.appendBlobClient = appendBlobClient;
+    this.blobClient = blobClient;
     this.stream = configuredStream.getStream();
     this.syncMode = configuredStream.getDestinationSyncMode();
   }
 
+  /**
+   * Opens a stream uploading to the blob. Blobs are written as block blobs, staging blocks in
+   * parallel. Append blobs written by earlier versions of this destination can't take blocks, so they
+   * are still appended to sequentially.
+   */
+  protected OutputStream openBlobOutputStream(final boolean isNewlyCreatedBlob) throws IOException {
+    if (!isNewlyCreatedBlob && blobClient.getProperties().getBlobType() == BlobType.APPEND_BLOB) {
+      LOGGER.info("Blob {} is an append blob, appending to it sequentially.", blobClient.getBlobName());
+      final OutputStream appendOutputStream = blobClient.getAppendBlobClient().getBlobOutputStream();
+      return config.isGzip() ? new GZIPOutputStream(appendOutputStream) : appendOutputStream;
+    }
+    return new AzureBlobStorageBlockOutputStream(
+        blobClient.getBlockBlobClient(),
+        config.getBlockSizeMb() * 1024 * 1024,
+        config.getUploadConcurrency(),
+        config.isGzip(),
+        !isNewlyCreatedBlob);
+  }
+
+  /**
+   * Discards the data staged so far, if the output stream supports it.
+   */
+  protected static void abortUpload(final OutputStream outputStream) {
+    if (outputStream instanceof AzureBlobStorageBlockOutputStream) {
+      ((AzureBlobStorageBlockOutputStream) outputStream).abort();
+    }
+  }
+
   /**
    * Log and close the write.
    */
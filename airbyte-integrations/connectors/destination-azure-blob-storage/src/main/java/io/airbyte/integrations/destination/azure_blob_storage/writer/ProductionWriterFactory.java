@@ -4,7 +4,7 @@
 
 package io.airbyte.integrations.destination.azure_blob_storage.writer;
 
-import com.azure.storage.blob.specialized.AppendBlobClient;
+import com.azure.storage.blob.BlobClient;
 import io.airbyte.integrations.destination.azure_blob_storage.AzureBlobStorageDestinationConfig;
 import io.airbyte.integrations.destination.azure_blob_storage.AzureBlobStorageFormat;
 import io.airbyte.integrations.destination.azure_blob_storage.csv.AzureBlobStorageCsvWriter;
@@ -19,7 +19,7 @@ public class ProductionWriterFactory implements AzureBlobStorageWriterFactory {
 
   @Override
   public AzureBlobStorageWriter create(final AzureBlobStorageDestinationConfig config,
-                                       final AppendBlobClient appendBlobClient,
+                                       final BlobClient blobClient,
                                        final ConfiguredAirbyteStream configuredStream,
                                        final boolean isNewlyCreatedBlob)
       throws Exception {
@@ -27,13 +27,13 @@ public class ProductionWriterFactory implements AzureBlobStorageWriterFactory {
 
     if (format == AzureBlobStorageFormat.CSV) {
       LOGGER.debug("Picked up CSV format writer");
-      return new AzureBlobStorageCsvWriter(config, appendBlobClient, configuredStream,
+      return new AzureBlobStorageCsvWriter(config, blobClient, configuredStream,
           isNewlyCreatedBlob);
     }
 
     if (format == AzureBlobStorageFormat.JSONL) {
       LOGGER.debug("Picked up JSONL format writer");
-      return new AzureBlobStorageJsonlWriter(config, appendBlobClient, configuredStream,
+      return new AzureBlobStorageJsonlWriter(config, blobClient, configuredStream,
           isNewlyCreatedBlob);
     }
 
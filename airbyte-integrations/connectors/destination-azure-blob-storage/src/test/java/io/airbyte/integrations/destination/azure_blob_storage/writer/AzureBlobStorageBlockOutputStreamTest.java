@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.azure_blob_storage.writer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.azure.storage.blob.models.Block;
+import com.azure.storage.blob.models.BlockList;
+import com.azure.storage.blob.models.BlockListType;
+import com.azure.storage.blob.specialized.BlockBlobClient;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class AzureBlobStorageBlockOutputStreamTest {
+
+  private static final String DATA = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+  private BlockBlobClient blockBlobClient;
+  private Map<String, byte[]> stagedBlocks;
+
+  @BeforeEach
+  void setup() {
+    blockBlobClient = mock(BlockBlobClient.class);
+    stagedBlocks = new ConcurrentHashMap<>();
+    doAnswer(invocation -> {
+      final InputStream data = invocation.getArgument(1);
+      stagedBlocks.put(invocation.getArgument(0), data.readAllBytes());
+      return null;
+    }).when(blockBlobClient).stageBlock(anyString(), any(InputStream.class), anyLong());
+  }
+
+  @Test
+  void testStagesBlocksAndCommitsInOrder() throws Exception {
+    try (final AzureBlobStorageBlockOutputStream outputStream = new AzureBlobStorageBlockOutputStream(blockBlobClient, 10, 3, false, false)) {
+      outputStream.write(DATA.getBytes(StandardCharsets.UTF_8));
+    }
+
+    assertEquals(DATA, new String(readCommitted(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testGzipBlocksFormSingleGzipStream() throws Exception {
+    try (final AzureBlobStorageBlockOutputStream outputStream = new AzureBlobStorageBlockOutputStream(blockBlobClient, 10, 2, true, false)) {
+      outputStream.write(DATA.getBytes(StandardCharsets.UTF_8));
+    }
+
+    final byte[] uncompressed = new GZIPInputStream(new ByteArrayInputStream(readCommitted())).readAllBytes();
+    assertEquals(DATA, new String(uncompressed, StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testAppendKeepsCommittedBlocks() throws Exception {
+    final Block existing = new Block().setName("existing").setSizeLong(1L);
+    when(blockBlobClient.exists()).thenReturn(true);
+    when(blockBlobClient.listBlocks(BlockListType.COMMITTED)).thenReturn(new BlockList().setCommittedBlocks(List.of(existing)));
+
+    try (final AzureBlobStorageBlockOutputStream outputStream = new AzureBlobStorageBlockOutputStream(blockBlobClient, 10, 2, false, true)) {
+      outputStream.write(1);
+    }
+
+    final List<String> committed = captureCommittedBlockIds();
+    assertEquals(2, committed.size());
+    assertEquals("existing", committed.get(0));
+  }
+
+  @Test
+  void testAbortDoesNotCommit() throws Exception {
+    final AzureBlobStorageBlockOutputStream outputStream = new AzureBlobStorageBlockOutputStream(blockBlobClient, 10, 2, false, false);
+    outputStream.write(DATA.getBytes(StandardCharsets.UTF_8));
+    outputStream.abort();
+    outputStream.close();
+
+    verify(blockBlobClient, never()).commitBlockList(anyList(), anyBoolean());
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<String> captureCommittedBlockIds() {
+    final ArgumentCaptor<List<String>> blockIds = ArgumentCaptor.forClass(List.class);
+    verify(blockBlobClient).commitBlockList(blockIds.capture(), eq(true));
+    return blockIds.getValue();
+  }
+
+  private byte[] readCommitted() throws IOException {
+    final List<InputStream> blocks = captureCommittedBlockIds().stream()
+        .map(id -> (InputStream) new ByteArrayInputStream(stagedBlocks.get(id)))
+        .collect(Collectors.toList());
+    final ByteArrayOutputStream content = new ByteArrayOutputStream();
+    new SequenceInputStream(Collections.enumeration(blocks)).transferTo(content);
+    return content.toByteArray();
+  }
+
+}
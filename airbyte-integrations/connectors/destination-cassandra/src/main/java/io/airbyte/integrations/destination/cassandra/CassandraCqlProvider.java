@@ -6,25 +6,41 @@ package io.airbyte.integrations.destination.cassandra;
 
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.now;
 
+import com.codahale.metrics.Timer;
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.BatchStatement;
 import com.datastax.oss.driver.api.core.cql.BatchType;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Node;
 import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metrics.DefaultSessionMetric;
 import com.datastax.oss.driver.api.core.type.DataTypes;
 import com.datastax.oss.driver.api.core.uuid.Uuids;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
 import com.datastax.oss.driver.api.querybuilder.SchemaBuilder;
+import com.google.common.collect.Lists;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import java.io.Closeable;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,8 +51,21 @@ class CassandraCqlProvider implements Closeable {
 
   private static final int N_THREADS = Runtime.getRuntime().availableProcessors();
 
+  // statements grouped per unlogged batch, kept small to stay below the
+  // coordinator's batch_size_warn_threshold for typical record sizes
+  private static final int BATCH_SIZE = 50;
+
+  // upper bound of async requests that can be in flight at any given time
+  private static final int MAX_CONCURRENT_REQUESTS = 128;
+
   private final ExecutorService executorService;
 
+  private final Semaphore inFlightRequests;
+
+  private final AtomicReference<Throwable> writeFailure;
+
+  private final Map<String, PreparedStatement> insertStatements;
+
   private final CqlSession cqlSession;
 
   private final CassandraConfig cassandraConfig;
@@ -55,6 +84,9 @@ class CassandraCqlProvider implements Closeable {
     this.columnData = nameTransformer.outputColumn(JavaBaseConstants.COLUMN_NAME_DATA);
     this.columnTimestamp = nameTransformer.outputColumn(JavaBaseConstants.COLUMN_NAME_EMITTED_AT);
     this.executorService = Executors.newFixedThreadPool(N_THREADS);
+    this.inFlightRequests = new Semaphore(MAX_CONCURRENT_REQUESTS);
+    this.writeFailure = new AtomicReference<>();
+    this.insertStatements = new ConcurrentHashMap<>();
   }
 
   public void createKeySpaceIfNotExists(String keyspace, int replicationFactor) {
@@ -83,12 +115,38 @@ class CassandraCqlProvider implements Closeable {
   }
 
   public void insert(String keyspace, String tableName, String jsonData) {
-    var query = QueryBuilder.insertInto(keyspace, tableName)
-        .value(columnId, QueryBuilder.literal(Uuids.random()))
-        .value(columnData, QueryBuilder.literal(jsonData))
-        .value(columnTimestamp, QueryBuilder.toTimestamp(now()))
-        .build();
-    cqlSession.execute(query);
+    cqlSession.execute(prepareInsert(keyspace, tableName).bind(Uuids.random(), jsonData));
+  }
+
+  /*
+   * Writes the records asynchronously. Statements are grouped by the replicas owning their partition
+   * so that every unlogged batch is handled by a single replica set, and the number of requests in
+   * flight is bounded by a semaphore. Call awaitPendingWrites to wait for completion and surface
+   * failures.
+   */
+  public void insertBatch(String keyspace, String tableName, List<String> jsonData) {
+    throwIfWriteFailed();
+    var insertStatement = prepareInsert(keyspace, tableName);
+    var statements = jsonData.stream()
+        .map(data -> insertStatement.bind(Uuids.random(), data))
+        .collect(Collectors.toList());
+    groupByReplicas(keyspace, statements).stream()
+        .flatMap(group -> Lists.partition(group, BATCH_SIZE).stream())
+        .forEach(this::executeBatchAsync);
+  }
+
+  /*
+   * Blocks until all async writes issued so far have completed, throws if any of them failed.
+   */
+  public void awaitPendingWrites() {
+    try {
+      inFlightRequests.acquire(MAX_CONCURRENT_REQUESTS);
+      inFlightRequests.release(MAX_CONCURRENT_REQUESTS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for pending writes", e);
+    }
+    throwIfWriteFailed();
   }
 
   public void truncate(String keyspace, String tableName) {
@@ -136,25 +194,90 @@ class CassandraCqlProvider implements Closeable {
         .stream()
         .flatMap(range -> range.unwrap().stream())
         .map(range -> selectStatement.bind(range.getStart(), range.getEnd()))
-        // explore datastax 4.x async api as an alternative for async processing
         .map(selectBoundStatement -> executorService.submit(() -> batchInsert(selectBoundStatement, insertStatement)))
+        .collect(Collectors.toList())
         .forEach(this::awaitThread);
 
+    awaitPendingWrites();
   }
 
   private void batchInsert(BoundStatement select, PreparedStatement insert) {
-    // unlogged removes the log record for increased insert speed
-    var batchStatement = BatchStatement.builder(BatchType.UNLOGGED);
+    // rows of a token range share the same replicas, chunk them into bounded unlogged batches
+    // and write them asynchronously while the range is still being paged through
+    var batch = new ArrayList<BoundStatement>(BATCH_SIZE);
+    for (Row r : cqlSession.execute(select)) {
+      batch.add(insert.bind(
+          r.get(columnId, UUID.class),
+          r.get(columnData, String.class),
+          r.get(columnTimestamp, Instant.class)));
+      if (batch.size() == BATCH_SIZE) {
+        executeBatchAsync(batch);
+        batch = new ArrayList<>(BATCH_SIZE);
+      }
+    }
+    if (!batch.isEmpty()) {
+      executeBatchAsync(batch);
+    }
+  }
 
-    cqlSession.execute(select).all().stream()
-        .map(r -> CassandraRecord.of(
-            r.get(columnId, UUID.class),
-            r.get(columnData, String.class),
-            r.get(columnTimestamp, Instant.class)))
-        .map(r -> insert.bind(r.getId(), r.getData(), r.getTimestamp()))
-        .forEach(batchStatement::addStatement);
+  private PreparedStatement prepareInsert(String keyspace, String tableName) {
+    return insertStatements.computeIfAbsent(keyspace + "." + tableName, k -> cqlSession.prepare(
+        QueryBuilder.insertInto(keyspace, tableName)
+            .value(columnId, QueryBuilder.bindMarker())
+            .value(columnData, QueryBuilder.bindMarker())
+            .value(columnTimestamp, QueryBuilder.toTimestamp(now()))
+            .build()));
+  }
+
+  private Collection<List<BoundStatement>> groupByReplicas(String keyspace, List<BoundStatement> statements) {
+    var tokenMap = cqlSession.getMetadata().getTokenMap();
+    if (tokenMap.isEmpty()) {
+      return List.of(statements);
+    }
+    return statements.stream()
+        .collect(Collectors.groupingBy(s -> replicasOf(tokenMap.get(), keyspace, s)))
+        .values();
+  }
+
+  private Set<Node> replicasOf(TokenMap tokenMap, String keyspace, BoundStatement statement) {
+    var routingKey = statement.getRoutingKey();
+    return routingKey == null ? Set.of() : tokenMap.getReplicas(keyspace, routingKey);
+  }
 
-    cqlSession.execute(batchStatement.build());
+  private void executeBatchAsync(List<BoundStatement> statements) {
+    // single statements don't benefit from the batch wrapper
+    Statement<?> statement = statements.size() == 1 ? statements.get(0)
+        : BatchStatement.newInstance(BatchType.UNLOGGED).addAll(statements);
+    executeAsync(statement);
+  }
+
+  private void executeAsync(Statement<?> statement) {
+    try {
+      inFlightRequests.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for an async write slot", e);
+    }
+    CompletionStage<AsyncResultSet> result;
+    try {
+      result = cqlSession.executeAsync(statement);
+    } catch (RuntimeException e) {
+      inFlightRequests.release();
+      throw e;
+    }
+    result.whenComplete((rs, error) -> {
+      if (error != null) {
+        writeFailure.compareAndSet(null, error);
+      }
+      inFlightRequests.release();
+    });
+  }
+
+  private void throwIfWriteFailed() {
+    var failure = writeFailure.get();
+    if (failure != null) {
+      throw new IllegalStateException("Async write to Cassandra failed", failure);
+    }
   }
 
   private void awaitThread(Future<?> future) {
@@ -168,8 +291,23 @@ class CassandraCqlProvider implements Closeable {
     }
   }
 
+  private void logRequestLatencies() {
+    cqlSession.getMetrics()
+        .flatMap(metrics -> metrics.<Timer>getSessionMetric(DefaultSessionMetric.CQL_REQUESTS))
+        .ifPresent(timer -> {
+          var snapshot = timer.getSnapshot();
+          LOGGER.info("Cassandra request latencies over {} requests (ms): p50={}, p95={}, p99={}, max={}",
+              timer.getCount(),
+              TimeUnit.NANOSECONDS.toMillis((long) snapshot.getMedian()),
+              TimeUnit.NANOSECONDS.toMillis((long) snapshot.get95thPercentile()),
+              TimeUnit.NANOSECONDS.toMillis((long) snapshot.get99thPercentile()),
+              TimeUnit.NANOSECONDS.toMillis(snapshot.getMax()));
+        });
+  }
+
   @Override
   public void close() {
+    logRequestLatencies();
     // wait for tasks completion and terminate executor gracefully
     executorService.shutdown();
     // close cassandra session for the given config
@@ -5,7 +5,11 @@
 package io.airbyte.integrations.destination.cassandra;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.config.DriverConfigLoader;
+import com.datastax.oss.driver.api.core.metrics.DefaultSessionMetric;
 import java.net.InetSocketAddress;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -35,7 +39,12 @@ class SessionManager {
       cachedSession.value2().incrementAndGet();
       return cachedSession.value1();
     } else {
+      // enable the request latency histogram so that it can be reported when closing the provider
+      var configLoader = DriverConfigLoader.programmaticBuilder()
+          .withStringList(DefaultDriverOption.METRICS_SESSION_ENABLED, List.of(DefaultSessionMetric.CQL_REQUESTS.getPath()))
+          .build();
       var session = CqlSession.builder()
+          .withConfigLoader(configLoader)
           .withLocalDatacenter(cassandraConfig.getDatacenter())
           .addContactPoint(new InetSocketAddress(cassandraConfig.getAddress(), cassandraConfig.getPort()))
           .withAuthCredentials(cassandraConfig.getUsername(), cassandraConfig.getPassword())
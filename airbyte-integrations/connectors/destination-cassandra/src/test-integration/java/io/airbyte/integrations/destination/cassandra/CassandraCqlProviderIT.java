@@ -9,6 +9,9 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -76,6 +79,28 @@ class CassandraCqlProviderIT {
 
   }
 
+  @Test
+  void testInsertBatch() {
+    // given
+    // every record gets its own partition, so the batch spans several replica groups and batches
+    List<String> data = IntStream.range(0, 120)
+        .mapToObj(i -> "{\"property\":\"data" + i + "\"}")
+        .collect(Collectors.toList());
+
+    // when
+    cassandraCqlProvider.insertBatch(CASSANDRA_KEYSPACE, CASSANDRA_TABLE, data.subList(0, 70));
+    cassandraCqlProvider.insertBatch(CASSANDRA_KEYSPACE, CASSANDRA_TABLE, data.subList(70, 120));
+    cassandraCqlProvider.awaitPendingWrites();
+    var resultSet = cassandraCqlProvider.select(CASSANDRA_KEYSPACE, CASSANDRA_TABLE);
+
+    // then
+    assertThat(resultSet)
+        .isNotNull()
+        .hasSize(120)
+        .extracting(r -> r.getData())
+        .containsExactlyInAnyOrderElementsOf(data);
+  }
+
   @Test
   void testTruncate() {
     // given
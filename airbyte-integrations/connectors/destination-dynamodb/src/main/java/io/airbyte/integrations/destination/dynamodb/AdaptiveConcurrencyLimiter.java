@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.dynamodb;
+
+/**
+ * Bounds the number of concurrent batch writes. The limit follows an additive increase /
+ * multiplicative decrease scheme: it is halved whenever a batch gets throttled and grows by one
+ * after a full window of unthrottled batches, up to the configured maximum.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+  private final int maxLimit;
+  private int limit;
+  private int inFlight;
+  private int successesSinceIncrease;
+
+  public AdaptiveConcurrencyLimiter(final int maxLimit) {
+    if (maxLimit < 1) {
+      throw new IllegalArgumentException("Concurrency limit must be positive: " + maxLimit);
+    }
+    this.maxLimit = maxLimit;
+    this.limit = maxLimit;
+  }
+
+  public synchronized void acquire() throws InterruptedException {
+    while (inFlight >= limit) {
+      wait();
+    }
+    inFlight++;
+  }
+
+  public synchronized void release(final boolean throttled) {
+    inFlight--;
+    if (throttled) {
+      limit = Math.max(1, limit / 2);
+      successesSinceIncrease = 0;
+    } else if (limit < maxLimit && ++successesSinceIncrease >= limit) {
+      limit++;
+      successesSinceIncrease = 0;
+    }
+    notifyAll();
+  }
+
+  /**
+   * Blocks until all acquired permits have been released.
+   */
+  public synchronized void awaitIdle() throws InterruptedException {
+    while (inFlight > 0) {
+      wait();
+    }
+  }
+
+  public synchronized int getLimit() {
+    return limit;
+  }
+
+}
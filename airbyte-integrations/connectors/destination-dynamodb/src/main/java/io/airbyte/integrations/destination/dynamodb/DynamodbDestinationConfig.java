@@ -8,23 +8,28 @@ import com.fasterxml.jackson.databind.JsonNode;
 
 public class DynamodbDestinationConfig {
 
+  public static final int DEFAULT_MAX_CONCURRENT_BATCHES = 8;
+
   private final String endpoint;
   private final String tableName;
   private final String accessKeyId;
   private final String secretAccessKey;
   private final String region;
+  private final int maxConcurrentBatches;
 
   public DynamodbDestinationConfig(
                                    final String endpoint,
                                    final String tableName,
                                    final String region,
                                    final String accessKeyId,
-                                   final String secretAccessKey) {
+                                   final String secretAccessKey,
+                                   final int maxConcurrentBatches) {
     this.endpoint = endpoint;
     this.tableName = tableName;
     this.region = region;
     this.accessKeyId = accessKeyId;
     this.secretAccessKey = secretAccessKey;
+    this.maxConcurrentBatches = maxConcurrentBatches;
   }
 
   public static DynamodbDestinationConfig getDynamodbDestinationConfig(final JsonNode config) {
@@ -33,7 +38,8 @@ public class DynamodbDestinationConfig {
         config.get("dynamodb_table_name").asText(),
         config.get("dynamodb_region").asText(),
         config.get("access_key_id").asText(),
-        config.get("secret_access_key").asText());
+        config.get("secret_access_key").asText(),
+        config.get("max_concurrent_batches") == null ? DEFAULT_MAX_CONCURRENT_BATCHES : config.get("max_concurrent_batches").asInt());
   }
 
   public String getEndpoint() {
@@ -56,4 +62,8 @@ public class DynamodbDestinationConfig {
     return tableName;
   }
 
+  public int getMaxConcurrentBatches() {
+    return maxConcurrentBatches;
+  }
+
 }
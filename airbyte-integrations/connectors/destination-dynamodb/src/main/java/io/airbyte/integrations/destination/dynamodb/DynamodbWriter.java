@@ -17,8 +17,15 @@ import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.DestinationSyncMode;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,13 +36,23 @@ public class DynamodbWriter {
   private static final ObjectMapper MAPPER = MoreMappers.initMapper();
   private static final ObjectWriter WRITER = MAPPER.writer();
 
+  private static final int BATCH_SIZE = 25;
+  private static final int MAX_RETRIES = 10;
+  private static final long BASE_BACKOFF_MS = 50;
+  private static final long MAX_BACKOFF_MS = 10_000;
+
   private final DynamodbDestinationConfig config;
+  private final AmazonDynamoDB amazonDynamodb;
   private final DynamoDB dynamodb;
   private final ConfiguredAirbyteStream configuredStream;
   private final long uploadTimestamp;
-  private TableWriteItems tableWriteItems;
   private final String outputTableName;
-  private final int batchSize = 25;
+  private final ExecutorService executorService;
+  private final AdaptiveConcurrencyLimiter limiter;
+  private final AtomicReference<Throwable> writeFailure = new AtomicReference<>();
+  private final DoubleAdder consumedWriteCapacity = new DoubleAdder();
+  private final long startTime = System.currentTimeMillis();
+  private List<WriteRequest> writeRequests = new ArrayList<>(BATCH_SIZE);
 
   public DynamodbWriter(final DynamodbDestinationConfig config,
                         final AmazonDynamoDB amazonDynamodb,
@@ -43,6 +60,7 @@ public class DynamodbWriter {
                         final long uploadTimestamp) {
 
     this.config = config;
+    this.amazonDynamodb = amazonDynamodb;
     this.dynamodb = new DynamoDB(amazonDynamodb);
     this.configuredStream = configuredStream;
     this.uploadTimestamp = uploadTimestamp;
@@ -72,7 +90,8 @@ public class DynamodbWriter {
       LOGGER.error(e.getMessage());
     }
 
-    this.tableWriteItems = new TableWriteItems(outputTableName);
+    this.executorService = Executors.newFixedThreadPool(config.getMaxConcurrentBatches());
+    this.limiter = new AdaptiveConcurrencyLimiter(config.getMaxConcurrentBatches());
   }
 
   private static boolean isTableExist(final Table table) {
@@ -108,57 +127,110 @@ public class DynamodbWriter {
     return new DynamoDB(amazonDynamodb).getTable(tableName);
   }
 
-  public void write(final UUID id, final AirbyteRecordMessage recordMessage) {
+  public void write(final UUID id, final AirbyteRecordMessage recordMessage) throws InterruptedException {
+    throwIfWriteFailed();
 
-    final ObjectMapper mapper = new ObjectMapper();
-    final Map<String, Object> dataMap = mapper.convertValue(recordMessage.getData(), new TypeReference<Map<String, Object>>() {});
+    final Map<String, Object> dataMap = MAPPER.convertValue(recordMessage.getData(), new TypeReference<Map<String, Object>>() {});
 
     final var item = new Item()
         .withPrimaryKey(JavaBaseConstants.COLUMN_NAME_AB_ID, UUID.randomUUID().toString(), "sync_time", uploadTimestamp)
         .withMap(JavaBaseConstants.COLUMN_NAME_DATA, dataMap)
         .withLong(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
-    tableWriteItems.addItemToPut(item);
-    BatchWriteItemOutcome outcome;
-    if (tableWriteItems.getItemsToPut().size() >= batchSize) {
-      try {
-        int maxRetries = 5;
-        outcome = dynamodb.batchWriteItem(tableWriteItems);
-        tableWriteItems = new TableWriteItems(this.outputTableName);
+    writeRequests.add(new WriteRequest(new PutRequest(ItemUtils.toAttributeValues(item))));
+    if (writeRequests.size() >= BATCH_SIZE) {
+      submitBatch();
+    }
+  }
 
-        while (outcome.getUnprocessedItems().size() > 0 && maxRetries > 0) {
-          outcome = dynamodb.batchWriteItemUnprocessed(outcome.getUnprocessedItems());
-          maxRetries--;
+  /**
+   * Hands the pending write requests over to the executor. Blocks while the number of batches in
+   * flight is at the current concurrency limit, which keeps memory bounded when DynamoDB is slower
+   * than the source.
+   */
+  private void submitBatch() throws InterruptedException {
+    final Map<String, List<WriteRequest>> requestItems = Map.of(outputTableName, writeRequests);
+    writeRequests = new ArrayList<>(BATCH_SIZE);
+    limiter.acquire();
+    try {
+      executorService.execute(() -> {
+        boolean throttled = false;
+        try {
+          throttled = writeBatch(requestItems);
+        } catch (final Throwable e) {
+          writeFailure.compareAndSet(null, e);
+        } finally {
+          limiter.release(throttled);
         }
+      });
+    } catch (final RuntimeException e) {
+      limiter.release(false);
+      throw e;
+    }
+  }
 
-        if (maxRetries == 0) {
-          LOGGER.warn(String.format("Unprocessed items count after retry %d times: %s", 5, Integer.toString(outcome.getUnprocessedItems().size())));
+  /**
+   * Writes a batch, retrying unprocessed items and throttled requests with jittered exponential
+   * backoff.
+   *
+   * @return whether DynamoDB throttled any part of the batch
+   */
+  private boolean writeBatch(final Map<String, List<WriteRequest>> requestItems) throws InterruptedException {
+    var pending = requestItems;
+    boolean throttled = false;
+    for (int attempt = 0;; attempt++) {
+      try {
+        final BatchWriteItemResult result = amazonDynamodb.batchWriteItem(new BatchWriteItemRequest()
+            .withRequestItems(pending)
+            .withReturnConsumedCapacity(ReturnConsumedCapacity.TOTAL));
+        if (result.getConsumedCapacity() != null) {
+          result.getConsumedCapacity().forEach(capacity -> consumedWriteCapacity.add(capacity.getCapacityUnits()));
+        }
+        if (result.getUnprocessedItems() == null || result.getUnprocessedItems().isEmpty()) {
+          return throttled;
         }
-      } catch (final Exception e) {
-        LOGGER.error(e.getMessage());
+        pending = result.getUnprocessedItems();
+      } catch (final ProvisionedThroughputExceededException | RequestLimitExceededException e) {
+        if (attempt >= MAX_RETRIES) {
+          throw e;
+        }
+      }
+      throttled = true;
+      if (attempt >= MAX_RETRIES) {
+        throw new IllegalStateException(String.format("Unprocessed items count after retry %d times: %d",
+            MAX_RETRIES, pending.values().stream().mapToInt(List::size).sum()));
       }
+      final long backoff = Math.min(MAX_BACKOFF_MS, BASE_BACKOFF_MS << attempt);
+      Thread.sleep(ThreadLocalRandom.current().nextLong(backoff + 1));
+    }
+  }
+
+  private void throwIfWriteFailed() {
+    final Throwable failure = writeFailure.get();
+    if (failure != null) {
+      throw new IllegalStateException("Failed to write batch to DynamoDB table " + outputTableName, failure);
     }
   }
 
   public void close(final boolean hasFailed) throws IOException {
-    if (hasFailed) {
-      LOGGER.warn("Failure in writing data to DynamoDB. Aborting...");
-    } else {
-      try {
-        int maxRetries = 5;
-        if (tableWriteItems.getItemsToPut().size() > 0) {
-          var outcome = dynamodb.batchWriteItem(tableWriteItems);
-          while (outcome.getUnprocessedItems().size() > 0 && maxRetries > 0) {
-            outcome = dynamodb.batchWriteItemUnprocessed(outcome.getUnprocessedItems());
-            maxRetries--;
-          }
-          if (maxRetries == 0) {
-            LOGGER.warn(String.format("Unprocessed items count after retry %d times: %s", 5, Integer.toString(outcome.getUnprocessedItems().size())));
-          }
-        }
-      } catch (final Exception e) {
-        LOGGER.error(e.getMessage());
+    try {
+      if (hasFailed) {
+        LOGGER.warn("Failure in writing data to DynamoDB. Aborting...");
+        executorService.shutdownNow();
+        return;
+      }
+      if (!writeRequests.isEmpty()) {
+        submitBatch();
       }
-      LOGGER.info("Data writing completed for DynamoDB.");
+      limiter.awaitIdle();
+      throwIfWriteFailed();
+      final double seconds = Math.max(1, System.currentTimeMillis() - startTime) / 1000.0;
+      LOGGER.info("Data writing completed for DynamoDB table {}: consumed {} write capacity units ({} WCU/s), final concurrency {}.",
+          outputTableName, consumedWriteCapacity.sum(), String.format("%.1f", consumedWriteCapacity.sum() / seconds), limiter.getLimit());
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for DynamoDB writes to complete", e);
+    } finally {
+      executorService.shutdown();
     }
   }
 
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.dynamodb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  @Test
+  void testHalvesLimitOnThrottle() throws Exception {
+    final var limiter = new AdaptiveConcurrencyLimiter(8);
+    limiter.acquire();
+    limiter.release(true);
+    assertEquals(4, limiter.getLimit());
+    limiter.acquire();
+    limiter.release(true);
+    limiter.acquire();
+    limiter.release(true);
+    limiter.acquire();
+    limiter.release(true);
+    assertEquals(1, limiter.getLimit());
+  }
+
+  @Test
+  void testGrowsLimitAfterWindowOfSuccesses() throws Exception {
+    final var limiter = new AdaptiveConcurrencyLimiter(4);
+    limiter.acquire();
+    limiter.release(true);
+    assertEquals(2, limiter.getLimit());
+    for (int i = 0; i < 2; i++) {
+      limiter.acquire();
+      limiter.release(false);
+    }
+    assertEquals(3, limiter.getLimit());
+    for (int i = 0; i < 10; i++) {
+      limiter.acquire();
+      limiter.release(false);
+    }
+    assertEquals(4, limiter.getLimit());
+    limiter.awaitIdle();
+  }
+
+  @Test
+  void testRejectsNonPositiveLimit() {
+    assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(0));
+  }
+
+}
@@ -42,6 +42,21 @@ class DynamodbDestinationTest {
     assertEquals(config.getRegion(), "test_region");
     assertEquals(config.getAccessKeyId(), "test_key_id");
     assertEquals(config.getSecretAccessKey(), "test_access_key");
+    assertEquals(config.getMaxConcurrentBatches(), DynamodbDestinationConfig.DEFAULT_MAX_CONCURRENT_BATCHES);
+  }
+
+  @Test
+  void testGetDynamodbDestinationdbConfigWithConcurrency() throws Exception {
+    final JsonNode json = Jsons.deserialize("{\n" +
+        "  \"dynamodb_table_name\": \"test_table\",\n" +
+        "  \"dynamodb_region\": \"test_region\",\n" +
+        "  \"access_key_id\": \"test_key_id\",\n" +
+        "  \"secret_access_key\": \"test_access_key\",\n" +
+        "  \"max_concurrent_batches\": 16\n" +
+        "}");
+    final var config = DynamodbDestinationConfig.getDynamodbDestinationConfig(json);
+
+    assertEquals(config.getMaxConcurrentBatches(), 16);
   }
 
 }
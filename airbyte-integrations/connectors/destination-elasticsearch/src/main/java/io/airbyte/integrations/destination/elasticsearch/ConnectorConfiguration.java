@@ -14,6 +14,8 @@ public class ConnectorConfiguration {
 
   private String endpoint;
   private boolean upsert;
+  private int bulkRequestSizeMb = 10;
+  private int bulkConcurrency = 4;
   private AuthenticationMethod authenticationMethod = new AuthenticationMethod();
 
   public ConnectorConfiguration() {}
@@ -30,6 +32,14 @@ public class ConnectorConfiguration {
     return this.upsert;
   }
 
+  public int getBulkRequestSizeMb() {
+    return this.bulkRequestSizeMb;
+  }
+
+  public int getBulkConcurrency() {
+    return this.bulkConcurrency;
+  }
+
   public AuthenticationMethod getAuthenticationMethod() {
     return this.authenticationMethod;
   }
@@ -42,6 +52,14 @@ public class ConnectorConfiguration {
     this.upsert = upsert;
   }
 
+  public void setBulkRequestSizeMb(int bulkRequestSizeMb) {
+    this.bulkRequestSizeMb = bulkRequestSizeMb;
+  }
+
+  public void setBulkConcurrency(int bulkConcurrency) {
+    this.bulkConcurrency = bulkConcurrency;
+  }
+
   public void setAuthenticationMethod(AuthenticationMethod authenticationMethod) {
     this.authenticationMethod = authenticationMethod;
   }
@@ -53,12 +71,13 @@ public class ConnectorConfiguration {
     if (o == null || getClass() != o.getClass())
       return false;
     ConnectorConfiguration that = (ConnectorConfiguration) o;
-    return upsert == that.upsert && Objects.equals(endpoint, that.endpoint) && Objects.equals(authenticationMethod, that.authenticationMethod);
+    return upsert == that.upsert && bulkRequestSizeMb == that.bulkRequestSizeMb && bulkConcurrency == that.bulkConcurrency &&
+        Objects.equals(endpoint, that.endpoint) && Objects.equals(authenticationMethod, that.authenticationMethod);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(endpoint, upsert, authenticationMethod);
+    return Objects.hash(endpoint, upsert, bulkRequestSizeMb, bulkConcurrency, authenticationMethod);
   }
 
   @Override
@@ -66,6 +85,8 @@ public class ConnectorConfiguration {
     return "ConnectorConfiguration{" +
         "endpoint='" + endpoint + '\'' +
         ", upsert=" + upsert +
+        ", bulkRequestSizeMb=" + bulkRequestSizeMb +
+        ", bulkConcurrency=" + bulkConcurrency +
         ", authenticationMethod=" + authenticationMethod +
         '}';
   }
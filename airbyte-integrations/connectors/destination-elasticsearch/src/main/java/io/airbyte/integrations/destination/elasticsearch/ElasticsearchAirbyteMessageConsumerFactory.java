@@ -4,9 +4,7 @@
 
 package io.airbyte.integrations.destination.elasticsearch;
 
-import co.elastic.clients.elasticsearch._core.BulkResponse;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.airbyte.commons.concurrency.VoidCallable;
 import io.airbyte.commons.functional.CheckedConsumer;
 import io.airbyte.commons.functional.CheckedFunction;
@@ -28,7 +26,6 @@ public class ElasticsearchAirbyteMessageConsumerFactory {
 
   private static final Logger log = LoggerFactory.getLogger(ElasticsearchAirbyteMessageConsumerFactory.class);
   private static final int MAX_BATCH_SIZE_BYTES = 1024 * 1024 * 1024 / 4; // 256mib
-  private static final ObjectMapper mapper = new ObjectMapper();
 
   private static AtomicLong recordsWritten = new AtomicLong(0);
 
@@ -47,7 +44,7 @@ public class ElasticsearchAirbyteMessageConsumerFactory {
         outputRecordCollector,
         onStartFunction(connection, writeConfigs),
         recordWriterFunction(connection, writeConfigs),
-        onCloseFunction(connection),
+        onCloseFunction(connection, writeConfigs),
         catalog,
         isValidFunction(connection),
         MAX_BATCH_SIZE_BYTES);
@@ -58,10 +55,13 @@ public class ElasticsearchAirbyteMessageConsumerFactory {
     return jsonNode -> true;
   }
 
-  private static CheckedConsumer<Boolean, Exception> onCloseFunction(ElasticsearchConnection connection) {
+  private static CheckedConsumer<Boolean, Exception> onCloseFunction(ElasticsearchConnection connection,
+                                                                    List<ElasticsearchWriteConfig> writeConfigs) {
 
     return (hasFailed) -> {
-      if (!tempIndices.isEmpty() && !hasFailed) {
+      if (!hasFailed) {
+        // bulk requests don't refresh the indices, make the written documents searchable once
+        writeConfigs.forEach(config -> connection.refreshIndex(config.useTempIndex() ? config.getTempIndexName() : config.getIndexName()));
         tempIndices.forEach(connection::replaceIndex);
       }
       connection.close();
@@ -82,18 +82,13 @@ public class ElasticsearchAirbyteMessageConsumerFactory {
         throw new Exception(String.format("missing write config: %s", pair));
       }
       final var config = optConfig.get();
-      BulkResponse response;
+      final long start = System.currentTimeMillis();
       if (config.useTempIndex()) {
-        response = connection.indexDocuments(config.getTempIndexName(), records, config);
+        connection.indexDocuments(config.getTempIndexName(), records, config);
       } else {
-        response = connection.indexDocuments(config.getIndexName(), records, config);
-      }
-      if (Objects.nonNull(response) && response.errors()) {
-        String msg = String.format("failed to write bulk records: %s", mapper.valueToTree(response));
-        throw new Exception(msg);
-      } else {
-        log.info("bulk write took: {}ms", response.took());
+        connection.indexDocuments(config.getIndexName(), records, config);
       }
+      log.info("bulk write took: {}ms", System.currentTimeMillis() - start);
     };
   }
 
@@ -10,6 +10,7 @@ import co.elastic.clients.elasticsearch._core.BulkRequest;
 import co.elastic.clients.elasticsearch._core.BulkResponse;
 import co.elastic.clients.elasticsearch._core.CreateResponse;
 import co.elastic.clients.elasticsearch._core.SearchResponse;
+import co.elastic.clients.elasticsearch._core.bulk.ResponseItemBase;
 import co.elastic.clients.elasticsearch._core.search.Hit;
 import co.elastic.clients.elasticsearch._core.search.HitsMetadata;
 import co.elastic.clients.elasticsearch.cat.indices.IndicesRecord;
@@ -17,16 +18,24 @@ import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
-import jakarta.json.JsonValue;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import org.apache.http.Header;
 import org.apache.http.HttpHost;
 import org.apache.http.message.BasicHeader;
 import org.elasticsearch.client.Node;
+import org.elasticsearch.client.ResponseException;
 import org.elasticsearch.client.RestClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,12 +47,22 @@ public class ElasticsearchConnection {
 
   // this is the max number of hits we can query without paging
   private static final int MAX_HITS = 10000;
+  // status returned by Elasticsearch when a bulk request or item is rejected due to backpressure
+  private static final int TOO_MANY_REQUESTS = 429;
+  @VisibleForTesting
+  static final int MAX_BULK_RETRIES = 8;
+  private static final long INITIAL_BACKOFF_MS = 250;
+  private static final long MAX_BACKOFF_MS = 30_000;
   private static Logger log = LoggerFactory.getLogger(ElasticsearchConnection.class);
 
   private final ElasticsearchClient client;
   private final RestClient restClient;
   private final HttpHost httpHost;
   private final ObjectMapper mapper = new ObjectMapper();
+  private final long bulkRequestSizeBytes;
+  private final long initialBackoffMs;
+  private final ExecutorService bulkExecutor;
+  private final Map<String, IndexMetrics> indexMetrics = new ConcurrentHashMap<>();
 
   /**
    * Creates a new ElasticsearchConnection that can be used to read/write records to indices
@@ -51,6 +70,11 @@ public class ElasticsearchConnection {
    * @param config Configuration parameters for connecting to the Elasticsearch host
    */
   public ElasticsearchConnection(ConnectorConfiguration config) {
+    this(config, INITIAL_BACKOFF_MS);
+  }
+
+  @VisibleForTesting
+  ElasticsearchConnection(ConnectorConfiguration config, long initialBackoffMs) {
     log.info(String.format(
         "creating ElasticsearchConnection: %s", config.getEndpoint()));
 
@@ -64,6 +88,10 @@ public class ElasticsearchConnection {
     Transport transport = new RestClientTransport(restClient, new JacksonJsonpMapper());
     // And create our API client
     client = new ElasticsearchClient(transport);
+
+    bulkRequestSizeBytes = config.getBulkRequestSizeMb() * 1024L * 1024L;
+    this.initialBackoffMs = initialBackoffMs;
+    bulkExecutor = Executors.newFixedThreadPool(Math.max(1, config.getBulkConcurrency()));
   }
 
   static class FailureListener extends RestClient.FailureListener {
@@ -136,28 +164,147 @@ public class ElasticsearchConnection {
   }
 
   /**
-   * Bulk operation to append multiple documents to an Elasticsearch server
+   * Bulk operation to append multiple documents to an Elasticsearch server. The records are split
+   * into bulk requests of at most the configured size which are sent in parallel. Items rejected by
+   * the cluster due to backpressure are retried with exponential backoff.
    *
    * @param index The index to add the documents to
    * @param records The collection of records to create documents from
-   * @return the response of the bulk operation
    * @throws IOException if there is server connection problem, or a non-successful operation on the
    *         server
    */
-  public BulkResponse indexDocuments(String index, List<AirbyteRecordMessage> records, ElasticsearchWriteConfig config) throws IOException {
-    var bulkRequest = new BulkRequest.Builder<>();
+  public void indexDocuments(String index, List<AirbyteRecordMessage> records, ElasticsearchWriteConfig config) throws IOException {
+    final List<Future<?>> futures = new ArrayList<>();
+    var chunk = new ArrayList<BulkDocument>();
+    long chunkSize = 0;
     for (var doc : records) {
-      log.debug("adding record to bulk create: {}", doc.getData());
+      final var bulkDocument = new BulkDocument(extractPrimaryKey(doc, config), doc.getData());
+      if (!chunk.isEmpty() && chunkSize + bulkDocument.sizeInBytes() > bulkRequestSizeBytes) {
+        futures.add(submitBulk(index, chunk));
+        chunk = new ArrayList<>();
+        chunkSize = 0;
+      }
+      chunk.add(bulkDocument);
+      chunkSize += bulkDocument.sizeInBytes();
+    }
+    if (!chunk.isEmpty()) {
+      futures.add(submitBulk(index, chunk));
+    }
+
+    for (var future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("interrupted while waiting for bulk requests", e);
+      } catch (ExecutionException e) {
+        futures.forEach(f -> f.cancel(true));
+        if (e.getCause() instanceof ApiException apiException) {
+          throw unwrappedApiException("failed write operation", apiException);
+        }
+        throw new IOException("failed write operation", e.getCause());
+      }
+    }
+  }
+
+  private Future<?> submitBulk(String index, List<BulkDocument> documents) {
+    return bulkExecutor.submit(() -> {
+      indexWithRetries(index, documents);
+      return null;
+    });
+  }
+
+  private void indexWithRetries(String index, List<BulkDocument> documents) throws IOException, InterruptedException {
+    final var metrics = indexMetrics.computeIfAbsent(index, k -> new IndexMetrics());
+    var pending = documents;
+    for (int attempt = 0;; attempt++) {
+      if (attempt > 0) {
+        final long backoff = Math.min(MAX_BACKOFF_MS, initialBackoffMs << (attempt - 1));
+        // full jitter keeps parallel senders from retrying in lockstep
+        Thread.sleep((long) (Math.random() * backoff));
+      }
+
+      final long start = System.nanoTime();
+      final BulkResponse response;
+      try {
+        response = sendBulk(index, pending);
+      } catch (IOException e) {
+        if (isTooManyRequests(e) && attempt < MAX_BULK_RETRIES) {
+          log.warn("bulk request to index {} rejected, retrying {} documents", index, pending.size());
+          metrics.rejected.addAndGet(pending.size());
+          continue;
+        }
+        throw e;
+      }
+      metrics.requests.incrementAndGet();
+      metrics.nanos.addAndGet(System.nanoTime() - start);
+
+      final var rejected = new ArrayList<BulkDocument>();
+      final var failures = new ArrayList<String>();
+      final var items = response.items();
+      for (int i = 0; i < items.size(); i++) {
+        final var item = (ResponseItemBase) items.get(i)._get();
+        if (item.error() == null) {
+          continue;
+        }
+        if (item.status() == TOO_MANY_REQUESTS) {
+          rejected.add(pending.get(i));
+        } else {
+          failures.add(String.format("id: %s, status: %s, type: %s, reason: %s", item.id(), item.status(), item.error().type(), item.error().reason()));
+        }
+      }
+      metrics.documents.addAndGet(pending.size() - rejected.size() - failures.size());
+      metrics.bytes.addAndGet(pending.stream().mapToLong(BulkDocument::sizeInBytes).sum());
+
+      if (!failures.isEmpty()) {
+        throw new IOException(String.format("failed to write %s bulk records to index %s: %s", failures.size(), index, failures));
+      }
+      if (rejected.isEmpty()) {
+        return;
+      }
+      metrics.rejected.addAndGet(rejected.size());
+      if (attempt >= MAX_BULK_RETRIES) {
+        throw new IOException(String.format("%s documents still rejected by index %s after %s retries", rejected.size(), index, attempt));
+      }
+      log.warn("{} documents rejected by index {}, retrying", rejected.size(), index);
+      pending = rejected;
+    }
+  }
+
+  private BulkResponse sendBulk(String index, List<BulkDocument> documents) throws IOException {
+    var bulkRequest = new BulkRequest.Builder<>();
+    for (var doc : documents) {
       bulkRequest.addOperation(
           b -> b.index(
-              c -> c.index(index).id(extractPrimaryKey(doc, config))))
-          .addDocument(doc.getData()).refresh(JsonValue.TRUE);
+              c -> c.index(index).id(doc.id())))
+          .addDocument(doc.data());
     }
+    return client.bulk(b -> bulkRequest);
+  }
 
+  private static boolean isTooManyRequests(IOException e) {
+    if (e instanceof ApiException apiException && apiException.error() instanceof ElasticsearchError error) {
+      return error.status() == TOO_MANY_REQUESTS;
+    }
+    if (e instanceof ResponseException responseException) {
+      return responseException.getResponse().getStatusLine().getStatusCode() == TOO_MANY_REQUESTS;
+    }
+    return false;
+  }
+
+  /**
+   * Refreshes an index, making all documents written to it visible to searches. Bulk requests don't
+   * refresh on every call, so this should be done once writing is complete.
+   *
+   * @param index the index to refresh
+   */
+  public void refreshIndex(String index) {
     try {
-      return client.bulk(b -> bulkRequest);
+      client.indices().refresh(b -> b.index(index));
     } catch (ApiException e) {
-      throw unwrappedApiException("failed write operation", e);
+      throw unwrappedApiException("failed to refresh index", e);
+    } catch (IOException e) {
+      throw new RuntimeException("unknown exception while refreshing index", e);
     }
   }
 
@@ -201,6 +348,11 @@ public class ElasticsearchConnection {
    * Shutdown the connection to the Elasticsearch server
    */
   public void close() throws IOException {
+    indexMetrics.forEach((index, metrics) -> log.info(
+        "bulk indexing stats for index {}: documents: {}, bytes: {}, requests: {}, rejected: {}, time in requests: {}ms",
+        index, metrics.documents.get(), metrics.bytes.get(), metrics.requests.get(), metrics.rejected.get(),
+        TimeUnit.NANOSECONDS.toMillis(metrics.nanos.get())));
+    this.bulkExecutor.shutdownNow();
     this.restClient.close();
     this.client.shutdown();
   }
@@ -325,4 +477,42 @@ public class ElasticsearchConnection {
     return new RuntimeException(e);
   }
 
+  private static class BulkDocument {
+
+    private final String id;
+    private final JsonNode data;
+    private final long sizeInBytes;
+
+    BulkDocument(String id, JsonNode data) {
+      this.id = id;
+      this.data = data;
+      // size of the serialized document, used to split bulk requests
+      this.sizeInBytes = data.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    String id() {
+      return id;
+    }
+
+    JsonNode data() {
+      return data;
+    }
+
+    long sizeInBytes() {
+      return sizeInBytes;
+    }
+
+  }
+
+  private static class IndexMetrics {
+
+    private final AtomicLong documents = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    // cumulative time spent in bulk requests, across all senders
+    private final AtomicLong nanos = new AtomicLong();
+
+  }
+
 }
@@ -91,4 +91,23 @@ public class ConnectorConfigurationTest {
     Assertions.assertEquals(authMethod, config.getAuthenticationMethod().getMethod().toString());
   }
 
+  @Test
+  public void testBulkSettings() {
+
+    ObjectNode node = mapper.createObjectNode();
+    node.put("endpoint", "http://localhost:123");
+
+    ConnectorConfiguration defaults = mapper.convertValue(node, ConnectorConfiguration.class);
+    Assertions.assertEquals(10, defaults.getBulkRequestSizeMb());
+    Assertions.assertEquals(4, defaults.getBulkConcurrency());
+
+    node
+        .put("bulkRequestSizeMb", 15)
+        .put("bulkConcurrency", 8);
+
+    ConnectorConfiguration config = mapper.convertValue(node, ConnectorConfiguration.class);
+    Assertions.assertEquals(15, config.getBulkRequestSizeMb());
+    Assertions.assertEquals(8, config.getBulkConcurrency());
+  }
+
 }
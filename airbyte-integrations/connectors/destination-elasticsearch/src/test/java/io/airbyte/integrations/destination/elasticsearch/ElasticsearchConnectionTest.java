@@ -4,14 +4,61 @@
 
 package io.airbyte.integrations.destination.elasticsearch;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.DestinationSyncMode;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 public class ElasticsearchConnectionTest {
 
+  private static final String INDEX = "test_index";
+  private static final long MB = 1024L * 1024L;
+  // size of a serialized record without its padding: {"id":"<3 digits>","padding":""}
+  private static final int RECORD_OVERHEAD = 25;
+
   String endpoint = "https:qwerty:123";
 
+  private HttpServer server;
+  // ids of the documents of each bulk request received by the server
+  private List<List<String>> bulkRequests;
+  // builds the response of a bulk request from the number of the request and the ids of its documents
+  private BulkResponder responder;
+  private ElasticsearchConnection connection;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    bulkRequests = Collections.synchronizedList(new ArrayList<>());
+    responder = (request, ids) -> okResponse(ids);
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/", this::handleBulk);
+    server.start();
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    if (connection != null) {
+      connection.close();
+    }
+    server.stop(0);
+  }
+
   @Test
   public void testDefaultHeadersAuthNone() {
     var config = new ConnectorConfiguration();
@@ -56,4 +103,175 @@ public class ElasticsearchConnectionTest {
     Assertions.assertTrue("id:secret".contentEquals(new String(decoded)));
   }
 
+  @Test
+  public void testBulkRequestsAreSplitBySize() throws IOException {
+    connection = bulkConnection(1, 1);
+    // two records fill a bulk request exactly, the third one starts a new request
+    final int recordSize = (int) (MB / 2);
+    connection.indexDocuments(INDEX, records(5, recordSize), new ElasticsearchWriteConfig());
+
+    Assertions.assertEquals(List.of(List.of("000", "001"), List.of("002", "003"), List.of("004")), bulkRequests);
+  }
+
+  @Test
+  public void testBulkRequestOneByteOverTheSize() throws IOException {
+    connection = bulkConnection(1, 1);
+    connection.indexDocuments(INDEX, records(3, (int) (MB / 2) + 1), new ElasticsearchWriteConfig());
+
+    Assertions.assertEquals(List.of(List.of("000"), List.of("001"), List.of("002")), bulkRequests);
+  }
+
+  @Test
+  public void testRecordLargerThanTheBulkSizeIsSentAlone() throws IOException {
+    connection = bulkConnection(1, 1);
+    final var records = new ArrayList<AirbyteRecordMessage>();
+    records.add(recordMessage(0, 100));
+    records.add(recordMessage(1, (int) (2 * MB)));
+    records.add(recordMessage(2, 100));
+    connection.indexDocuments(INDEX, records, new ElasticsearchWriteConfig());
+
+    Assertions.assertEquals(List.of(List.of("000"), List.of("001"), List.of("002")), bulkRequests);
+  }
+
+  @Test
+  public void testBulkRequestsAreSentInParallel() throws IOException {
+    connection = bulkConnection(1, 4);
+    connection.indexDocuments(INDEX, records(8, (int) (MB / 2)), new ElasticsearchWriteConfig());
+
+    Assertions.assertEquals(4, bulkRequests.size());
+    Assertions.assertEquals(
+        IntStream.range(0, 8).mapToObj(ElasticsearchConnectionTest::id).collect(Collectors.toSet()),
+        bulkRequests.stream().flatMap(List::stream).collect(Collectors.toSet()));
+  }
+
+  @Test
+  public void testRejectedItemsAreRetried() throws IOException {
+    connection = bulkConnection(10, 1);
+    // the first request rejects two of its items, the second one rejects one of the retried items
+    responder = (request, ids) -> switch (request) {
+      case 0 -> itemsResponse(ids, Map.of("001", 429, "003", 429));
+      case 1 -> itemsResponse(ids, Map.of("003", 429));
+      default -> okResponse(ids);
+    };
+    connection.indexDocuments(INDEX, records(5, 100), new ElasticsearchWriteConfig());
+
+    Assertions.assertEquals(List.of(List.of("000", "001", "002", "003", "004"), List.of("001", "003"), List.of("003")), bulkRequests);
+  }
+
+  @Test
+  public void testRejectedBulkRequestIsRetried() throws IOException {
+    connection = bulkConnection(10, 1);
+    responder = (request, ids) -> request < 2 ? rejectedRequestResponse() : okResponse(ids);
+    connection.indexDocuments(INDEX, records(3, 100), new ElasticsearchWriteConfig());
+
+    final var ids = List.of("000", "001", "002");
+    Assertions.assertEquals(List.of(ids, ids, ids), bulkRequests);
+  }
+
+  @Test
+  public void testRetriesAreExhausted() {
+    connection = bulkConnection(10, 1);
+    responder = (request, ids) -> itemsResponse(ids, Map.of("001", 429));
+
+    final var exception = Assertions.assertThrows(IOException.class,
+        () -> connection.indexDocuments(INDEX, records(3, 100), new ElasticsearchWriteConfig()));
+    Assertions.assertTrue(exception.getCause().getMessage().contains("still rejected"), exception.getCause().getMessage());
+    // the first request and every retry of the rejected item
+    Assertions.assertEquals(ElasticsearchConnection.MAX_BULK_RETRIES + 1, bulkRequests.size());
+    Assertions.assertTrue(bulkRequests.subList(1, bulkRequests.size()).stream().allMatch(List.of("001")::equals));
+  }
+
+  @Test
+  public void testItemErrorFailsTheWrite() {
+    connection = bulkConnection(10, 1);
+    responder = (request, ids) -> itemsResponse(ids, Map.of("001", 400));
+
+    final var exception = Assertions.assertThrows(IOException.class,
+        () -> connection.indexDocuments(INDEX, records(3, 100), new ElasticsearchWriteConfig()));
+    final var message = exception.getCause().getMessage();
+    Assertions.assertTrue(message.contains("id: 001, status: 400, type: mapper_parsing_exception"), message);
+    // errors other than rejections are not retried
+    Assertions.assertEquals(1, bulkRequests.size());
+  }
+
+  private ElasticsearchConnection bulkConnection(int bulkRequestSizeMb, int bulkConcurrency) {
+    var config = new ConnectorConfiguration();
+    config.setEndpoint(String.format("http://localhost:%s", server.getAddress().getPort()));
+    config.setBulkRequestSizeMb(bulkRequestSizeMb);
+    config.setBulkConcurrency(bulkConcurrency);
+    // keeps the backoff between retries short
+    return new ElasticsearchConnection(config, 1);
+  }
+
+  private static List<AirbyteRecordMessage> records(int count, int sizeInBytes) {
+    return IntStream.range(0, count).mapToObj(i -> recordMessage(i, sizeInBytes)).collect(Collectors.toList());
+  }
+
+  /**
+   * Creates a record whose serialized data is sizeInBytes long and whose document id is the given
+   * number.
+   */
+  private static AirbyteRecordMessage recordMessage(int id, int sizeInBytes) {
+    var data = Jsons.jsonNode(Map.of("id", id(id), "padding", "x".repeat(sizeInBytes - RECORD_OVERHEAD)));
+    Assertions.assertEquals(sizeInBytes, data.toString().getBytes(StandardCharsets.UTF_8).length);
+    return new AirbyteRecordMessage().withStream(INDEX).withData(data);
+  }
+
+  private static String id(int id) {
+    return String.format("%03d", id);
+  }
+
+  private void handleBulk(HttpExchange exchange) throws IOException {
+    // the new line delimited body alternates between the action and the document
+    final var lines = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8).split("\n");
+    final var ids = new ArrayList<String>();
+    for (int i = 1; i < lines.length; i += 2) {
+      ids.add(Jsons.deserialize(lines[i]).get("id").asText());
+    }
+    final int request;
+    synchronized (bulkRequests) {
+      request = bulkRequests.size();
+      bulkRequests.add(ids);
+    }
+    final var response = responder.respond(request, ids);
+    final var body = Jsons.serialize(response.body()).getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(response.status(), body.length);
+    try (OutputStream outputStream = exchange.getResponseBody()) {
+      outputStream.write(body);
+    }
+  }
+
+  private static Response okResponse(List<String> ids) {
+    return itemsResponse(ids, Map.of());
+  }
+
+  private static Response itemsResponse(List<String> ids, Map<String, Integer> failedItems) {
+    var items = ids.stream().map(id -> {
+      if (!failedItems.containsKey(id)) {
+        return Map.of("index", Map.of("_index", INDEX, "_id", id, "_type", "_doc", "status", 201, "result", "created"));
+      }
+      final int status = failedItems.get(id);
+      final var type = status == 429 ? "es_rejected_execution_exception" : "mapper_parsing_exception";
+      return Map.of("index", Map.of("_index", INDEX, "_id", id, "_type", "_doc", "status", status,
+          "error", Map.of("type", type, "reason", "failed to index " + id)));
+    }).collect(Collectors.toList());
+    return new Response(200, Jsons.jsonNode(Map.of("took", 1, "errors", !failedItems.isEmpty(), "items", items)));
+  }
+
+  private static Response rejectedRequestResponse() {
+    return new Response(429, Jsons.jsonNode(Map.of(
+        "error", Map.of("type", "es_rejected_execution_exception", "reason", "rejected execution"),
+        "status", 429)));
+  }
+
+  private record Response(int status, JsonNode body) {}
+
+  @FunctionalInterface
+  private interface BulkResponder {
+
+    Response respond(int request, List<String> ids);
+
+  }
+
 }
@@ -4,10 +4,17 @@
 
 package io.airbyte.integrations.destination.kinesis;
 
+import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.commons.json.Jsons;
 import java.io.Closeable;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -17,6 +24,7 @@ import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.kinesis.KinesisClient;
 import software.amazon.awssdk.services.kinesis.model.DescribeStreamResponse;
 import software.amazon.awssdk.services.kinesis.model.PutRecordsRequestEntry;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResultEntry;
 import software.amazon.awssdk.services.kinesis.model.Record;
 import software.amazon.awssdk.services.kinesis.model.ResourceInUseException;
 import software.amazon.awssdk.services.kinesis.model.ResourceNotFoundException;
@@ -31,8 +39,21 @@ public class KinesisStream implements Closeable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(KinesisStream.class);
 
+  private static final int N_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+  // limits of a single PutRecords request imposed by Kinesis
+  private static final int MAX_RECORDS_PER_REQUEST = 500;
+
+  private static final int MAX_BYTES_PER_REQUEST = 5 * 1024 * 1024;
+
+  private static final int MAX_RETRIES = 5;
+
+  private static final long BASE_BACKOFF_MS = 100;
+
   private final KinesisClient kinesisClient;
 
+  private final ExecutorService executorService;
+
   private final KinesisConfig kinesisConfig;
 
   private final int bufferSize;
@@ -41,10 +62,16 @@ public class KinesisStream implements Closeable {
   private final List<Tuple<String, Tuple<String, String>>> buffer;
 
   public KinesisStream(KinesisConfig kinesisConfig) {
+    this(kinesisConfig, KinesisClientPool.initClient(kinesisConfig));
+  }
+
+  @VisibleForTesting
+  KinesisStream(KinesisConfig kinesisConfig, KinesisClient kinesisClient) {
     this.kinesisConfig = kinesisConfig;
-    this.kinesisClient = KinesisClientPool.initClient(kinesisConfig);
+    this.kinesisClient = kinesisClient;
     this.bufferSize = kinesisConfig.getBufferSize();
     this.buffer = new ArrayList<>(bufferSize);
+    this.executorService = Executors.newFixedThreadPool(N_THREADS);
   }
 
   /**
@@ -116,7 +143,7 @@ public class KinesisStream implements Closeable {
    */
   public void putRecord(String streamName, String partitionKey, String data, Consumer<Exception> exceptionConsumer) {
     buffer.add(Tuple.of(streamName, Tuple.of(partitionKey, data)));
-    if (buffer.size() == bufferSize) {
+    if (buffer.size() >= bufferSize) {
       flush(exceptionConsumer);
     }
   }
@@ -155,13 +182,16 @@ public class KinesisStream implements Closeable {
 
   /**
    * Flush all records previously buffered to increase throughput and performance. Records are grouped
-   * by stream name and are sent for each stream separately.
+   * by stream name and packed into PutRecords requests within the Kinesis count and size limits, which
+   * are sent concurrently. Entries rejected by Kinesis, e.g. due to exceeded shard throughput, are
+   * retried with backoff.
    *
    * @param exceptionConsumer for handling errors related to flushing data per stream, rethrowing an
    *        exception in the consumer will stop the sync and clear the cache
    */
   public void flush(Consumer<Exception> exceptionConsumer) {
     try {
+      List<Future<?>> requests = new ArrayList<>();
       buffer.stream()
           .collect(Collectors.groupingBy(Tuple::value1, Collectors.mapping(Tuple::value2, Collectors.toList())))
           .forEach((k, v) -> {
@@ -171,22 +201,82 @@ public class KinesisStream implements Closeable {
                 .data(SdkBytes.fromUtf8String(entry.value2()))
                 .build())
                 .collect(Collectors.toList());
-            try {
-              kinesisClient.putRecords(b -> b.streamName(k).records(records));
-            } catch (Exception e) {
-              exceptionConsumer.accept(e);
-            }
+            packRequests(records).forEach(request -> requests.add(executorService.submit(() -> {
+              putRecords(k, request);
+              return null;
+            })));
           });
+      requests.forEach(request -> awaitRequest(request, exceptionConsumer));
     } finally {
       buffer.clear();
     }
   }
 
+  private List<List<PutRecordsRequestEntry>> packRequests(List<PutRecordsRequestEntry> records) {
+    var requests = new ArrayList<List<PutRecordsRequestEntry>>();
+    var request = new ArrayList<PutRecordsRequestEntry>();
+    long requestSize = 0;
+    for (var entry : records) {
+      var entrySize = entry.data().asByteArrayUnsafe().length + entry.partitionKey().getBytes(StandardCharsets.UTF_8).length;
+      if (request.size() == MAX_RECORDS_PER_REQUEST || (!request.isEmpty() && requestSize + entrySize > MAX_BYTES_PER_REQUEST)) {
+        requests.add(request);
+        request = new ArrayList<>();
+        requestSize = 0;
+      }
+      request.add(entry);
+      requestSize += entrySize;
+    }
+    if (!request.isEmpty()) {
+      requests.add(request);
+    }
+    return requests;
+  }
+
+  private void putRecords(String streamName, List<PutRecordsRequestEntry> records) throws InterruptedException {
+    var pending = records;
+    for (int attempt = 0;; attempt++) {
+      final var entries = pending;
+      var response = kinesisClient.putRecords(b -> b.streamName(streamName).records(entries));
+      if (response.failedRecordCount() == null || response.failedRecordCount() == 0) {
+        return;
+      }
+      // result entries are in the same order as the request entries
+      var failed = new ArrayList<PutRecordsRequestEntry>();
+      PutRecordsResultEntry lastError = null;
+      for (int i = 0; i < response.records().size(); i++) {
+        var result = response.records().get(i);
+        if (result.errorCode() != null) {
+          failed.add(entries.get(i));
+          lastError = result;
+        }
+      }
+      if (attempt >= MAX_RETRIES) {
+        throw KinesisUtils.buildKinesisException(String.format("Failed to put %s records to stream %s, last error: %s %s",
+            failed.size(), streamName, lastError.errorCode(), lastError.errorMessage()), null);
+      }
+      LOGGER.warn("Retrying {} records rejected by stream {}: {}", failed.size(), streamName, lastError.errorCode());
+      Thread.sleep(ThreadLocalRandom.current().nextLong(BASE_BACKOFF_MS << attempt));
+      pending = failed;
+    }
+  }
+
+  private void awaitRequest(Future<?> future, Consumer<Exception> exceptionConsumer) {
+    try {
+      future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      exceptionConsumer.accept(KinesisUtils.buildKinesisException("Thread interrupted while streaming records", e));
+    } catch (ExecutionException e) {
+      exceptionConsumer.accept(e.getCause() instanceof Exception cause ? cause : e);
+    }
+  }
+
   /**
    * Return the kinesis client to the pool to be closed if no longer used.
    */
   @Override
   public void close() {
+    executorService.shutdown();
     KinesisClientPool.closeClient(kinesisConfig);
   }
 
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.kinesis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.BytesWrapper;
+import software.amazon.awssdk.services.kinesis.KinesisClient;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequestEntry;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResultEntry;
+
+class KinesisStreamFlushTest {
+
+  private static final String STREAM_NAME = "test_stream";
+
+  private KinesisClient kinesisClient;
+
+  private KinesisStream kinesisStream;
+
+  private List<PutRecordsRequest> requests;
+
+  private List<Exception> exceptions;
+
+  @BeforeEach
+  void setup() {
+    var kinesisConfig = new KinesisConfig(URI.create("http://aws.kinesis.com"), "eu-west-1", 5, "access_key", "secret_key", 10_000);
+    this.kinesisClient = mock(KinesisClient.class);
+    this.kinesisStream = new KinesisStream(kinesisConfig, kinesisClient);
+    this.requests = new ArrayList<>();
+    this.exceptions = new ArrayList<>();
+  }
+
+  @Test
+  void testFlushSplitsRequestsByRecordCount() {
+    acceptAllRecords();
+
+    IntStream.range(0, 1200).forEach(i -> kinesisStream.putRecord(STREAM_NAME, "key", "data" + i, exceptions::add));
+    kinesisStream.flush(exceptions::add);
+
+    assertThat(exceptions).isEmpty();
+    assertThat(requests)
+        .extracting(r -> r.records().size())
+        .containsExactlyInAnyOrder(500, 500, 200);
+  }
+
+  @Test
+  void testFlushSplitsRequestsBySize() {
+    acceptAllRecords();
+
+    // five of these fit within the 5MiB limit of a PutRecords request, six don't
+    var data = "a".repeat(1_000_000);
+    IntStream.range(0, 12).forEach(i -> kinesisStream.putRecord(STREAM_NAME, "key", data, exceptions::add));
+    kinesisStream.flush(exceptions::add);
+
+    assertThat(exceptions).isEmpty();
+    assertThat(requests)
+        .extracting(r -> r.records().size())
+        .containsExactlyInAnyOrder(5, 5, 2);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testFlushRetriesOnlyFailedRecords() {
+    var attempts = new ArrayList<List<String>>();
+    when(kinesisClient.putRecords(any(Consumer.class))).thenAnswer(invocation -> {
+      var request = captureRequest(invocation.getArgument(0));
+      attempts.add(request.records().stream().map(PutRecordsRequestEntry::data).map(BytesWrapper::asUtf8String).collect(Collectors.toList()));
+      // the first attempt rejects every other record
+      var results = IntStream.range(0, request.records().size())
+          .mapToObj(i -> attempts.size() == 1 && i % 2 == 1
+              ? PutRecordsResultEntry.builder().errorCode("ProvisionedThroughputExceededException").errorMessage("Rate exceeded").build()
+              : PutRecordsResultEntry.builder().sequenceNumber(String.valueOf(i)).shardId("shard").build())
+          .collect(Collectors.toList());
+      var failedRecordCount = (int) results.stream().filter(r -> r.errorCode() != null).count();
+      return PutRecordsResponse.builder().records(results).failedRecordCount(failedRecordCount).build();
+    });
+
+    IntStream.range(0, 4).forEach(i -> kinesisStream.putRecord(STREAM_NAME, "key", "data" + i, exceptions::add));
+    kinesisStream.flush(exceptions::add);
+
+    assertThat(exceptions).isEmpty();
+    assertThat(attempts).containsExactly(
+        List.of("data0", "data1", "data2", "data3"),
+        List.of("data1", "data3"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testFlushReportsRecordsFailingEveryRetry() {
+    when(kinesisClient.putRecords(any(Consumer.class))).thenAnswer(invocation -> {
+      var request = captureRequest(invocation.getArgument(0));
+      var results = request.records().stream()
+          .map(r -> PutRecordsResultEntry.builder().errorCode("InternalFailure").errorMessage("Internal service failure").build())
+          .collect(Collectors.toList());
+      return PutRecordsResponse.builder().records(results).failedRecordCount(results.size()).build();
+    });
+
+    kinesisStream.putRecord(STREAM_NAME, "key", "data", exceptions::add);
+    kinesisStream.flush(exceptions::add);
+
+    assertThat(exceptions).hasSize(1);
+    assertThat(exceptions.get(0)).hasMessageContaining("InternalFailure");
+  }
+
+  @SuppressWarnings("unchecked")
+  private void acceptAllRecords() {
+    when(kinesisClient.putRecords(any(Consumer.class))).thenAnswer(invocation -> {
+      var request = captureRequest(invocation.getArgument(0));
+      var results = request.records().stream()
+          .map(r -> PutRecordsResultEntry.builder().sequenceNumber("0").shardId("shard").build())
+          .collect(Collectors.toList());
+      return PutRecordsResponse.builder().records(results).failedRecordCount(0).build();
+    });
+  }
+
+  private synchronized PutRecordsRequest captureRequest(Consumer<PutRecordsRequest.Builder> consumer) {
+    var builder = PutRecordsRequest.builder();
+    consumer.accept(builder);
+    var request = builder.build();
+    requests.add(request);
+    return request;
+  }
+
+}
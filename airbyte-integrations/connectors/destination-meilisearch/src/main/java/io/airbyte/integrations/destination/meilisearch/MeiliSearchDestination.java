@@ -6,6 +6,7 @@ package io.airbyte.integrations.destination.meilisearch;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.annotations.VisibleForTesting;
 import com.meilisearch.sdk.Client;
 import com.meilisearch.sdk.Config;
 import com.meilisearch.sdk.Index;
@@ -24,10 +25,11 @@ import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.DestinationSyncMode;
-import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -59,12 +61,20 @@ import org.slf4j.LoggerFactory;
  * MeiliSearch so we write the data a single time in a way that makes it most likely to work well
  * within MeiliSearch.
  * </p>
+ * <p>
+ * Document batches are submitted back-to-back without waiting for MeiliSearch to apply them, so the
+ * indexer always has queued work while we read the next batch. Update ids are tracked per index and
+ * only awaited when too many updates are pending or on close, before the state is emitted.
+ * </p>
  */
 public class MeiliSearchDestination extends BaseConnector implements Destination {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(MeiliSearchDestination.class);
 
-  private static final int MAX_BATCH_SIZE_BYTES = 1024 * 1024 * 1024 / 4; // 256mib
+  // kept well below the default http payload limit of MeiliSearch (100mb)
+  private static final int MAX_BATCH_SIZE_BYTES = 1024 * 1024 * 32; // 32mib
+  @VisibleForTesting
+  static final int MAX_PENDING_UPDATES_PER_INDEX = 8;
   private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSSSSSSS");
 
   public static final String AB_PK_COLUMN = "_ab_pk";
@@ -92,17 +102,36 @@ public class MeiliSearchDestination extends BaseConnector implements Destination
                                             final ConfiguredAirbyteCatalog catalog,
                                             final Consumer<AirbyteMessage> outputRecordCollector)
       throws Exception {
-    final Client client = getClient(config);
+    return getConsumer(getClient(config), catalog, outputRecordCollector, MAX_BATCH_SIZE_BYTES);
+  }
+
+  @VisibleForTesting
+  static AirbyteMessageConsumer getConsumer(final Client client,
+                                            final ConfiguredAirbyteCatalog catalog,
+                                            final Consumer<AirbyteMessage> outputRecordCollector,
+                                            final long maxBatchSizeBytes)
+      throws Exception {
     final Map<String, Index> indexNameToIndex = createIndices(catalog, client);
+    final Map<String, Deque<Integer>> indexNameToPendingUpdates = new HashMap<>();
 
     return new BufferedStreamConsumer(
         outputRecordCollector,
         () -> LOGGER.info("Starting write to MeiliSearch."),
-        recordWriterFunction(indexNameToIndex),
-        (hasFailed) -> LOGGER.info("Completed writing to MeiliSearch. Status: {}", hasFailed ? "FAILED" : "SUCCEEDED"),
+        recordWriterFunction(indexNameToIndex, indexNameToPendingUpdates),
+        (hasFailed) -> {
+          if (!hasFailed) {
+            for (final Map.Entry<String, Deque<Integer>> entry : indexNameToPendingUpdates.entrySet()) {
+              final Index index = indexNameToIndex.get(entry.getKey());
+              while (!entry.getValue().isEmpty()) {
+                waitForUpdate(index, entry.getValue().poll());
+              }
+            }
+          }
+          LOGGER.info("Completed writing to MeiliSearch. Status: {}", hasFailed ? "FAILED" : "SUCCEEDED");
+        },
         catalog,
         (data) -> true,
-        MAX_BATCH_SIZE_BYTES);
+        maxBatchSizeBytes);
   }
 
   private static Map<String, Index> createIndices(final ConfiguredAirbyteCatalog catalog, final Client client) throws Exception {
@@ -129,7 +158,8 @@ public class MeiliSearchDestination extends BaseConnector implements Destination
         .anyMatch(actualIndexName -> actualIndexName.equals(indexName));
   }
 
-  private static RecordWriter recordWriterFunction(final Map<String, Index> indexNameToWriteConfig) {
+  private static RecordWriter recordWriterFunction(final Map<String, Index> indexNameToWriteConfig,
+                                                   final Map<String, Deque<Integer>> indexNameToPendingUpdates) {
     return (namePair, records) -> {
       final String resolvedIndexName = getIndexName(namePair.getName());
       if (!indexNameToWriteConfig.containsKey(resolvedIndexName)) {
@@ -152,18 +182,29 @@ public class MeiliSearchDestination extends BaseConnector implements Destination
           .collect(Collectors.toList()));
       final String s = index.addDocuments(json);
       LOGGER.info("add docs response {}", s);
-      LOGGER.info("waiting for update to be applied started {}", Instant.now());
-      try {
-        index.waitForPendingUpdate(Jsons.deserialize(s).get("updateId").asInt());
-      } catch (final Exception e) {
-        LOGGER.error("waiting for update to be applied failed.", e);
-        LOGGER.error("printing MeiliSearch update statuses: {}", Arrays.asList(index.getUpdates()));
-        throw e;
+      final Deque<Integer> pendingUpdates = indexNameToPendingUpdates.computeIfAbsent(resolvedIndexName, k -> new ArrayDeque<>());
+      pendingUpdates.add(Jsons.deserialize(s).get("updateId").asInt());
+      // bound the backlog of the indexer, waiting for the oldest update only
+      while (pendingUpdates.size() > MAX_PENDING_UPDATES_PER_INDEX) {
+        waitForUpdate(index, pendingUpdates.poll());
       }
-      LOGGER.info("waiting for update  to be applied completed {}", Instant.now());
     };
   }
 
+  private static void waitForUpdate(final Index index, final int updateId) throws Exception {
+    try {
+      index.waitForPendingUpdate(updateId);
+      final String status = index.getUpdate(updateId).getStatus();
+      if ("failed".equals(status)) {
+        throw new IllegalStateException(String.format("MeiliSearch update %d on index %s failed.", updateId, index.getUid()));
+      }
+    } catch (final Exception e) {
+      LOGGER.error("waiting for update to be applied failed.", e);
+      LOGGER.error("printing MeiliSearch update statuses: {}", Arrays.asList(index.getUpdates()));
+      throw e;
+    }
+  }
+
   private static String getIndexName(final String streamName) {
     return Names.toAlphanumericAndUnderscore(streamName);
   }
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.meilisearch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import com.meilisearch.sdk.Client;
+import com.meilisearch.sdk.Index;
+import com.meilisearch.sdk.UpdateStatus;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.base.AirbyteMessageConsumer;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.airbyte.protocol.models.AirbyteStream;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.DestinationSyncMode;
+import io.airbyte.protocol.models.SyncMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MeiliSearchDestinationTest {
+
+  private static final String USERS = "users";
+  private static final String ORDERS = "orders";
+  // every record is written in its own batch
+  private static final long BATCH_SIZE_BYTES = 1;
+  private static final AirbyteMessage STATE_MESSAGE = new AirbyteMessage().withType(Type.STATE)
+      .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(ImmutableMap.of("checkpoint", 1))));
+
+  // the calls made to the indices and the output collector, in order
+  private List<String> events;
+  private Client client;
+  private Consumer<AirbyteMessage> outputRecordCollector;
+  private UpdateStatus processedUpdate;
+
+  @SuppressWarnings("unchecked")
+  @BeforeEach
+  void setup() throws Exception {
+    events = Collections.synchronizedList(new ArrayList<>());
+    client = mock(Client.class);
+    when(client.getIndexList()).thenReturn(new Index[0]);
+    outputRecordCollector = mock(Consumer.class);
+    doAnswer(invocation -> events.add("state")).when(outputRecordCollector).accept(any());
+    processedUpdate = mock(UpdateStatus.class);
+    when(processedUpdate.getStatus()).thenReturn("processed");
+  }
+
+  @Test
+  void testBatchesAreAwaitedOnClose() throws Exception {
+    mockIndex(USERS);
+    mockIndex(ORDERS);
+    final AirbyteMessageConsumer consumer = MeiliSearchDestination.getConsumer(client, catalog(USERS, ORDERS), outputRecordCollector, BATCH_SIZE_BYTES);
+
+    consumer.start();
+    consumer.accept(recordMessage(USERS, 0));
+    consumer.accept(recordMessage(ORDERS, 0));
+    consumer.accept(recordMessage(USERS, 1));
+    consumer.accept(recordMessage(USERS, 2));
+    consumer.accept(recordMessage(ORDERS, 1));
+    consumer.accept(STATE_MESSAGE);
+    consumer.close();
+
+    // the batches are sent without waiting for the previous ones to be applied
+    assertEquals(List.of("add users 0", "add orders 0", "add users 1", "add users 2", "add orders 1"), events.subList(0, 5));
+    // every update is awaited, in order for each index, before the state is emitted
+    assertEquals(List.of("wait users 0", "wait users 1", "wait users 2"), eventsOf(USERS, "wait"));
+    assertEquals(List.of("wait orders 0", "wait orders 1"), eventsOf(ORDERS, "wait"));
+    assertEquals(11, events.size());
+    assertEquals("state", events.get(10));
+  }
+
+  @Test
+  void testPendingUpdatesAreBounded() throws Exception {
+    mockIndex(USERS);
+    final AirbyteMessageConsumer consumer = MeiliSearchDestination.getConsumer(client, catalog(USERS), outputRecordCollector, BATCH_SIZE_BYTES);
+    final int batchCount = MeiliSearchDestination.MAX_PENDING_UPDATES_PER_INDEX + 3;
+
+    consumer.start();
+    for (int i = 0; i < batchCount; i++) {
+      consumer.accept(recordMessage(USERS, i));
+    }
+    consumer.accept(STATE_MESSAGE);
+    consumer.close();
+
+    final List<String> expectedEvents = new ArrayList<>();
+    for (int i = 0; i < batchCount; i++) {
+      expectedEvents.add("add users " + i);
+      // once too many updates are pending, only the oldest one is awaited before the next batch
+      if (i >= MeiliSearchDestination.MAX_PENDING_UPDATES_PER_INDEX) {
+        expectedEvents.add("wait users " + (i - MeiliSearchDestination.MAX_PENDING_UPDATES_PER_INDEX));
+      }
+    }
+    IntStream.range(batchCount - MeiliSearchDestination.MAX_PENDING_UPDATES_PER_INDEX, batchCount)
+        .forEach(i -> expectedEvents.add("wait users " + i));
+    expectedEvents.add("state");
+    assertEquals(expectedEvents, events);
+  }
+
+  @Test
+  void testFailedUpdateFailsTheSync() throws Exception {
+    final Index index = mockIndex(USERS);
+    final UpdateStatus failedUpdate = mock(UpdateStatus.class);
+    when(failedUpdate.getStatus()).thenReturn("failed");
+    when(index.getUpdate(1)).thenReturn(failedUpdate);
+    final AirbyteMessageConsumer consumer = MeiliSearchDestination.getConsumer(client, catalog(USERS), outputRecordCollector, BATCH_SIZE_BYTES);
+
+    consumer.start();
+    for (int i = 0; i < 3; i++) {
+      consumer.accept(recordMessage(USERS, i));
+    }
+    consumer.accept(STATE_MESSAGE);
+    final IllegalStateException exception = assertThrows(IllegalStateException.class, consumer::close);
+
+    assertEquals("MeiliSearch update 1 on index users failed.", exception.getMessage());
+    assertEquals(List.of("add users 0", "add users 1", "add users 2", "wait users 0", "wait users 1"), events);
+    // the state is not emitted, so the records are synced again
+    verify(outputRecordCollector, never()).accept(any());
+  }
+
+  private Index mockIndex(final String name) throws Exception {
+    final Index index = mock(Index.class);
+    final AtomicInteger nextUpdateId = new AtomicInteger();
+    when(index.getUid()).thenReturn(name);
+    when(index.addDocuments(anyString())).thenAnswer(invocation -> {
+      final int updateId = nextUpdateId.getAndIncrement();
+      events.add(String.format("add %s %s", name, updateId));
+      return String.format("{\"updateId\": %s}", updateId);
+    });
+    doAnswer(invocation -> events.add(String.format("wait %s %s", name, invocation.getArgument(0))))
+        .when(index).waitForPendingUpdate(anyInt());
+    when(index.getUpdate(anyInt())).thenReturn(processedUpdate);
+    when(index.getUpdates()).thenReturn(new UpdateStatus[0]);
+    when(client.getOrCreateIndex(name, MeiliSearchDestination.AB_PK_COLUMN)).thenReturn(index);
+    return index;
+  }
+
+  private List<String> eventsOf(final String indexName, final String call) {
+    return events.stream()
+        .filter(event -> event.startsWith(String.format("%s %s ", call, indexName)))
+        .collect(Collectors.toList());
+  }
+
+  private static ConfiguredAirbyteCatalog catalog(final String... streamNames) {
+    return new ConfiguredAirbyteCatalog().withStreams(List.of(streamNames).stream()
+        .map(streamName -> new ConfiguredAirbyteStream()
+            .withStream(new AirbyteStream().withName(streamName))
+            .withSyncMode(SyncMode.FULL_REFRESH)
+            .withDestinationSyncMode(DestinationSyncMode.APPEND))
+        .collect(Collectors.toList()));
+  }
+
+  private static AirbyteMessage recordMessage(final String streamName, final int id) {
+    return new AirbyteMessage().withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage().withStream(streamName).withEmittedAt(1L).withData(Jsons.jsonNode(ImmutableMap.of("id", id))));
+  }
+
+}
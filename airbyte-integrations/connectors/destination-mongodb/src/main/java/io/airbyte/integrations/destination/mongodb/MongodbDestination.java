@@ -4,12 +4,11 @@
 
 package io.airbyte.integrations.destination.mongodb;
 
-import static com.mongodb.client.model.Projections.excludeId;
-
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.mongodb.client.MongoCollection;
-import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
 import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.db.mongodb.MongoDatabase;
 import io.airbyte.db.mongodb.MongoUtils.MongoInstanceType;
@@ -26,7 +25,6 @@ import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.DestinationSyncMode;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -106,15 +104,11 @@ public class MongodbDestination extends BaseConnector implements Destination {
       }
 
       final MongoCollection<Document> collection = database.getOrCreateNewCollection(tmpCollectionName);
-      final Set<String> documentsHash = new HashSet<>();
-      try (final MongoCursor<Document> cursor = collection.find().projection(excludeId()).iterator()) {
-        while (cursor.hasNext()) {
-          documentsHash.add(cursor.next().get(AIRBYTE_DATA_HASH, String.class));
-        }
-      }
+      // duplicates are rejected by the server instead of tracking every hash in memory
+      collection.createIndex(Indexes.ascending(AIRBYTE_DATA_HASH), new IndexOptions().unique(true));
 
       writeConfigs.put(AirbyteStreamNameNamespacePair.fromAirbyteSteam(stream),
-          new MongodbWriteConfig(collectionName, tmpCollectionName, configStream.getDestinationSyncMode(), collection, documentsHash));
+          new MongodbWriteConfig(collectionName, tmpCollectionName, configStream.getDestinationSyncMode(), collection));
     }
     return new MongodbRecordConsumer(writeConfigs, database, catalog, outputRecordCollector);
   }
@@ -8,7 +8,12 @@ import static com.mongodb.client.model.Projections.excludeId;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertManyOptions;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.db.mongodb.MongoDatabase;
@@ -37,6 +42,12 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
   private static final String AIRBYTE_DATA_HASH = "_airbyte_data_hash";
   private static final String AIRBYTE_EMITTED_AT = "_airbyte_emitted_at";
 
+  // flush the buffered documents of a stream once their serialized size reaches this threshold
+  private static final long MAX_BATCH_SIZE_BYTES = 8 * 1024 * 1024;
+  // number of documents fetched and inserted per round trip when copying tmp collections
+  @VisibleForTesting
+  static final int COPY_BATCH_SIZE = 1000;
+
   private final Map<AirbyteStreamNameNamespacePair, MongodbWriteConfig> writeConfigs;
   private final MongoDatabase mongoDatabase;
   private final ConfiguredAirbyteCatalog catalog;
@@ -88,6 +99,7 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
         LOGGER.info("Migration finished with no explicit errors. Copying data from tmp tables to permanent");
         writeConfigs.values().forEach(mongodbWriteConfig -> Exceptions.toRuntime(() -> {
           try {
+            flush(mongodbWriteConfig);
             copyTable(mongoDatabase, mongodbWriteConfig.getCollectionName(), mongodbWriteConfig.getTmpCollectionName());
           } catch (final RuntimeException e) {
             LOGGER.error("Failed to process a message for Streams numbers: {}, SyncMode: {}, CollectionName: {}, TmpCollectionName: {}",
@@ -116,20 +128,16 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
     try {
       final AirbyteRecordMessage recordMessage = message.getRecord();
       final Map<String, Object> result = objectMapper.convertValue(recordMessage.getData(), new TypeReference<>() {});
-      final var newDocumentDataHashCode = UUID.nameUUIDFromBytes(DigestUtils.md5Hex(Jsons.toBytes(recordMessage.getData())).getBytes()).toString();
+      final byte[] data = Jsons.toBytes(recordMessage.getData());
+      final var newDocumentDataHashCode = UUID.nameUUIDFromBytes(DigestUtils.md5Hex(data).getBytes()).toString();
       final var newDocument = new Document();
       newDocument.put(AIRBYTE_DATA, new Document(result));
       newDocument.put(AIRBYTE_DATA_HASH, newDocumentDataHashCode);
       newDocument.put(AIRBYTE_EMITTED_AT, new LocalDateTime().toString());
 
-      final var collection = writeConfig.getCollection();
-
-      final var documentsHash = writeConfig.getDocumentsHash();
-      if (!documentsHash.contains(newDocumentDataHashCode)) {
-        collection.insertOne(newDocument);
-        documentsHash.add(newDocumentDataHashCode);
-      } else {
-        LOGGER.info("Object with hashCode = {} already exist in table {}.", newDocumentDataHashCode, writeConfig.getCollectionName());
+      writeConfig.addToBuffer(newDocument, data.length);
+      if (writeConfig.getBufferSizeInBytes() >= MAX_BATCH_SIZE_BYTES) {
+        flush(writeConfig);
       }
     } catch (final RuntimeException e) {
       LOGGER.error("Got an error while writing message:" + e.getMessage());
@@ -140,18 +148,47 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
     }
   }
 
+  /**
+   * Writes the buffered documents with a single unordered bulk write. Documents whose hash already
+   * exists in the tmp collection are rejected by its unique index and skipped, any other write error
+   * fails the sync.
+   */
+  private static void flush(final MongodbWriteConfig writeConfig) {
+    if (writeConfig.getBuffer().isEmpty()) {
+      return;
+    }
+    try {
+      writeConfig.getCollection().bulkWrite(writeConfig.getBuffer(), new BulkWriteOptions().ordered(false));
+    } catch (final MongoBulkWriteException e) {
+      final var nonDuplicateErrors = e.getWriteErrors().stream()
+          .filter(error -> ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY)
+          .count();
+      if (nonDuplicateErrors > 0) {
+        throw e;
+      }
+      LOGGER.info("Skipped {} documents already existing in table {}.", e.getWriteErrors().size(), writeConfig.getCollectionName());
+    } finally {
+      writeConfig.clearBuffer();
+    }
+  }
+
   private static void copyTable(final MongoDatabase mongoDatabase, final String collectionName, final String tmpCollectionName) {
 
     final var tempCollection = mongoDatabase.getOrCreateNewCollection(tmpCollectionName);
     final var collection = mongoDatabase.getOrCreateNewCollection(collectionName);
-    final List<Document> documents = new ArrayList<>();
-    try (final MongoCursor<Document> cursor = tempCollection.find().projection(excludeId()).iterator()) {
+    final List<Document> documents = new ArrayList<>(COPY_BATCH_SIZE);
+    final var insertOptions = new InsertManyOptions().ordered(false);
+    try (final MongoCursor<Document> cursor = tempCollection.find().projection(excludeId()).batchSize(COPY_BATCH_SIZE).iterator()) {
       while (cursor.hasNext()) {
         documents.add(cursor.next());
+        if (documents.size() == COPY_BATCH_SIZE) {
+          collection.insertMany(documents, insertOptions);
+          documents.clear();
+        }
       }
     }
     if (!documents.isEmpty()) {
-      collection.insertMany(documents);
+      collection.insertMany(documents, insertOptions);
     }
   }
 
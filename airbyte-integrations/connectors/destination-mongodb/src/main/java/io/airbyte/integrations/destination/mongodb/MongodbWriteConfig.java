@@ -5,10 +5,10 @@
 package io.airbyte.integrations.destination.mongodb;
 
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertOneModel;
 import io.airbyte.protocol.models.DestinationSyncMode;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 import org.bson.Document;
 
 class MongodbWriteConfig {
@@ -17,18 +17,17 @@ class MongodbWriteConfig {
   private final String tmpCollectionName;
   private final DestinationSyncMode syncMode;
   private final MongoCollection<Document> collection;
-  private final Set<String> documentsHash = new HashSet<>();
+  private final List<InsertOneModel<Document>> buffer = new ArrayList<>();
+  private long bufferSizeInBytes = 0;
 
   MongodbWriteConfig(final String collectionName,
                      final String tmpCollectionName,
                      final DestinationSyncMode syncMode,
-                     final MongoCollection<Document> collection,
-                     final Collection<String> documentsHash) {
+                     final MongoCollection<Document> collection) {
     this.collectionName = collectionName;
     this.tmpCollectionName = tmpCollectionName;
     this.syncMode = syncMode;
     this.collection = collection;
-    this.documentsHash.addAll(documentsHash);
   }
 
   public String getCollectionName() {
@@ -47,8 +46,22 @@ class MongodbWriteConfig {
     return collection;
   }
 
-  public Set<String> getDocumentsHash() {
-    return documentsHash;
+  public void addToBuffer(final Document document, final long sizeInBytes) {
+    buffer.add(new InsertOneModel<>(document));
+    bufferSizeInBytes += sizeInBytes;
+  }
+
+  public List<InsertOneModel<Document>> getBuffer() {
+    return buffer;
+  }
+
+  public long getBufferSizeInBytes() {
+    return bufferSizeInBytes;
+  }
+
+  public void clearBuffer() {
+    buffer.clear();
+    bufferSizeInBytes = 0;
   }
 
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.mongodb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
+import com.mongodb.MongoBulkWriteException;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.MoreIterators;
+import io.airbyte.db.mongodb.MongoDatabase;
+import io.airbyte.integrations.base.AirbyteMessageConsumer;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.airbyte.protocol.models.AirbyteStream;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.DestinationSyncMode;
+import io.airbyte.protocol.models.SyncMode;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+class MongodbRecordConsumerTest {
+
+  private static final String DATABASE_NAME = "test_database";
+  private static final String STREAM_NAME = "users";
+  private static final ConfiguredAirbyteCatalog CATALOG = new ConfiguredAirbyteCatalog().withStreams(List.of(new ConfiguredAirbyteStream()
+      .withStream(new AirbyteStream().withName(STREAM_NAME))
+      .withSyncMode(SyncMode.FULL_REFRESH)
+      .withDestinationSyncMode(DestinationSyncMode.APPEND)));
+  private static final AirbyteMessage STATE_MESSAGE = new AirbyteMessage().withType(Type.STATE)
+      .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(ImmutableMap.of("checkpoint", 1))));
+
+  private static MongoDBContainer container;
+
+  private MongoDatabase database;
+  private Consumer<AirbyteMessage> outputRecordCollector;
+  private AirbyteMessageConsumer consumer;
+
+  @BeforeAll
+  static void init() {
+    container = new MongoDBContainer(DockerImageName.parse("mongo:4.0.10"));
+    container.start();
+  }
+
+  @AfterAll
+  static void cleanUp() {
+    container.close();
+  }
+
+  @SuppressWarnings("unchecked")
+  @BeforeEach
+  void setup() throws Exception {
+    final JsonNode config = Jsons.jsonNode(ImmutableMap.builder()
+        .put("host", container.getHost())
+        .put("port", container.getFirstMappedPort())
+        .put("database", DATABASE_NAME)
+        .put("auth_type", ImmutableMap.of("authorization", "none"))
+        .build());
+    database = new MongoDatabase(container.getReplicaSetUrl(), DATABASE_NAME);
+    database.getDatabase().drop();
+    outputRecordCollector = mock(Consumer.class);
+    consumer = new MongodbDestination().getConsumer(config, CATALOG, outputRecordCollector);
+    consumer.start();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    database.close();
+  }
+
+  @Test
+  void testDuplicatesInBatchAreSkipped() throws Exception {
+    consumer.accept(recordMessage(1));
+    consumer.accept(recordMessage(2));
+    consumer.accept(recordMessage(1));
+    consumer.accept(recordMessage(3));
+    consumer.accept(recordMessage(2));
+    consumer.accept(STATE_MESSAGE);
+    consumer.close();
+
+    // the records after a rejected duplicate are still written, the bulk write is unordered
+    assertEquals(Set.of(1, 2, 3), Set.copyOf(writtenIds()));
+    assertEquals(3, writtenIds().size());
+    verify(outputRecordCollector).accept(STATE_MESSAGE);
+    assertEquals(Set.of(), tmpCollectionNames());
+  }
+
+  @Test
+  void testNonDuplicateWriteErrorFailsTheSync() throws Exception {
+    // documents whose id is not an integer are rejected by the validation of the tmp collection
+    final String tmpCollectionName = MoreIterators.toList(tmpCollectionNames().iterator()).get(0);
+    database.getDatabase().runCommand(new Document("collMod", tmpCollectionName)
+        .append("validator", new Document("_airbyte_data.id", new Document("$type", "int"))));
+
+    consumer.accept(recordMessage(1));
+    consumer.accept(recordMessage(1));
+    consumer.accept(new AirbyteMessage().withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage().withStream(STREAM_NAME).withEmittedAt(1L).withData(Jsons.jsonNode(ImmutableMap.of("id", "one")))));
+    consumer.accept(STATE_MESSAGE);
+    final RuntimeException exception = assertThrows(RuntimeException.class, consumer::close);
+
+    assertEquals(MongoBulkWriteException.class, rootCause(exception).getClass());
+    verify(outputRecordCollector, never()).accept(any());
+    assertEquals(List.of(), writtenIds());
+    assertEquals(Set.of(), tmpCollectionNames());
+  }
+
+  @Test
+  void testCopyLargerThanCopyBatchSize() throws Exception {
+    final int recordCount = MongodbRecordConsumer.COPY_BATCH_SIZE * 2 + 1;
+    for (int i = 0; i < recordCount; i++) {
+      consumer.accept(recordMessage(i));
+    }
+    consumer.accept(STATE_MESSAGE);
+    consumer.close();
+
+    assertEquals(IntStream.range(0, recordCount).boxed().collect(Collectors.toSet()), Set.copyOf(writtenIds()));
+    assertEquals(recordCount, writtenIds().size());
+    verify(outputRecordCollector).accept(STATE_MESSAGE);
+  }
+
+  private static AirbyteMessage recordMessage(final int id) {
+    return new AirbyteMessage().withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage().withStream(STREAM_NAME).withEmittedAt(1L).withData(Jsons.jsonNode(ImmutableMap.of("id", id))));
+  }
+
+  private List<Integer> writtenIds() {
+    final String collectionName = new MongodbNameTransformer().getRawTableName(STREAM_NAME);
+    return MoreIterators.toList(database.getCollection(collectionName).find().iterator()).stream()
+        .map(document -> document.get("_airbyte_data", Document.class).getInteger("id"))
+        .collect(Collectors.toList());
+  }
+
+  private Set<String> tmpCollectionNames() {
+    // tmp collection names end with a random suffix
+    return database.getCollectionNames().stream()
+        .filter(name -> name.startsWith("airbyte_tmp_"))
+        .collect(Collectors.toSet());
+  }
+
+  private static Throwable rootCause(final Throwable throwable) {
+    Throwable cause = throwable;
+    while (cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
+
+}
@@ -15,12 +15,16 @@ import org.apache.pulsar.common.schema.SchemaType;
 
 public class PulsarDestinationConfig {
 
+  private static final int DEFAULT_BATCHING_MAX_BYTES = 128 * 1024;
+  private static final long DEFAULT_MAX_PENDING_BYTES = 64 * 1024 * 1024;
+
   private final String serviceUrl;
   private final String topicPattern;
   private final String topicPrefix;
   private final String testTopic;
   private final Map<String, Object> producerConfig;
   private final boolean sync;
+  private final long maxPendingBytes;
 
   private PulsarDestinationConfig(final JsonNode config) {
     this.serviceUrl = buildServiceUrl(config);
@@ -29,6 +33,7 @@ public class PulsarDestinationConfig {
     this.testTopic = buildTestTopic(config);
     this.producerConfig = buildProducerConfig(config);
     this.sync = isSyncProducer(config);
+    this.maxPendingBytes = buildMaxPendingBytes(config);
   }
 
   public static PulsarDestinationConfig getPulsarDestinationConfig(final JsonNode config) {
@@ -69,6 +74,14 @@ public class PulsarDestinationConfig {
     return sync;
   }
 
+  public long getMaxPendingBytes() {
+    return maxPendingBytes;
+  }
+
+  public int getMaxPendingMessages() {
+    return (int) producerConfig.get("maxPendingMessages");
+  }
+
   private String buildServiceUrl(final JsonNode config) {
     return String.format("pulsar%s://%s",
         config.get("use_tls").asBoolean() ? "+ssl" : "",
@@ -102,11 +115,16 @@ public class PulsarDestinationConfig {
     conf.put("batchingEnabled", config.get("batching_enabled").asBoolean());
     conf.put("batchingMaxMessages", config.get("batching_max_messages").asInt());
     conf.put("batchingMaxPublishDelayMicros", config.get("batching_max_publish_delay").asInt() * 1000);
+    conf.put("batchingMaxBytes", config.has("batching_max_bytes") ? config.get("batching_max_bytes").asInt() : DEFAULT_BATCHING_MAX_BYTES);
     conf.put("blockIfQueueFull", config.get("block_if_queue_full").asBoolean());
 
     return conf.build();
   }
 
+  private long buildMaxPendingBytes(final JsonNode config) {
+    return config.has("max_pending_bytes") ? config.get("max_pending_bytes").asLong() : DEFAULT_MAX_PENDING_BYTES;
+  }
+
   private boolean isSyncProducer(final JsonNode config) {
     return config.has("producer_sync") && config.get("producer_sync").asBoolean();
   }
@@ -11,13 +11,22 @@ import io.airbyte.integrations.destination.NamingConventionTransformer;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.pulsar.client.api.MessageId;
 import org.apache.pulsar.client.api.Producer;
 import org.apache.pulsar.client.api.PulsarClient;
 import org.apache.pulsar.client.api.PulsarClientException;
@@ -37,7 +46,13 @@ public class PulsarRecordConsumer extends FailureTrackingAirbyteMessageConsumer
   private final NamingConventionTransformer nameTransformer;
   private final PulsarClient client;
 
-  private AirbyteMessage lastStateMessage = null;
+  // sends in submission order, used to bound the amount of unacknowledged data
+  private final Deque<CompletableFuture<MessageId>> unackedSends = new ArrayDeque<>();
+  private final AtomicLong pendingBytes = new AtomicLong();
+  private final AtomicReference<Throwable> sendFailure = new AtomicReference<>();
+  // state messages waiting for the records received before them to be acknowledged
+  private final Deque<PendingState> pendingStates = new ArrayDeque<>();
+  private List<CompletableFuture<MessageId>> sendsSinceLastState = new ArrayList<>();
 
   public PulsarRecordConsumer(final PulsarDestinationConfig pulsarDestinationConfig,
                               final ConfiguredAirbyteCatalog catalog,
@@ -58,24 +73,29 @@ public class PulsarRecordConsumer extends FailureTrackingAirbyteMessageConsumer
 
   @Override
   protected void acceptTracked(final AirbyteMessage airbyteMessage) {
+    throwIfSendFailed();
     if (airbyteMessage.getType() == AirbyteMessage.Type.STATE) {
-      lastStateMessage = airbyteMessage;
+      pendingStates.add(new PendingState(airbyteMessage,
+          CompletableFuture.allOf(sendsSinceLastState.toArray(CompletableFuture[]::new))));
+      sendsSinceLastState = new ArrayList<>();
     } else if (airbyteMessage.getType() == AirbyteMessage.Type.RECORD) {
       final AirbyteRecordMessage recordMessage = airbyteMessage.getRecord();
       final Producer<GenericRecord> producer = producerMap.get(AirbyteStreamNameNamespacePair.fromRecordMessage(recordMessage));
       final String key = UUID.randomUUID().toString();
+      final byte[] data = recordMessage.getData().toString().getBytes();
       final GenericRecord value = Schema.generic(PulsarDestinationConfig.getSchemaInfo())
           .newRecordBuilder()
           .set(PulsarDestination.COLUMN_NAME_AB_ID, key)
           .set(PulsarDestination.COLUMN_NAME_STREAM, recordMessage.getStream())
           .set(PulsarDestination.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt())
-          .set(PulsarDestination.COLUMN_NAME_DATA, recordMessage.getData().toString().getBytes())
+          .set(PulsarDestination.COLUMN_NAME_DATA, data)
           .build();
 
-      sendRecord(producer, value);
+      sendRecord(producer, value, data.length);
     } else {
       LOGGER.warn("Unexpected message: " + airbyteMessage.getType());
     }
+    emitAcknowledgedStates();
   }
 
   Map<AirbyteStreamNameNamespacePair, Producer<GenericRecord>> buildProducerMap() {
@@ -90,8 +110,18 @@ public class PulsarRecordConsumer extends FailureTrackingAirbyteMessageConsumer
         }, (existing, newValue) -> existing));
   }
 
-  private void sendRecord(final Producer<GenericRecord> producer, final GenericRecord record) {
-    producer.sendAsync(record);
+  private void sendRecord(final Producer<GenericRecord> producer, final GenericRecord record, final long size) {
+    awaitPendingWindow(size);
+    pendingBytes.addAndGet(size);
+    final CompletableFuture<MessageId> send = producer.sendAsync(record);
+    send.whenComplete((messageId, e) -> {
+      pendingBytes.addAndGet(-size);
+      if (e != null) {
+        sendFailure.compareAndSet(null, e);
+      }
+    });
+    unackedSends.add(send);
+    sendsSinceLastState.add(send);
     if (config.isSync()) {
       try {
         producer.flush();
@@ -99,23 +129,85 @@ public class PulsarRecordConsumer extends FailureTrackingAirbyteMessageConsumer
         LOGGER.error("Error sending message to topic.", e);
         throw new RuntimeException("Cannot send message to Pulsar. Error: " + e.getMessage(), e);
       }
-      if (lastStateMessage != null) {
-        outputRecordCollector.accept(lastStateMessage);
-      }
+      send.join();
+    }
+  }
+
+  /**
+   * Blocks until the unacknowledged records leave room for a new one of the given size, so memory
+   * stays bounded while sends remain asynchronous.
+   */
+  private void awaitPendingWindow(final long size) {
+    while (!unackedSends.isEmpty() && unackedSends.peek().isDone()) {
+      unackedSends.poll();
+    }
+    if (pendingBytes.get() + size <= config.getMaxPendingBytes() && unackedSends.size() < config.getMaxPendingMessages()) {
+      return;
+    }
+    // push out partially filled batches rather than waiting for the publish delay
+    producerMap.values().forEach(producer -> producer.flushAsync());
+    while (!unackedSends.isEmpty()
+        && (pendingBytes.get() + size > config.getMaxPendingBytes() || unackedSends.size() >= config.getMaxPendingMessages())) {
+      unackedSends.poll().exceptionally(e -> null).join();
+    }
+    throwIfSendFailed();
+  }
+
+  /**
+   * Emits, in order, the state messages whose preceding records have all been acknowledged by
+   * Pulsar. Throws if one of these records could not be sent.
+   */
+  private void emitAcknowledgedStates() {
+    while (!pendingStates.isEmpty() && pendingStates.peek().acks.isDone()) {
+      final PendingState state = pendingStates.poll();
+      throwIfNotAcknowledged(state.acks);
+      outputRecordCollector.accept(state.message);
+    }
+  }
+
+  private static void throwIfNotAcknowledged(final CompletableFuture<?> acks) {
+    try {
+      acks.join();
+    } catch (final CompletionException e) {
+      throw new RuntimeException("Cannot send message to Pulsar. Error: " + e.getCause().getMessage(), e.getCause());
+    }
+  }
+
+  private void throwIfSendFailed() {
+    final Throwable failure = sendFailure.get();
+    if (failure != null) {
+      throw new RuntimeException("Cannot send message to Pulsar. Error: " + failure.getMessage(), failure);
     }
   }
 
   @Override
   protected void close(final boolean hasFailed) {
-    producerMap.values().forEach(producer -> {
-      Exceptions.swallow(producer::flush);
-      Exceptions.swallow(producer::close);
-    });
-    Exceptions.swallow(client::close);
+    producerMap.values().forEach(producer -> Exceptions.swallow(producer::flush));
+    try {
+      if (!hasFailed) {
+        for (final PendingState state : pendingStates) {
+          state.acks.exceptionally(e -> null).join();
+        }
+        emitAcknowledgedStates();
+        // records received after the last state must be acknowledged too for the sync to succeed
+        throwIfNotAcknowledged(CompletableFuture.allOf(sendsSinceLastState.toArray(CompletableFuture[]::new)));
+      }
+    } finally {
+      producerMap.values().forEach(producer -> Exceptions.swallow(producer::close));
+      Exceptions.swallow(client::close);
+    }
+  }
 
-    if (lastStateMessage != null) {
-      outputRecordCollector.accept(lastStateMessage);
+  private static class PendingState {
+
+    private final AirbyteMessage message;
+    private final CompletableFuture<Void> acks;
+
+    PendingState(final AirbyteMessage message, final CompletableFuture<Void> acks) {
+      this.message = message;
+      this.acks = acks;
     }
+
   }
 
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.pulsar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
+import io.airbyte.integrations.destination.StandardNameTransformer;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.Producer;
+import org.apache.pulsar.client.api.schema.GenericRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that state messages are only emitted once Pulsar acknowledged the records received before
+ * them, using a mocked producer whose sends are completed by the tests.
+ */
+@DisplayName("PulsarRecordConsumer state gating")
+class PulsarRecordConsumerStateTest {
+
+  private static final String STREAM_NAME = "test-stream";
+  private static final String NAMESPACE = "test-schema";
+
+  private List<CompletableFuture<MessageId>> sends;
+  private List<AirbyteMessage> emittedMessages;
+  private PulsarRecordConsumer consumer;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setup() {
+    sends = new ArrayList<>();
+    emittedMessages = new ArrayList<>();
+
+    final Producer<GenericRecord> producer = mock(Producer.class);
+    when(producer.sendAsync(any())).thenAnswer(invocation -> {
+      final CompletableFuture<MessageId> send = new CompletableFuture<>();
+      sends.add(send);
+      return send;
+    });
+
+    final PulsarDestinationConfig config = PulsarDestinationConfig.getPulsarDestinationConfig(Jsons.jsonNode(ImmutableMap.builder()
+        .put("brokers", "localhost:6650")
+        .put("use_tls", false)
+        .put("topic_type", "non-persistent")
+        .put("topic_tenant", "public")
+        .put("topic_namespace", "default")
+        .put("topic_pattern", "test-topic")
+        .put("producer_sync", false)
+        .put("compression_type", "NONE")
+        .put("send_timeout_ms", 30000)
+        .put("max_pending_messages", 1000)
+        .put("max_pending_messages_across_partitions", 50000)
+        .put("batching_enabled", true)
+        .put("batching_max_messages", 1000)
+        .put("batching_max_publish_delay", 1)
+        .put("block_if_queue_full", true)
+        .build()));
+    final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog().withStreams(List.of(
+        CatalogHelpers.createConfiguredAirbyteStream(
+            STREAM_NAME,
+            NAMESPACE,
+            Field.of("id", JsonSchemaPrimitive.NUMBER))));
+
+    consumer = new PulsarRecordConsumer(config, catalog, emittedMessages::add, new StandardNameTransformer()) {
+
+      @Override
+      Map<AirbyteStreamNameNamespacePair, Producer<GenericRecord>> buildProducerMap() {
+        return Map.of(new AirbyteStreamNameNamespacePair(STREAM_NAME, NAMESPACE), producer);
+      }
+
+    };
+  }
+
+  @Test
+  void testStateEmittedOnceRecordsAcknowledged() throws Exception {
+    final AirbyteMessage state = state(2);
+    consumer.start();
+    consumer.accept(record(1));
+    consumer.accept(record(2));
+    consumer.accept(state);
+
+    sends.get(0).complete(MessageId.latest);
+    consumer.accept(record(3));
+    assertTrue(emittedMessages.isEmpty());
+
+    sends.get(1).complete(MessageId.latest);
+    consumer.accept(record(4));
+    assertEquals(List.of(state), emittedMessages);
+
+    sends.get(2).complete(MessageId.latest);
+    sends.get(3).complete(MessageId.latest);
+    consumer.close();
+    assertEquals(List.of(state), emittedMessages);
+  }
+
+  @Test
+  void testFailedAcknowledgementFailsClose() throws Exception {
+    consumer.start();
+    consumer.accept(record(1));
+    consumer.accept(record(2));
+    consumer.accept(state(2));
+
+    sends.get(0).complete(MessageId.latest);
+    sends.get(1).completeExceptionally(new RuntimeException("induced exception"));
+
+    assertThrows(RuntimeException.class, consumer::close);
+    assertTrue(emittedMessages.isEmpty());
+  }
+
+  @Test
+  void testFailedAcknowledgementAfterLastStateFailsClose() throws Exception {
+    final AirbyteMessage state = state(1);
+    consumer.start();
+    consumer.accept(record(1));
+    consumer.accept(state);
+    consumer.accept(record(2));
+
+    sends.get(0).complete(MessageId.latest);
+    sends.get(1).completeExceptionally(new RuntimeException("induced exception"));
+
+    assertThrows(RuntimeException.class, consumer::close);
+    assertEquals(List.of(state), emittedMessages);
+  }
+
+  private static AirbyteMessage record(final int id) {
+    return new AirbyteMessage()
+        .withType(AirbyteMessage.Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream(STREAM_NAME)
+            .withNamespace(NAMESPACE)
+            .withEmittedAt(Instant.now().toEpochMilli())
+            .withData(Jsons.jsonNode(ImmutableMap.of("id", id))));
+  }
+
+  private static AirbyteMessage state(final int id) {
+    return new AirbyteMessage()
+        .withType(AirbyteMessage.Type.STATE)
+        .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(ImmutableMap.of(NAMESPACE + "." + STREAM_NAME, id))));
+  }
+
+}
@@ -32,6 +32,15 @@ public interface RedisCache extends Closeable {
    */
   void insert(String key, Instant timestamp, String data);
 
+  /**
+   * Insert multiple records in the implementing Redis cache type with as few round trips as
+   * possible. Record ids are assigned by the cache and ignored if present.
+   *
+   * @param key to insert data in
+   * @param records to be inserted
+   */
+  void insert(String key, List<RedisRecord> records);
+
   /**
    * Copy data from one key to another with the option to replace.
    *
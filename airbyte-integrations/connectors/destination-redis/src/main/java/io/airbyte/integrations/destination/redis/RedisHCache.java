@@ -5,15 +5,25 @@
 package io.airbyte.integrations.destination.redis;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.exceptions.JedisDataException;
 
 public class RedisHCache implements RedisCache {
 
   private static final String PATTERN = ":[0-9]*";
 
+  // hint for the number of keys the server should visit per SCAN call
+  private static final int SCAN_COUNT = 1000;
+
   private final Jedis jedis;
 
   public RedisHCache(RedisConfig redisConfig) {
@@ -27,13 +37,27 @@ public class RedisHCache implements RedisCache {
 
   @Override
   public void insert(String key, Instant timestamp, String data) {
-    var index = jedis.incr(key);
-    var indexKey = generateIndexKey(key, index);
-    var hash = Map.of(
-        RedisRecord.ID_PROPERTY, String.valueOf(index),
-        RedisRecord.DATA_PROPERTY, data,
-        RedisRecord.TIMESTAMP_PROPERTY, String.valueOf(timestamp.toEpochMilli()));
-    jedis.hmset(indexKey, hash);
+    insert(key, List.of(new RedisRecord(null, data, timestamp)));
+  }
+
+  @Override
+  public void insert(String key, List<RedisRecord> records) {
+    if (records.isEmpty()) {
+      return;
+    }
+    // reserve a contiguous range of indexes for the whole batch
+    var lastIndex = jedis.incrBy(key, records.size());
+    var index = lastIndex - records.size();
+    Pipeline pipeline = jedis.pipelined();
+    for (var record : records) {
+      index++;
+      var hash = Map.of(
+          RedisRecord.ID_PROPERTY, String.valueOf(index),
+          RedisRecord.DATA_PROPERTY, record.getData(),
+          RedisRecord.TIMESTAMP_PROPERTY, String.valueOf(record.getTimestamp().toEpochMilli()));
+      pipeline.hset(generateIndexKey(key, index), hash);
+    }
+    syncAndCheck(pipeline);
   }
 
   @Override
@@ -41,21 +65,38 @@ public class RedisHCache implements RedisCache {
     if (replace) {
       delete(destinationKey);
     }
-    jedis.keys(sourceKey + PATTERN).forEach(k -> {
-      var index = jedis.incr(destinationKey);
-      jedis.rename(k, generateIndexKey(destinationKey, index));
+    scan(sourceKey + PATTERN, keys -> {
+      var lastIndex = jedis.incrBy(destinationKey, keys.size());
+      var index = lastIndex - keys.size();
+      Pipeline pipeline = jedis.pipelined();
+      for (var k : keys) {
+        pipeline.rename(k, generateIndexKey(destinationKey, ++index));
+      }
+      syncAndCheck(pipeline);
     });
   }
 
   @Override
   public void delete(String key) {
-    jedis.keys(key + PATTERN).forEach(jedis::del);
+    // unlink reclaims the memory in a background thread on the server
+    scan(key + PATTERN, keys -> jedis.unlink(keys.toArray(String[]::new)));
   }
 
   @Override
   public List<RedisRecord> getAll(String key) {
-    return jedis.keys(key + PATTERN).stream()
-        .map(jedis::hgetAll)
+    var responses = new ArrayList<Response<Map<String, String>>>();
+    // the records are all returned anyway, so the keys already read are kept to skip those SCAN
+    // returns again
+    var readKeys = new HashSet<String>();
+    scan(key + PATTERN, keys -> {
+      Pipeline pipeline = jedis.pipelined();
+      keys.stream()
+          .filter(readKeys::add)
+          .forEach(k -> responses.add(pipeline.hgetAll(k)));
+      syncAndCheck(pipeline);
+    });
+    return responses.stream()
+        .map(Response::get)
         .map(h -> objectMapper.convertValue(h, RedisRecord.class))
         .collect(Collectors.toList());
   }
@@ -79,4 +120,34 @@ public class RedisHCache implements RedisCache {
     return key + ":" + id;
   }
 
+  /*
+   * Hands the keys matching the pattern to the consumer one page at a time, as they are returned by
+   * the cursor based SCAN command, which unlike KEYS does not block the server for the whole
+   * keyspace. SCAN only returns a key more than once if it still exists, which keys that were
+   * renamed or unlinked in an earlier page don't.
+   */
+  private void scan(String pattern, Consumer<List<String>> consumer) {
+    var params = new ScanParams().match(pattern).count(SCAN_COUNT);
+    var cursor = ScanParams.SCAN_POINTER_START;
+    do {
+      var result = jedis.scan(cursor, params);
+      if (!result.getResult().isEmpty()) {
+        consumer.accept(result.getResult());
+      }
+      cursor = result.getCursor();
+    } while (!cursor.equals(ScanParams.SCAN_POINTER_START));
+  }
+
+  /*
+   * Pipelined commands don't throw on error replies, syncAndReturnAll hands the errors back in place
+   * of the replies.
+   */
+  private void syncAndCheck(Pipeline pipeline) {
+    for (var reply : pipeline.syncAndReturnAll()) {
+      if (reply instanceof JedisDataException e) {
+        throw e;
+      }
+    }
+  }
+
 }
@@ -10,6 +10,9 @@ import io.airbyte.integrations.base.FailureTrackingAirbyteMessageConsumer;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -20,6 +23,8 @@ class RedisMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RedisMessageConsumer.class);
 
+  private static final int BUFFER_SIZE = 1000;
+
   private final Consumer<AirbyteMessage> outputRecordCollector;
 
   private final ConfiguredAirbyteCatalog configuredCatalog;
@@ -30,6 +35,8 @@ class RedisMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
 
   private final RedisCache redisCache;
 
+  private final Map<AirbyteStreamNameNamespacePair, List<RedisRecord>> buffers;
+
   private AirbyteMessage lastMessage = null;
 
   public RedisMessageConsumer(RedisConfig redisConfig,
@@ -39,6 +46,7 @@ class RedisMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
     this.outputRecordCollector = outputRecordCollector;
     this.redisCache = RedisCacheFactory.newInstance(redisConfig);
     this.nameTransformer = new RedisNameTransformer();
+    this.buffers = new HashMap<>();
   }
 
   @Override
@@ -50,20 +58,25 @@ class RedisMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
                 nameTransformer.keyName(k.getStream().getNamespace(), k.getStream().getName()),
                 nameTransformer.tmpKeyName(k.getStream().getNamespace(), k.getStream().getName()),
                 k.getDestinationSyncMode())));
+    redisStreams.keySet().forEach(k -> buffers.put(k, new ArrayList<>(BUFFER_SIZE)));
   }
 
   @Override
   protected void acceptTracked(AirbyteMessage message) {
     if (message.getType() == AirbyteMessage.Type.RECORD) {
       var messageRecord = message.getRecord();
-      var streamConfig =
-          redisStreams.get(AirbyteStreamNameNamespacePair.fromRecordMessage(messageRecord));
+      var pair = AirbyteStreamNameNamespacePair.fromRecordMessage(messageRecord);
+      var streamConfig = redisStreams.get(pair);
       if (streamConfig == null) {
         throw new IllegalArgumentException("Unrecognized destination stream");
       }
 
       var timestamp = Instant.ofEpochMilli(messageRecord.getEmittedAt());
-      redisCache.insert(streamConfig.getTmpKey(), timestamp, Jsons.serialize(messageRecord.getData()));
+      var buffer = buffers.get(pair);
+      buffer.add(new RedisRecord(null, Jsons.serialize(messageRecord.getData()), timestamp));
+      if (buffer.size() >= BUFFER_SIZE) {
+        flush(streamConfig, buffer);
+      }
     } else if (message.getType() == AirbyteMessage.Type.STATE) {
       this.lastMessage = message;
     } else {
@@ -71,11 +84,17 @@ class RedisMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
     }
   }
 
+  private void flush(RedisStreamConfig streamConfig, List<RedisRecord> buffer) {
+    redisCache.insert(streamConfig.getTmpKey(), buffer);
+    buffer.clear();
+  }
+
   @Override
   protected void close(boolean hasFailed) {
     if (!hasFailed) {
       redisStreams.forEach((k, v) -> {
         try {
+          flush(v, buffers.get(k));
           switch (v.getDestinationSyncMode()) {
             case APPEND -> redisCache.copy(v.getTmpKey(), v.getKey(), false);
             case OVERWRITE -> redisCache.copy(v.getTmpKey(), v.getKey(), true);
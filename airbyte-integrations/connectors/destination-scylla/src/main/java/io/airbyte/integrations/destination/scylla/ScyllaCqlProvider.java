@@ -4,27 +4,44 @@
 
 package io.airbyte.integrations.destination.scylla;
 
+import com.codahale.metrics.Timer;
 import com.datastax.driver.core.AbstractTableMetadata;
 import com.datastax.driver.core.BatchStatement;
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Host;
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.schemabuilder.SchemaBuilder;
 import com.datastax.driver.core.utils.UUIDs;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import java.io.Closeable;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +52,13 @@ public class ScyllaCqlProvider implements Closeable {
 
   private static final int N_THREADS = Runtime.getRuntime().availableProcessors();
 
+  // statements grouped per unlogged batch, kept small to stay below the
+  // coordinator's batch_size_warn_threshold for typical record sizes
+  private static final int BATCH_SIZE = 50;
+
+  // upper bound of async requests that can be in flight at any given time
+  private static final int MAX_CONCURRENT_REQUESTS = 128;
+
   private final ScyllaConfig scyllaConfig;
 
   private final Cluster cluster;
@@ -43,6 +67,12 @@ public class ScyllaCqlProvider implements Closeable {
 
   private final ExecutorService executorService;
 
+  private final Semaphore inFlightRequests;
+
+  private final AtomicReference<Throwable> writeFailure;
+
+  private final Map<String, PreparedStatement> insertStatements;
+
   private final String columnId;
 
   private final String columnData;
@@ -55,6 +85,9 @@ public class ScyllaCqlProvider implements Closeable {
     this.cluster = sessionTuple.value1();
     this.session = sessionTuple.value2();
     this.executorService = Executors.newFixedThreadPool(N_THREADS);
+    this.inFlightRequests = new Semaphore(MAX_CONCURRENT_REQUESTS);
+    this.writeFailure = new AtomicReference<>();
+    this.insertStatements = new ConcurrentHashMap<>();
     var nameTransformer = new ScyllaNameTransformer(scyllaConfig);
     this.columnId = nameTransformer.outputColumn(JavaBaseConstants.COLUMN_NAME_AB_ID);
     this.columnData = nameTransformer.outputColumn(JavaBaseConstants.COLUMN_NAME_DATA);
@@ -92,11 +125,39 @@ public class ScyllaCqlProvider implements Closeable {
   }
 
   public void insert(String keyspace, String table, String data) {
-    var insert = QueryBuilder.insertInto(keyspace, table)
-        .value(columnId, UUIDs.random())
-        .value(columnData, data)
-        .value(columnTimestamp, Instant.now().toEpochMilli());
-    session.execute(insert);
+    session.execute(prepareInsert(keyspace, table).bind(UUIDs.random(), data, new Date()));
+  }
+
+  /*
+   * Writes the records asynchronously. Statements are grouped by the replicas owning their partition
+   * so that every unlogged batch is handled by a single replica set, and the number of requests in
+   * flight is bounded by a semaphore. Call awaitPendingWrites to wait for completion and surface
+   * failures.
+   */
+  public void insertBatch(String keyspace, String table, List<String> data) {
+    throwIfWriteFailed();
+    var insertStatement = prepareInsert(keyspace, table);
+    var now = new Date();
+    var statements = data.stream()
+        .map(d -> insertStatement.bind(UUIDs.random(), d, now))
+        .collect(Collectors.toList());
+    groupByReplicas(keyspace, statements).stream()
+        .flatMap(group -> Lists.partition(group, BATCH_SIZE).stream())
+        .forEach(this::executeBatchAsync);
+  }
+
+  /*
+   * Blocks until all async writes issued so far have completed, throws if any of them failed.
+   */
+  public void awaitPendingWrites() {
+    try {
+      inFlightRequests.acquire(MAX_CONCURRENT_REQUESTS);
+      inFlightRequests.release(MAX_CONCURRENT_REQUESTS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for pending writes", e);
+    }
+    throwIfWriteFailed();
   }
 
   public List<Triplet<UUID, String, Instant>> select(String keyspace, String table) {
@@ -136,23 +197,96 @@ public class ScyllaCqlProvider implements Closeable {
         .flatMap(range -> range.unwrap().stream())
         .map(range -> selectStatement.bind(range.getStart(), range.getEnd()))
         .map(selectBoundStatement -> executorService.submit(() -> batchInsert(selectBoundStatement, insertStatement)))
+        .collect(Collectors.toList())
         .forEach(this::awaitThread);
 
+    awaitPendingWrites();
   }
 
   private void batchInsert(BoundStatement select, PreparedStatement insert) {
-    // unlogged removes the log record for increased insert speed
-    var batchStatement = new BatchStatement(BatchStatement.Type.UNLOGGED);
+    // rows of a token range share the same replicas, chunk them into bounded unlogged batches
+    // and write them asynchronously while the range is still being paged through
+    var batch = new ArrayList<BoundStatement>(BATCH_SIZE);
+    for (Row r : session.execute(select)) {
+      batch.add(insert.bind(
+          r.get(columnId, UUID.class),
+          r.get(columnData, String.class),
+          r.get(columnTimestamp, Date.class)));
+      if (batch.size() == BATCH_SIZE) {
+        executeBatchAsync(batch);
+        batch = new ArrayList<>(BATCH_SIZE);
+      }
+    }
+    if (!batch.isEmpty()) {
+      executeBatchAsync(batch);
+    }
+  }
 
-    session.execute(select).all().stream()
-        .map(r -> Triplet.of(
-            r.get(columnId, UUID.class),
-            r.get(columnData, String.class),
-            r.get(columnTimestamp, Date.class)))
-        .map(t -> insert.bind(t.value1(), t.value2(), t.value3()))
-        .forEach(batchStatement::add);
+  private PreparedStatement prepareInsert(String keyspace, String table) {
+    return insertStatements.computeIfAbsent(keyspace + "." + table, k -> session.prepare(
+        QueryBuilder.insertInto(keyspace, table)
+            .value(columnId, QueryBuilder.bindMarker())
+            .value(columnData, QueryBuilder.bindMarker())
+            .value(columnTimestamp, QueryBuilder.bindMarker())));
+  }
 
-    session.execute(batchStatement);
+  private Collection<List<BoundStatement>> groupByReplicas(String keyspace, List<BoundStatement> statements) {
+    return statements.stream()
+        .collect(Collectors.groupingBy(s -> replicasOf(keyspace, s)))
+        .values();
+  }
+
+  private Set<Host> replicasOf(String keyspace, BoundStatement statement) {
+    var configuration = cluster.getConfiguration();
+    var routingKey = statement.getRoutingKey(
+        configuration.getProtocolOptions().getProtocolVersion(),
+        configuration.getCodecRegistry());
+    // a null partitioner falls back to the one configured for the cluster
+    return routingKey == null ? Set.of() : cluster.getMetadata().getReplicas(keyspace, null, routingKey);
+  }
+
+  private void executeBatchAsync(List<BoundStatement> statements) {
+    // single statements don't benefit from the batch wrapper
+    Statement statement = statements.size() == 1 ? statements.get(0)
+        : new BatchStatement(BatchStatement.Type.UNLOGGED).addAll(statements);
+    executeAsync(statement);
+  }
+
+  private void executeAsync(Statement statement) {
+    try {
+      inFlightRequests.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for an async write slot", e);
+    }
+    ResultSetFuture result;
+    try {
+      result = session.executeAsync(statement);
+    } catch (RuntimeException e) {
+      inFlightRequests.release();
+      throw e;
+    }
+    Futures.addCallback(result, new FutureCallback<ResultSet>() {
+
+      @Override
+      public void onSuccess(ResultSet resultSet) {
+        inFlightRequests.release();
+      }
+
+      @Override
+      public void onFailure(Throwable error) {
+        writeFailure.compareAndSet(null, error);
+        inFlightRequests.release();
+      }
+
+    }, MoreExecutors.directExecutor());
+  }
+
+  private void throwIfWriteFailed() {
+    var failure = writeFailure.get();
+    if (failure != null) {
+      throw new IllegalStateException("Async write to Scylla failed", failure);
+    }
   }
 
   private void awaitThread(Future<?> future) {
@@ -166,8 +300,25 @@ public class ScyllaCqlProvider implements Closeable {
     }
   }
 
+  private void logRequestLatencies() {
+    // metrics are null when they are disabled in the cluster configuration
+    var metrics = cluster.getMetrics();
+    if (metrics == null) {
+      return;
+    }
+    Timer timer = metrics.getRequestsTimer();
+    var snapshot = timer.getSnapshot();
+    LOGGER.info("Scylla request latencies over {} requests (ms): p50={}, p95={}, p99={}, max={}",
+        timer.getCount(),
+        TimeUnit.NANOSECONDS.toMillis((long) snapshot.getMedian()),
+        TimeUnit.NANOSECONDS.toMillis((long) snapshot.get95thPercentile()),
+        TimeUnit.NANOSECONDS.toMillis((long) snapshot.get99thPercentile()),
+        TimeUnit.NANOSECONDS.toMillis(snapshot.getMax()));
+  }
+
   @Override
   public void close() {
+    logRequestLatencies();
     // gracefully shutdown executor service
     executorService.shutdown();
     // close scylla session
@@ -9,6 +9,8 @@ import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.FailureTrackingAirbyteMessageConsumer;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -19,6 +21,8 @@ public class ScyllaMessageConsumer extends FailureTrackingAirbyteMessageConsumer
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ScyllaMessageConsumer.class);
 
+  private static final int BUFFER_SIZE = 1000;
+
   private final ScyllaConfig scyllaConfig;
 
   private final Consumer<AirbyteMessage> outputRecordCollector;
@@ -27,6 +31,8 @@ public class ScyllaMessageConsumer extends FailureTrackingAirbyteMessageConsumer
 
   private final ScyllaCqlProvider scyllaCqlProvider;
 
+  private final Map<AirbyteStreamNameNamespacePair, List<String>> buffers;
+
   private AirbyteMessage lastMessage = null;
 
   public ScyllaMessageConsumer(ScyllaConfig scyllaConfig,
@@ -44,6 +50,8 @@ public class ScyllaMessageConsumer extends FailureTrackingAirbyteMessageConsumer
                 nameTransformer.outputTable(k.getStream().getName()),
                 nameTransformer.outputTmpTable(k.getStream().getName()),
                 k.getDestinationSyncMode())));
+    this.buffers = scyllaStreams.keySet().stream()
+        .collect(Collectors.toUnmodifiableMap(k -> k, k -> new ArrayList<String>(BUFFER_SIZE)));
   }
 
   @Override
@@ -58,13 +66,16 @@ public class ScyllaMessageConsumer extends FailureTrackingAirbyteMessageConsumer
   protected void acceptTracked(AirbyteMessage message) {
     if (message.getType() == AirbyteMessage.Type.RECORD) {
       var messageRecord = message.getRecord();
-      var streamConfig =
-          scyllaStreams.get(AirbyteStreamNameNamespacePair.fromRecordMessage(messageRecord));
+      var pair = AirbyteStreamNameNamespacePair.fromRecordMessage(messageRecord);
+      var streamConfig = scyllaStreams.get(pair);
       if (streamConfig == null) {
         throw new IllegalArgumentException("Unrecognized destination stream");
       }
-      var data = Jsons.serialize(messageRecord.getData());
-      scyllaCqlProvider.insert(streamConfig.getKeyspace(), streamConfig.getTempTableName(), data);
+      var buffer = buffers.get(pair);
+      buffer.add(Jsons.serialize(messageRecord.getData()));
+      if (buffer.size() >= BUFFER_SIZE) {
+        flush(streamConfig, buffer);
+      }
     } else if (message.getType() == AirbyteMessage.Type.STATE) {
       this.lastMessage = message;
     } else {
@@ -72,9 +83,16 @@ public class ScyllaMessageConsumer extends FailureTrackingAirbyteMessageConsumer
     }
   }
 
+  private void flush(ScyllaStreamConfig streamConfig, List<String> buffer) {
+    scyllaCqlProvider.insertBatch(streamConfig.getKeyspace(), streamConfig.getTempTableName(), List.copyOf(buffer));
+    buffer.clear();
+  }
+
   @Override
   protected void close(boolean hasFailed) {
     if (!hasFailed) {
+      buffers.forEach((k, v) -> flush(scyllaStreams.get(k), v));
+      scyllaCqlProvider.awaitPendingWrites();
       scyllaStreams.forEach((k, v) -> {
         try {
           scyllaCqlProvider.createTableIfNotExists(v.getKeyspace(), v.getTableName());
@@ -9,6 +9,9 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.datastax.driver.core.exceptions.InvalidQueryException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -74,6 +77,28 @@ class ScyllaCqlProviderTest {
 
   }
 
+  @Test
+  void testInsertBatch() {
+    // given
+    // every record gets its own partition, so the batch spans several replica groups and batches
+    List<String> data = IntStream.range(0, 120)
+        .mapToObj(i -> "{\"property\":\"data" + i + "\"}")
+        .collect(Collectors.toList());
+
+    // when
+    scyllaCqlProvider.insertBatch(SCYLLA_KEYSPACE, SCYLLA_TABLE, data.subList(0, 70));
+    scyllaCqlProvider.insertBatch(SCYLLA_KEYSPACE, SCYLLA_TABLE, data.subList(70, 120));
+    scyllaCqlProvider.awaitPendingWrites();
+    var resultSet = scyllaCqlProvider.select(SCYLLA_KEYSPACE, SCYLLA_TABLE);
+
+    // then
+    assertThat(resultSet)
+        .isNotNull()
+        .hasSize(120)
+        .extracting(r -> r.value2())
+        .containsExactlyInAnyOrderElementsOf(data);
+  }
+
   @Test
   void testTruncate() {
     // given
@@ -22,6 +22,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.functional.CheckedConsumer;
+import io.airbyte.commons.functional.CheckedSupplier;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.commons.util.AutoCloseableIterators;
@@ -39,6 +40,7 @@ import io.airbyte.protocol.models.JsonSchemaPrimitive;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -47,6 +49,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -62,6 +68,8 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbSource<Datatype, JdbcDatabase> implements Source {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractJdbcSource.class);
+  // number of connections used to look up table metadata one table at a time.
+  private static final int DISCOVERY_CONCURRENCY = 4;
 
   protected final String driverClass;
   protected final JdbcStreamingQueryConfiguration jdbcStreamingQueryConfiguration;
@@ -109,15 +117,30 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
     return (database.getSourceConfig().has("database") ? database.getSourceConfig().get("database").asText() : null);
   }
 
+  /**
+   * Loads the grants and the column metadata of all tables with one catalog query each. Both queries
+   * are independent and run concurrently on separate connections.
+   */
   @Override
   protected List<TableInfo<CommonField<Datatype>>> discoverInternal(final JdbcDatabase database, final String schema) throws Exception {
     final Set<String> internalSchemas = new HashSet<>(getExcludedInternalNameSpaces());
-    final Set<JdbcPrivilegeDto> tablesWithSelectGrantPrivilege = getPrivilegesTableForCurrentUser(database, schema);
-    return database.bufferedResultSetQuery(
-        // retrieve column metadata from the database
-        conn -> conn.getMetaData().getColumns(getCatalog(database), schema, null, null),
-        // store essential column metadata to a Json object from the result set about each column
-        this::getColumnMetadata)
+    final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    final List<JsonNode> columns;
+    final Set<JdbcPrivilegeDto> tablesWithSelectGrantPrivilege;
+    try {
+      final Future<Set<JdbcPrivilegeDto>> privilegesFuture =
+          executorService.submit(() -> logDuration("privileges discovery", () -> getPrivilegesTableForCurrentUser(database, schema)));
+      columns = logDuration("column discovery", () -> database.bufferedResultSetQuery(
+          // retrieve column metadata from the database
+          conn -> conn.getMetaData().getColumns(getCatalog(database), schema, null, null),
+          // store essential column metadata to a Json object from the result set about each column
+          this::getColumnMetadata));
+      tablesWithSelectGrantPrivilege = getResult(privilegesFuture);
+    } finally {
+      executorService.shutdownNow();
+    }
+
+    return logDuration("table assembly", () -> columns
         .stream()
         .filter(excludeNotAccessibleTables(internalSchemas, tablesWithSelectGrantPrivilege))
         // group by schema and table name to handle the case where a table with the same name exists in
@@ -143,19 +166,20 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
                 })
                 .collect(Collectors.toList()))
             .build())
-        .collect(Collectors.toList());
+        .collect(Collectors.toList()));
   }
 
   private Predicate<JsonNode> excludeNotAccessibleTables(final Set<String> internalSchemas,
                                                          final Set<JdbcPrivilegeDto> tablesWithSelectGrantPrivilege) {
+    // index the grants once instead of scanning them for every column.
+    final Set<String> grantedSchemas = tablesWithSelectGrantPrivilege.stream().map(JdbcPrivilegeDto::getSchemaName).collect(Collectors.toSet());
+    final Set<String> grantedTables = tablesWithSelectGrantPrivilege.stream().map(JdbcPrivilegeDto::getTableName).collect(Collectors.toSet());
     return jsonNode -> {
       if (tablesWithSelectGrantPrivilege.isEmpty()) {
         return !internalSchemas.contains(jsonNode.get(INTERNAL_SCHEMA_NAME).asText());
       }
-      return tablesWithSelectGrantPrivilege.stream()
-          .anyMatch(e -> e.getSchemaName().equals(jsonNode.get(INTERNAL_SCHEMA_NAME).asText()))
-          && tablesWithSelectGrantPrivilege.stream()
-              .anyMatch(e -> e.getTableName().equals(jsonNode.get(INTERNAL_TABLE_NAME).asText()))
+      return grantedSchemas.contains(jsonNode.get(INTERNAL_SCHEMA_NAME).asText())
+          && grantedTables.contains(jsonNode.get(INTERNAL_TABLE_NAME).asText())
           && !internalSchemas.contains(jsonNode.get(INTERNAL_SCHEMA_NAME).asText());
     };
   }
@@ -202,6 +226,7 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
                                                           final List<TableInfo<CommonField<Datatype>>> tableInfos) {
     LOGGER.info("Discover primary keys for tables: " + tableInfos.stream().map(TableInfo::getName).collect(
         Collectors.toSet()));
+    final long startTime = System.currentTimeMillis();
     try {
       // Get all primary keys without specifying a table name
       final Map<String, List<String>> tablePrimaryKeys = aggregatePrimateKeys(database.bufferedResultSetQuery(
@@ -214,29 +239,59 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
             return new SimpleImmutableEntry<>(streamName, primaryKey);
           }));
       if (!tablePrimaryKeys.isEmpty()) {
+        LOGGER.info("Finished primary key discovery in {}", Duration.ofMillis(System.currentTimeMillis() - startTime));
         return tablePrimaryKeys;
       }
     } catch (final SQLException e) {
       LOGGER.debug(String.format("Could not retrieve primary keys without a table name (%s), retrying", e));
     }
-    // Get primary keys one table at a time
-    return tableInfos.stream()
-        .collect(Collectors.toMap(
-            tableInfo -> sourceOperations
-                .getFullyQualifiedTableName(tableInfo.getNameSpace(), tableInfo.getName()),
-            tableInfo -> {
-              final String streamName = sourceOperations
-                  .getFullyQualifiedTableName(tableInfo.getNameSpace(), tableInfo.getName());
-              try {
-                final Map<String, List<String>> primaryKeys = aggregatePrimateKeys(database.bufferedResultSetQuery(
-                    conn -> conn.getMetaData().getPrimaryKeys(getCatalog(database), tableInfo.getNameSpace(), tableInfo.getName()),
-                    r -> new SimpleImmutableEntry<>(streamName, r.getString(JDBC_COLUMN_COLUMN_NAME))));
-                return primaryKeys.getOrDefault(streamName, Collections.emptyList());
-              } catch (final SQLException e) {
-                LOGGER.error(String.format("Could not retrieve primary keys for %s: %s", streamName, e));
-                return Collections.emptyList();
-              }
-            }));
+    // Get primary keys one table at a time, spread over several connections of the pool
+    final ExecutorService executorService = Executors.newFixedThreadPool(DISCOVERY_CONCURRENCY);
+    try {
+      final List<Map.Entry<String, Future<List<String>>>> primaryKeyFutures = new ArrayList<>();
+      for (final TableInfo<CommonField<Datatype>> tableInfo : tableInfos) {
+        final String streamName = sourceOperations
+            .getFullyQualifiedTableName(tableInfo.getNameSpace(), tableInfo.getName());
+        primaryKeyFutures.add(new SimpleImmutableEntry<>(streamName, executorService.submit(() -> {
+          try {
+            final Map<String, List<String>> primaryKeys = aggregatePrimateKeys(database.bufferedResultSetQuery(
+                conn -> conn.getMetaData().getPrimaryKeys(getCatalog(database), tableInfo.getNameSpace(), tableInfo.getName()),
+                r -> new SimpleImmutableEntry<>(streamName, r.getString(JDBC_COLUMN_COLUMN_NAME))));
+            return primaryKeys.getOrDefault(streamName, Collections.emptyList());
+          } catch (final SQLException e) {
+            LOGGER.error(String.format("Could not retrieve primary keys for %s: %s", streamName, e));
+            return Collections.<String>emptyList();
+          }
+        })));
+      }
+
+      // like the sequential lookup, fails with an IllegalStateException if two tables have the same name
+      final Map<String, List<String>> tablePrimaryKeys = primaryKeyFutures.stream()
+          .collect(Collectors.toMap(Map.Entry::getKey, entry -> getResult(entry.getValue())));
+      LOGGER.info("Finished primary key discovery of {} tables one at a time in {}", tableInfos.size(),
+          Duration.ofMillis(System.currentTimeMillis() - startTime));
+      return tablePrimaryKeys;
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  private static <T> T logDuration(final String phase, final CheckedSupplier<T, Exception> supplier) throws Exception {
+    final long startTime = System.currentTimeMillis();
+    final T result = supplier.get();
+    LOGGER.info("Finished {} in {}", phase, Duration.ofMillis(System.currentTimeMillis() - startTime));
+    return result;
+  }
+
+  private static <T> T getResult(final Future<T> future) {
+    try {
+      return future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (final ExecutionException e) {
+      throw new RuntimeException(e.getCause());
+    }
   }
 
   @Override
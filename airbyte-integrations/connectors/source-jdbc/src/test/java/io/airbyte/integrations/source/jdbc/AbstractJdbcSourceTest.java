@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.jdbc;
+
+import static io.airbyte.db.jdbc.JdbcConstants.INTERNAL_COLUMN_NAME;
+import static io.airbyte.db.jdbc.JdbcConstants.INTERNAL_COLUMN_SIZE;
+import static io.airbyte.db.jdbc.JdbcConstants.INTERNAL_COLUMN_TYPE;
+import static io.airbyte.db.jdbc.JdbcConstants.INTERNAL_COLUMN_TYPE_NAME;
+import static io.airbyte.db.jdbc.JdbcConstants.INTERNAL_SCHEMA_NAME;
+import static io.airbyte.db.jdbc.JdbcConstants.INTERNAL_TABLE_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.functional.CheckedFunction;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.db.jdbc.JdbcDatabase;
+import io.airbyte.db.jdbc.JdbcUtils;
+import io.airbyte.db.jdbc.PostgresJdbcStreamingQueryConfiguration;
+import io.airbyte.integrations.base.Source;
+import io.airbyte.integrations.source.jdbc.dto.JdbcPrivilegeDto;
+import io.airbyte.integrations.source.relationaldb.TableInfo;
+import io.airbyte.protocol.models.CommonField;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+
+/**
+ * Discovery against a mocked database. The catalog queries are answered from the arguments of the
+ * {@link DatabaseMetaData} call that each query makes.
+ */
+class AbstractJdbcSourceTest {
+
+  private static final String SCHEMA = "public";
+  private static final long TIMEOUT_SECONDS = 30;
+
+  private JdbcDatabase database;
+  private TestSource source;
+  // names of the threads that looked up the primary keys of each table
+  private Map<String, String> primaryKeyThreads;
+
+  @BeforeEach
+  void setup() throws SQLException {
+    database = mock(JdbcDatabase.class);
+    when(database.getSourceConfig()).thenReturn(Jsons.jsonNode(Collections.emptyMap()));
+    source = new TestSource();
+    primaryKeyThreads = new ConcurrentHashMap<>();
+  }
+
+  @Test
+  void testPrivilegesAreLookedUpWhileColumnsAreQueried() throws Exception {
+    // both lookups wait for each other, discovery only completes if they run at the same time
+    final CyclicBarrier barrier = new CyclicBarrier(2);
+    final List<JsonNode> columns = List.of(
+        column(SCHEMA, "users", "id"),
+        column(SCHEMA, "users", "name"),
+        column(SCHEMA, "orders", "id"),
+        column("information_schema", "users", "id"));
+    source.privileges = () -> {
+      barrier.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      return Set.of(JdbcPrivilegeDto.builder().grantee("user").schemaName(SCHEMA).tableName("users").privilege("SELECT").build());
+    };
+    answerQueries(metaDataCall -> {
+      assertEquals("getColumns", metaDataCall.getMethod().getName());
+      barrier.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      return columns;
+    });
+
+    final List<TableInfo<CommonField<JDBCType>>> tableInfos = source.discoverInternal(database, SCHEMA);
+
+    assertEquals(1, tableInfos.size());
+    assertEquals(SCHEMA, tableInfos.get(0).getNameSpace());
+    assertEquals("users", tableInfos.get(0).getName());
+    assertEquals(List.of("id", "name"), tableInfos.get(0).getFields().stream().map(CommonField::getName).collect(Collectors.toList()));
+    assertNotEquals(Thread.currentThread().getName(), source.privilegesThread);
+  }
+
+  @Test
+  void testWithoutPrivilegesOnlyInternalSchemasAreExcluded() throws Exception {
+    answerQueries(metaDataCall -> List.of(
+        column(SCHEMA, "users", "id"),
+        column(SCHEMA, "orders", "id"),
+        column("information_schema", "tables", "id")));
+
+    final List<TableInfo<CommonField<JDBCType>>> tableInfos = source.discoverInternal(database, SCHEMA);
+
+    assertEquals(Set.of("users", "orders"), tableInfos.stream().map(TableInfo::getName).collect(Collectors.toSet()));
+  }
+
+  @Test
+  void testPrimaryKeysAreLookedUpOnFourConnectionsWhenTheBulkLookupFails() throws Exception {
+    // the lookups of each table wait for 3 others, they only complete if 4 of them run at the same time
+    final CyclicBarrier barrier = new CyclicBarrier(4);
+    answerQueries(metaDataCall -> {
+      final String tableName = metaDataCall.getArgument(2);
+      if (tableName == null) {
+        throw new SQLException("primary keys cannot be retrieved without a table name");
+      }
+      barrier.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      return primaryKeyLookup(metaDataCall);
+    });
+    final List<TableInfo<CommonField<JDBCType>>> tableInfos = tables(8);
+
+    final Map<String, List<String>> primaryKeys = source.discoverPrimaryKeys(database, tableInfos);
+
+    assertEquals(expectedPrimaryKeys(tableInfos), primaryKeys);
+    assertEquals(4, Set.copyOf(primaryKeyThreads.values()).size());
+  }
+
+  @Test
+  void testPrimaryKeysAreLookedUpOneTableAtATimeWhenTheBulkLookupIsEmpty() throws Exception {
+    answerQueries(metaDataCall -> {
+      final String tableName = metaDataCall.getArgument(2);
+      if (tableName == null) {
+        return List.of();
+      }
+      if (tableName.equals("table_1")) {
+        throw new SQLException("primary keys of table_1 cannot be retrieved");
+      }
+      return primaryKeyLookup(metaDataCall);
+    });
+    final List<TableInfo<CommonField<JDBCType>>> tableInfos = tables(3);
+
+    final Map<String, List<String>> primaryKeys = source.discoverPrimaryKeys(database, tableInfos);
+
+    // a table whose primary keys cannot be retrieved has none
+    assertEquals(Map.of(
+        streamName("table_0"), List.of("id"),
+        streamName("table_1"), List.of(),
+        streamName("table_2"), List.of("id")), primaryKeys);
+  }
+
+  @Test
+  void testPrimaryKeysOfTablesWithTheSameName() throws Exception {
+    answerQueries(metaDataCall -> {
+      if (metaDataCall.getArgument(2) == null) {
+        throw new SQLException("primary keys cannot be retrieved without a table name");
+      }
+      return primaryKeyLookup(metaDataCall);
+    });
+    final List<TableInfo<CommonField<JDBCType>>> tableInfos = List.of(table("users"), table("users"));
+
+    // same as the sequential lookup, which collected the keys with Collectors.toMap
+    assertThrows(IllegalStateException.class, () -> source.discoverPrimaryKeys(database, tableInfos));
+  }
+
+  /**
+   * Answers each {@link JdbcDatabase#bufferedResultSetQuery} with the records returned by the
+   * function, given the call the query made to the {@link DatabaseMetaData}.
+   */
+  @SuppressWarnings("unchecked")
+  private void answerQueries(final QueryAnswer answer) throws SQLException {
+    when(database.bufferedResultSetQuery(any(), any())).thenAnswer(invocation -> {
+      final InvocationOnMock[] metaDataCall = new InvocationOnMock[1];
+      final DatabaseMetaData metaData = mock(DatabaseMetaData.class, call -> {
+        metaDataCall[0] = call;
+        return null;
+      });
+      final Connection connection = mock(Connection.class);
+      when(connection.getMetaData()).thenReturn(metaData);
+      ((CheckedFunction<Connection, ?, SQLException>) invocation.getArgument(0)).apply(connection);
+      return answer.apply(metaDataCall[0]);
+    });
+  }
+
+  private List<SimpleImmutableEntry<String, String>> primaryKeyLookup(final InvocationOnMock metaDataCall) {
+    assertEquals("getPrimaryKeys", metaDataCall.getMethod().getName());
+    final String tableName = metaDataCall.getArgument(2);
+    final String streamName = JdbcUtils.getFullyQualifiedTableName(metaDataCall.getArgument(1), tableName);
+    primaryKeyThreads.put(streamName, Thread.currentThread().getName());
+    return List.of(new SimpleImmutableEntry<>(streamName, "id"));
+  }
+
+  private static JsonNode column(final String schemaName, final String tableName, final String columnName) {
+    return Jsons.jsonNode(ImmutableMap.builder()
+        .put(INTERNAL_SCHEMA_NAME, schemaName)
+        .put(INTERNAL_TABLE_NAME, tableName)
+        .put(INTERNAL_COLUMN_NAME, columnName)
+        .put(INTERNAL_COLUMN_TYPE, String.valueOf(JDBCType.INTEGER.getVendorTypeNumber()))
+        .put(INTERNAL_COLUMN_TYPE_NAME, "int4")
+        .put(INTERNAL_COLUMN_SIZE, 10)
+        .build());
+  }
+
+  private static List<TableInfo<CommonField<JDBCType>>> tables(final int count) {
+    return IntStream.range(0, count).mapToObj(i -> table("table_" + i)).collect(Collectors.toList());
+  }
+
+  private static TableInfo<CommonField<JDBCType>> table(final String name) {
+    return TableInfo.<CommonField<JDBCType>>builder()
+        .nameSpace(SCHEMA)
+        .name(name)
+        .fields(List.of(new CommonField<>("id", JDBCType.INTEGER)))
+        .build();
+  }
+
+  private static String streamName(final String tableName) {
+    return JdbcUtils.getFullyQualifiedTableName(SCHEMA, tableName);
+  }
+
+  private static Map<String, List<String>> expectedPrimaryKeys(final List<TableInfo<CommonField<JDBCType>>> tableInfos) {
+    return tableInfos.stream().collect(Collectors.toMap(tableInfo -> streamName(tableInfo.getName()), tableInfo -> List.of("id")));
+  }
+
+  @FunctionalInterface
+  private interface QueryAnswer {
+
+    List<?> apply(InvocationOnMock metaDataCall) throws Exception;
+
+  }
+
+  @FunctionalInterface
+  private interface PrivilegesLookup {
+
+    Set<JdbcPrivilegeDto> get() throws Exception;
+
+  }
+
+  private static class TestSource extends AbstractJdbcSource<JDBCType> implements Source {
+
+    private PrivilegesLookup privileges = Collections::emptySet;
+    private volatile String privilegesThread;
+
+    TestSource() {
+      super("org.postgresql.Driver", new PostgresJdbcStreamingQueryConfiguration(), JdbcUtils.getDefaultSourceOperations());
+    }
+
+    @Override
+    public JsonNode toDatabaseConfig(final JsonNode config) {
+      return config;
+    }
+
+    @Override
+    public Set<String> getExcludedInternalNameSpaces() {
+      return Set.of("information_schema", "pg_catalog");
+    }
+
+    @Override
+    public Set<JdbcPrivilegeDto> getPrivilegesTableForCurrentUser(final JdbcDatabase database, final String schema) throws SQLException {
+      privilegesThread = Thread.currentThread().getName();
+      try {
+        return privileges.get();
+      } catch (final Exception e) {
+        throw new SQLException(e);
+      }
+    }
+
+  }
+
+}
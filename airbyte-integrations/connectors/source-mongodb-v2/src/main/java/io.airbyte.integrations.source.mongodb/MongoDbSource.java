@@ -29,6 +29,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
@@ -58,6 +62,8 @@ public class MongoDbSource extends AbstractDbSource<BsonType, MongoDatabase> {
   private static final String AUTH_SOURCE = "auth_source";
   private static final String TLS = "tls";
   private static final String PRIMARY_KEY = "_id";
+  private static final String DISCOVER_SAMPLE_SIZE = "discover_sample_size";
+  private static final int DISCOVER_CONCURRENCY = 8;
 
   public static void main(final String[] args) throws Exception {
     final Source source = new MongoDbSource();
@@ -109,30 +115,62 @@ public class MongoDbSource extends AbstractDbSource<BsonType, MongoDatabase> {
     return Collections.emptySet();
   }
 
+  /**
+   * Collections are sampled concurrently on a bounded pool.
+   */
   @Override
   protected List<TableInfo<CommonField<BsonType>>> discoverInternal(final MongoDatabase database)
       throws Exception {
-    final List<TableInfo<CommonField<BsonType>>> tableInfos = new ArrayList<>();
+    final int sampleSize = getDiscoverSampleSize(database.getSourceConfig());
+    final List<String> collectionNames = new ArrayList<>(database.getCollectionNames());
+    if (collectionNames.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    final ExecutorService executorService = Executors.newFixedThreadPool(Math.min(DISCOVER_CONCURRENCY, collectionNames.size()));
+    try {
+      final List<Future<TableInfo<CommonField<BsonType>>>> futures = new ArrayList<>();
+      for (final String collectionName : collectionNames) {
+        futures.add(executorService.submit(() -> discoverCollection(database, collectionName, sampleSize)));
+      }
+
+      final List<TableInfo<CommonField<BsonType>>> tableInfos = new ArrayList<>();
+      for (final Future<TableInfo<CommonField<BsonType>>> future : futures) {
+        try {
+          tableInfos.add(future.get());
+        } catch (final ExecutionException e) {
+          throw new RuntimeException("Failed to discover collection", e.getCause());
+        }
+      }
+      return tableInfos;
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
 
-    for (final String collectionName : database.getCollectionNames()) {
-      final MongoCollection<Document> collection = database.getCollection(collectionName);
-      final Map<String, BsonType> uniqueFields = MongoUtils.getUniqueFields(collection);
+  private static TableInfo<CommonField<BsonType>> discoverCollection(final MongoDatabase database,
+                                                                     final String collectionName,
+                                                                     final int sampleSize) {
+    final MongoCollection<Document> collection = database.getCollection(collectionName);
+    final Map<String, BsonType> uniqueFields = MongoUtils.getUniqueFields(collection, sampleSize);
 
-      final List<CommonField<BsonType>> fields = uniqueFields.keySet().stream()
-          .map(field -> new CommonField<>(field, uniqueFields.get(field)))
-          .collect(Collectors.toList());
+    final List<CommonField<BsonType>> fields = uniqueFields.keySet().stream()
+        .map(field -> new CommonField<>(field, uniqueFields.get(field)))
+        .collect(Collectors.toList());
 
-      // The field name _id is reserved for use as a primary key;
-      final TableInfo<CommonField<BsonType>> tableInfo = TableInfo.<CommonField<BsonType>>builder()
-          .nameSpace(database.getName())
-          .name(collectionName)
-          .fields(fields)
-          .primaryKeys(List.of(PRIMARY_KEY))
-          .build();
+    // The field name _id is reserved for use as a primary key;
+    return TableInfo.<CommonField<BsonType>>builder()
+        .nameSpace(database.getName())
+        .name(collectionName)
+        .fields(fields)
+        .primaryKeys(List.of(PRIMARY_KEY))
+        .build();
+  }
 
-      tableInfos.add(tableInfo);
-    }
-    return tableInfos;
+  private static int getDiscoverSampleSize(final JsonNode config) {
+    return config != null && config.hasNonNull(DISCOVER_SAMPLE_SIZE)
+        ? config.get(DISCOVER_SAMPLE_SIZE).asInt()
+        : MongoUtils.DEFAULT_DISCOVER_SAMPLE_SIZE;
   }
 
   @Override
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.mongodb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.db.mongodb.MongoDatabase;
+import io.airbyte.db.mongodb.MongoUtils;
+import io.airbyte.integrations.source.relationaldb.TableInfo;
+import io.airbyte.protocol.models.CommonField;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MongoDbSourceTest {
+
+  private static final String DATABASE_NAME = "test_database";
+  private static final List<String> COLLECTION_NAMES = List.of("users", "orders", "invoices");
+
+  private MongoDatabase database;
+  private Map<String, List<? extends Bson>> pipelines;
+
+  @BeforeEach
+  void setup() {
+    database = mock(MongoDatabase.class);
+    pipelines = new ConcurrentHashMap<>();
+    when(database.getName()).thenReturn(DATABASE_NAME);
+    when(database.getCollectionNames()).thenReturn(new LinkedHashSet<>(COLLECTION_NAMES));
+  }
+
+  @Test
+  void testDiscoverSamplesCollectionsConcurrently() throws Exception {
+    // every collection waits for all of them to be sampled at the same time
+    final CountDownLatch sampling = new CountDownLatch(COLLECTION_NAMES.size());
+    COLLECTION_NAMES.forEach(name -> mockCollection(name, () -> {
+      sampling.countDown();
+      try {
+        assertTrue(sampling.await(10, TimeUnit.SECONDS), "collections are not sampled concurrently");
+      } catch (final InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    }));
+    when(database.getSourceConfig()).thenReturn(Jsons.jsonNode(ImmutableMap.of("discover_sample_size", 500)));
+
+    final List<TableInfo<CommonField<BsonType>>> tableInfos = new MongoDbSource().discoverInternal(database);
+
+    assertEquals(COLLECTION_NAMES, tableInfos.stream().map(TableInfo::getName).collect(Collectors.toList()));
+    tableInfos.forEach(tableInfo -> {
+      assertEquals(DATABASE_NAME, tableInfo.getNameSpace());
+      assertEquals(List.of("_id"), tableInfo.getPrimaryKeys());
+      assertEquals(
+          Map.of("_id", BsonType.OBJECT_ID, "name", BsonType.STRING),
+          tableInfo.getFields().stream().collect(Collectors.toMap(CommonField::getName, CommonField::getType)));
+    });
+    COLLECTION_NAMES.forEach(name -> assertEquals(sampleStage(500), pipelines.get(name).get(0)));
+  }
+
+  @Test
+  void testDiscoverUsesDefaultSampleSize() throws Exception {
+    COLLECTION_NAMES.forEach(name -> mockCollection(name, () -> {}));
+    when(database.getSourceConfig()).thenReturn(Jsons.emptyObject());
+
+    new MongoDbSource().discoverInternal(database);
+
+    COLLECTION_NAMES.forEach(name -> assertEquals(sampleStage(MongoUtils.DEFAULT_DISCOVER_SAMPLE_SIZE), pipelines.get(name).get(0)));
+  }
+
+  @Test
+  void testDiscoverFailsIfCollectionCannotBeSampled() {
+    COLLECTION_NAMES.forEach(name -> mockCollection(name, () -> {
+      if (name.equals("orders")) {
+        throw new IllegalStateException("induced exception");
+      }
+    }));
+    when(database.getSourceConfig()).thenReturn(Jsons.emptyObject());
+
+    final RuntimeException exception = assertThrows(RuntimeException.class, () -> new MongoDbSource().discoverInternal(database));
+    assertEquals("induced exception", exception.getCause().getMessage());
+  }
+
+  /**
+   * Mocks a collection whose sample contains an _id and a name field. The action runs when the
+   * collection is sampled.
+   */
+  @SuppressWarnings("unchecked")
+  private void mockCollection(final String collectionName, final Runnable onSample) {
+    final MongoCollection<Document> collection = mock(MongoCollection.class);
+    final AggregateIterable<Document> aggregateIterable = mock(AggregateIterable.class);
+    final MongoCursor<Document> cursor = mock(MongoCursor.class);
+    final Iterator<Document> groups = List.of(group("_id", "objectId"), group("name", "string"), group("name", "null")).iterator();
+
+    when(database.getCollection(collectionName)).thenReturn(collection);
+    when(collection.aggregate(anyList())).thenAnswer(invocation -> {
+      pipelines.put(collectionName, invocation.getArgument(0));
+      onSample.run();
+      return aggregateIterable;
+    });
+    when(aggregateIterable.allowDiskUse(true)).thenReturn(aggregateIterable);
+    when(aggregateIterable.cursor()).thenReturn(cursor);
+    when(cursor.hasNext()).thenAnswer(invocation -> groups.hasNext());
+    when(cursor.next()).thenAnswer(invocation -> groups.next());
+  }
+
+  private static Document group(final String key, final String fieldType) {
+    return new Document("_id", new Document("key", key).append("fieldType", fieldType));
+  }
+
+  private static Document sampleStage(final int sampleSize) {
+    return new Document("$sample", new Document("size", sampleSize));
+  }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.postgres;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.base.Preconditions;
+import io.airbyte.commons.json.Jsons;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Decodes rows produced by {@code COPY ... TO STDOUT WITH (FORMAT csv)} into records. Values are
+ * converted the same way {@link PostgresSourceOperations#rowToJson} converts them, so a table read
+ * with COPY yields identical records. Only types whose CSV text representation maps one to one onto
+ * that conversion are supported, see {@link #isSupported(List)}.
+ * <p>
+ * In CSV format Postgres writes NULL as an unquoted empty field and an empty string as a quoted
+ * empty field. The server sends every row in a separate CopyData message, so each call to
+ * {@link #decode(byte[])} receives exactly one row including its trailing newline.
+ * </p>
+ */
+public class PostgresCopyDecoder {
+
+  private static final char DELIMITER = ',';
+  private static final char QUOTE = '"';
+
+  private static final Set<String> SUPPORTED_TYPES = Set.of(
+      "bool",
+      "int2",
+      "int4",
+      "int8",
+      "float4",
+      "float8",
+      "numeric",
+      "text",
+      "varchar",
+      "bpchar",
+      "uuid",
+      "json",
+      "jsonb");
+
+  private final String[] columnNames;
+  private final ColumnType[] columnTypes;
+  private final StringBuilder quotedValue = new StringBuilder();
+
+  public PostgresCopyDecoder(final List<String> columnNames, final List<String> columnTypeNames) {
+    Preconditions.checkArgument(columnNames.size() == columnTypeNames.size(), "Each column needs a type");
+    Preconditions.checkArgument(isSupported(columnTypeNames), "Unsupported column types: " + columnTypeNames);
+    this.columnNames = columnNames.toArray(new String[0]);
+    this.columnTypes = columnTypeNames.stream().map(PostgresCopyDecoder::toColumnType).toArray(ColumnType[]::new);
+  }
+
+  /**
+   * @param columnTypeNames Postgres type names as returned by
+   *        {@link java.sql.ResultSetMetaData#getColumnTypeName(int)}.
+   * @return true if every column can be decoded from the COPY output.
+   */
+  public static boolean isSupported(final List<String> columnTypeNames) {
+    return columnTypeNames.stream().allMatch(SUPPORTED_TYPES::contains);
+  }
+
+  public JsonNode decode(final byte[] row) {
+    int length = row.length;
+    if (length > 0 && row[length - 1] == '\n') {
+      length--;
+    }
+    final String line = new String(row, 0, length, StandardCharsets.UTF_8);
+    final ObjectNode record = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
+
+    int position = 0;
+    for (int column = 0; column < columnNames.length; column++) {
+      if (position > line.length()) {
+        throw new IllegalStateException(String.format("Expected %d columns in COPY row but got %d", columnNames.length, column));
+      }
+      final String value;
+      if (position < line.length() && line.charAt(position) == QUOTE) {
+        quotedValue.setLength(0);
+        position++;
+        while (true) {
+          if (position >= line.length()) {
+            throw new IllegalStateException("Unterminated quoted value in COPY row for column " + columnNames[column]);
+          }
+          final char c = line.charAt(position++);
+          if (c == QUOTE) {
+            if (position < line.length() && line.charAt(position) == QUOTE) {
+              quotedValue.append(QUOTE);
+              position++;
+            } else {
+              break;
+            }
+          } else {
+            quotedValue.append(c);
+          }
+        }
+        value = quotedValue.toString();
+      } else {
+        final int start = position;
+        while (position < line.length() && line.charAt(position) != DELIMITER) {
+          position++;
+        }
+        // an unquoted empty field is how csv COPY represents NULL.
+        value = position == start ? null : line.substring(start, position);
+      }
+      // skip the delimiter.
+      position++;
+
+      if (value != null) {
+        putValue(record, columnNames[column], columnTypes[column], value);
+      }
+    }
+    return record;
+  }
+
+  private static void putValue(final ObjectNode record, final String columnName, final ColumnType columnType, final String value) {
+    switch (columnType) {
+      case BOOLEAN -> record.put(columnName, value.equals("t"));
+      case SHORT -> record.put(columnName, Short.parseShort(value));
+      case INTEGER -> record.put(columnName, Integer.parseInt(value));
+      case BIG_INT -> record.put(columnName, Long.parseLong(value));
+      case FLOAT -> {
+        // same as the jdbc path, values without a json equivalent (Infinity, NaN) become null.
+        final float parsed = Float.parseFloat(value);
+        if (Float.isFinite(parsed)) {
+          record.put(columnName, parsed);
+        } else {
+          record.putNull(columnName);
+        }
+      }
+      case DOUBLE -> {
+        final double parsed = Double.parseDouble(value);
+        if (Double.isFinite(parsed)) {
+          record.put(columnName, parsed);
+        } else {
+          record.putNull(columnName);
+        }
+      }
+      case DECIMAL -> {
+        try {
+          record.put(columnName, new BigDecimal(value));
+        } catch (final NumberFormatException e) {
+          record.putNull(columnName);
+        }
+      }
+      case STRING -> record.put(columnName, value);
+      default -> throw new IllegalStateException("Unexpected column type: " + columnType);
+    }
+  }
+
+  private static ColumnType toColumnType(final String typeName) {
+    return switch (typeName) {
+      case "bool" -> ColumnType.BOOLEAN;
+      case "int2" -> ColumnType.SHORT;
+      case "int4" -> ColumnType.INTEGER;
+      case "int8" -> ColumnType.BIG_INT;
+      case "float4" -> ColumnType.FLOAT;
+      case "float8" -> ColumnType.DOUBLE;
+      case "numeric" -> ColumnType.DECIMAL;
+      default -> ColumnType.STRING;
+    };
+  }
+
+  private enum ColumnType {
+    BOOLEAN,
+    SHORT,
+    INTEGER,
+    BIG_INT,
+    FLOAT,
+    DOUBLE,
+    DECIMAL,
+    STRING
+  }
+
+}
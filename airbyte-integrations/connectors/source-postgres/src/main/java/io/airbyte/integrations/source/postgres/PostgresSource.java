@@ -16,6 +16,7 @@ import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.functional.CheckedConsumer;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.util.AutoCloseableIterators;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.db.jdbc.PostgresJdbcStreamingQueryConfiguration;
 import io.airbyte.integrations.base.IntegrationRunner;
@@ -33,14 +34,24 @@ import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.CommonField;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.SyncMode;
+import java.sql.Connection;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.CopyOut;
+import org.postgresql.core.BaseConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -202,6 +213,85 @@ public class PostgresSource extends AbstractJdbcSource<JDBCType> implements Sour
     }
   }
 
+  /**
+   * When bulk read is enabled, full refresh tables are exported with {@code COPY ... TO STDOUT}
+   * instead of a cursor based query. COPY streams rows without the per fetch round trips of the
+   * extended query protocol. Tables with column types the {@link PostgresCopyDecoder} cannot decode
+   * are read with the regular query.
+   */
+  @Override
+  public AutoCloseableIterator<JsonNode> queryTableFullRefresh(final JdbcDatabase database,
+                                                               final List<String> columnNames,
+                                                               final String schemaName,
+                                                               final String tableName) {
+    if (!isBulkRead(database.getSourceConfig())) {
+      return super.queryTableFullRefresh(database, columnNames, schemaName, tableName);
+    }
+
+    final String sql = String.format("SELECT %s FROM %s", enquoteIdentifierList(columnNames), getFullTableName(schemaName, tableName));
+    return AutoCloseableIterators.lazyIterator(() -> {
+      try {
+        final List<String> columnTypeNames = new ArrayList<>();
+        database.execute(connection -> {
+          try (final PreparedStatement ps = connection.prepareStatement(sql + " LIMIT 0")) {
+            final ResultSetMetaData metadata = ps.executeQuery().getMetaData();
+            for (int i = 1; i <= metadata.getColumnCount(); i++) {
+              columnTypeNames.add(metadata.getColumnTypeName(i));
+            }
+          }
+        });
+
+        if (!PostgresCopyDecoder.isSupported(columnTypeNames)) {
+          LOGGER.info("Table {} has column types {} that cannot be read with COPY, falling back to a regular query", tableName, columnTypeNames);
+          return super.queryTableFullRefresh(database, columnNames, schemaName, tableName);
+        }
+
+        LOGGER.info("Queueing COPY for table: {}", tableName);
+        final PostgresCopyDecoder decoder = new PostgresCopyDecoder(columnNames, columnTypeNames);
+        final Stream<JsonNode> stream = database.streamQuery(connection -> copyOut(connection, String.format("COPY (%s) TO STDOUT WITH (FORMAT csv)", sql), decoder));
+        return AutoCloseableIterators.fromStream(stream);
+      } catch (final Exception e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
+  private static Stream<JsonNode> copyOut(final Connection connection, final String copySql, final PostgresCopyDecoder decoder) throws SQLException {
+    final CopyOut copyOut = new CopyManager(connection.unwrap(BaseConnection.class)).copyOut(copySql);
+    return StreamSupport.stream(new Spliterators.AbstractSpliterator<JsonNode>(Long.MAX_VALUE, Spliterator.ORDERED) {
+
+      @Override
+      public boolean tryAdvance(final Consumer<? super JsonNode> action) {
+        try {
+          final byte[] row = copyOut.readFromCopy();
+          if (row == null) {
+            return false;
+          }
+          action.accept(decoder.decode(row));
+          return true;
+        } catch (final SQLException e) {
+          throw new RuntimeException(e);
+        }
+      }
+
+    }, false).onClose(() -> {
+      // the stream was closed before the end of the table, the connection is only usable again once
+      // the copy is cancelled.
+      if (copyOut.isActive()) {
+        try {
+          copyOut.cancelCopy();
+        } catch (final SQLException e) {
+          throw new RuntimeException(e);
+        }
+      }
+    });
+  }
+
+  @VisibleForTesting
+  static boolean isBulkRead(final JsonNode config) {
+    return config != null && config.hasNonNull("bulk_read") && config.get("bulk_read").asBoolean();
+  }
+
   @VisibleForTesting
   static boolean isCdc(final JsonNode config) {
     final boolean isCdc = config.hasNonNull("replication_method")
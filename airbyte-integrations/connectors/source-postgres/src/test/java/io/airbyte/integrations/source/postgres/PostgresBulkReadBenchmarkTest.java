@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.postgres;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.db.Database;
+import io.airbyte.db.Databases;
+import io.airbyte.db.jdbc.JdbcDatabase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.jooq.SQLDialect;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Compares the throughput of full refresh reads with a cursor based query and with COPY for a narrow
+ * and a wide table. Disabled because it is a benchmark rather than a test, run it manually and check
+ * the logged rows/s.
+ */
+@Disabled
+class PostgresBulkReadBenchmarkTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PostgresBulkReadBenchmarkTest.class);
+
+  private static final int ROW_COUNT = 1_000_000;
+  private static final int WIDE_TABLE_TEXT_COLUMNS = 25;
+  private static final int RUNS = 3;
+
+  private static PostgreSQLContainer<?> PSQL_DB;
+  private static JsonNode config;
+
+  @BeforeAll
+  static void init() throws Exception {
+    PSQL_DB = new PostgreSQLContainer<>("postgres:13-alpine");
+    PSQL_DB.start();
+
+    config = Jsons.jsonNode(ImmutableMap.builder()
+        .put("host", PSQL_DB.getHost())
+        .put("port", PSQL_DB.getFirstMappedPort())
+        .put("database", PSQL_DB.getDatabaseName())
+        .put("username", PSQL_DB.getUsername())
+        .put("password", PSQL_DB.getPassword())
+        .put("ssl", false)
+        .build());
+
+    final String wideColumns = IntStream.range(0, WIDE_TABLE_TEXT_COLUMNS)
+        .mapToObj(i -> String.format("md5((i + %d)::text) AS text_%d", i, i))
+        .collect(Collectors.joining(", "));
+    try (final Database database = Databases.createDatabase(
+        PSQL_DB.getUsername(),
+        PSQL_DB.getPassword(),
+        PSQL_DB.getJdbcUrl(),
+        "org.postgresql.Driver",
+        SQLDialect.POSTGRES)) {
+      database.query(ctx -> {
+        ctx.fetch(String.format("CREATE TABLE narrow AS SELECT i AS id, 'name_' || i AS name FROM generate_series(1, %d) AS i;", ROW_COUNT));
+        ctx.fetch(String.format("CREATE TABLE wide AS SELECT i AS id, i::bigint * 1000 AS amount, i / 3.0 AS ratio, i %% 2 = 0 AS flag, %s "
+            + "FROM generate_series(1, %d) AS i;", wideColumns, ROW_COUNT));
+        return null;
+      });
+    }
+  }
+
+  @AfterAll
+  static void cleanUp() {
+    PSQL_DB.close();
+  }
+
+  @Test
+  void benchmarkNarrowTable() throws Exception {
+    benchmark("narrow", List.of("id", "name"));
+  }
+
+  @Test
+  void benchmarkWideTable() throws Exception {
+    final List<String> columns = new ArrayList<>(List.of("id", "amount", "ratio", "flag"));
+    IntStream.range(0, WIDE_TABLE_TEXT_COLUMNS).forEach(i -> columns.add("text_" + i));
+    benchmark("wide", columns);
+  }
+
+  private static void benchmark(final String tableName, final List<String> columns) throws Exception {
+    for (int run = 0; run < RUNS; run++) {
+      final double cursorRowsPerSecond = read(tableName, columns, false);
+      final double copyRowsPerSecond = read(tableName, columns, true);
+      LOGGER.info("Table {} run {}: cursor query {} rows/s, COPY {} rows/s ({}x)", tableName, run,
+          Math.round(cursorRowsPerSecond), Math.round(copyRowsPerSecond), String.format("%.2f", copyRowsPerSecond / cursorRowsPerSecond));
+    }
+  }
+
+  private static double read(final String tableName, final List<String> columns, final boolean bulkRead) throws Exception {
+    final PostgresSource source = new PostgresSource();
+    final JsonNode sourceConfig = Jsons.clone(config);
+    ((ObjectNode) sourceConfig).put("bulk_read", bulkRead);
+
+    try (final JdbcDatabase database = source.createDatabase(sourceConfig)) {
+      database.setSourceConfig(sourceConfig);
+      final long start = System.nanoTime();
+      long count = 0;
+      try (final AutoCloseableIterator<JsonNode> iterator = source.queryTableFullRefresh(database, columns, "public", tableName)) {
+        while (iterator.hasNext()) {
+          iterator.next();
+          count++;
+        }
+      }
+      final double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+      assertEquals(ROW_COUNT, count);
+      return count / seconds;
+    }
+  }
+
+}
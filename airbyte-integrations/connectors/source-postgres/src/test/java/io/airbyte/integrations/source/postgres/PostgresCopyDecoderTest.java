@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.postgres;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PostgresCopyDecoderTest {
+
+  @Test
+  void testDecodeTypes() {
+    final PostgresCopyDecoder decoder = new PostgresCopyDecoder(
+        List.of("id", "small", "big", "flag", "price", "ratio", "real", "name", "data"),
+        List.of("int4", "int2", "int8", "bool", "numeric", "float8", "float4", "varchar", "jsonb"));
+
+    final JsonNode record = decoder.decode(row("1,2,9223372036854775807,t,10.50,1.5,0.25,goku,\"{\"\"power\"\": 9000}\"\n"));
+
+    assertEquals(9, record.size());
+    assertEquals(1, record.get("id").intValue());
+    assertTrue(record.get("id").isInt());
+    assertEquals(2, record.get("small").shortValue());
+    assertTrue(record.get("small").isShort());
+    assertEquals(Long.MAX_VALUE, record.get("big").longValue());
+    assertTrue(record.get("flag").booleanValue());
+    assertTrue(record.get("price").isBigDecimal());
+    assertEquals(0, new BigDecimal("10.50").compareTo(record.get("price").decimalValue()));
+    assertEquals(1.5, record.get("ratio").doubleValue());
+    assertTrue(record.get("real").isFloat());
+    assertEquals(0.25f, record.get("real").floatValue());
+    assertEquals("goku", record.get("name").asText());
+    assertEquals("{\"power\": 9000}", record.get("data").asText());
+  }
+
+  @Test
+  void testNullsAndEmptyStrings() {
+    final PostgresCopyDecoder decoder = new PostgresCopyDecoder(List.of("id", "name", "title"), List.of("int4", "text", "text"));
+
+    // unquoted empty fields are NULL and skipped like in rowToJson, quoted empty fields are strings.
+    assertEquals(Jsons.deserialize("{\"name\":\"\"}"), decoder.decode(row(",\"\",\n")));
+  }
+
+  @Test
+  void testQuotedValues() {
+    final PostgresCopyDecoder decoder = new PostgresCopyDecoder(List.of("a", "b"), List.of("text", "bpchar"));
+
+    assertEquals(Jsons.deserialize("{\"a\":\"comma, \\\"quote\\\"\\nnewline\",\"b\":\"x  \"}"),
+        decoder.decode(row("\"comma, \"\"quote\"\"\nnewline\",x  \n")));
+  }
+
+  @Test
+  void testValuesWithoutJsonEquivalent() {
+    final PostgresCopyDecoder decoder = new PostgresCopyDecoder(List.of("a", "b", "c"), List.of("float8", "float4", "numeric"));
+
+    final JsonNode record = decoder.decode(row("Infinity,NaN,NaN\n"));
+
+    assertEquals(3, record.size());
+    assertTrue(record.get("a").isNull());
+    assertTrue(record.get("b").isNull());
+    assertTrue(record.get("c").isNull());
+  }
+
+  @Test
+  void testSupportedTypes() {
+    assertTrue(PostgresCopyDecoder.isSupported(List.of("int4", "text", "uuid")));
+    assertFalse(PostgresCopyDecoder.isSupported(List.of("int4", "timestamp")));
+    assertFalse(PostgresCopyDecoder.isSupported(List.of("money")));
+    assertThrows(IllegalArgumentException.class, () -> new PostgresCopyDecoder(List.of("a"), List.of("bytea")));
+  }
+
+  @Test
+  void testMissingColumns() {
+    final PostgresCopyDecoder decoder = new PostgresCopyDecoder(List.of("a", "b"), List.of("int4", "int4"));
+
+    assertThrows(IllegalStateException.class, () -> decoder.decode(row("1\n")));
+  }
+
+  private static byte[] row(final String line) {
+    return line.getBytes(StandardCharsets.UTF_8);
+  }
+
+}
@@ -283,6 +283,19 @@ class PostgresSourceTest {
     assertEquals(ASCII_MESSAGES, actualMessages);
   }
 
+  @Test
+  void testReadSuccessWithBulkRead() throws Exception {
+    final ConfiguredAirbyteCatalog configuredCatalog =
+        CONFIGURED_CATALOG.withStreams(CONFIGURED_CATALOG.getStreams().stream().filter(s -> s.getStream().getName().equals(STREAM_NAME)).collect(
+            Collectors.toList()));
+    final JsonNode config = getConfig(PSQL_DB, dbName);
+    ((ObjectNode) config).put("bulk_read", true);
+    final Set<AirbyteMessage> actualMessages = MoreIterators.toSet(new PostgresSource().read(config, configuredCatalog, null));
+    setEmittedAtToNull(actualMessages);
+
+    assertEquals(ASCII_MESSAGES, actualMessages);
+  }
+
   @Test
   void testIsCdc() {
     final JsonNode config = getConfig(PSQL_DB, dbName);
@@ -19,9 +19,10 @@ import io.airbyte.config.Configs.WorkerEnvironment;
 import io.airbyte.config.EnvConfigs;
 import io.airbyte.config.helpers.LogClientSingleton;
 import io.airbyte.config.helpers.LogConfigs;
-import io.airbyte.config.persistence.ConfigPersistence;
+import io.airbyte.config.persistence.CachingConfigPersistence;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.persistence.DatabaseConfigPersistence;
+import io.airbyte.config.persistence.StreamStatePersistence;
 import io.airbyte.config.persistence.split_secrets.SecretPersistence;
 import io.airbyte.config.persistence.split_secrets.SecretsHydrator;
 import io.airbyte.db.Database;
@@ -72,11 +73,13 @@ public class SchedulerApp {
   private static final long GRACEFUL_SHUTDOWN_SECONDS = 30;
   private static final Duration SCHEDULING_DELAY = Duration.ofSeconds(5);
   private static final Duration CLEANING_DELAY = Duration.ofHours(2);
+  private static final Duration CONFIG_CACHE_METRICS_DELAY = Duration.ofMinutes(1);
   private static final ThreadFactory THREAD_FACTORY = new ThreadFactoryBuilder().setNameFormat("worker-%d").build();
 
   private final Path workspaceRoot;
   private final JobPersistence jobPersistence;
   private final ConfigRepository configRepository;
+  private final CachingConfigPersistence configPersistence;
   private final JobCleaner jobCleaner;
   private final JobNotifier jobNotifier;
   private final TemporalClient temporalClient;
@@ -89,6 +92,7 @@ public class SchedulerApp {
   public SchedulerApp(final Path workspaceRoot,
                       final JobPersistence jobPersistence,
                       final ConfigRepository configRepository,
+                      final CachingConfigPersistence configPersistence,
                       final JobCleaner jobCleaner,
                       final JobNotifier jobNotifier,
                       final TemporalClient temporalClient,
@@ -100,6 +104,7 @@ public class SchedulerApp {
     this.workspaceRoot = workspaceRoot;
     this.jobPersistence = jobPersistence;
     this.configRepository = configRepository;
+    this.configPersistence = configPersistence;
     this.jobCleaner = jobCleaner;
     this.jobNotifier = jobNotifier;
     this.temporalClient = temporalClient;
@@ -115,6 +120,7 @@ public class SchedulerApp {
     final ScheduledExecutorService scheduleJobsPool = Executors.newSingleThreadScheduledExecutor();
     final ScheduledExecutorService executeJobsPool = Executors.newSingleThreadScheduledExecutor();
     final ScheduledExecutorService cleanupJobsPool = Executors.newSingleThreadScheduledExecutor();
+    final ScheduledExecutorService configCacheMetricsPool = Executors.newSingleThreadScheduledExecutor();
     final TemporalWorkerRunFactory temporalWorkerRunFactory = new TemporalWorkerRunFactory(temporalClient, workspaceRoot, airbyteVersionOrWarnings);
     final JobRetrier jobRetrier = new JobRetrier(jobPersistence, Instant::now, jobNotifier, maxSyncJobAttempts);
     final TrackingClient trackingClient = TrackingClientSingleton.get();
@@ -161,8 +167,17 @@ public class SchedulerApp {
         CLEANING_DELAY.toSeconds(),
         TimeUnit.SECONDS);
 
+    configCacheMetricsPool.scheduleWithFixedDelay(
+        () -> {
+          MDC.setContextMap(mdc);
+          publishConfigCacheMetrics(configPersistence);
+        },
+        CONFIG_CACHE_METRICS_DELAY.toSeconds(),
+        CONFIG_CACHE_METRICS_DELAY.toSeconds(),
+        TimeUnit.SECONDS);
+
     Runtime.getRuntime().addShutdownHook(new GracefulShutdownHandler(Duration.ofSeconds(GRACEFUL_SHUTDOWN_SECONDS), workerThreadPool,
-        scheduleJobsPool, executeJobsPool, cleanupJobsPool));
+        scheduleJobsPool, executeJobsPool, cleanupJobsPool, configCacheMetricsPool));
   }
 
   private void cleanupZombies(final JobPersistence jobPersistence, final JobNotifier jobNotifier) throws IOException {
@@ -184,6 +199,14 @@ public class SchedulerApp {
     }
   }
 
+  private static void publishConfigCacheMetrics(final CachingConfigPersistence configPersistence) {
+    configPersistence.getCacheStats().forEach((configType, stats) -> {
+      final String prefix = "config_cache_" + configType.toLowerCase();
+      MetricSingleton.getInstance().setGauge(prefix + "_hits", stats.hitCount(), "hits of the config cache for " + configType);
+      MetricSingleton.getInstance().setGauge(prefix + "_misses", stats.missCount(), "misses of the config cache for " + configType);
+    });
+  }
+
   public static void waitForServer(final Configs configs) throws InterruptedException {
     final AirbyteApiClient apiClient = new AirbyteApiClient(
         new ApiClient().setScheme("http")
@@ -231,11 +254,12 @@ public class SchedulerApp {
         configs.getConfigDatabasePassword(),
         configs.getConfigDatabaseUrl())
             .getInitialized();
-    final ConfigPersistence configPersistence = new DatabaseConfigPersistence(configDatabase).withValidation();
+    final CachingConfigPersistence configPersistence = new CachingConfigPersistence(new DatabaseConfigPersistence(configDatabase).withValidation());
     final Optional<SecretPersistence> secretPersistence = SecretPersistence.getLongLived(configs);
     final Optional<SecretPersistence> ephemeralSecretPersistence = SecretPersistence.getEphemeral(configs);
     final SecretsHydrator secretsHydrator = SecretPersistence.getSecretsHydrator(configs);
-    final ConfigRepository configRepository = new ConfigRepository(configPersistence, secretsHydrator, secretPersistence, ephemeralSecretPersistence);
+    final ConfigRepository configRepository = new ConfigRepository(configPersistence, secretsHydrator, secretPersistence, ephemeralSecretPersistence,
+        Optional.of(new StreamStatePersistence(configDatabase)));
 
     final JobPersistence jobPersistence = new DefaultJobPersistence(jobDatabase);
     final JobCleaner jobCleaner = new JobCleaner(
@@ -267,6 +291,7 @@ public class SchedulerApp {
         workspaceRoot,
         jobPersistence,
         configRepository,
+        configPersistence,
         jobCleaner,
         jobNotifier,
         temporalClient,
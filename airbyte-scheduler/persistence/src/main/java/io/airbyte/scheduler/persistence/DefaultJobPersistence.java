@@ -15,6 +15,7 @@ import com.google.common.collect.Sets;
 import com.google.common.collect.UnmodifiableIterator;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.commons.resources.MoreResources;
 import io.airbyte.commons.text.Names;
 import io.airbyte.commons.text.Sqls;
@@ -80,6 +81,7 @@ public class DefaultJobPersistence implements JobPersistence {
 
   protected static final String DEFAULT_SCHEMA = "public";
   private static final String BACKUP_SCHEMA = "import_backup";
+  private static final int EXPORT_FETCH_SIZE = 1000;
   public static final String DEPLOYMENT_ID_KEY = "deployment_id";
   public static final String METADATA_KEY_COL = "key";
   public static final String METADATA_VAL_COL = "value";
@@ -104,6 +106,28 @@ public class DefaultJobPersistence implements JobPersistence {
           + "attempts.ended_at AS attempt_ended_at\n"
           + "FROM jobs LEFT OUTER JOIN attempts ON jobs.id = attempts.job_id ";
 
+  // same columns as BASE_JOB_SELECT_AND_JOIN without the large jsonb blobs that job listings do not
+  // show: the job config and all of the attempt output but the sync summary.
+  private static final String SUMMARY_JOB_SELECT_AND_JOIN =
+      "SELECT\n"
+          + "jobs.id AS job_id,\n"
+          + "jobs.config_type AS config_type,\n"
+          + "jobs.scope AS scope,\n"
+          + "NULL AS config,\n"
+          + "jobs.status AS job_status,\n"
+          + "jobs.started_at AS job_started_at,\n"
+          + "jobs.created_at AS job_created_at,\n"
+          + "jobs.updated_at AS job_updated_at,\n"
+          + "attempts.attempt_number AS attempt_number,\n"
+          + "attempts.log_path AS log_path,\n"
+          + "CASE WHEN attempts.output IS NULL THEN NULL ELSE jsonb_build_object('sync', "
+          + "jsonb_build_object('standardSyncSummary', attempts.output -> 'sync' -> 'standardSyncSummary')) END AS attempt_output,\n"
+          + "attempts.status AS attempt_status,\n"
+          + "attempts.created_at AS attempt_created_at,\n"
+          + "attempts.updated_at AS attempt_updated_at,\n"
+          + "attempts.ended_at AS attempt_ended_at\n"
+          + "FROM jobs LEFT OUTER JOIN attempts ON jobs.id = attempts.job_id ";
+
   private static final String AIRBYTE_METADATA_TABLE = "airbyte_metadata";
   public static final String ORDER_BY_JOB_TIME_ATTEMPT_TIME =
       "ORDER BY jobs.created_at DESC, jobs.id DESC, attempts.created_at ASC, attempts.id ASC ";
@@ -351,6 +375,25 @@ public class DefaultJobPersistence implements JobPersistence {
         configId, pagesize, offset)));
   }
 
+  @Override
+  public List<Job> listJobSummaries(final Set<ConfigType> configTypes, final String configId, final int limit, final Optional<Long> afterJobId)
+      throws IOException {
+    // the page is selected from the jobs alone so that the limit counts jobs rather than joined attempts.
+    // config_type is not cast so that the jobs_scope_config_type_created_at_idx index can be used.
+    final String pageQuery = "SELECT id FROM jobs WHERE " +
+        "config_type IN " + Sqls.toSqlInFragment(configTypes) + " AND " +
+        "scope = ? " +
+        (afterJobId.isPresent() ? "AND (created_at, id) < (SELECT created_at, id FROM jobs WHERE id = ?) " : "") +
+        "ORDER BY created_at DESC, id DESC LIMIT ?";
+    final Object[] bindings = afterJobId.isPresent()
+        ? new Object[] {configId, afterJobId.get(), limit}
+        : new Object[] {configId, limit};
+
+    return jobDatabase.query(ctx -> getJobsFromResult(ctx.fetch(
+        SUMMARY_JOB_SELECT_AND_JOIN + "WHERE jobs.id IN (" + pageQuery + ") " + ORDER_BY_JOB_TIME_ATTEMPT_TIME,
+        bindings)));
+  }
+
   @Override
   public List<Job> listJobsWithStatus(final JobStatus status) throws IOException {
     return listJobsWithStatus(Sets.newHashSet(ConfigType.values()), status);
@@ -371,6 +414,36 @@ public class DefaultJobPersistence implements JobPersistence {
     return listJobsWithStatus(Sets.newHashSet(configType), status);
   }
 
+  @Override
+  public List<Job> listLastJobs(final Set<ConfigType> configTypes, final Set<String> configIds) throws IOException {
+    if (configIds.isEmpty()) {
+      return List.of();
+    }
+    return jobDatabase.query(ctx -> getJobsFromResult(ctx
+        .fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE jobs.id IN (" +
+            "SELECT DISTINCT ON (scope) id FROM jobs WHERE " +
+            "CAST(config_type AS VARCHAR) IN " + Sqls.toSqlInFragment(configTypes) + " AND " +
+            "scope = ANY(?) " +
+            "ORDER BY scope, created_at DESC, id DESC) " +
+            ORDER_BY_JOB_TIME_ATTEMPT_TIME,
+            (Object) configIds.toArray(new String[0]))));
+  }
+
+  @Override
+  public List<Job> listJobsWithStatus(final Set<ConfigType> configTypes, final Set<String> configIds, final Set<JobStatus> statuses)
+      throws IOException {
+    if (configIds.isEmpty() || statuses.isEmpty()) {
+      return List.of();
+    }
+    return jobDatabase.query(ctx -> getJobsFromResult(ctx
+        .fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE " +
+            "CAST(config_type AS VARCHAR) IN " + Sqls.toSqlInFragment(configTypes) + " AND " +
+            "scope = ANY(?) AND " +
+            "CAST(jobs.status AS VARCHAR) IN " + Sqls.toSqlInFragment(statuses) + " " +
+            ORDER_BY_JOB_TIME_ATTEMPT_TIME,
+            (Object) configIds.toArray(new String[0]))));
+  }
+
   @Override
   public Optional<Job> getLastReplicationJob(final UUID connectionId) throws IOException {
     return jobDatabase.query(ctx -> ctx
@@ -426,7 +499,7 @@ public class DefaultJobPersistence implements JobPersistence {
     return new Job(record.get("job_id", Long.class),
         Enums.toEnum(record.get("config_type", String.class), ConfigType.class).orElseThrow(),
         record.get("scope", String.class),
-        Jsons.deserialize(record.get("config", String.class), JobConfig.class),
+        Optional.ofNullable(record.get("config", String.class)).map(config -> Jsons.deserialize(config, JobConfig.class)).orElse(null),
         new ArrayList<Attempt>(),
         JobStatus.valueOf(record.get("job_status", String.class).toUpperCase()),
         Optional.ofNullable(record.get("job_started_at")).map(value -> getEpoch(record, "started_at")).orElse(null),
@@ -637,21 +710,23 @@ public class DefaultJobPersistence implements JobPersistence {
 
   }
 
-  private Stream<JsonNode> exportTable(final String schema, final String tableName) throws IOException {
+  private Stream<JsonNode> exportTable(final String schema, final String tableName) {
     final Table<Record> tableSql = getTable(schema, tableName);
-    try (final Stream<Record> records = jobDatabase.query(ctx -> ctx.select(DSL.asterisk()).from(tableSql).fetchStream())) {
-      return records.map(record -> {
-        final Set<String> jsonFieldNames = Arrays.stream(record.fields())
-            .filter(f -> f.getDataType().getTypeName().equals("jsonb"))
-            .map(Field::getName)
-            .collect(Collectors.toSet());
-        final JsonNode row = Jsons.deserialize(record.formatJSON(JdbcUtils.getDefaultJSONFormat()));
-        // for json fields, deserialize them so they are treated as objects instead of strings. this is to
-        // get around that formatJson doesn't handle deserializing them for us.
-        jsonFieldNames.forEach(jsonFieldName -> ((ObjectNode) row).replace(jsonFieldName, Jsons.deserialize(row.get(jsonFieldName).asText())));
-        return row;
-      });
-    }
+    // the table is only queried once the stream is consumed, and its records are read with a cursor
+    // rather than all at once. flatMap closes the record stream, and its connection, once it is read.
+    return Stream.of(tableSql)
+        .flatMap(table -> Exceptions.toRuntime(() -> jobDatabase.streamQuery(ctx -> ctx.select(DSL.asterisk()).from(table), EXPORT_FETCH_SIZE)))
+        .map(record -> {
+          final Set<String> jsonFieldNames = Arrays.stream(record.fields())
+              .filter(f -> f.getDataType().getTypeName().equals("jsonb"))
+              .map(Field::getName)
+              .collect(Collectors.toSet());
+          final JsonNode row = Jsons.deserialize(record.formatJSON(JdbcUtils.getDefaultJSONFormat()));
+          // for json fields, deserialize them so they are treated as objects instead of strings. this is to
+          // get around that formatJson doesn't handle deserializing them for us.
+          jsonFieldNames.forEach(jsonFieldName -> ((ObjectNode) row).replace(jsonFieldName, Jsons.deserialize(row.get(jsonFieldName).asText())));
+          return row;
+        });
   }
 
   @Override
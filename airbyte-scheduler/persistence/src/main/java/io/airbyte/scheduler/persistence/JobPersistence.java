@@ -133,6 +133,20 @@ public interface JobPersistence {
    */
   List<Job> listJobs(Set<JobConfig.ConfigType> configTypes, String configId, int limit, int offset) throws IOException;
 
+  /**
+   * Lists jobs like {@link #listJobs(Set, String, int, int)}, but pages through them by (created_at,
+   * id) instead of by offset and only loads what a job listing shows: the returned jobs have no
+   * config and their attempt outputs only contain the sync summary.
+   *
+   * @param configTypes - type of config, e.g. sync
+   * @param configId - id of that config
+   * @param limit - maximum number of jobs to return
+   * @param afterJobId - id of the last job of the previous page, if any
+   * @return job summaries in descending order by created_at
+   * @throws IOException - what you do when you IO
+   */
+  List<Job> listJobSummaries(Set<JobConfig.ConfigType> configTypes, String configId, int limit, Optional<Long> afterJobId) throws IOException;
+
   /**
    *
    * @param configType The type of job
@@ -150,6 +164,27 @@ public interface JobPersistence {
 
   List<Job> listJobsWithStatus(JobConfig.ConfigType configType, JobStatus status) throws IOException;
 
+  /**
+   * Bulk alternative to listing the jobs of each config to find its last job.
+   *
+   * @param configTypes - type of config, e.g. sync
+   * @param configIds - ids of the configs
+   * @return the most recently created job of each of the configs that have jobs, in descending order
+   *         by created_at
+   * @throws IOException - what you do when you IO
+   */
+  List<Job> listLastJobs(Set<JobConfig.ConfigType> configTypes, Set<String> configIds) throws IOException;
+
+  /**
+   * @param configTypes - type of config, e.g. sync
+   * @param configIds - ids of the configs
+   * @param statuses - statuses of the jobs to list
+   * @return the jobs of the configs that are in one of the statuses, in descending order by
+   *         created_at
+   * @throws IOException - what you do when you IO
+   */
+  List<Job> listJobsWithStatus(Set<JobConfig.ConfigType> configTypes, Set<String> configIds, Set<JobStatus> statuses) throws IOException;
+
   Optional<Job> getLastReplicationJob(UUID connectionId) throws IOException;
 
   Optional<Job> getNextJob() throws IOException;
@@ -10,6 +10,7 @@ import static io.airbyte.db.instance.jobs.jooq.Tables.JOBS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -26,6 +27,9 @@ import io.airbyte.config.JobConfig.ConfigType;
 import io.airbyte.config.JobGetSpecConfig;
 import io.airbyte.config.JobOutput;
 import io.airbyte.config.JobSyncConfig;
+import io.airbyte.config.StandardSyncOutput;
+import io.airbyte.config.StandardSyncSummary;
+import io.airbyte.config.State;
 import io.airbyte.db.Database;
 import io.airbyte.db.instance.jobs.JobsDatabaseSchema;
 import io.airbyte.db.instance.test.TestDatabaseProviders;
@@ -39,12 +43,14 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -54,6 +60,7 @@ import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.commons.dbcp2.BasicDataSource;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.junit.jupiter.api.AfterAll;
@@ -307,6 +314,37 @@ class DefaultJobPersistenceTest {
     assertEquals(expected, actual);
   }
 
+  @Test
+  @DisplayName("Should only query an exported table once its stream is read, and release the connection once it is closed")
+  void testExportStreamsTables() throws IOException, SQLException {
+    jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+    // more jobs than the export fetches at once with its cursor
+    final int copyCount = 2500;
+    jobDatabase.query(ctx -> ctx.execute(
+        "INSERT INTO jobs (config_type, scope, config, status, created_at, updated_at) "
+            + "SELECT config_type, scope, config, status, created_at, updated_at FROM jobs, generate_series(1, ?)",
+        copyCount));
+    final BasicDataSource connectionPool = (BasicDataSource) jobDatabase.getDataSource();
+
+    final Map<JobsDatabaseSchema, Stream<JsonNode>> inputStreams = jobPersistence.exportDatabase();
+    assertEquals(0, connectionPool.getNumActive());
+
+    try (final Stream<JsonNode> jobs = inputStreams.get(JobsDatabaseSchema.JOBS)) {
+      final Iterator<JsonNode> iterator = jobs.iterator();
+      assertTrue(iterator.hasNext());
+      assertEquals(1, connectionPool.getNumActive());
+
+      int jobCount = 0;
+      while (iterator.hasNext()) {
+        assertEquals(SCOPE, iterator.next().get("scope").asText());
+        jobCount++;
+      }
+      assertEquals(copyCount + 1, jobCount);
+    }
+    inputStreams.values().forEach(Stream::close);
+    assertEquals(0, connectionPool.getNumActive());
+  }
+
   @Test
   @DisplayName("Should return correct set of jobs when querying on end timestamp")
   void testListJobsWithTimestamp() throws IOException {
@@ -943,6 +981,98 @@ class DefaultJobPersistenceTest {
       }
     }
 
+    @Test
+    @DisplayName("Should page through job summaries after the last job of the previous page")
+    public void testListJobSummariesByPage() throws IOException {
+      final List<Long> ids = new ArrayList<Long>();
+      for (int i = 0; i < 25; i++) {
+        final long jobId = jobPersistence.enqueueJob(CONNECTION_ID.toString(), SPEC_JOB_CONFIG).orElseThrow();
+        ids.add(jobId);
+      }
+      Collections.reverse(ids);
+      final int pagesize = 10;
+
+      final List<Long> actualIds = new ArrayList<>();
+      Optional<Long> afterJobId = Optional.empty();
+      for (int page = 0; page < 3; page++) {
+        final List<Job> actualList =
+            jobPersistence.listJobSummaries(Set.of(SPEC_JOB_CONFIG.getConfigType()), CONNECTION_ID.toString(), pagesize, afterJobId);
+        actualList.forEach(job -> actualIds.add(job.getId()));
+        afterJobId = Optional.of(actualList.get(actualList.size() - 1).getId());
+      }
+
+      assertEquals(ids, actualIds);
+      assertTrue(jobPersistence.listJobSummaries(Set.of(SPEC_JOB_CONFIG.getConfigType()), CONNECTION_ID.toString(), pagesize, afterJobId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should list job summaries without the job config and with only the sync summary of the attempt output")
+    public void testListJobSummaries() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+      final StandardSyncSummary syncSummary = new StandardSyncSummary().withRecordsSynced(10L).withBytesSynced(100L);
+      final JobOutput jobOutput = new JobOutput()
+          .withOutputType(JobOutput.OutputType.SYNC)
+          .withSync(new StandardSyncOutput()
+              .withStandardSyncSummary(syncSummary)
+              .withState(new State().withState(Jsons.jsonNode(Map.of("cursor", "2021-12-01")))));
+      jobPersistence.writeOutput(jobId, attemptNumber, jobOutput);
+
+      final List<Job> actualList = jobPersistence.listJobSummaries(Set.of(ConfigType.SYNC), SCOPE, 9999, Optional.empty());
+
+      assertEquals(1, actualList.size());
+      final Job actual = actualList.get(0);
+      assertEquals(jobId, actual.getId());
+      assertEquals(ConfigType.SYNC, actual.getConfigType());
+      assertNull(actual.getConfig());
+      assertEquals(1, actual.getAttempts().size());
+      final JobOutput actualOutput = actual.getAttempts().get(0).getOutput().orElseThrow();
+      assertEquals(syncSummary, actualOutput.getSync().getStandardSyncSummary());
+      assertNull(actualOutput.getSync().getState());
+    }
+
+    @Test
+    @DisplayName("Should read a deep page of job summaries faster than the same page by offset from a million jobs")
+    public void testListJobSummariesByPageFromLargeJobsTable() throws IOException, SQLException {
+      final int jobCount = 1_000_000;
+      final int pagesize = 10;
+      final int offset = 400_000;
+      // half of the jobs belong to the connection, the others are spread over 500 other connections
+      jobDatabase.query(ctx -> ctx.execute(
+          "INSERT INTO jobs(config_type, scope, created_at, updated_at, status, config) " +
+              "SELECT CAST('sync' AS JOB_CONFIG_TYPE), CASE WHEN i % 2 = 0 THEN ? ELSE 'other-' || (i % 1000) END, " +
+              "CAST(? AS TIMESTAMP) - i * INTERVAL '1 second', CAST(? AS TIMESTAMP) - i * INTERVAL '1 second', " +
+              "CAST('succeeded' AS JOB_STATUS), CAST(? AS JSONB) " +
+              "FROM generate_series(1, ?) AS i",
+          SCOPE,
+          LocalDateTime.ofInstant(NOW, ZoneOffset.UTC),
+          LocalDateTime.ofInstant(NOW, ZoneOffset.UTC),
+          Jsons.serialize(SYNC_JOB_CONFIG),
+          jobCount));
+      jobDatabase.query(ctx -> ctx.execute("ANALYZE jobs"));
+      final long afterJobId = jobDatabase.query(ctx -> ctx.fetch(
+          "SELECT id FROM jobs WHERE scope = ? ORDER BY created_at DESC, id DESC OFFSET ? LIMIT 1", SCOPE, offset - 1))
+          .get(0).get("id", Long.class);
+      final Set<ConfigType> configTypes = Set.of(ConfigType.SYNC);
+      // the first listings warm up the caches
+      jobPersistence.listJobs(configTypes, SCOPE, pagesize, offset);
+      jobPersistence.listJobSummaries(configTypes, SCOPE, pagesize, Optional.of(afterJobId));
+
+      final long offsetStart = System.nanoTime();
+      final List<Job> offsetPage = jobPersistence.listJobs(configTypes, SCOPE, pagesize, offset);
+      final Duration offsetDuration = Duration.ofNanos(System.nanoTime() - offsetStart);
+      final long keysetStart = System.nanoTime();
+      final List<Job> keysetPage = jobPersistence.listJobSummaries(configTypes, SCOPE, pagesize, Optional.of(afterJobId));
+      final Duration keysetDuration = Duration.ofNanos(System.nanoTime() - keysetStart);
+
+      assertEquals(pagesize, keysetPage.size());
+      assertEquals(offsetPage.stream().map(Job::getId).collect(Collectors.toList()),
+          keysetPage.stream().map(Job::getId).collect(Collectors.toList()));
+      // the offset listing sorts all jobs of the connection, the keyset listing reads a page from the index
+      assertTrue(keysetDuration.compareTo(offsetDuration) < 0,
+          String.format("Listing a page took %s after a job and %s at an offset", keysetDuration, offsetDuration));
+    }
+
     @Test
     @DisplayName("Should list all jobs")
     public void testListJobs() throws IOException {
@@ -1084,6 +1214,59 @@ class DefaultJobPersistenceTest {
       assertEquals(expectedIncompleteJob, actualIncompleteJob);
     }
 
+    @Test
+    @DisplayName("Should only list jobs with requested statuses, config type and configs")
+    public void testListJobsWithStatusesForConfigs() throws IOException {
+      final long succeededJobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(succeededJobId, jobPersistence.createAttempt(succeededJobId, LOG_PATH));
+      final long pendingJobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.enqueueJob(SYNC_SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.enqueueJob(SPEC_SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+
+      final List<Job> actual = jobPersistence.listJobsWithStatus(
+          Set.of(ConfigType.SYNC),
+          Set.of(SCOPE, SPEC_SCOPE),
+          Set.of(JobStatus.PENDING, JobStatus.RUNNING, JobStatus.INCOMPLETE));
+
+      final Job expected = createJob(pendingJobId, SYNC_JOB_CONFIG, JobStatus.PENDING, Lists.newArrayList(), NOW.getEpochSecond());
+      assertEquals(List.of(expected), actual);
+      assertEquals(List.of(), jobPersistence.listJobsWithStatus(Set.of(ConfigType.SYNC), Set.of(), Set.of(JobStatus.PENDING)));
+    }
+
+  }
+
+  @Nested
+  @DisplayName("When listing last jobs")
+  class ListLastJobs {
+
+    @Test
+    @DisplayName("Should return the last job of each config")
+    public void testListLastJobs() throws IOException {
+      final long firstJobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(firstJobId, jobPersistence.createAttempt(firstJobId, LOG_PATH));
+
+      final Instant afterNow = NOW.plusSeconds(1000);
+      when(timeSupplier.get()).thenReturn(afterNow);
+      final long lastJobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      final long otherScopeJobId = jobPersistence.enqueueJob(SYNC_SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.enqueueJob(SPEC_SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+
+      final List<Job> actual = jobPersistence.listLastJobs(Set.of(ConfigType.SYNC), Set.of(SCOPE, SYNC_SCOPE, SPEC_SCOPE, CHECK_SCOPE));
+
+      final Job expectedLastJob = createJob(lastJobId, SYNC_JOB_CONFIG, JobStatus.PENDING, Lists.newArrayList(), afterNow.getEpochSecond());
+      final Job expectedOtherScopeJob =
+          createJob(otherScopeJobId, SYNC_JOB_CONFIG, JobStatus.PENDING, Lists.newArrayList(), afterNow.getEpochSecond(), SYNC_SCOPE);
+      assertEquals(Sets.newHashSet(expectedLastJob, expectedOtherScopeJob), Sets.newHashSet(actual));
+    }
+
+    @Test
+    @DisplayName("Should return nothing if no configs are requested")
+    public void testListLastJobsEmpty() throws IOException {
+      jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+
+      assertEquals(List.of(), jobPersistence.listLastJobs(Set.of(ConfigType.SYNC), Set.of()));
+    }
+
   }
 
   @Nested
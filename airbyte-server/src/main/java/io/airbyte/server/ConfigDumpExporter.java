@@ -8,7 +8,6 @@ import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.io.Archives;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.CloseableConsumer;
-import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.commons.yaml.Yamls;
 import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.DestinationConnection;
@@ -21,9 +20,7 @@ import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.scheduler.persistence.JobPersistence;
 import io.airbyte.scheduler.persistence.WorkspaceHelper;
 import io.airbyte.validation.json.JsonValidationException;
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
@@ -68,16 +65,25 @@ public class ConfigDumpExporter {
     this.workspaceHelper = workspaceHelper;
   }
 
+  /**
+   * The configs and the job tables are streamed from the databases to files of a temp folder one
+   * record at a time, and the folder is then archived to a temp file that is returned whole. Only the
+   * database reads are streamed: the archive is staged on disk and is not streamed to the caller.
+   */
   public File dump() {
     try {
       final Path tempFolder = Files.createTempDirectory(Path.of("/tmp"), ARCHIVE_FILE_NAME);
-      final File dump = Files.createTempFile(ARCHIVE_FILE_NAME, ".tar.gz").toFile();
-      exportVersionFile(tempFolder);
-      dumpConfigsDatabase(tempFolder);
-      dumpJobsDatabase(tempFolder);
-
-      Archives.createArchive(tempFolder, dump.toPath());
-      return dump;
+      try {
+        final File dump = Files.createTempFile(ARCHIVE_FILE_NAME, ".tar.gz").toFile();
+        exportVersionFile(tempFolder);
+        dumpConfigsDatabase(tempFolder);
+        dumpJobsDatabase(tempFolder);
+
+        Archives.createArchive(tempFolder, dump.toPath());
+        return dump;
+      } finally {
+        FileUtils.deleteDirectory(tempFolder.toFile());
+      }
     } catch (final Exception e) {
       throw new RuntimeException(e);
     }
@@ -95,16 +101,23 @@ public class ConfigDumpExporter {
     Files.createDirectories(parentFolder.resolve(DB_FOLDER_NAME));
     for (final Map.Entry<String, Stream<JsonNode>> table : tables.entrySet()) {
       final Path tablePath = buildTablePath(parentFolder, table.getKey());
-      writeTableToArchive(tablePath, table.getValue());
+      writeRecordsToArchive(tablePath, table.getValue());
     }
   }
 
-  private void writeTableToArchive(final Path tablePath, final Stream<JsonNode> tableStream) throws Exception {
-    Files.createDirectories(tablePath.getParent());
-    final BufferedWriter recordOutputWriter = new BufferedWriter(new FileWriter(tablePath.toFile()));
-    final CloseableConsumer<JsonNode> recordConsumer = Yamls.listWriter(recordOutputWriter);
-    tableStream.forEach(row -> Exceptions.toRuntime(() -> recordConsumer.accept(row)));
-    recordConsumer.close();
+  /**
+   * Writes the records to the file as they are read from the stream, and closes the stream.
+   */
+  private static void writeRecordsToArchive(final Path path, final Stream<JsonNode> records) throws IOException {
+    Files.createDirectories(path.getParent());
+    try (records; final CloseableConsumer<JsonNode> recordConsumer = Yamls.listWriter(Files.newBufferedWriter(path))) {
+      records.forEach(recordConsumer);
+    } catch (final IOException | RuntimeException e) {
+      throw e;
+    } catch (final Exception e) {
+      // only closing the writer throws a generic exception.
+      throw new IOException(e);
+    }
   }
 
   protected static Path buildTablePath(final Path storageRoot, final String tableName) {
@@ -123,24 +136,14 @@ public class ConfigDumpExporter {
                                             final String schemaType,
                                             final Stream<JsonNode> configs)
       throws IOException {
-    writeConfigsToArchive(storageRoot, schemaType, configs.collect(Collectors.toList()));
+    writeRecordsToArchive(buildConfigPath(storageRoot, schemaType), configs);
   }
 
   private static void writeConfigsToArchive(final Path storageRoot,
                                             final String schemaType,
                                             final List<JsonNode> configList)
       throws IOException {
-    final Path configPath = buildConfigPath(storageRoot, schemaType);
-    Files.createDirectories(configPath.getParent());
-    if (!configList.isEmpty()) {
-      final List<JsonNode> sortedConfigs = configList.stream()
-          .sorted(Comparator.comparing(JsonNode::toString)).collect(
-              Collectors.toList());
-      Files.writeString(configPath, Yamls.serialize(sortedConfigs));
-    } else {
-      // Create empty file
-      Files.createFile(configPath);
-    }
+    writeConfigsToArchive(storageRoot, schemaType, configList.stream().sorted(Comparator.comparing(JsonNode::toString)));
   }
 
   private static Path buildConfigPath(final Path storageRoot, final String schemaType) {
@@ -191,7 +194,7 @@ public class ConfigDumpExporter {
         standardSyncs.add(standardSync);
       }
     }
-    writeConfigsToArchive(parentFolder, ConfigSchema.STANDARD_SYNC.name(), standardSyncs.stream().map(Jsons::jsonNode));
+    writeConfigsToArchive(parentFolder, ConfigSchema.STANDARD_SYNC.name(), standardSyncs.stream().map(Jsons::jsonNode).collect(Collectors.toList()));
   }
 
   private <T> Collection<T> writeConfigsToArchive(final Path parentFolder,
@@ -200,7 +203,7 @@ public class ConfigDumpExporter {
                                                   final Function<T, Boolean> filterConfigCall)
       throws JsonValidationException, ConfigNotFoundException, IOException {
     final Collection<T> configs = listConfigCall.apply().stream().filter(filterConfigCall::apply).collect(Collectors.toList());
-    writeConfigsToArchive(parentFolder, configSchemaName, configs.stream().map(Jsons::jsonNode));
+    writeConfigsToArchive(parentFolder, configSchemaName, configs.stream().map(Jsons::jsonNode).collect(Collectors.toList()));
     return configs;
   }
 
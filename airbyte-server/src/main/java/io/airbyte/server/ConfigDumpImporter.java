@@ -6,6 +6,7 @@ package io.airbyte.server;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Streams;
 import io.airbyte.analytics.TrackingClientSingleton;
@@ -14,7 +15,10 @@ import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.io.Archives;
 import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.commons.stream.MoreStreams;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.util.AutoCloseableIterators;
 import io.airbyte.commons.version.AirbyteVersion;
 import io.airbyte.commons.yaml.Yamls;
 import io.airbyte.config.AirbyteConfig;
@@ -44,18 +48,16 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.Spliterator;
-import java.util.Spliterators;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -117,7 +119,7 @@ public class ConfigDumpImporter {
       throws IOException, JsonValidationException {
     final Path sourceRoot = Files.createTempDirectory(Path.of("/tmp"), "airbyte_archive");
     try {
-      // 1. Unzip source
+      // 1. Unzip source. The archive is extracted to disk, only the files it contains are streamed.
       Archives.extractArchive(archive.toPath(), sourceRoot);
 
       // 2. dry run
@@ -188,7 +190,11 @@ public class ConfigDumpImporter {
       final ConfigSchema configSchema = configSchemaOptional.get();
       data.put(configSchema, readConfigsFromArchive(sourceRoot, configSchema));
     }
-    configRepository.replaceAllConfigs(data, dryRun);
+    try {
+      configRepository.replaceAllConfigs(data, dryRun);
+    } finally {
+      data.values().forEach(Stream::close);
+    }
   }
 
   private <T> Stream<T> readConfigsFromArchive(final Path storageRoot, final ConfigSchema schemaType)
@@ -196,10 +202,7 @@ public class ConfigDumpImporter {
 
     final Path configPath = buildConfigPath(storageRoot, schemaType);
     if (configPath.toFile().exists()) {
-      final String configStr = Files.readString(configPath);
-      final JsonNode node = Yamls.deserialize(configStr);
-      return StreamSupport
-          .stream(Spliterators.spliteratorUnknownSize(node.elements(), Spliterator.ORDERED), false)
+      return readYamlArray(configPath)
           .map(element -> {
             final T config = Jsons.object(element, schemaType.getClassName());
             try {
@@ -240,7 +243,11 @@ public class ConfigDumpImporter {
 
         data.put(tableType, tableStream);
       }
-      jobPersistence.importDatabase(airbyteVersion.serialize(), data);
+      try {
+        jobPersistence.importDatabase(airbyteVersion.serialize(), data);
+      } finally {
+        data.values().forEach(Stream::close);
+      }
       LOGGER.info("Successful upgrade of airbyte postgres database from archive");
     } catch (final Exception e) {
       LOGGER.warn("Postgres database version upgrade failed, reverting to state previous to migration.");
@@ -286,10 +293,10 @@ public class ConfigDumpImporter {
 
   private Stream<JsonNode> readTableFromArchive(final JobsDatabaseSchema tableSchema,
                                                 final Path tablePath)
-      throws FileNotFoundException {
+      throws IOException {
     final JsonNode schema = tableSchema.getTableDefinition();
     if (schema != null) {
-      return MoreStreams.toStream(Yamls.deserialize(IOs.readFile(tablePath)).elements())
+      return readYamlArray(tablePath)
           .peek(r -> {
             try {
               jsonSchemaValidator.ensure(schema, r);
@@ -304,6 +311,32 @@ public class ConfigDumpImporter {
     }
   }
 
+  /**
+   * Streams the elements of a yaml array file without reading the whole file in memory. The file is
+   * only opened once the stream is consumed, and is closed once it is fully read or the stream is
+   * closed.
+   */
+  private static Stream<JsonNode> readYamlArray(final Path path) throws IOException {
+    // archives of older versions contain empty files for the config types without configs.
+    if (Files.size(path) == 0) {
+      return Stream.empty();
+    }
+    final AutoCloseableIterator<JsonNode> elements = AutoCloseableIterators.lazyIterator(() -> Yamls.deserializeArray(IOs.inputStream(path)));
+    final Iterator<JsonNode> closingElements = new AbstractIterator<>() {
+
+      @Override
+      protected JsonNode computeNext() {
+        if (elements.hasNext()) {
+          return elements.next();
+        }
+        Exceptions.toRuntime(elements::close);
+        return endOfData();
+      }
+
+    };
+    return MoreStreams.toStream(closingElements).onClose(() -> Exceptions.toRuntime(elements::close));
+  }
+
   private void checkDBVersion(final AirbyteVersion airbyteVersion) throws IOException {
     final Optional<AirbyteVersion> airbyteDatabaseVersion = jobPersistence.getVersion().map(AirbyteVersion::new);
     airbyteDatabaseVersion
@@ -248,15 +248,12 @@ public class ConnectionsHandler {
       throws JsonValidationException, IOException, ConfigNotFoundException {
     final List<ConnectionRead> connectionReads = Lists.newArrayList();
 
-    for (final StandardSync standardSync : configRepository.listStandardSyncs()) {
+    for (final StandardSync standardSync : configRepository.listStandardSyncsForWorkspace(workspaceIdRequestBody.getWorkspaceId())) {
       if (standardSync.getStatus() == StandardSync.Status.DEPRECATED && !includeDeleted) {
         continue;
       }
-      if (!isStandardSyncInWorkspace(workspaceIdRequestBody.getWorkspaceId(), standardSync)) {
-        continue;
-      }
 
-      connectionReads.add(buildConnectionRead(standardSync.getConnectionId()));
+      connectionReads.add(buildConnectionRead(standardSync));
     }
 
     return new ConnectionReadList().connections(connectionReads);
@@ -351,12 +348,6 @@ public class ConnectionsHandler {
     updateConnection(connectionUpdate);
   }
 
-  private boolean isStandardSyncInWorkspace(final UUID workspaceId,
-                                            final StandardSync standardSync)
-      throws ConfigNotFoundException, IOException, JsonValidationException {
-    return configRepository.getSourceConnection(standardSync.getSourceId()).getWorkspaceId().equals(workspaceId);
-  }
-
   private ConnectionRead buildConnectionRead(final UUID connectionId)
       throws ConfigNotFoundException, IOException, JsonValidationException {
     final StandardSync standardSync = configRepository.getStandardSync(connectionId);
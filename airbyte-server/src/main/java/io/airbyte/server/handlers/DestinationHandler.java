@@ -154,18 +154,28 @@ public class DestinationHandler {
 
   public DestinationReadList listDestinationsForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
-    final List<DestinationRead> reads = Lists.newArrayList();
+    return listDestinationsForWorkspace(workspaceIdRequestBody.getWorkspaceId(), false);
+  }
 
-    for (final DestinationConnection dci : configRepository.listDestinationConnection()) {
-      if (!dci.getWorkspaceId().equals(workspaceIdRequestBody.getWorkspaceId())) {
-        continue;
-      }
+  /**
+   * Lists the destinations of the workspace including the deleted ones, e.g. to resolve the
+   * destinations of deprecated connections.
+   */
+  public DestinationReadList listAllDestinationsForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
+      throws ConfigNotFoundException, IOException, JsonValidationException {
+    return listDestinationsForWorkspace(workspaceIdRequestBody.getWorkspaceId(), true);
+  }
 
-      if (dci.getTombstone()) {
+  private DestinationReadList listDestinationsForWorkspace(final UUID workspaceId, final boolean includeTombstone)
+      throws ConfigNotFoundException, IOException, JsonValidationException {
+    final List<DestinationRead> reads = Lists.newArrayList();
+
+    for (final DestinationConnection dci : configRepository.listDestinationConnectionsForWorkspace(workspaceId)) {
+      if (!includeTombstone && dci.getTombstone()) {
         continue;
       }
 
-      reads.add(buildDestinationRead(dci.getDestinationId()));
+      reads.add(buildDestinationRead(dci));
     }
 
     return new DestinationReadList().destinations(reads);
@@ -230,6 +240,17 @@ public class DestinationHandler {
     return toDestinationRead(dci, standardDestinationDefinition);
   }
 
+  private DestinationRead buildDestinationRead(final DestinationConnection destinationConnection)
+      throws ConfigNotFoundException, IOException, JsonValidationException {
+    final StandardDestinationDefinition standardDestinationDefinition =
+        configRepository.getStandardDestinationDefinition(destinationConnection.getDestinationDefinitionId());
+
+    // remove secrets from config before returning the read
+    final DestinationConnection dci = Jsons.clone(destinationConnection);
+    dci.setConfiguration(secretsProcessor.maskSecrets(dci.getConfiguration(), standardDestinationDefinition.getSpec().getConnectionSpecification()));
+    return toDestinationRead(dci, standardDestinationDefinition);
+  }
+
   protected static DestinationRead toDestinationRead(final DestinationConnection destinationConnection,
                                                      final StandardDestinationDefinition standardDestinationDefinition) {
     return new DestinationRead()
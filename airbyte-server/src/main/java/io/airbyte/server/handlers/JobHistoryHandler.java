@@ -5,27 +5,36 @@
 package io.airbyte.server.handlers;
 
 import com.google.common.base.Preconditions;
+import io.airbyte.api.model.JobConfigType;
 import io.airbyte.api.model.JobIdRequestBody;
 import io.airbyte.api.model.JobInfoRead;
 import io.airbyte.api.model.JobListRequestBody;
 import io.airbyte.api.model.JobReadList;
 import io.airbyte.api.model.JobWithAttemptsRead;
+import io.airbyte.api.model.Pagination;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.config.Configs.WorkerEnvironment;
 import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobConfig.ConfigType;
 import io.airbyte.config.helpers.LogConfigs;
 import io.airbyte.scheduler.models.Job;
+import io.airbyte.scheduler.models.JobStatus;
 import io.airbyte.scheduler.persistence.JobPersistence;
 import io.airbyte.server.converters.JobConverter;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 public class JobHistoryHandler {
 
   public static final int DEFAULT_PAGE_SIZE = 200;
+  private static final Set<JobStatus> UNFINISHED_STATUSES = Arrays.stream(JobStatus.values())
+      .filter(status -> !JobStatus.TERMINAL_STATUSES.contains(status))
+      .collect(Collectors.toSet());
+
   private final JobPersistence jobPersistence;
   private final JobConverter jobConverter;
 
@@ -44,21 +53,54 @@ public class JobHistoryHandler {
         .map(type -> Enums.convertTo(type, JobConfig.ConfigType.class))
         .collect(Collectors.toSet());
     final String configId = request.getConfigId();
+    final int pageSize = (request.getPagination() != null && request.getPagination().getPageSize() != null) ? request.getPagination().getPageSize()
+        : DEFAULT_PAGE_SIZE;
+    final int rowOffset =
+        (request.getPagination() != null && request.getPagination().getRowOffset() != null) ? request.getPagination().getRowOffset() : 0;
+    final Optional<Long> afterJobId = Optional.ofNullable(request.getPagination()).map(Pagination::getAfterJobId);
+
+    // offset pagination is kept for clients that still page by rowOffset, everything else is paged by
+    // the last job of the previous page, which does not slow down on deep pages.
+    final List<Job> jobs = afterJobId.isEmpty() && rowOffset > 0
+        ? jobPersistence.listJobs(configTypes, configId, pageSize, rowOffset)
+        : jobPersistence.listJobSummaries(configTypes, configId, pageSize, afterJobId);
 
-    final List<JobWithAttemptsRead> jobReads = jobPersistence.listJobs(configTypes,
-        configId,
-        (request.getPagination() != null && request.getPagination().getPageSize() != null) ? request.getPagination().getPageSize()
-            : DEFAULT_PAGE_SIZE,
-        (request.getPagination() != null && request.getPagination().getRowOffset() != null) ? request.getPagination().getRowOffset() : 0)
+    final List<JobWithAttemptsRead> jobReads = jobs
         .stream()
         .map(attempt -> jobConverter.getJobWithAttemptsRead(attempt))
         .collect(Collectors.toList());
     return new JobReadList().jobs(jobReads);
   }
 
+  /**
+   * @return the most recently created job of each of the configs, for the configs that have jobs.
+   */
+  public JobReadList listLastJobsFor(final Set<JobConfigType> configTypes, final Set<String> configIds) throws IOException {
+    return toJobReadList(jobPersistence.listLastJobs(toConfigTypes(configTypes), configIds));
+  }
+
+  /**
+   * @return the jobs of the configs that are not in a terminal state yet.
+   */
+  public JobReadList listUnfinishedJobsFor(final Set<JobConfigType> configTypes, final Set<String> configIds) throws IOException {
+    return toJobReadList(jobPersistence.listJobsWithStatus(toConfigTypes(configTypes), configIds, UNFINISHED_STATUSES));
+  }
+
   public JobInfoRead getJobInfo(final JobIdRequestBody jobIdRequestBody) throws IOException {
     final Job job = jobPersistence.getJob(jobIdRequestBody.getId());
     return jobConverter.getJobInfoRead(job);
   }
 
+  private static Set<ConfigType> toConfigTypes(final Set<JobConfigType> configTypes) {
+    return configTypes.stream()
+        .map(type -> Enums.convertTo(type, JobConfig.ConfigType.class))
+        .collect(Collectors.toSet());
+  }
+
+  private static JobReadList toJobReadList(final List<Job> jobs) {
+    return new JobReadList().jobs(jobs.stream()
+        .map(JobConverter::getJobWithAttemptsRead)
+        .collect(Collectors.toList()));
+  }
+
 }
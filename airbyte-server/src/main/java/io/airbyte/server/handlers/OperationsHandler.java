@@ -17,6 +17,7 @@ import io.airbyte.api.model.OperationReadList;
 import io.airbyte.api.model.OperationUpdate;
 import io.airbyte.api.model.OperatorConfiguration;
 import io.airbyte.api.model.OperatorNormalization.OptionEnum;
+import io.airbyte.api.model.WorkspaceIdRequestBody;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.OperatorDbt;
@@ -148,6 +149,19 @@ public class OperationsHandler {
     return new OperationReadList().operations(operationReads);
   }
 
+  public OperationReadList listOperationsForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
+      throws JsonValidationException, IOException {
+    final List<OperationRead> operationReads = Lists.newArrayList();
+    for (final StandardSyncOperation standardSyncOperation : configRepository
+        .listStandardSyncOperationsForWorkspace(workspaceIdRequestBody.getWorkspaceId())) {
+      if (standardSyncOperation.getTombstone() != null && standardSyncOperation.getTombstone()) {
+        continue;
+      }
+      operationReads.add(buildOperationRead(standardSyncOperation));
+    }
+    return new OperationReadList().operations(operationReads);
+  }
+
   public OperationRead getOperation(final OperationIdRequestBody operationIdRequestBody)
       throws JsonValidationException, IOException, ConfigNotFoundException {
     return buildOperationRead(operationIdRequestBody.getOperationId());
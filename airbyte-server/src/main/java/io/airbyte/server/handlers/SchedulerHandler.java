@@ -7,6 +7,7 @@ package io.airbyte.server.handlers;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
+import com.google.common.hash.Hashing;
 import io.airbyte.api.model.AdvancedAuth;
 import io.airbyte.api.model.AuthSpecification;
 import io.airbyte.api.model.CheckConnectionRead;
@@ -25,13 +26,16 @@ import io.airbyte.api.model.SourceCoreConfig;
 import io.airbyte.api.model.SourceDefinitionIdRequestBody;
 import io.airbyte.api.model.SourceDefinitionSpecificationRead;
 import io.airbyte.api.model.SourceDiscoverSchemaRead;
+import io.airbyte.api.model.SourceDiscoverSchemaRequestBody;
 import io.airbyte.api.model.SourceIdRequestBody;
 import io.airbyte.api.model.SourceUpdate;
 import io.airbyte.commons.docker.DockerUtils;
 import io.airbyte.commons.enums.Enums;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.Configs.WorkerEnvironment;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.config.SourceCatalogCache;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardCheckConnectionOutput;
 import io.airbyte.config.StandardDestinationDefinition;
@@ -63,6 +67,9 @@ import io.temporal.api.common.v1.WorkflowExecution;
 import io.temporal.api.workflowservice.v1.RequestCancelWorkflowExecutionRequest;
 import io.temporal.serviceclient.WorkflowServiceStubs;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -73,6 +80,9 @@ public class SchedulerHandler {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SchedulerHandler.class);
 
+  @VisibleForTesting
+  static final Duration CATALOG_CACHE_TTL = Duration.ofHours(1);
+
   private final ConfigRepository configRepository;
   private final SchedulerJobClient schedulerJobClient;
   private final SynchronousSchedulerClient synchronousSchedulerClient;
@@ -216,15 +226,56 @@ public class SchedulerHandler {
     return checkDestinationConnectionFromDestinationCreate(destinationCoreConfig);
   }
 
-  public SourceDiscoverSchemaRead discoverSchemaForSourceFromSourceId(final SourceIdRequestBody sourceIdRequestBody)
+  /**
+   * Discovers the catalog of a source. The catalog of the last successful discovery is reused as long
+   * as neither the connector image nor the configuration of the source changed since, for at most
+   * {@link #CATALOG_CACHE_TTL} so that schema changes of the source are picked up, unless the cache
+   * is disabled by the request.
+   */
+  public SourceDiscoverSchemaRead discoverSchemaForSourceFromSourceId(final SourceDiscoverSchemaRequestBody discoverSchemaRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
-    final SourceConnection source = configRepository.getSourceConnection(sourceIdRequestBody.getSourceId());
+    final SourceConnection source = configRepository.getSourceConnection(discoverSchemaRequestBody.getSourceId());
     final StandardSourceDefinition sourceDef = configRepository.getStandardSourceDefinition(source.getSourceDefinitionId());
     final String imageName = DockerUtils.getTaggedImageName(sourceDef.getDockerRepository(), sourceDef.getDockerImageTag());
+    final String fingerprint = getCatalogFingerprint(source, imageName);
+
+    if (!Boolean.TRUE.equals(discoverSchemaRequestBody.getDisableCache())) {
+      final Optional<SourceCatalogCache> cachedCatalog = configRepository.getSourceCatalogCache(source.getSourceId());
+      if (cachedCatalog.isPresent() && isCacheHit(cachedCatalog.get(), fingerprint)) {
+        LOGGER.info("Using cached catalog for source {}", source.getSourceId());
+        return new SourceDiscoverSchemaRead()
+            .jobInfo(jobConverter.getSynchronousJobRead(SynchronousJobMetadata.mock(ConfigType.DISCOVER_SCHEMA)))
+            .catalog(CatalogConverter.toApi(cachedCatalog.get().getCatalog()));
+      }
+    }
+
     final SynchronousResponse<AirbyteCatalog> response = synchronousSchedulerClient.createDiscoverSchemaJob(source, imageName);
+    if (response.isSuccess()) {
+      configRepository.writeSourceCatalogCache(new SourceCatalogCache()
+          .withSourceId(source.getSourceId())
+          .withFingerprint(fingerprint)
+          .withDiscoveredAt(Instant.now().getEpochSecond())
+          .withCatalog(response.getOutput()));
+    }
     return discoverJobToOutput(response);
   }
 
+  private static boolean isCacheHit(final SourceCatalogCache cachedCatalog, final String fingerprint) {
+    return cachedCatalog.getFingerprint().equals(fingerprint)
+        && cachedCatalog.getDiscoveredAt() != null
+        && Instant.ofEpochSecond(cachedCatalog.getDiscoveredAt()).plus(CATALOG_CACHE_TTL).isAfter(Instant.now());
+  }
+
+  @VisibleForTesting
+  static String getCatalogFingerprint(final SourceConnection source, final String imageName) {
+    return Hashing.sha256()
+        .newHasher()
+        .putString(imageName, StandardCharsets.UTF_8)
+        .putString(Jsons.serialize(source.getConfiguration()), StandardCharsets.UTF_8)
+        .hash()
+        .toString();
+  }
+
   public SourceDiscoverSchemaRead discoverSchemaForSourceFromSourceCreate(final SourceCoreConfig sourceCreate)
       throws ConfigNotFoundException, IOException, JsonValidationException {
     final StandardSourceDefinition sourceDef = configRepository.getStandardSourceDefinition(sourceCreate.getSourceDefinitionId());
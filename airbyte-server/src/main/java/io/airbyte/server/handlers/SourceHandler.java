@@ -14,6 +14,7 @@ import io.airbyte.api.model.SourceReadList;
 import io.airbyte.api.model.SourceSearch;
 import io.airbyte.api.model.SourceUpdate;
 import io.airbyte.api.model.WorkspaceIdRequestBody;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.persistence.ConfigNotFoundException;
@@ -115,17 +116,28 @@ public class SourceHandler {
 
   public SourceReadList listSourcesForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
+    return listSourcesForWorkspace(workspaceIdRequestBody.getWorkspaceId(), false);
+  }
+
+  /**
+   * Lists the sources of the workspace including the deleted ones, e.g. to resolve the sources of
+   * deprecated connections.
+   */
+  public SourceReadList listAllSourcesForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
+      throws ConfigNotFoundException, IOException, JsonValidationException {
+    return listSourcesForWorkspace(workspaceIdRequestBody.getWorkspaceId(), true);
+  }
+
+  private SourceReadList listSourcesForWorkspace(final UUID workspaceId, final boolean includeTombstone)
+      throws ConfigNotFoundException, IOException, JsonValidationException {
     final List<SourceRead> reads = Lists.newArrayList();
 
-    for (final SourceConnection sci : configRepository.listSourceConnection()) {
-      if (!sci.getWorkspaceId().equals(workspaceIdRequestBody.getWorkspaceId())) {
-        continue;
-      }
-      if (sci.getTombstone()) {
+    for (final SourceConnection sci : configRepository.listSourceConnectionsForWorkspace(workspaceId)) {
+      if (!includeTombstone && sci.getTombstone()) {
         continue;
       }
 
-      reads.add(buildSourceRead(sci.getSourceId()));
+      reads.add(buildSourceRead(sci));
     }
 
     return new SourceReadList().sources(reads);
@@ -184,6 +196,7 @@ public class SourceHandler {
         true,
         fullConfig,
         spec);
+    configRepository.deleteSourceCatalogCache(source.getSourceId());
   }
 
   private SourceRead buildSourceRead(final UUID sourceId)
@@ -200,10 +213,23 @@ public class SourceHandler {
     final SourceConnection sourceConnection = configRepository.getSourceConnection(sourceId);
     final StandardSourceDefinition standardSourceDefinition = configRepository
         .getStandardSourceDefinition(sourceConnection.getSourceDefinitionId());
-    final JsonNode sanitizedConfig = secretsProcessor.maskSecrets(
-        sourceConnection.getConfiguration(), spec.getConnectionSpecification());
-    sourceConnection.setConfiguration(sanitizedConfig);
-    return toSourceRead(sourceConnection, standardSourceDefinition);
+    return buildSourceRead(sourceConnection, standardSourceDefinition, spec);
+  }
+
+  private SourceRead buildSourceRead(final SourceConnection sourceConnection)
+      throws ConfigNotFoundException, IOException, JsonValidationException {
+    final StandardSourceDefinition standardSourceDefinition = configRepository
+        .getStandardSourceDefinition(sourceConnection.getSourceDefinitionId());
+    return buildSourceRead(sourceConnection, standardSourceDefinition, standardSourceDefinition.getSpec());
+  }
+
+  private SourceRead buildSourceRead(final SourceConnection sourceConnection,
+                                     final StandardSourceDefinition standardSourceDefinition,
+                                     final ConnectorSpecification spec) {
+    // remove secrets from config before returning the read
+    final SourceConnection sci = Jsons.clone(sourceConnection);
+    sci.setConfiguration(secretsProcessor.maskSecrets(sci.getConfiguration(), spec.getConnectionSpecification()));
+    return toSourceRead(sci, standardSourceDefinition);
   }
 
   private void validateSource(final ConnectorSpecification spec, final JsonNode implementationJson)
@@ -4,7 +4,9 @@
 
 package io.airbyte.server.handlers;
 
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
@@ -27,9 +29,11 @@ import io.airbyte.api.model.JobReadList;
 import io.airbyte.api.model.JobStatus;
 import io.airbyte.api.model.JobWithAttemptsRead;
 import io.airbyte.api.model.OperationCreate;
+import io.airbyte.api.model.OperationRead;
 import io.airbyte.api.model.OperationReadList;
 import io.airbyte.api.model.OperationUpdate;
 import io.airbyte.api.model.SourceDiscoverSchemaRead;
+import io.airbyte.api.model.SourceDiscoverSchemaRequestBody;
 import io.airbyte.api.model.SourceIdRequestBody;
 import io.airbyte.api.model.SourceRead;
 import io.airbyte.api.model.WebBackendConnectionCreate;
@@ -49,13 +53,16 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 public class WebBackendConnectionsHandler {
 
   private static final Set<JobStatus> TERMINAL_STATUSES = Sets.newHashSet(JobStatus.FAILED, JobStatus.SUCCEEDED, JobStatus.CANCELLED);
+  private static final Set<JobConfigType> SYNC_CONFIG_TYPES = Set.of(JobConfigType.SYNC);
 
   private final ConnectionsHandler connectionsHandler;
   private final SourceHandler sourceHandler;
@@ -80,20 +87,68 @@ public class WebBackendConnectionsHandler {
 
   public WebBackendConnectionReadList webBackendListConnectionsForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
-
-    final List<WebBackendConnectionRead> reads = Lists.newArrayList();
-    for (final ConnectionRead connection : connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody).getConnections()) {
-      reads.add(buildWebBackendConnectionRead(connection));
-    }
-    return new WebBackendConnectionReadList().connections(reads);
+    return buildWebBackendConnectionReadList(workspaceIdRequestBody,
+        connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody).getConnections());
   }
 
   public WebBackendConnectionReadList webBackendListAllConnectionsForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
+    return buildWebBackendConnectionReadList(workspaceIdRequestBody,
+        connectionsHandler.listAllConnectionsForWorkspace(workspaceIdRequestBody).getConnections());
+  }
+
+  /**
+   * Builds the reads of connections of a workspace with a few queries for the whole workspace,
+   * instead of looking up the source, destination, operations and jobs of every connection.
+   */
+  private WebBackendConnectionReadList buildWebBackendConnectionReadList(final WorkspaceIdRequestBody workspaceIdRequestBody,
+                                                                         final List<ConnectionRead> connectionReads)
+      throws ConfigNotFoundException, IOException, JsonValidationException {
+    if (connectionReads.isEmpty()) {
+      return new WebBackendConnectionReadList().connections(Lists.newArrayList());
+    }
+
+    // deprecated connections can still refer to deleted sources and destinations.
+    final Map<UUID, SourceRead> sourcesById = sourceHandler.listAllSourcesForWorkspace(workspaceIdRequestBody).getSources().stream()
+        .collect(toMap(SourceRead::getSourceId, Function.identity()));
+    final Map<UUID, DestinationRead> destinationsById = destinationHandler.listAllDestinationsForWorkspace(workspaceIdRequestBody).getDestinations()
+        .stream()
+        .collect(toMap(DestinationRead::getDestinationId, Function.identity()));
+    final Map<UUID, OperationRead> operationsById = operationsHandler.listOperationsForWorkspace(workspaceIdRequestBody).getOperations().stream()
+        .collect(toMap(OperationRead::getOperationId, Function.identity()));
+
+    final Set<String> connectionIds = connectionReads.stream()
+        .map(connectionRead -> connectionRead.getConnectionId().toString())
+        .collect(toSet());
+    final Map<String, JobRead> latestSyncJobsByConnectionId = jobHistoryHandler.listLastJobsFor(SYNC_CONFIG_TYPES, connectionIds).getJobs().stream()
+        .map(JobWithAttemptsRead::getJob)
+        .collect(toMap(JobRead::getConfigId, Function.identity()));
+    final Set<String> syncingConnectionIds = jobHistoryHandler.listUnfinishedJobsFor(SYNC_CONFIG_TYPES, connectionIds).getJobs().stream()
+        .map(job -> job.getJob().getConfigId())
+        .collect(toSet());
 
     final List<WebBackendConnectionRead> reads = Lists.newArrayList();
-    for (final ConnectionRead connection : connectionsHandler.listAllConnectionsForWorkspace(workspaceIdRequestBody).getConnections()) {
-      reads.add(buildWebBackendConnectionRead(connection));
+    for (final ConnectionRead connectionRead : connectionReads) {
+      final SourceRead source = sourcesById.containsKey(connectionRead.getSourceId())
+          ? sourcesById.get(connectionRead.getSourceId())
+          : getSourceRead(connectionRead);
+      final DestinationRead destination = destinationsById.containsKey(connectionRead.getDestinationId())
+          ? destinationsById.get(connectionRead.getDestinationId())
+          : getDestinationRead(connectionRead);
+      final OperationReadList operations = new OperationReadList().operations(connectionRead.getOperationIds().stream()
+          .map(operationsById::get)
+          .filter(Objects::nonNull)
+          .collect(toList()));
+      final WebBackendConnectionRead webBackendConnectionRead = getWebBackendConnectionRead(connectionRead, source, destination, operations);
+
+      final String connectionId = connectionRead.getConnectionId().toString();
+      webBackendConnectionRead.setIsSyncing(syncingConnectionIds.contains(connectionId));
+      final JobRead latestSyncJob = latestSyncJobsByConnectionId.get(connectionId);
+      if (latestSyncJob != null) {
+        webBackendConnectionRead.setLatestSyncJobCreatedAt(latestSyncJob.getCreatedAt());
+        webBackendConnectionRead.setLatestSyncJobStatus(latestSyncJob.getStatus());
+      }
+      reads.add(webBackendConnectionRead);
     }
     return new WebBackendConnectionReadList().connections(reads);
   }
@@ -187,8 +242,10 @@ public class WebBackendConnectionsHandler {
     final ConnectionRead connection = connectionsHandler.getConnection(connectionIdRequestBody);
 
     if (MoreBooleans.isTruthy(webBackendConnectionRequestBody.getWithRefreshedCatalog())) {
-      final SourceIdRequestBody sourceId = new SourceIdRequestBody().sourceId(connection.getSourceId());
-      final SourceDiscoverSchemaRead discoverSchema = schedulerHandler.discoverSchemaForSourceFromSourceId(sourceId);
+      final SourceDiscoverSchemaRequestBody discoverSchemaRequestBody = new SourceDiscoverSchemaRequestBody()
+          .sourceId(connection.getSourceId())
+          .disableCache(true);
+      final SourceDiscoverSchemaRead discoverSchema = schedulerHandler.discoverSchemaForSourceFromSourceId(discoverSchemaRequestBody);
 
       final AirbyteCatalog original = connection.getSyncCatalog();
       final AirbyteCatalog discovered = discoverSchema.getCatalog();
@@ -6,7 +6,12 @@ package io.airbyte.server.handlers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
@@ -37,6 +42,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -123,7 +129,7 @@ public class JobHistoryHandlerTest {
           new Job(jobId2, JOB_CONFIG.getConfigType(), JOB_CONFIG_ID, JOB_CONFIG, Collections.emptyList(), JobStatus.PENDING,
               null, createdAt2, createdAt2);
 
-      when(jobPersistence.listJobs(Set.of(Enums.convertTo(CONFIG_TYPE_FOR_API, ConfigType.class)), JOB_CONFIG_ID, pagesize, rowOffset))
+      when(jobPersistence.listJobSummaries(Set.of(Enums.convertTo(CONFIG_TYPE_FOR_API, ConfigType.class)), JOB_CONFIG_ID, pagesize, Optional.empty()))
           .thenReturn(List.of(latestJobNoAttempt, successfulJob));
 
       final var requestBody = new JobListRequestBody()
@@ -163,7 +169,7 @@ public class JobHistoryHandlerTest {
       final var latestJob =
           new Job(latestJobId, ConfigType.SYNC, JOB_CONFIG_ID, JOB_CONFIG, Collections.emptyList(), JobStatus.PENDING, null, createdAt3, createdAt3);
 
-      when(jobPersistence.listJobs(configTypes, JOB_CONFIG_ID, pagesize, rowOffset)).thenReturn(List.of(latestJob, secondJob, firstJob));
+      when(jobPersistence.listJobSummaries(configTypes, JOB_CONFIG_ID, pagesize, Optional.empty())).thenReturn(List.of(latestJob, secondJob, firstJob));
 
       final JobListRequestBody requestBody = new JobListRequestBody()
           .configTypes(List.of(CONFIG_TYPE_FOR_API, JobConfigType.SYNC, JobConfigType.DISCOVER_SCHEMA))
@@ -182,6 +188,72 @@ public class JobHistoryHandlerTest {
       assertEquals(expectedJobReadList, jobReadList);
     }
 
+    @Test
+    @DisplayName("Should page by the last job of the previous page")
+    public void testListJobsAfterJob() throws IOException {
+      final int pagesize = 25;
+      when(jobPersistence.listJobSummaries(Set.of(CONFIG_TYPE), JOB_CONFIG_ID, pagesize, Optional.of(JOB_ID + 100)))
+          .thenReturn(List.of(testJob));
+
+      final var requestBody = new JobListRequestBody()
+          .configTypes(Collections.singletonList(CONFIG_TYPE_FOR_API))
+          .configId(JOB_CONFIG_ID)
+          .pagination(new Pagination().pageSize(pagesize).rowOffset(10).afterJobId(JOB_ID + 100));
+      final var jobReadList = jobHistoryHandler.listJobsFor(requestBody);
+
+      final var expectedJobWithAttemptRead =
+          new JobWithAttemptsRead().job(toJobInfo(testJob)).attempts(ImmutableList.of(toAttemptRead(testJobAttempt)));
+      assertEquals(new JobReadList().jobs(List.of(expectedJobWithAttemptRead)), jobReadList);
+      verify(jobPersistence, never()).listJobs(anySet(), anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should page by offset when only a row offset is given")
+    public void testListJobsWithRowOffset() throws IOException {
+      final int pagesize = 25;
+      final int rowOffset = 50;
+      when(jobPersistence.listJobs(Set.of(CONFIG_TYPE), JOB_CONFIG_ID, pagesize, rowOffset)).thenReturn(List.of(testJob));
+
+      final var requestBody = new JobListRequestBody()
+          .configTypes(Collections.singletonList(CONFIG_TYPE_FOR_API))
+          .configId(JOB_CONFIG_ID)
+          .pagination(new Pagination().pageSize(pagesize).rowOffset(rowOffset));
+      final var jobReadList = jobHistoryHandler.listJobsFor(requestBody);
+
+      final var expectedJobWithAttemptRead =
+          new JobWithAttemptsRead().job(toJobInfo(testJob)).attempts(ImmutableList.of(toAttemptRead(testJobAttempt)));
+      assertEquals(new JobReadList().jobs(List.of(expectedJobWithAttemptRead)), jobReadList);
+    }
+
+    @Test
+    @DisplayName("Should return the last job of each config")
+    public void testListLastJobsFor() throws IOException {
+      final String otherConfigId = "456";
+      final Set<String> configIds = Set.of(JOB_CONFIG_ID, otherConfigId);
+      when(jobPersistence.listLastJobs(Set.of(CONFIG_TYPE), configIds)).thenReturn(List.of(testJob));
+
+      final JobReadList jobReadList = jobHistoryHandler.listLastJobsFor(Set.of(CONFIG_TYPE_FOR_API), configIds);
+
+      final var expectedJobWithAttemptRead =
+          new JobWithAttemptsRead().job(toJobInfo(testJob)).attempts(ImmutableList.of(toAttemptRead(testJobAttempt)));
+      assertEquals(new JobReadList().jobs(List.of(expectedJobWithAttemptRead)), jobReadList);
+    }
+
+    @Test
+    @DisplayName("Should only return jobs that are not in a terminal state")
+    public void testListUnfinishedJobsFor() throws IOException {
+      final var runningJob =
+          new Job(JOB_ID + 100, CONFIG_TYPE, JOB_CONFIG_ID, JOB_CONFIG, Collections.emptyList(), JobStatus.RUNNING, null, CREATED_AT, CREATED_AT);
+      final Set<String> configIds = Set.of(JOB_CONFIG_ID);
+      when(jobPersistence.listJobsWithStatus(Set.of(CONFIG_TYPE), configIds, Set.of(JobStatus.PENDING, JobStatus.RUNNING, JobStatus.INCOMPLETE)))
+          .thenReturn(List.of(runningJob));
+
+      final JobReadList jobReadList = jobHistoryHandler.listUnfinishedJobsFor(Set.of(CONFIG_TYPE_FOR_API), configIds);
+
+      final var expectedJobWithAttemptRead = new JobWithAttemptsRead().job(toJobInfo(runningJob)).attempts(Collections.emptyList());
+      assertEquals(new JobReadList().jobs(List.of(expectedJobWithAttemptRead)), jobReadList);
+    }
+
   }
 
   @Test
@@ -13,7 +13,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,6 +33,7 @@ import io.airbyte.api.model.SourceCoreConfig;
 import io.airbyte.api.model.SourceDefinitionIdRequestBody;
 import io.airbyte.api.model.SourceDefinitionSpecificationRead;
 import io.airbyte.api.model.SourceDiscoverSchemaRead;
+import io.airbyte.api.model.SourceDiscoverSchemaRequestBody;
 import io.airbyte.api.model.SourceIdRequestBody;
 import io.airbyte.api.model.SourceUpdate;
 import io.airbyte.commons.docker.DockerUtils;
@@ -43,6 +46,7 @@ import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobConfig.ConfigType;
 import io.airbyte.config.OperatorNormalization;
 import io.airbyte.config.OperatorNormalization.Option;
+import io.airbyte.config.SourceCatalogCache;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardCheckConnectionOutput;
 import io.airbyte.config.StandardDestinationDefinition;
@@ -68,6 +72,7 @@ import io.airbyte.scheduler.models.JobStatus;
 import io.airbyte.scheduler.persistence.JobNotifier;
 import io.airbyte.scheduler.persistence.JobPersistence;
 import io.airbyte.scheduler.persistence.job_factory.OAuthConfigSupplier;
+import io.airbyte.server.converters.CatalogConverter;
 import io.airbyte.server.converters.ConfigurationUpdate;
 import io.airbyte.server.helpers.ConnectionHelpers;
 import io.airbyte.server.helpers.DestinationHelpers;
@@ -77,12 +82,14 @@ import io.airbyte.validation.json.JsonValidationException;
 import io.temporal.serviceclient.WorkflowServiceStubs;
 import java.io.IOException;
 import java.net.URI;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 @SuppressWarnings("unchecked")
 class SchedulerHandlerTest {
@@ -354,7 +361,7 @@ class SchedulerHandlerTest {
   @Test
   void testDiscoverSchemaForSourceFromSourceId() throws IOException, JsonValidationException, ConfigNotFoundException {
     final SourceConnection source = SourceHelpers.generateSource(UUID.randomUUID());
-    final SourceIdRequestBody request = new SourceIdRequestBody().sourceId(source.getSourceId());
+    final SourceDiscoverSchemaRequestBody request = new SourceDiscoverSchemaRequestBody().sourceId(source.getSourceId());
 
     final SynchronousResponse<AirbyteCatalog> discoverResponse = (SynchronousResponse<AirbyteCatalog>) jobResponse;
     final SynchronousJobMetadata metadata = mock(SynchronousJobMetadata.class);
@@ -379,12 +386,75 @@ class SchedulerHandlerTest {
     assertTrue(actual.getJobInfo().getSucceeded());
     verify(configRepository).getSourceConnection(source.getSourceId());
     verify(synchronousSchedulerClient).createDiscoverSchemaJob(source, SOURCE_DOCKER_IMAGE);
+    final ArgumentCaptor<SourceCatalogCache> cachedCatalog = ArgumentCaptor.forClass(SourceCatalogCache.class);
+    verify(configRepository).writeSourceCatalogCache(cachedCatalog.capture());
+    assertEquals(source.getSourceId(), cachedCatalog.getValue().getSourceId());
+    assertEquals(SchedulerHandler.getCatalogFingerprint(source, SOURCE_DOCKER_IMAGE), cachedCatalog.getValue().getFingerprint());
+    assertEquals(discoverResponse.getOutput(), cachedCatalog.getValue().getCatalog());
+    assertTrue(cachedCatalog.getValue().getDiscoveredAt() <= Instant.now().getEpochSecond());
+  }
+
+  @Test
+  void testDiscoverSchemaForSourceFromSourceIdCached() throws IOException, JsonValidationException, ConfigNotFoundException {
+    final SourceConnection source = SourceHelpers.generateSource(UUID.randomUUID());
+    final SourceDiscoverSchemaRequestBody request = new SourceDiscoverSchemaRequestBody().sourceId(source.getSourceId());
+    final AirbyteCatalog catalog = CatalogHelpers.createAirbyteCatalog("shoes", Field.of("sku", JsonSchemaPrimitive.STRING));
+
+    when(configRepository.getStandardSourceDefinition(source.getSourceDefinitionId()))
+        .thenReturn(new StandardSourceDefinition()
+            .withDockerRepository(SOURCE_DOCKER_REPO)
+            .withDockerImageTag(SOURCE_DOCKER_TAG)
+            .withSourceDefinitionId(source.getSourceDefinitionId()));
+    when(configRepository.getSourceConnection(source.getSourceId())).thenReturn(source);
+    when(configRepository.getSourceCatalogCache(source.getSourceId())).thenReturn(Optional.of(new SourceCatalogCache()
+        .withSourceId(source.getSourceId())
+        .withFingerprint(SchedulerHandler.getCatalogFingerprint(source, SOURCE_DOCKER_IMAGE))
+        .withDiscoveredAt(Instant.now().getEpochSecond())
+        .withCatalog(catalog)));
+
+    final SourceDiscoverSchemaRead actual = schedulerHandler.discoverSchemaForSourceFromSourceId(request);
+
+    assertEquals(CatalogConverter.toApi(catalog), actual.getCatalog());
+    assertTrue(actual.getJobInfo().getSucceeded());
+    verify(synchronousSchedulerClient, never()).createDiscoverSchemaJob(any(), any());
+  }
+
+  @Test
+  void testDiscoverSchemaForSourceFromSourceIdCacheDisabledStaleOrExpired() throws IOException, JsonValidationException, ConfigNotFoundException {
+    final SourceConnection source = SourceHelpers.generateSource(UUID.randomUUID());
+    final SourceCatalogCache cachedCatalog = new SourceCatalogCache()
+        .withSourceId(source.getSourceId())
+        .withFingerprint(SchedulerHandler.getCatalogFingerprint(source, SOURCE_DOCKER_IMAGE))
+        .withDiscoveredAt(Instant.now().getEpochSecond())
+        .withCatalog(new AirbyteCatalog());
+
+    when(configRepository.getStandardSourceDefinition(source.getSourceDefinitionId()))
+        .thenReturn(new StandardSourceDefinition()
+            .withDockerRepository(SOURCE_DOCKER_REPO)
+            .withDockerImageTag(SOURCE_DOCKER_TAG)
+            .withSourceDefinitionId(source.getSourceDefinitionId()));
+    when(configRepository.getSourceConnection(source.getSourceId())).thenReturn(source);
+    when(synchronousSchedulerClient.createDiscoverSchemaJob(source, SOURCE_DOCKER_IMAGE))
+        .thenReturn((SynchronousResponse<AirbyteCatalog>) jobResponse);
+
+    when(configRepository.getSourceCatalogCache(source.getSourceId())).thenReturn(Optional.of(cachedCatalog));
+    schedulerHandler.discoverSchemaForSourceFromSourceId(new SourceDiscoverSchemaRequestBody().sourceId(source.getSourceId()).disableCache(true));
+
+    when(configRepository.getSourceCatalogCache(source.getSourceId())).thenReturn(Optional.of(Jsons.clone(cachedCatalog).withFingerprint("stale")));
+    schedulerHandler.discoverSchemaForSourceFromSourceId(new SourceDiscoverSchemaRequestBody().sourceId(source.getSourceId()));
+
+    final long expiredDiscoveredAt = Instant.now().minus(SchedulerHandler.CATALOG_CACHE_TTL).minusSeconds(1).getEpochSecond();
+    when(configRepository.getSourceCatalogCache(source.getSourceId()))
+        .thenReturn(Optional.of(Jsons.clone(cachedCatalog).withDiscoveredAt(expiredDiscoveredAt)));
+    schedulerHandler.discoverSchemaForSourceFromSourceId(new SourceDiscoverSchemaRequestBody().sourceId(source.getSourceId()));
+
+    verify(synchronousSchedulerClient, times(3)).createDiscoverSchemaJob(source, SOURCE_DOCKER_IMAGE);
   }
 
   @Test
   void testDiscoverSchemaForSourceFromSourceIdFailed() throws IOException, JsonValidationException, ConfigNotFoundException {
     final SourceConnection source = SourceHelpers.generateSource(UUID.randomUUID());
-    final SourceIdRequestBody request = new SourceIdRequestBody().sourceId(source.getSourceId());
+    final SourceDiscoverSchemaRequestBody request = new SourceDiscoverSchemaRequestBody().sourceId(source.getSourceId());
 
     when(configRepository.getStandardSourceDefinition(source.getSourceDefinitionId()))
         .thenReturn(new StandardSourceDefinition()
@@ -5,8 +5,10 @@
 package io.airbyte.server.handlers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -27,6 +29,7 @@ import io.airbyte.api.model.ConnectionStatus;
 import io.airbyte.api.model.ConnectionUpdate;
 import io.airbyte.api.model.DestinationIdRequestBody;
 import io.airbyte.api.model.DestinationRead;
+import io.airbyte.api.model.DestinationReadList;
 import io.airbyte.api.model.DestinationSyncMode;
 import io.airbyte.api.model.JobConfigType;
 import io.airbyte.api.model.JobInfoRead;
@@ -41,8 +44,10 @@ import io.airbyte.api.model.OperationReadList;
 import io.airbyte.api.model.OperationUpdate;
 import io.airbyte.api.model.ResourceRequirements;
 import io.airbyte.api.model.SourceDiscoverSchemaRead;
+import io.airbyte.api.model.SourceDiscoverSchemaRequestBody;
 import io.airbyte.api.model.SourceIdRequestBody;
 import io.airbyte.api.model.SourceRead;
+import io.airbyte.api.model.SourceReadList;
 import io.airbyte.api.model.SyncMode;
 import io.airbyte.api.model.SynchronousJobRead;
 import io.airbyte.api.model.WebBackendConnectionCreate;
@@ -87,6 +92,7 @@ class WebBackendConnectionsHandlerTest {
   private ConnectionsHandler connectionsHandler;
   private OperationsHandler operationsHandler;
   private SchedulerHandler schedulerHandler;
+  private JobHistoryHandler jobHistoryHandler;
   private WebBackendConnectionsHandler wbHandler;
 
   private SourceRead sourceRead;
@@ -101,7 +107,7 @@ class WebBackendConnectionsHandlerTest {
     operationsHandler = mock(OperationsHandler.class);
     final SourceHandler sourceHandler = mock(SourceHandler.class);
     final DestinationHandler destinationHandler = mock(DestinationHandler.class);
-    final JobHistoryHandler jobHistoryHandler = mock(JobHistoryHandler.class);
+    jobHistoryHandler = mock(JobHistoryHandler.class);
     schedulerHandler = mock(SchedulerHandler.class);
     wbHandler = new WebBackendConnectionsHandler(connectionsHandler, sourceHandler, destinationHandler, jobHistoryHandler, schedulerHandler,
         operationsHandler);
@@ -154,6 +160,15 @@ class WebBackendConnectionsHandlerTest {
     jobListRequestBody.setConfigId(connectionRead.getConnectionId().toString());
     when(jobHistoryHandler.listJobsFor(jobListRequestBody)).thenReturn(jobReadList);
 
+    final WorkspaceIdRequestBody workspaceIdRequestBody = new WorkspaceIdRequestBody().workspaceId(sourceRead.getWorkspaceId());
+    when(sourceHandler.listAllSourcesForWorkspace(workspaceIdRequestBody)).thenReturn(new SourceReadList().sources(List.of(sourceRead)));
+    when(destinationHandler.listAllDestinationsForWorkspace(workspaceIdRequestBody))
+        .thenReturn(new DestinationReadList().destinations(List.of(destinationRead)));
+    when(operationsHandler.listOperationsForWorkspace(workspaceIdRequestBody)).thenReturn(operationReadList);
+    final Set<String> connectionIds = Set.of(connectionRead.getConnectionId().toString());
+    when(jobHistoryHandler.listLastJobsFor(Set.of(JobConfigType.SYNC), connectionIds)).thenReturn(jobReadList);
+    when(jobHistoryHandler.listUnfinishedJobsFor(Set.of(JobConfigType.SYNC), connectionIds)).thenReturn(new JobReadList().jobs(List.of()));
+
     expected = new WebBackendConnectionRead()
         .connectionId(connectionRead.getConnectionId())
         .sourceId(connectionRead.getSourceId())
@@ -180,7 +195,10 @@ class WebBackendConnectionsHandlerTest {
 
     final AirbyteCatalog modifiedCatalog = ConnectionHelpers.generateBasicApiCatalog();
 
-    when(schedulerHandler.discoverSchemaForSourceFromSourceId(sourceIdRequestBody)).thenReturn(
+    final SourceDiscoverSchemaRequestBody discoverSchemaRequestBody = new SourceDiscoverSchemaRequestBody()
+        .sourceId(connectionRead.getSourceId())
+        .disableCache(true);
+    when(schedulerHandler.discoverSchemaForSourceFromSourceId(discoverSchemaRequestBody)).thenReturn(
         new SourceDiscoverSchemaRead()
             .jobInfo(mock(SynchronousJobRead.class))
             .catalog(modifiedCatalog));
@@ -222,11 +240,35 @@ class WebBackendConnectionsHandlerTest {
     final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody();
     connectionIdRequestBody.setConnectionId(connectionRead.getConnectionId());
     when(connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody)).thenReturn(connectionReadList);
-    when(operationsHandler.listOperationsForConnection(connectionIdRequestBody)).thenReturn(operationReadList);
 
     final WebBackendConnectionReadList WebBackendConnectionReadList = wbHandler.webBackendListConnectionsForWorkspace(workspaceIdRequestBody);
     assertEquals(1, WebBackendConnectionReadList.getConnections().size());
     assertEquals(expected, WebBackendConnectionReadList.getConnections().get(0));
+    verify(operationsHandler, never()).listOperationsForConnection(connectionIdRequestBody);
+    verify(jobHistoryHandler, never()).listJobsFor(any());
+  }
+
+  @Test
+  public void testWebBackendListConnectionsForWorkspaceWithRunningSync() throws ConfigNotFoundException, IOException, JsonValidationException {
+    final WorkspaceIdRequestBody workspaceIdRequestBody = new WorkspaceIdRequestBody();
+    workspaceIdRequestBody.setWorkspaceId(sourceRead.getWorkspaceId());
+
+    final ConnectionReadList connectionReadList = new ConnectionReadList();
+    connectionReadList.setConnections(Collections.singletonList(connectionRead));
+    when(connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody)).thenReturn(connectionReadList);
+    final JobReadList runningJobReadList = new JobReadList().jobs(List.of(new JobWithAttemptsRead()
+        .job(new JobRead()
+            .configId(connectionRead.getConnectionId().toString())
+            .configType(JobConfigType.SYNC)
+            .id(11L)
+            .status(JobStatus.RUNNING))));
+    when(jobHistoryHandler.listUnfinishedJobsFor(Set.of(JobConfigType.SYNC), Set.of(connectionRead.getConnectionId().toString())))
+        .thenReturn(runningJobReadList);
+
+    final WebBackendConnectionReadList WebBackendConnectionReadList = wbHandler.webBackendListConnectionsForWorkspace(workspaceIdRequestBody);
+    assertEquals(1, WebBackendConnectionReadList.getConnections().size());
+    assertTrue(WebBackendConnectionReadList.getConnections().get(0).getIsSyncing());
+    assertEquals(expected.getLatestSyncJobStatus(), WebBackendConnectionReadList.getConnections().get(0).getLatestSyncJobStatus());
   }
 
   @Test
@@ -236,10 +278,7 @@ class WebBackendConnectionsHandlerTest {
 
     final ConnectionReadList connectionReadList = new ConnectionReadList();
     connectionReadList.setConnections(Collections.singletonList(connectionRead));
-    final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody();
-    connectionIdRequestBody.setConnectionId(connectionRead.getConnectionId());
     when(connectionsHandler.listAllConnectionsForWorkspace(workspaceIdRequestBody)).thenReturn(connectionReadList);
-    when(operationsHandler.listOperationsForConnection(connectionIdRequestBody)).thenReturn(operationReadList);
 
     final WebBackendConnectionReadList WebBackendConnectionReadList = wbHandler.webBackendListAllConnectionsForWorkspace(workspaceIdRequestBody);
     assertEquals(1, WebBackendConnectionReadList.getConnections().size());
@@ -25,9 +25,12 @@ export default class SchemaResource extends BaseResource implements Schema {
   ): ReadShape<SchemaDetail<Schema>> {
     return {
       ...super.detailShape(),
-      getFetchKey: (params: { sourceId: string }) =>
+      getFetchKey: (params: { sourceId: string; disable_cache?: boolean }) =>
         `POST /sources/discover_schema` + JSON.stringify(params),
-      fetch: async (params: { sourceId: string }): Promise<Schema> => {
+      fetch: async (params: {
+        sourceId: string;
+        disable_cache?: boolean;
+      }): Promise<Schema> => {
         const response = await this.fetch(
           "post",
           `${this.url(params)}/discover_schema`,
@@ -22,26 +22,37 @@ export const useDiscoverSchema = (
 
   const fetchDiscoverSchema = useFetcher(SchemaResource.schemaShape(), true);
 
-  const onDiscoverSchema = useCallback(async () => {
-    setIsLoading(true);
-    setSchemaErrorStatus(null);
-    try {
-      const data = await fetchDiscoverSchema({ sourceId: sourceId || "" });
-      setSchema(data.catalog);
-    } catch (e) {
-      setSchemaErrorStatus(e);
-    } finally {
-      setIsLoading(false);
-    }
-  }, [fetchDiscoverSchema, sourceId]);
+  const discoverSchema = useCallback(
+    async (disableCache: boolean) => {
+      setIsLoading(true);
+      setSchemaErrorStatus(null);
+      try {
+        const data = await fetchDiscoverSchema({
+          sourceId: sourceId || "",
+          disable_cache: disableCache,
+        });
+        setSchema(data.catalog);
+      } catch (e) {
+        setSchemaErrorStatus(e);
+      } finally {
+        setIsLoading(false);
+      }
+    },
+    [fetchDiscoverSchema, sourceId]
+  );
+
+  // An explicit refresh always runs the discovery, the first load may reuse the cached catalog.
+  const onDiscoverSchema = useCallback(() => discoverSchema(true), [
+    discoverSchema,
+  ]);
 
   useEffect(() => {
     (async () => {
       if (sourceId) {
-        await onDiscoverSchema();
+        await discoverSchema(false);
       }
     })();
-  }, [fetchDiscoverSchema, onDiscoverSchema, sourceId]);
+  }, [discoverSchema, sourceId]);
 
   return { schemaErrorStatus, isLoading, schema, onDiscoverSchema };
 };
@@ -16,6 +16,7 @@ import io.airbyte.workers.protocols.airbyte.AirbyteDestination;
 import io.airbyte.workers.protocols.airbyte.AirbyteMapper;
 import io.airbyte.workers.protocols.airbyte.AirbyteSource;
 import io.airbyte.workers.protocols.airbyte.MessageTracker;
+import io.airbyte.workers.protocols.airbyte.StateCheckpointer;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
@@ -41,6 +42,7 @@ import org.slf4j.MDC;
  * <li>Collecting metadata about the data that is passing from Source to Destination</li>
  * <li>Listening for state messages emitted from the Destination to keep track of what data has been
  * replicated.</li>
+ * <li>Checkpointing the state emitted from the Destination while the replication runs</li>
  * <li>Handling shutdown of the Source and Destination</li>
  * <li>Handling failure cases and returning state for partially completed replications (so that the
  * next replication can pick up where it left off instead of starting from the beginning)</li>
@@ -57,6 +59,7 @@ public class DefaultReplicationWorker implements ReplicationWorker {
   private final AirbyteDestination destination;
   private final MessageTracker sourceMessageTracker;
   private final MessageTracker destinationMessageTracker;
+  private final StateCheckpointer stateCheckpointer;
 
   private final ExecutorService executors;
   private final AtomicBoolean cancelled;
@@ -69,6 +72,17 @@ public class DefaultReplicationWorker implements ReplicationWorker {
                                   final AirbyteDestination destination,
                                   final MessageTracker sourceMessageTracker,
                                   final MessageTracker destinationMessageTracker) {
+    this(jobId, attempt, source, mapper, destination, sourceMessageTracker, destinationMessageTracker, (state, bytesSynced) -> {});
+  }
+
+  public DefaultReplicationWorker(final String jobId,
+                                  final int attempt,
+                                  final AirbyteSource source,
+                                  final AirbyteMapper mapper,
+                                  final AirbyteDestination destination,
+                                  final MessageTracker sourceMessageTracker,
+                                  final MessageTracker destinationMessageTracker,
+                                  final StateCheckpointer stateCheckpointer) {
     this.jobId = jobId;
     this.attempt = attempt;
     this.source = source;
@@ -76,6 +90,7 @@ public class DefaultReplicationWorker implements ReplicationWorker {
     this.destination = destination;
     this.sourceMessageTracker = sourceMessageTracker;
     this.destinationMessageTracker = destinationMessageTracker;
+    this.stateCheckpointer = stateCheckpointer;
     this.executors = Executors.newFixedThreadPool(2);
 
     this.cancelled = new AtomicBoolean(false);
@@ -87,7 +102,8 @@ public class DefaultReplicationWorker implements ReplicationWorker {
    * destination. The second listen on STDOUT of the destination. The goal of this second thread is to
    * detect when the destination emits state messages. Only state messages emitted by the destination
    * should be treated as state that is safe to return from run. In the case when the destination
-   * emits no state, we fall back on whatever state is pass in as an argument to this method.
+   * emits no state, we fall back on whatever state is pass in as an argument to this method. The
+   * states emitted by the destination are also checkpointed while the replication runs.
    *
    * @param syncInput all configuration for running replication
    * @param jobRoot file root that worker is allowed to use
@@ -123,6 +139,8 @@ public class DefaultReplicationWorker implements ReplicationWorker {
             destination,
             cancelled,
             destinationMessageTracker,
+            sourceMessageTracker,
+            stateCheckpointer,
             mdc));
 
         final Future<?> replicationThreadFuture = executors.submit(getReplicationRunnable(
@@ -145,6 +163,7 @@ public class DefaultReplicationWorker implements ReplicationWorker {
         LOGGER.error("Sync worker failed.", e);
       } finally {
         executors.shutdownNow();
+        stateCheckpointer.close();
       }
 
       final ReplicationStatus outputStatus;
@@ -237,6 +256,8 @@ public class DefaultReplicationWorker implements ReplicationWorker {
   private static Runnable getDestinationOutputRunnable(final AirbyteDestination destination,
                                                        final AtomicBoolean cancelled,
                                                        final MessageTracker destinationMessageTracker,
+                                                       final MessageTracker sourceMessageTracker,
+                                                       final StateCheckpointer stateCheckpointer,
                                                        final Map<String, String> mdc) {
     return () -> {
       MDC.setContextMap(mdc);
@@ -245,8 +266,12 @@ public class DefaultReplicationWorker implements ReplicationWorker {
         while (!cancelled.get() && !destination.isFinished()) {
           final Optional<AirbyteMessage> messageOptional = destination.attemptRead();
           if (messageOptional.isPresent()) {
-            LOGGER.info("state in DefaultReplicationWorker from Destination: {}", messageOptional.get());
-            destinationMessageTracker.accept(messageOptional.get());
+            final AirbyteMessage message = messageOptional.get();
+            LOGGER.info("state in DefaultReplicationWorker from Destination: {}", message);
+            destinationMessageTracker.accept(message);
+            if (message.getType() == AirbyteMessage.Type.STATE) {
+              stateCheckpointer.checkpoint(new State().withState(message.getState().getData()), sourceMessageTracker.getBytesCount());
+            }
           }
         }
       } catch (final Exception e) {
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.protocols.airbyte;
+
+import io.airbyte.config.State;
+
+/**
+ * Persists the states emitted by the Destination while a sync is running, so that the progress of
+ * the sync is not lost if the worker dies before the sync ends.
+ */
+public interface StateCheckpointer extends AutoCloseable {
+
+  /**
+   * Accepts a state emitted by the Destination. Implementations decide whether and when it is
+   * persisted, and must not block the sync while doing so.
+   *
+   * @param state state emitted by the Destination, i.e. state of data the Destination committed.
+   * @param bytesSynced total bytes that passed from Source to Destination so far.
+   */
+  void checkpoint(State state, long bytesSynced);
+
+  /**
+   * Persists the last accepted state if it was not yet, and waits for pending writes to end.
+   */
+  @Override
+  default void close() {}
+
+}
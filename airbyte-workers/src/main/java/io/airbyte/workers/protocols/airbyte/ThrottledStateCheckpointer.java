@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.protocols.airbyte;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.functional.CheckedConsumer;
+import io.airbyte.config.State;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the states emitted by the Destination on a separate thread. A checkpoint is written once
+ * the checkpoint interval has passed or once enough bytes were synced since the last checkpoint,
+ * whichever comes first. Only the latest state is written, states accepted while a write is in
+ * progress are coalesced.
+ *
+ * Failed writes are logged and do not fail the sync, the state is persisted again when the sync
+ * ends.
+ */
+public class ThrottledStateCheckpointer implements StateCheckpointer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ThrottledStateCheckpointer.class);
+
+  public static final Duration DEFAULT_CHECKPOINT_INTERVAL = Duration.ofMinutes(1);
+  public static final long DEFAULT_CHECKPOINT_BYTES = 256L * 1024 * 1024;
+  private static final Duration CLOSE_TIMEOUT = Duration.ofMinutes(1);
+
+  private final CheckedConsumer<State, Exception> stateWriter;
+  private final Duration checkpointInterval;
+  private final long checkpointBytes;
+  private final Supplier<Instant> nowSupplier;
+  private final ExecutorService executor;
+  private final AtomicReference<State> pendingState;
+
+  private Instant lastCheckpointTime;
+  private long lastCheckpointBytes;
+
+  public ThrottledStateCheckpointer(final CheckedConsumer<State, Exception> stateWriter) {
+    this(stateWriter, DEFAULT_CHECKPOINT_INTERVAL, DEFAULT_CHECKPOINT_BYTES, Instant::now, Executors.newSingleThreadExecutor());
+  }
+
+  @VisibleForTesting
+  ThrottledStateCheckpointer(final CheckedConsumer<State, Exception> stateWriter,
+                             final Duration checkpointInterval,
+                             final long checkpointBytes,
+                             final Supplier<Instant> nowSupplier,
+                             final ExecutorService executor) {
+    this.stateWriter = stateWriter;
+    this.checkpointInterval = checkpointInterval;
+    this.checkpointBytes = checkpointBytes;
+    this.nowSupplier = nowSupplier;
+    this.executor = executor;
+    this.pendingState = new AtomicReference<>();
+    this.lastCheckpointTime = nowSupplier.get();
+    this.lastCheckpointBytes = 0;
+  }
+
+  @Override
+  public synchronized void checkpoint(final State state, final long bytesSynced) {
+    if (executor.isShutdown()) {
+      // the sync is ending, its last state is persisted once the sync ends.
+      return;
+    }
+    pendingState.set(state);
+
+    final Instant now = nowSupplier.get();
+    final boolean intervalPassed = !now.isBefore(lastCheckpointTime.plus(checkpointInterval));
+    if (intervalPassed || bytesSynced - lastCheckpointBytes >= checkpointBytes) {
+      lastCheckpointTime = now;
+      lastCheckpointBytes = bytesSynced;
+      executor.submit(this::writePendingState);
+    }
+  }
+
+  @Override
+  public void close() {
+    synchronized (this) {
+      executor.submit(this::writePendingState);
+      executor.shutdown();
+    }
+    try {
+      if (!executor.awaitTermination(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+        LOGGER.warn("State checkpoint did not complete within {}", CLOSE_TIMEOUT);
+        executor.shutdownNow();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      executor.shutdownNow();
+    }
+  }
+
+  private void writePendingState() {
+    final State state = pendingState.getAndSet(null);
+    if (state == null) {
+      // a write submitted earlier already wrote the latest state.
+      return;
+    }
+
+    try {
+      stateWriter.accept(state);
+      LOGGER.info("State checkpoint persisted");
+    } catch (final Exception e) {
+      LOGGER.warn("Failed to persist state checkpoint", e);
+      // retry with the next write, unless a newer state was accepted in the meantime.
+      pendingState.compareAndSet(null, state);
+    }
+  }
+
+}
@@ -96,6 +96,7 @@ public class TemporalClient {
         .withDockerImage(config.getDestinationDockerImage());
 
     final StandardSyncInput input = new StandardSyncInput()
+        .withConnectionId(connectionId)
         .withNamespaceDefinition(config.getNamespaceDefinition())
         .withNamespaceFormat(config.getNamespaceFormat())
         .withPrefix(config.getPrefix())
@@ -14,7 +14,9 @@ import io.airbyte.config.ReplicationOutput;
 import io.airbyte.config.StandardSyncInput;
 import io.airbyte.config.StandardSyncOutput;
 import io.airbyte.config.StandardSyncSummary;
+import io.airbyte.config.State;
 import io.airbyte.config.helpers.LogConfigs;
+import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.persistence.split_secrets.SecretsHydrator;
 import io.airbyte.scheduler.models.IntegrationLauncherConfig;
 import io.airbyte.scheduler.models.JobRunConfig;
@@ -30,9 +32,14 @@ import io.airbyte.workers.protocols.airbyte.DefaultAirbyteDestination;
 import io.airbyte.workers.protocols.airbyte.DefaultAirbyteSource;
 import io.airbyte.workers.protocols.airbyte.EmptyAirbyteSource;
 import io.airbyte.workers.protocols.airbyte.NamespacingMapper;
+import io.airbyte.workers.protocols.airbyte.StateCheckpointer;
+import io.airbyte.workers.protocols.airbyte.ThrottledStateCheckpointer;
 import io.airbyte.workers.temporal.CancellationHandler;
 import io.airbyte.workers.temporal.TemporalAttemptExecution;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,6 +54,7 @@ public class ReplicationActivityImpl implements ReplicationActivity {
   private final AirbyteConfigValidator validator;
   private final WorkerEnvironment workerEnvironment;
   private final LogConfigs logConfigs;
+  private final ConfigRepository configRepository;
 
   private final String databaseUser;
   private final String databasePassword;
@@ -59,12 +67,13 @@ public class ReplicationActivityImpl implements ReplicationActivity {
                                  final Path workspaceRoot,
                                  final WorkerEnvironment workerEnvironment,
                                  final LogConfigs logConfigs,
+                                 final ConfigRepository configRepository,
                                  final String databaseUser,
                                  final String databasePassword,
                                  final String databaseUrl,
                                  final String airbyteVersion) {
-    this(processFactory, secretsHydrator, workspaceRoot, workerEnvironment, logConfigs, new AirbyteConfigValidator(), databaseUser,
-        databasePassword, databaseUrl, airbyteVersion);
+    this(processFactory, secretsHydrator, workspaceRoot, workerEnvironment, logConfigs, configRepository, new AirbyteConfigValidator(),
+        databaseUser, databasePassword, databaseUrl, airbyteVersion);
   }
 
   @VisibleForTesting
@@ -73,6 +82,7 @@ public class ReplicationActivityImpl implements ReplicationActivity {
                           final Path workspaceRoot,
                           final WorkerEnvironment workerEnvironment,
                           final LogConfigs logConfigs,
+                          final ConfigRepository configRepository,
                           final AirbyteConfigValidator validator,
                           final String databaseUser,
                           final String databasePassword,
@@ -84,6 +94,7 @@ public class ReplicationActivityImpl implements ReplicationActivity {
     this.validator = validator;
     this.workerEnvironment = workerEnvironment;
     this.logConfigs = logConfigs;
+    this.configRepository = configRepository;
     this.databaseUser = databaseUser;
     this.databasePassword = databasePassword;
     this.databaseUrl = databaseUrl;
@@ -101,7 +112,8 @@ public class ReplicationActivityImpl implements ReplicationActivity {
 
     final var fullSyncInput = Jsons.clone(syncInput)
         .withSourceConfiguration(fullSourceConfig)
-        .withDestinationConfiguration(fullDestinationConfig);
+        .withDestinationConfiguration(fullDestinationConfig)
+        .withState(getInputState(jobRunConfig, syncInput));
 
     final Supplier<StandardSyncInput> inputSupplier = () -> {
       validator.ensureAsRuntime(ConfigSchema.STANDARD_SYNC_INPUT, Jsons.jsonNode(fullSyncInput));
@@ -123,6 +135,27 @@ public class ReplicationActivityImpl implements ReplicationActivity {
     return standardSyncOutput;
   }
 
+  /**
+   * The state of the job is the connection state when the job was created. A retry attempt resumes
+   * from the state checkpointed by the previous attempts instead.
+   */
+  private State getInputState(final JobRunConfig jobRunConfig, final StandardSyncInput syncInput) {
+    if (jobRunConfig.getAttemptId() == 0 || syncInput.getConnectionId() == null) {
+      return syncInput.getState();
+    }
+
+    try {
+      final Optional<State> checkpointedState = configRepository.getConnectionState(syncInput.getConnectionId());
+      if (checkpointedState.isPresent()) {
+        LOGGER.info("Resuming attempt {} from checkpointed state", jobRunConfig.getAttemptId());
+        return checkpointedState.get();
+      }
+      return syncInput.getState();
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   private static StandardSyncOutput reduceReplicationOutput(final ReplicationOutput output) {
     final long totalBytesReplicated = output.getReplicationAttemptSummary().getBytesSynced();
     final long totalRecordsReplicated = output.getReplicationAttemptSummary().getRecordsSynced();
@@ -166,6 +199,11 @@ public class ReplicationActivityImpl implements ReplicationActivity {
           sourceLauncherConfig.getDockerImage().equals(WorkerConstants.RESET_JOB_SOURCE_DOCKER_IMAGE_STUB) ? new EmptyAirbyteSource()
               : new DefaultAirbyteSource(sourceLauncher);
 
+      final UUID connectionId = syncInput.getConnectionId();
+      final StateCheckpointer stateCheckpointer = connectionId == null
+          ? (state, bytesSynced) -> {}
+          : new ThrottledStateCheckpointer(state -> configRepository.updateConnectionState(connectionId, state));
+
       return new DefaultReplicationWorker(
           jobRunConfig.getJobId(),
           Math.toIntExact(jobRunConfig.getAttemptId()),
@@ -173,7 +211,8 @@ public class ReplicationActivityImpl implements ReplicationActivity {
           new NamespacingMapper(syncInput.getNamespaceDefinition(), syncInput.getNamespaceFormat(), syncInput.getPrefix()),
           new DefaultAirbyteDestination(destinationLauncher),
           new AirbyteMessageTracker(),
-          new AirbyteMessageTracker());
+          new AirbyteMessageTracker(),
+          stateCheckpointer);
     };
   }
 
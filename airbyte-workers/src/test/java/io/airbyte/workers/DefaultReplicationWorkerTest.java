@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -40,6 +41,7 @@ import io.airbyte.workers.protocols.airbyte.AirbyteMessageTracker;
 import io.airbyte.workers.protocols.airbyte.AirbyteMessageUtils;
 import io.airbyte.workers.protocols.airbyte.AirbyteSource;
 import io.airbyte.workers.protocols.airbyte.NamespacingMapper;
+import io.airbyte.workers.protocols.airbyte.StateCheckpointer;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -134,6 +136,28 @@ class DefaultReplicationWorkerTest {
     verify(destination).close();
   }
 
+  @Test
+  void testCheckpointsDestinationStates() throws Exception {
+    final StateCheckpointer stateCheckpointer = mock(StateCheckpointer.class);
+    when(destination.attemptRead()).thenReturn(Optional.of(STATE_MESSAGE));
+    when(sourceMessageTracker.getBytesCount()).thenReturn(100L);
+
+    final ReplicationWorker worker = new DefaultReplicationWorker(
+        JOB_ID,
+        JOB_ATTEMPT,
+        source,
+        mapper,
+        destination,
+        sourceMessageTracker,
+        destinationMessageTracker,
+        stateCheckpointer);
+
+    worker.run(syncInput, jobRoot);
+
+    verify(stateCheckpointer, atLeastOnce()).checkpoint(new State().withState(STATE_MESSAGE.getState().getData()), 100L);
+    verify(stateCheckpointer).close();
+  }
+
   @Test
   void testLoggingInThreads() throws IOException, WorkerException {
     // set up the mdc so that actually log to a file, so that we can verify that file logging captures
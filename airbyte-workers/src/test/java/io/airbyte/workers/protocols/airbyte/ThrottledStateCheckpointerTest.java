@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.protocols.airbyte;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.State;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ThrottledStateCheckpointerTest {
+
+  private static final Instant START = Instant.parse("2021-10-01T00:00:00Z");
+  private static final State STATE1 = state(1);
+  private static final State STATE2 = state(2);
+  private static final State STATE3 = state(3);
+
+  private AtomicReference<Instant> now;
+  private List<State> writtenStates;
+
+  @BeforeEach
+  void setup() {
+    now = new AtomicReference<>(START);
+    writtenStates = new CopyOnWriteArrayList<>();
+  }
+
+  @Test
+  void testCheckpointsOnceIntervalPassed() {
+    final ThrottledStateCheckpointer checkpointer =
+        new ThrottledStateCheckpointer(writtenStates::add, Duration.ofMinutes(1), Long.MAX_VALUE, now::get, MoreExecutors.newDirectExecutorService());
+
+    now.set(START.plusSeconds(10));
+    checkpointer.checkpoint(STATE1, 0);
+    now.set(START.plusSeconds(60));
+    checkpointer.checkpoint(STATE2, 0);
+    now.set(START.plusSeconds(70));
+    checkpointer.checkpoint(STATE3, 0);
+    checkpointer.close();
+
+    // the last state is written when the checkpointer is closed.
+    assertEquals(List.of(STATE2, STATE3), writtenStates);
+  }
+
+  @Test
+  void testCheckpointsOnceEnoughBytesSynced() {
+    final ThrottledStateCheckpointer checkpointer =
+        new ThrottledStateCheckpointer(writtenStates::add, Duration.ofDays(1), 100, now::get, MoreExecutors.newDirectExecutorService());
+
+    checkpointer.checkpoint(STATE1, 10);
+    checkpointer.checkpoint(STATE2, 100);
+    checkpointer.checkpoint(STATE3, 150);
+    checkpointer.close();
+
+    assertEquals(List.of(STATE2, STATE3), writtenStates);
+  }
+
+  @Test
+  void testCoalescesStatesAcceptedDuringWrite() throws InterruptedException {
+    final CountDownLatch writeStarted = new CountDownLatch(1);
+    final CountDownLatch writeReleased = new CountDownLatch(1);
+    final ThrottledStateCheckpointer checkpointer = new ThrottledStateCheckpointer(state -> {
+      writeStarted.countDown();
+      writeReleased.await();
+      writtenStates.add(state);
+    }, Duration.ZERO, Long.MAX_VALUE, now::get, Executors.newSingleThreadExecutor());
+
+    checkpointer.checkpoint(STATE1, 0);
+    writeStarted.await();
+    checkpointer.checkpoint(STATE2, 0);
+    checkpointer.checkpoint(STATE3, 0);
+    writeReleased.countDown();
+    checkpointer.close();
+
+    assertEquals(List.of(STATE1, STATE3), writtenStates);
+  }
+
+  @Test
+  void testRetriesFailedWrite() {
+    final AtomicInteger writeAttempts = new AtomicInteger();
+    final ThrottledStateCheckpointer checkpointer = new ThrottledStateCheckpointer(state -> {
+      if (writeAttempts.incrementAndGet() == 1) {
+        throw new IOException("induced exception");
+      }
+      writtenStates.add(state);
+    }, Duration.ZERO, Long.MAX_VALUE, now::get, MoreExecutors.newDirectExecutorService());
+
+    checkpointer.checkpoint(STATE1, 0);
+    checkpointer.close();
+
+    assertEquals(2, writeAttempts.get());
+    assertEquals(List.of(STATE1), writtenStates);
+  }
+
+  private static State state(final int cursor) {
+    return new State().withState(Jsons.jsonNode(Map.of("cursor", cursor)));
+  }
+
+}